@@ -960,6 +960,19 @@ public interface Session extends SharedSessionContract, EntityManager, Hibernate
 	 */
 	void setReadOnly(Object entityOrProxy, boolean readOnly);
 
+	/**
+	 * Signal that a persistent object might have been modified since the last flush.
+	 * <p/>
+	 * This is only needed when incremental flushing is enabled (see
+	 * {@link org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL}): flushes then only process the
+	 * entities known to have been possibly modified, and modifications to entities which are not
+	 * bytecode-enhanced cannot be detected otherwise.  When incremental flushing is disabled, this
+	 * method does nothing.
+	 *
+	 * @param entityOrProxy an entity or HibernateProxy
+	 */
+	void touch(Object entityOrProxy);
+
 	/**
 	 * Controller for allowing users to perform JDBC related work using the Connection managed by this Session.
 	 *
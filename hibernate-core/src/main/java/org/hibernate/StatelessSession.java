@@ -9,6 +9,7 @@ package org.hibernate;
 import java.io.Closeable;
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.Collection;
 
 import org.hibernate.query.NativeQuery;
 
@@ -53,6 +54,21 @@ public interface StatelessSession extends SharedSessionContract, AutoCloseable,
 	 */
 	Serializable insert(String entityName, Object entity);
 
+	/**
+	 * Insert the rows of several entities.  Consecutive entities of the same type whose identifiers are not
+	 * generated by the database are inserted together, with as many rows per statement as the Dialect
+	 * supports.
+	 *
+	 * @param entities new transient instances
+	 *
+	 * @since 5.4
+	 */
+	default void insertAll(Collection<?> entities) {
+		for ( Object entity : entities ) {
+			insert( entity );
+		}
+	}
+
 	/**
 	 * Update a row.
 	 *
@@ -7,8 +7,10 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import org.hibernate.LockMode;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.engine.internal.ForeignKeys;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
 import org.hibernate.engine.internal.Nullability;
@@ -74,6 +76,11 @@ public abstract class AbstractEntityInsertAction extends EntityAction {
 		return state;
 	}
 
+	@Override
+	public Set<String> getQueryCacheTags(QueryCacheTagResolver resolver) {
+		return resolveQueryCacheTags( resolver, state );
+	}
+
 	/**
 	 * Does this insert action need to be executed as soon as possible
 	 * (e.g., to generate an ID)?
@@ -7,11 +7,14 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -146,6 +149,38 @@ public abstract class EntityAction
 		return persister.getPropertySpaces();
 	}
 
+	/**
+	 * The query cache tags of the rows written by this action.
+	 *
+	 * @param resolver The resolver of the tags
+	 *
+	 * @return The tags, or {@code null} if they cannot be told, in which case the cached results of all the
+	 * queries over the spaces of this action are stale
+	 */
+	public Set<String> getQueryCacheTags(QueryCacheTagResolver resolver) {
+		return null;
+	}
+
+	/**
+	 * Resolve the query cache tags of the given states of the entity
+	 *
+	 * @return The tags, or {@code null} if the tag of one of the states cannot be told
+	 */
+	protected Set<String> resolveQueryCacheTags(QueryCacheTagResolver resolver, Object[]... states) {
+		final Set<String> tags = new HashSet<>( states.length );
+		for ( Object[] state : states ) {
+			if ( state == null ) {
+				return null;
+			}
+			final String tag = resolver.resolveEntityTag( persister, state, session );
+			if ( tag == null ) {
+				return null;
+			}
+			tags.add( tag );
+		}
+		return tags;
+	}
+
 	@Override
 	public void beforeExecutions() {
 		throw new AssertionFailure( "beforeExecutions() called for non-collection action" );
@@ -7,9 +7,11 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
@@ -202,6 +204,11 @@ public class EntityDeleteAction extends EntityAction {
 		postCommitDelete( success );
 	}
 
+	@Override
+	public Set<String> getQueryCacheTags(QueryCacheTagResolver resolver) {
+		return resolveQueryCacheTags( resolver, state );
+	}
+
 	@Override
 	protected boolean hasPostCommitEventListeners() {
 		final EventListenerGroup<PostDeleteEventListener> group = listenerGroup( EventType.POST_COMMIT_DELETE );
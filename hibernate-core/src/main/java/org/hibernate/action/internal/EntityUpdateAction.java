@@ -7,9 +7,11 @@
 package org.hibernate.action.internal;
 
 import java.io.Serializable;
+import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
@@ -303,6 +305,11 @@ public final class EntityUpdateAction extends EntityAction {
 		}
 	}
 
+	@Override
+	public Set<String> getQueryCacheTags(QueryCacheTagResolver resolver) {
+		return resolveQueryCacheTags( resolver, state, previousState );
+	}
+
 	@Override
 	protected boolean hasPostCommitEventListeners() {
 		final EventListenerGroup<PostUpdateEventListener> group = listenerGroup( EventType.POST_COMMIT_UPDATE );
@@ -35,6 +35,7 @@ import org.hibernate.boot.spi.BootstrapContext;
 import org.hibernate.boot.spi.SessionFactoryOptions;
 import org.hibernate.cache.internal.NoCachingRegionFactory;
 import org.hibernate.cache.internal.StandardTimestampsCacheFactory;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cfg.AvailableSettings;
@@ -73,6 +74,7 @@ import static org.hibernate.cfg.AvailableSettings.AUTO_CLOSE_SESSION;
 import static org.hibernate.cfg.AvailableSettings.AUTO_EVICT_COLLECTION_CACHE;
 import static org.hibernate.cfg.AvailableSettings.AUTO_SESSION_EVENTS_LISTENER;
 import static org.hibernate.cfg.AvailableSettings.BATCH_FETCH_STYLE;
+import static org.hibernate.cfg.AvailableSettings.BATCH_PIPELINING;
 import static org.hibernate.cfg.AvailableSettings.BATCH_VERSIONED_DATA;
 import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_PREFIX;
 import static org.hibernate.cfg.AvailableSettings.CHECK_NULLABILITY;
@@ -86,11 +88,14 @@ import static org.hibernate.cfg.AvailableSettings.DEFAULT_ENTITY_MODE;
 import static org.hibernate.cfg.AvailableSettings.DELAY_ENTITY_LOADER_CREATIONS;
 import static org.hibernate.cfg.AvailableSettings.ENABLE_LAZY_LOAD_NO_TRANS;
 import static org.hibernate.cfg.AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_AUTO_QUERY_SPACE_INDEX;
 import static org.hibernate.cfg.AvailableSettings.FLUSH_BEFORE_COMPLETION;
+import static org.hibernate.cfg.AvailableSettings.FLUSH_INCREMENTAL;
 import static org.hibernate.cfg.AvailableSettings.GENERATE_STATISTICS;
 import static org.hibernate.cfg.AvailableSettings.HQL_BULK_ID_STRATEGY;
 import static org.hibernate.cfg.AvailableSettings.IMMUTABLE_ENTITY_UPDATE_QUERY_HANDLING_MODE;
 import static org.hibernate.cfg.AvailableSettings.INTERCEPTOR;
+import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY_BINDING;
 import static org.hibernate.cfg.AvailableSettings.IN_CLAUSE_PARAMETER_PADDING;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TIME_ZONE;
 import static org.hibernate.cfg.AvailableSettings.JDBC_TYLE_PARAMS_ZERO_BASE;
@@ -106,7 +111,9 @@ import static org.hibernate.cfg.AvailableSettings.ORDER_UPDATES;
 import static org.hibernate.cfg.AvailableSettings.PREFER_USER_TRANSACTION;
 import static org.hibernate.cfg.AvailableSettings.PROCEDURE_NULL_PARAM_PASSING;
 import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.QUERY_CACHE_TAG_RESOLVER;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECKING;
+import static org.hibernate.cfg.AvailableSettings.QUERY_STARTUP_CHECK_PARALLELISM;
 import static org.hibernate.cfg.AvailableSettings.QUERY_SUBSTITUTIONS;
 import static org.hibernate.cfg.AvailableSettings.RELEASE_CONNECTIONS;
 import static org.hibernate.cfg.AvailableSettings.SESSION_FACTORY_NAME;
@@ -116,7 +123,9 @@ import static org.hibernate.cfg.AvailableSettings.STATEMENT_BATCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_FETCH_SIZE;
 import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 import static org.hibernate.cfg.AvailableSettings.QUERY_STATISTICS_MAX_SIZE;
+import static org.hibernate.cfg.AvailableSettings.USE_BINARY_CACHE_ENTRIES;
 import static org.hibernate.cfg.AvailableSettings.USE_DIRECT_REFERENCE_CACHE_ENTRIES;
+import static org.hibernate.cfg.AvailableSettings.USE_DIRTY_CHECK_OPTIMIZER;
 import static org.hibernate.cfg.AvailableSettings.USE_GET_GENERATED_KEYS;
 import static org.hibernate.cfg.AvailableSettings.USE_IDENTIFIER_ROLLBACK;
 import static org.hibernate.cfg.AvailableSettings.USE_MINIMAL_PUTS;
@@ -198,6 +207,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean orderInsertsEnabled;
 	private boolean postInsertIdentifierDelayed;
 	private boolean enhancementAsProxyEnabled;
+	private boolean dirtyCheckOptimizerEnabled;
+	private boolean incrementalFlushEnabled;
+	private boolean autoFlushQuerySpaceIndexEnabled;
 
 	// JPA callbacks
 	private boolean callbacksEnabled;
@@ -209,6 +221,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	// Queries
 	private Map querySubstitutions;
 	private boolean namedQueryStartupCheckingEnabled;
+	private int namedQueryStartupCheckParallelism;
 	private boolean conventionalJavaConstants;
 	private final boolean procedureParameterNullPassingEnabled;
 	private final boolean collectionJoinSubqueryRewriteEnabled;
@@ -219,9 +232,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean secondLevelCacheEnabled;
 	private boolean queryCacheEnabled;
 	private TimestampsCacheFactory timestampsCacheFactory;
+	private QueryCacheTagResolver queryCacheTagResolver;
 	private String cacheRegionPrefix;
 	private boolean minimalPutsEnabled;
 	private boolean structuredCacheEntriesEnabled;
+	private boolean binaryCacheEntriesEnabled;
 	private boolean directReferenceCacheEntriesEnabled;
 	private boolean autoEvictCollectionCache;
 
@@ -232,6 +247,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 	private boolean getGeneratedKeysEnabled;
 	private int jdbcBatchSize;
 	private boolean jdbcBatchVersionedData;
+	private boolean jdbcBatchPipeliningEnabled;
 	private Integer jdbcFetchSize;
 	private boolean scrollableResultSetsEnabled;
 	private boolean commentsEnabled;
@@ -249,6 +265,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 	private boolean failOnPaginationOverCollectionFetchEnabled;
 	private boolean inClauseParameterPaddingEnabled;
+	private boolean inClauseParameterArrayBindingEnabled;
 
 	private boolean nativeExceptionHandling51Compliance;
 	private int queryStatisticsMaxSize;
@@ -351,6 +368,9 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		this.orderUpdatesEnabled = ConfigurationHelper.getBoolean( ORDER_UPDATES, configurationSettings );
 		this.orderInsertsEnabled = ConfigurationHelper.getBoolean( ORDER_INSERTS, configurationSettings );
 		this.enhancementAsProxyEnabled = ConfigurationHelper.getBoolean( ALLOW_ENHANCEMENT_AS_PROXY, configurationSettings );
+		this.dirtyCheckOptimizerEnabled = ConfigurationHelper.getBoolean( USE_DIRTY_CHECK_OPTIMIZER, configurationSettings );
+		this.incrementalFlushEnabled = ConfigurationHelper.getBoolean( FLUSH_INCREMENTAL, configurationSettings );
+		this.autoFlushQuerySpaceIndexEnabled = ConfigurationHelper.getBoolean( FLUSH_AUTO_QUERY_SPACE_INDEX, configurationSettings );
 
 		this.callbacksEnabled = ConfigurationHelper.getBoolean( JPA_CALLBACKS_ENABLED, configurationSettings, true );
 
@@ -358,6 +378,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 
 		this.querySubstitutions = ConfigurationHelper.toMap( QUERY_SUBSTITUTIONS, " ,=;:\n\t\r\f", configurationSettings );
 		this.namedQueryStartupCheckingEnabled = cfgService.getSetting( QUERY_STARTUP_CHECKING, BOOLEAN, true );
+		this.namedQueryStartupCheckParallelism = ConfigurationHelper.getInt(
+				QUERY_STARTUP_CHECK_PARALLELISM,
+				configurationSettings,
+				1
+		);
 		this.conventionalJavaConstants = cfgService.getSetting(
 				CONVENTIONAL_JAVA_CONSTANTS, BOOLEAN, true );
 		this.procedureParameterNullPassingEnabled = cfgService.getSetting( PROCEDURE_NULL_PARAM_PASSING, BOOLEAN, false );
@@ -373,6 +398,10 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					configurationSettings.get( QUERY_CACHE_FACTORY ),
 					StandardTimestampsCacheFactory.INSTANCE
 			);
+			this.queryCacheTagResolver = strategySelector.resolveStrategy(
+					QueryCacheTagResolver.class,
+					configurationSettings.get( QUERY_CACHE_TAG_RESOLVER )
+			);
 			this.cacheRegionPrefix = ConfigurationHelper.extractPropertyValue(
 					CACHE_REGION_PREFIX,
 					configurationSettings
@@ -383,6 +412,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 					regionFactory.isMinimalPutsEnabledByDefault()
 			);
 			this.structuredCacheEntriesEnabled = cfgService.getSetting( USE_STRUCTURED_CACHE, BOOLEAN, false );
+			this.binaryCacheEntriesEnabled = cfgService.getSetting( USE_BINARY_CACHE_ENTRIES, BOOLEAN, false );
 			this.directReferenceCacheEntriesEnabled = cfgService.getSetting(
 					USE_DIRECT_REFERENCE_CACHE_ENTRIES,
 					BOOLEAN,
@@ -394,9 +424,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 			this.secondLevelCacheEnabled = false;
 			this.queryCacheEnabled = false;
 			this.timestampsCacheFactory = null;
+			this.queryCacheTagResolver = null;
 			this.cacheRegionPrefix = null;
 			this.minimalPutsEnabled = false;
 			this.structuredCacheEntriesEnabled = false;
+			this.binaryCacheEntriesEnabled = false;
 			this.directReferenceCacheEntriesEnabled = false;
 			this.autoEvictCollectionCache = false;
 		}
@@ -427,6 +459,7 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		}
 
 		this.jdbcBatchVersionedData = ConfigurationHelper.getBoolean( BATCH_VERSIONED_DATA, configurationSettings, true );
+		this.jdbcBatchPipeliningEnabled = ConfigurationHelper.getBoolean( BATCH_PIPELINING, configurationSettings );
 		this.scrollableResultSetsEnabled = ConfigurationHelper.getBoolean(
 				USE_SCROLLABLE_RESULTSET,
 				configurationSettings,
@@ -518,6 +551,12 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 				false
 		);
 
+		this.inClauseParameterArrayBindingEnabled = ConfigurationHelper.getBoolean(
+				IN_CLAUSE_PARAMETER_ARRAY_BINDING,
+				configurationSettings,
+				false
+		);
+
 		this.nativeExceptionHandling51Compliance = ConfigurationHelper.getBoolean(
 				NATIVE_EXCEPTION_HANDLING_51_COMPLIANCE,
 				configurationSettings,
@@ -867,6 +906,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return namedQueryStartupCheckingEnabled;
 	}
 
+	@Override
+	public int getNamedQueryStartupCheckParallelism() {
+		return namedQueryStartupCheckParallelism;
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return conventionalJavaConstants;
@@ -897,6 +941,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return timestampsCacheFactory;
 	}
 
+	@Override
+	public QueryCacheTagResolver getQueryCacheTagResolver() {
+		return queryCacheTagResolver;
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return cacheRegionPrefix;
@@ -912,6 +961,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return structuredCacheEntriesEnabled;
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return binaryCacheEntriesEnabled;
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return directReferenceCacheEntriesEnabled;
@@ -937,6 +991,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return jdbcBatchVersionedData;
 	}
 
+	@Override
+	public boolean isJdbcBatchPipeliningEnabled() {
+		return jdbcBatchPipeliningEnabled;
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return scrollableResultSetsEnabled;
@@ -1042,6 +1101,11 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return this.inClauseParameterPaddingEnabled;
 	}
 
+	@Override
+	public boolean inClauseParameterArrayBindingEnabled() {
+		return this.inClauseParameterArrayBindingEnabled;
+	}
+
 	@Override
 	public JpaCompliance getJpaCompliance() {
 		return jpaCompliance;
@@ -1067,6 +1131,21 @@ public class SessionFactoryOptionsBuilder implements SessionFactoryOptions {
 		return enhancementAsProxyEnabled;
 	}
 
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return dirtyCheckOptimizerEnabled;
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpaceIndexEnabled() {
+		return autoFlushQuerySpaceIndexEnabled;
+	}
+
 	@Override
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return omitJoinOfSuperclassTablesEnabled;
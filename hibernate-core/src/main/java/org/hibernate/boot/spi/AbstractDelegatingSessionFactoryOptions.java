@@ -21,6 +21,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
@@ -227,6 +228,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isNamedQueryStartupCheckingEnabled();
 	}
 
+	@Override
+	public int getNamedQueryStartupCheckParallelism() {
+		return delegate.getNamedQueryStartupCheckParallelism();
+	}
+
 	@Override
 	public boolean isConventionalJavaConstants() {
 		return delegate.isConventionalJavaConstants();
@@ -267,6 +273,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.getTimestampsCacheFactory();
 	}
 
+	@Override
+	public QueryCacheTagResolver getQueryCacheTagResolver() {
+		return delegate.getQueryCacheTagResolver();
+	}
+
 	@Override
 	public String getCacheRegionPrefix() {
 		return delegate.getCacheRegionPrefix();
@@ -282,6 +293,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isStructuredCacheEntriesEnabled();
 	}
 
+	@Override
+	public boolean isBinaryCacheEntriesEnabled() {
+		return delegate.isBinaryCacheEntriesEnabled();
+	}
+
 	@Override
 	public boolean isDirectReferenceCacheEntriesEnabled() {
 		return delegate.isDirectReferenceCacheEntriesEnabled();
@@ -307,6 +323,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isJdbcBatchVersionedData();
 	}
 
+	@Override
+	public boolean isJdbcBatchPipeliningEnabled() {
+		return delegate.isJdbcBatchPipeliningEnabled();
+	}
+
 	@Override
 	public boolean isScrollableResultSetsEnabled() {
 		return delegate.isScrollableResultSetsEnabled();
@@ -428,6 +449,11 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.inClauseParameterPaddingEnabled();
 	}
 
+	@Override
+	public boolean inClauseParameterArrayBindingEnabled() {
+		return delegate.inClauseParameterArrayBindingEnabled();
+	}
+
 	@Override
 	public boolean nativeExceptionHandling51Compliance() {
 		return delegate.nativeExceptionHandling51Compliance();
@@ -448,6 +474,21 @@ public class AbstractDelegatingSessionFactoryOptions implements SessionFactoryOp
 		return delegate.isEnhancementAsProxyEnabled();
 	}
 
+	@Override
+	public boolean isDirtyCheckOptimizerEnabled() {
+		return delegate.isDirtyCheckOptimizerEnabled();
+	}
+
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return delegate.isIncrementalFlushEnabled();
+	}
+
+	@Override
+	public boolean isAutoFlushQuerySpaceIndexEnabled() {
+		return delegate.isAutoFlushQuerySpaceIndexEnabled();
+	}
+
 	@Override
 	public boolean isOmitJoinOfSuperclassTablesEnabled() {
 		return delegate.isOmitJoinOfSuperclassTablesEnabled();
@@ -22,6 +22,7 @@ import org.hibernate.SessionFactoryObserver;
 import org.hibernate.boot.SchemaAutoTooling;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.cache.spi.TimestampsCacheFactory;
 import org.hibernate.cfg.BaselineSessionEventsListenerBuilder;
 import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
@@ -193,6 +194,15 @@ public interface SessionFactoryOptions {
 
 	boolean isNamedQueryStartupCheckingEnabled();
 
+	/**
+	 * The number of threads compiling named queries when they are checked during startup.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_STARTUP_CHECK_PARALLELISM
+	 */
+	default int getNamedQueryStartupCheckParallelism() {
+		return 1;
+	}
+
 	boolean isConventionalJavaConstants();
 
 	boolean isSecondLevelCacheEnabled();
@@ -201,12 +211,30 @@ public interface SessionFactoryOptions {
 
 	TimestampsCacheFactory getTimestampsCacheFactory();
 
+	/**
+	 * The resolver of query cache tags, or {@code null} if query cache results are made stale by table.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TAG_RESOLVER
+	 */
+	default QueryCacheTagResolver getQueryCacheTagResolver() {
+		return null;
+	}
+
 	String getCacheRegionPrefix();
 
 	boolean isMinimalPutsEnabled();
 
 	boolean isStructuredCacheEntriesEnabled();
 
+	/**
+	 * Should second-level cache entries be kept in the compact binary format?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_BINARY_CACHE_ENTRIES
+	 */
+	default boolean isBinaryCacheEntriesEnabled() {
+		return false;
+	}
+
 	boolean isDirectReferenceCacheEntriesEnabled();
 
 	boolean isAutoEvictCollectionCache();
@@ -217,6 +245,15 @@ public interface SessionFactoryOptions {
 
 	boolean isJdbcBatchVersionedData();
 
+	/**
+	 * Should the JDBC batches of independent statements be kept open together during a flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#BATCH_PIPELINING
+	 */
+	default boolean isJdbcBatchPipeliningEnabled() {
+		return false;
+	}
+
 	boolean isScrollableResultSetsEnabled();
 
 	boolean isWrapResultSetsEnabled();
@@ -288,6 +325,10 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	default boolean inClauseParameterArrayBindingEnabled() {
+		return false;
+	}
+
 	default boolean nativeExceptionHandling51Compliance() {
 		return false;
 	}
@@ -315,5 +356,32 @@ public interface SessionFactoryOptions {
 		return false;
 	}
 
+	/**
+	 * Should a generated dirty checker be used for entity classes?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#USE_DIRTY_CHECK_OPTIMIZER
+	 */
+	default boolean isDirtyCheckOptimizerEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should flushes only process the entities touched since the last flush?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * Should auto-flushes be skipped when nothing managed by the session could write to the query spaces?
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_AUTO_QUERY_SPACE_INDEX
+	 */
+	default boolean isAutoFlushQuerySpaceIndexEnabled() {
+		return false;
+	}
+
 	boolean isOmitJoinOfSuperclassTablesEnabled();
 }
@@ -20,8 +20,10 @@ import org.hibernate.bytecode.enhance.internal.tracker.SimpleFieldTracker;
 import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.engine.internal.MutableEntityEntry;
 import org.hibernate.engine.spi.CompositeOwner;
 import org.hibernate.engine.spi.CompositeTracker;
+import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ExtendedSelfDirtinessTracker;
 import org.hibernate.engine.spi.PersistentAttributeInterceptor;
 
@@ -64,12 +66,18 @@ class CodeTemplates {
 	static class TrackChange {
 		@Advice.OnMethodEnter
 		static void $$_hibernate_trackChange(
+				@Advice.This Object self,
 				@Advice.Argument(0) String name,
-				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker) {
+				@Advice.FieldValue(value = EnhancerConstants.TRACKER_FIELD_NAME, readOnly = false) DirtyTracker $$_hibernate_tracker,
+				@Advice.FieldValue(EnhancerConstants.ENTITY_ENTRY_FIELD_NAME) EntityEntry $$_hibernate_entityEntryHolder) {
 			if ( $$_hibernate_tracker == null ) {
 				$$_hibernate_tracker = new SimpleFieldTracker();
 			}
 			$$_hibernate_tracker.add( name );
+			// report the change to the persistence context, for incremental flushes
+			if ( $$_hibernate_entityEntryHolder instanceof MutableEntityEntry ) {
+				( (MutableEntityEntry) $$_hibernate_entityEntryHolder ).getPersistenceContext().touch( self );
+			}
 		}
 	}
 
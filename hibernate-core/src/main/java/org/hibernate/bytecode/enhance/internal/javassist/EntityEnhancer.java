@@ -27,6 +27,7 @@ import org.hibernate.bytecode.enhance.spi.CollectionTracker;
 import org.hibernate.bytecode.enhance.spi.EnhancementException;
 import org.hibernate.bytecode.enhance.spi.EnhancerConstants;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
+import org.hibernate.engine.internal.MutableEntityEntry;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistentAttributeInterceptable;
@@ -45,6 +46,7 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 
 	// assuming the number of fields is not very high, SimpleFieldTracker implementation it's the fastest
 	private static final String DIRTY_TRACKER_IMPL = SimpleFieldTracker.class.getName();
+	private static final String MUTABLE_ENTITY_ENTRY_IMPL = MutableEntityEntry.class.getName();
 	private static final String COLLECTION_TRACKER_IMPL = SimpleCollectionTracker.class.getName();
 
 	public void enhance(CtClass managedCtClass) {
@@ -140,10 +142,13 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 					"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  if (%4$s instanceof %5$s) { ((%5$s) %4$s).getPersistenceContext().touch(this); }%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					DIRTY_TRACKER_IMPL
+					DIRTY_TRACKER_IMPL,
+					EnhancerConstants.ENTITY_ENTRY_FIELD_NAME,
+					MUTABLE_ENTITY_ENTRY_IMPL
 			);
 
 			MethodWriter.write(
@@ -203,10 +208,13 @@ public class EntityEnhancer extends PersistentAttributesEnhancer {
 							"public void %1$s(String name) {%n" +
 							"  if (%2$s == null) { %2$s = new %3$s(); }%n" +
 							"  %2$s.add(name);%n" +
+							"  if (%4$s instanceof %5$s) { ((%5$s) %4$s).getPersistenceContext().touch(this); }%n" +
 							"}",
 					EnhancerConstants.TRACKER_CHANGER_NAME,
 					EnhancerConstants.TRACKER_FIELD_NAME,
-					DIRTY_TRACKER_IMPL
+					DIRTY_TRACKER_IMPL,
+					EnhancerConstants.ENTITY_ENTRY_FIELD_NAME,
+					MUTABLE_ENTITY_ENTRY_IMPL
 			);
 
 			createCollectionDirtyCheckMethod( managedCtClass );
@@ -269,6 +269,12 @@ public class EnhancementAsProxyLazinessInterceptor extends AbstractLazyLoadInter
 			writtenFieldNames.add( attributeName );
 		}
 
+		final SharedSessionContractImplementor linkedSession = getLinkedSession();
+		if ( linkedSession != null ) {
+			// let incremental flushes know about the change
+			linkedSession.getPersistenceContextInternal().touch( target );
+		}
+
 		return newValue;
 	}
 
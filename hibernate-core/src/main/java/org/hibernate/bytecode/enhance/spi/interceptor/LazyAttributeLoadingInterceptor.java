@@ -62,6 +62,11 @@ public class LazyAttributeLoadingInterceptor extends AbstractLazyLoadInterceptor
 		if ( !isAttributeLoaded( attributeName ) ) {
 			attributeInitialized( attributeName );
 		}
+		final SharedSessionContractImplementor session = getLinkedSession();
+		if ( session != null ) {
+			// let incremental flushes know about the change
+			session.getPersistenceContextInternal().touch( target );
+		}
 		return newValue;
 	}
 
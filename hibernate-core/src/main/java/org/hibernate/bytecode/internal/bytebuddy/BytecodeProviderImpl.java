@@ -6,6 +6,7 @@
  */
 package org.hibernate.bytecode.internal.bytebuddy;
 
+import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -15,11 +16,16 @@ import org.hibernate.HibernateException;
 import org.hibernate.bytecode.enhance.internal.bytebuddy.EnhancerImpl;
 import org.hibernate.bytecode.enhance.spi.EnhancementContext;
 import org.hibernate.bytecode.enhance.spi.Enhancer;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.bytecode.spi.BytecodeProvider;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.bytecode.spi.ProxyFactoryFactory;
 import org.hibernate.bytecode.spi.ReflectionOptimizer;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.proxy.pojo.bytebuddy.ByteBuddyProxyHelper;
 
+import net.bytebuddy.ClassFileVersion;
 import net.bytebuddy.NamingStrategy;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.description.type.TypeDescription;
@@ -30,6 +36,7 @@ import net.bytebuddy.implementation.bytecode.assign.Assigner;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveBoxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.primitive.PrimitiveUnboxingDelegate;
 import net.bytebuddy.implementation.bytecode.assign.reference.ReferenceTypeAwareAssigner;
+import net.bytebuddy.jar.asm.Label;
 import net.bytebuddy.jar.asm.MethodVisitor;
 import net.bytebuddy.jar.asm.Opcodes;
 import net.bytebuddy.jar.asm.Type;
@@ -40,10 +47,12 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 
 	private static final String INSTANTIATOR_PROXY_NAMING_SUFFIX = "HibernateInstantiator";
 	private static final String OPTIMIZER_PROXY_NAMING_SUFFIX = "HibernateAccessOptimizer";
+	private static final String DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX = "HibernateDirtyCheckOptimizer";
 	private static final ElementMatcher.Junction newInstanceMethodName = ElementMatchers.named( "newInstance" );
 	private static final ElementMatcher.Junction getPropertyValuesMethodName = ElementMatchers.named( "getPropertyValues" );
 	private static final ElementMatcher.Junction setPropertyValuesMethodName = ElementMatchers.named( "setPropertyValues" );
 	private static final ElementMatcher.Junction getPropertyNamesMethodName = ElementMatchers.named( "getPropertyNames" );
+	private static final ElementMatcher.Junction findDirtyMethodName = ElementMatchers.named( "findDirty" );
 
 	private final ByteBuddyState byteBuddyState;
 
@@ -109,6 +118,24 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	@Override
+	public DirtyCheckOptimizer getDirtyCheckOptimizer(final Class clazz, final boolean[] equalityCheckedProperties) {
+		final Class dirtyChecker = byteBuddyState.load( clazz, byteBuddy -> byteBuddy
+				.with( new NamingStrategy.SuffixingRandom( DIRTY_CHECK_OPTIMIZER_NAMING_SUFFIX,
+						new NamingStrategy.SuffixingRandom.BaseNameResolver.ForFixedValue( clazz.getName() ) ) )
+				.subclass( DirtyCheckOptimizer.class )
+				.method( findDirtyMethodName )
+						.intercept( new Implementation.Simple( new FindDirty( equalityCheckedProperties.clone() ) ) )
+		);
+
+		try {
+			return (DirtyCheckOptimizer) dirtyChecker.newInstance();
+		}
+		catch (Exception exception) {
+			throw new HibernateException( exception );
+		}
+	}
+
 	public ByteBuddyProxyHelper getByteBuddyProxyHelper() {
 		return byteBuddyProxyHelper;
 	}
@@ -208,6 +235,176 @@ public class BytecodeProviderImpl implements BytecodeProvider {
 		}
 	}
 
+	/**
+	 * Unrolls the dirty check over all the properties, so that each equality checked property gets
+	 * its own {@code equals()} call site.  For each property {@code i}, the generated code is:
+	 * <pre>
+	 * Object current = currentState[i];
+	 * if ( current != previousState[i] &amp;&amp; current != UNFETCHED_PROPERTY
+	 *         &amp;&amp; ( current == null || !current.equals( previousState[i] ) ) ) {
+	 *     // dirty
+	 * }
+	 * </pre>
+	 * or {@code if ( fallback.isDirty( i, currentState, previousState, session ) )} for the other properties.
+	 */
+	private static class FindDirty implements ByteCodeAppender {
+
+		// locals 0-4 are this and the method arguments
+		private static final int CURRENT_STATE = 1;
+		private static final int PREVIOUS_STATE = 2;
+		private static final int FALLBACK = 3;
+		private static final int SESSION = 4;
+		private static final int RESULTS = 5;
+		private static final int COUNT = 6;
+		private static final int CURRENT_VALUE = 7;
+
+		private final boolean[] equalityCheckedProperties;
+
+		public FindDirty(boolean[] equalityCheckedProperties) {
+			this.equalityCheckedProperties = equalityCheckedProperties;
+		}
+
+		@Override
+		public Size apply(
+				MethodVisitor methodVisitor,
+				Implementation.Context implementationContext,
+				MethodDescription instrumentedMethod) {
+			final boolean frames = implementationContext.getClassFileVersion().isAtLeast( ClassFileVersion.JAVA_V6 );
+			final Object[] locals = {
+					implementationContext.getInstrumentedType().getInternalName(),
+					Type.getInternalName( Object[].class ),
+					Type.getInternalName( Object[].class ),
+					Type.getInternalName( DirtyCheckOptimizer.PropertyDirtyCheck.class ),
+					Type.getInternalName( SharedSessionContractImplementor.class ),
+					Type.getInternalName( int[].class ),
+					Opcodes.INTEGER,
+					Type.getInternalName( Object.class )
+			};
+
+			// int[] results = null; int count = 0; Object current = null;
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, RESULTS );
+			methodVisitor.visitInsn( Opcodes.ICONST_0 );
+			methodVisitor.visitVarInsn( Opcodes.ISTORE, COUNT );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitVarInsn( Opcodes.ASTORE, CURRENT_VALUE );
+
+			for ( int index = 0; index < equalityCheckedProperties.length; index++ ) {
+				final Label skip = new Label();
+				if ( equalityCheckedProperties[index] ) {
+					final Label dirty = new Label();
+					// current = currentState[index]
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_STATE );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitVarInsn( Opcodes.ASTORE, CURRENT_VALUE );
+					// if ( current == previousState[index] ) skip
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_VALUE );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS_STATE );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, skip );
+					// if ( current == UNFETCHED_PROPERTY ) skip
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_VALUE );
+					methodVisitor.visitFieldInsn(
+							Opcodes.GETSTATIC,
+							Type.getInternalName( LazyPropertyInitializer.class ),
+							"UNFETCHED_PROPERTY",
+							Type.getDescriptor( Serializable.class )
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IF_ACMPEQ, skip );
+					// if ( current == null ) dirty
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_VALUE );
+					methodVisitor.visitJumpInsn( Opcodes.IFNULL, dirty );
+					// if ( current.equals( previousState[index] ) ) skip
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_VALUE );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS_STATE );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitInsn( Opcodes.AALOAD );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEVIRTUAL,
+							Type.getInternalName( Object.class ),
+							"equals",
+							Type.getMethodDescriptor( Type.BOOLEAN_TYPE, Type.getType( Object.class ) ),
+							false
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFNE, skip );
+					methodVisitor.visitLabel( dirty );
+					if ( frames ) {
+						methodVisitor.visitFrame( Opcodes.F_FULL, locals.length, locals, 0, null );
+					}
+				}
+				else {
+					// if ( !fallback.isDirty( index, currentState, previousState, session ) ) skip
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, FALLBACK );
+					methodVisitor.visitLdcInsn( index );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, CURRENT_STATE );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, PREVIOUS_STATE );
+					methodVisitor.visitVarInsn( Opcodes.ALOAD, SESSION );
+					methodVisitor.visitMethodInsn(
+							Opcodes.INVOKEINTERFACE,
+							Type.getInternalName( DirtyCheckOptimizer.PropertyDirtyCheck.class ),
+							"isDirty",
+							Type.getMethodDescriptor(
+									Type.BOOLEAN_TYPE,
+									Type.INT_TYPE,
+									Type.getType( Object[].class ),
+									Type.getType( Object[].class ),
+									Type.getType( SharedSessionContractImplementor.class )
+							),
+							true
+					);
+					methodVisitor.visitJumpInsn( Opcodes.IFEQ, skip );
+				}
+
+				// if ( results == null ) results = new int[span];
+				final Label append = new Label();
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULTS );
+				methodVisitor.visitJumpInsn( Opcodes.IFNONNULL, append );
+				methodVisitor.visitLdcInsn( equalityCheckedProperties.length );
+				methodVisitor.visitIntInsn( Opcodes.NEWARRAY, Opcodes.T_INT );
+				methodVisitor.visitVarInsn( Opcodes.ASTORE, RESULTS );
+				methodVisitor.visitLabel( append );
+				if ( frames ) {
+					methodVisitor.visitFrame( Opcodes.F_FULL, locals.length, locals, 0, null );
+				}
+				// results[count++] = index;
+				methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULTS );
+				methodVisitor.visitVarInsn( Opcodes.ILOAD, COUNT );
+				methodVisitor.visitLdcInsn( index );
+				methodVisitor.visitInsn( Opcodes.IASTORE );
+				methodVisitor.visitIincInsn( COUNT, 1 );
+
+				methodVisitor.visitLabel( skip );
+				if ( frames ) {
+					methodVisitor.visitFrame( Opcodes.F_FULL, locals.length, locals, 0, null );
+				}
+			}
+
+			// return count == 0 ? null : ArrayHelper.trim( results, count );
+			final Label trim = new Label();
+			methodVisitor.visitVarInsn( Opcodes.ILOAD, COUNT );
+			methodVisitor.visitJumpInsn( Opcodes.IFNE, trim );
+			methodVisitor.visitInsn( Opcodes.ACONST_NULL );
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			methodVisitor.visitLabel( trim );
+			if ( frames ) {
+				methodVisitor.visitFrame( Opcodes.F_FULL, locals.length, locals, 0, null );
+			}
+			methodVisitor.visitVarInsn( Opcodes.ALOAD, RESULTS );
+			methodVisitor.visitVarInsn( Opcodes.ILOAD, COUNT );
+			methodVisitor.visitMethodInsn(
+					Opcodes.INVOKESTATIC,
+					Type.getInternalName( ArrayHelper.class ),
+					"trim",
+					Type.getMethodDescriptor( Type.getType( int[].class ), Type.getType( int[].class ), Type.INT_TYPE ),
+					false
+			);
+			methodVisitor.visitInsn( Opcodes.ARETURN );
+			return new Size( 5, locals.length );
+		}
+	}
+
 	private static void findAccessors(
 			Class clazz,
 			String[] getterNames,
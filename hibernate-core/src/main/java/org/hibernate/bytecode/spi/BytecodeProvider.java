@@ -40,6 +40,18 @@ public interface BytecodeProvider {
 	 */
 	ReflectionOptimizer getReflectionOptimizer(Class clazz, String[] getterNames, String[] setterNames, Class[] types);
 
+	/**
+	 * Retrieve a generated dirty checker for the given entity class.
+	 *
+	 * @param clazz The entity class.
+	 * @param equalityCheckedProperties Flags, per property, the properties whose dirtiness is decided by
+	 * {@link Object#equals}; the dirtiness of the other properties is resolved at runtime.
+	 * @return The dirty check optimizer, or {@code null} if this provider does not generate one.
+	 */
+	default DirtyCheckOptimizer getDirtyCheckOptimizer(Class clazz, boolean[] equalityCheckedProperties) {
+		return null;
+	}
+
 	/**
 	 * Returns a byte code enhancer that implements the enhancements described in the supplied enhancement context.
 	 *
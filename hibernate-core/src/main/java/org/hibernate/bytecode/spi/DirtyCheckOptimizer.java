@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.bytecode.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Represents an optimized dirty check for a particular entity class, comparing the current
+ * state of an entity against its loaded state.
+ * <p/>
+ * Properties flagged as <i>equality checked</i> when the optimizer is built are compared
+ * in place: they are dirty unless the current value is {@code null} and the loaded value
+ * is {@code null}, or the current value {@link Object#equals equals} the loaded value.  The
+ * dirtiness of every other property is resolved through the given {@link PropertyDirtyCheck}.
+ *
+ * @see BytecodeProvider#getDirtyCheckOptimizer
+ */
+public interface DirtyCheckOptimizer {
+	/**
+	 * Locate the indexes of the dirty properties.
+	 *
+	 * @param currentState The current state of the entity
+	 * @param previousState The loaded state of the entity
+	 * @param fallback The check applied to properties which are not equality checked
+	 * @param session The session in which the check is occurring
+	 *
+	 * @return The indexes of the dirty properties, in ascending order, or {@code null} if no property is dirty
+	 */
+	int[] findDirty(
+			Object[] currentState,
+			Object[] previousState,
+			PropertyDirtyCheck fallback,
+			SharedSessionContractImplementor session);
+
+	/**
+	 * The dirty check of a single property which is not equality checked.
+	 */
+	interface PropertyDirtyCheck {
+		/**
+		 * Is the property at the given index dirty?
+		 *
+		 * @param index The property index
+		 * @param currentState The current state of the entity
+		 * @param previousState The loaded state of the entity
+		 * @param session The session in which the check is occurring
+		 *
+		 * @return {@code true} if the property is dirty
+		 */
+		boolean isDirty(
+				int index,
+				Object[] currentState,
+				Object[] previousState,
+				SharedSessionContractImplementor session);
+	}
+}
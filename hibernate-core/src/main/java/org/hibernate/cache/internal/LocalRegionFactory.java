@@ -0,0 +1,82 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import java.util.Map;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import static org.hibernate.cfg.AvailableSettings.CACHE_LOCAL_MAXIMUM_SIZE;
+
+/**
+ * A {@link org.hibernate.cache.spi.RegionFactory} keeping the cached data in the memory of the local JVM,
+ * each region being bounded by a {@link TinyLfuStorageAccess Window TinyLFU} eviction policy.
+ * <p/>
+ * The maximum number of entries of a region is {@value #DEFAULT_MAXIMUM_SIZE} unless set by
+ * {@value org.hibernate.cfg.AvailableSettings#CACHE_LOCAL_MAXIMUM_SIZE}, or by that setting suffixed with the
+ * (unqualified) name of the region.  The timestamps region is never bounded, since evicting its entries would
+ * let stale query results be used.
+ */
+public class LocalRegionFactory extends RegionFactoryTemplate {
+	/**
+	 * The default maximum number of entries of a region
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 10_000;
+
+	private Map configValues;
+	private int defaultMaximumSize;
+
+	@Override
+	protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+		this.configValues = configValues;
+		this.defaultMaximumSize = ConfigurationHelper.getInt( CACHE_LOCAL_MAXIMUM_SIZE, configValues, DEFAULT_MAXIMUM_SIZE );
+	}
+
+	@Override
+	protected DomainDataStorageAccess createDomainDataStorageAccess(
+			DomainDataRegionConfig regionConfig,
+			DomainDataRegionBuildingContext buildingContext) {
+		return new TinyLfuStorageAccess( getMaximumSize( regionConfig.getRegionName() ) );
+	}
+
+	@Override
+	protected StorageAccess createQueryResultsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TinyLfuStorageAccess( getMaximumSize( regionName ) );
+	}
+
+	@Override
+	protected StorageAccess createTimestampsRegionStorageAccess(
+			String regionName,
+			SessionFactoryImplementor sessionFactory) {
+		return new TinyLfuStorageAccess( 0 );
+	}
+
+	/**
+	 * The maximum number of entries of the named region
+	 */
+	protected int getMaximumSize(String regionName) {
+		return ConfigurationHelper.getInt(
+				CACHE_LOCAL_MAXIMUM_SIZE + '.' + regionName,
+				configValues,
+				defaultMaximumSize
+		);
+	}
+
+	@Override
+	protected void releaseFromUse() {
+		configValues = null;
+	}
+}
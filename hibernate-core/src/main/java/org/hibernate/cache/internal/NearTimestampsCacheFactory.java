@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.cache.spi.TimestampsCacheFactory;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.cache.spi.support.DirectAccessRegionTemplate;
+
+import org.jboss.logging.Logger;
+
+/**
+ * TimestampsCacheFactory building {@link NearTimestampsCacheImpl} instances.  Selected by naming this class
+ * as {@value org.hibernate.cfg.AvailableSettings#QUERY_CACHE_FACTORY}.
+ * <p/>
+ * The built caches listen to the updates of the timestamps region, so as to apply the invalidations of other
+ * nodes.  A warning is logged when the region cannot notify of its updates, in which case the local copy of
+ * the timestamps is only correct for a SessionFactory which is the sole writer of its database.
+ */
+public class NearTimestampsCacheFactory implements TimestampsCacheFactory {
+	private static final Logger log = Logger.getLogger( NearTimestampsCacheFactory.class );
+
+	/**
+	 * Singleton access
+	 */
+	public static final NearTimestampsCacheFactory INSTANCE = new NearTimestampsCacheFactory();
+
+	@Override
+	public TimestampsCache buildTimestampsCache(
+			CacheImplementor cacheManager,
+			TimestampsRegion timestampsRegion) {
+		final NearTimestampsCacheImpl timestampsCache = new NearTimestampsCacheImpl( timestampsRegion );
+		if ( !addInvalidationListener( timestampsRegion, timestampsCache ) ) {
+			log.warnf(
+					"Timestamps region [%s] does not notify of its updates: the invalidations made by other nodes " +
+							"are not seen by the near timestamps cache, which only suits a single node writing the database",
+					timestampsRegion.getName()
+			);
+		}
+		return timestampsCache;
+	}
+
+	private static boolean addInvalidationListener(
+			TimestampsRegion timestampsRegion,
+			NearTimestampsCacheImpl timestampsCache) {
+		if ( !( timestampsRegion instanceof DirectAccessRegionTemplate ) ) {
+			return false;
+		}
+		return ( (DirectAccessRegionTemplate) timestampsRegion ).getStorageAccess().addPutListener(
+				(space, ts) -> {
+					if ( space instanceof Serializable && ts instanceof Long ) {
+						timestampsCache.applyInvalidation( (Serializable) space, (Long) ts );
+					}
+				}
+		);
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.TimestampsRegion;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * TimestampsCache keeping a local copy of the last update timestamp of each space, so that checking whether
+ * cached query results are up-to-date does not read the timestamps region once per space.
+ * <p/>
+ * A space is read from the region the first time it is checked; afterwards the local copy is only changed by
+ * invalidations.  Invalidations from this SessionFactory update the local copy directly, while invalidations
+ * from other nodes are passed to {@link #applyInvalidations} by a listener registered on the timestamps region
+ * through {@link org.hibernate.cache.spi.support.StorageAccess#addPutListener}.  When the region cannot notify
+ * of its updates, this implementation is only suited to a SessionFactory which is the sole writer of its
+ * database.
+ * <p/>
+ * Since the updates of a replicated region may be received out of order, the timestamp of a space is never
+ * lowered by the invalidations of other nodes.  A pre-invalidation received from another node thus keeps the
+ * space invalid until its timeout elapses, even once the matching invalidation is received.
+ *
+ * @see NearTimestampsCacheFactory
+ */
+public class NearTimestampsCacheImpl extends TimestampsCacheEnabledImpl {
+	/**
+	 * Marks a space known to have no last update timestamp in the region
+	 */
+	private static final Long NO_TIMESTAMP = Long.MIN_VALUE;
+
+	private final ConcurrentHashMap<Serializable, Long> timestamps = new ConcurrentHashMap<>();
+
+	public NearTimestampsCacheImpl(TimestampsRegion timestampsRegion) {
+		super( timestampsRegion );
+	}
+
+	@Override
+	protected void putTimestamps(String[] spaces, Long ts, SharedSessionContractImplementor session) {
+		// update the local copy first, so that a concurrent first read of one of the spaces
+		// cannot record the timestamp it is replacing
+		for ( String space : spaces ) {
+			timestamps.put( space, ts );
+		}
+		super.putTimestamps( spaces, ts, session );
+	}
+
+	@Override
+	protected Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
+		Long ts = timestamps.get( space );
+		if ( ts == null ) {
+			ts = super.getLastUpdateTimestampForSpace( space, session );
+			final Long existing = timestamps.putIfAbsent( space, ts == null ? NO_TIMESTAMP : ts );
+			if ( existing != null ) {
+				// invalidated meanwhile
+				ts = existing;
+			}
+		}
+		return NO_TIMESTAMP.equals( ts ) ? null : ts;
+	}
+
+	/**
+	 * Apply invalidations made by other nodes to the local copy of the timestamps.  A timestamp older than the
+	 * one known locally for its space is ignored.
+	 *
+	 * @param invalidations The new last update timestamps, by space
+	 */
+	public void applyInvalidations(Map<? extends Serializable, Long> invalidations) {
+		for ( Map.Entry<? extends Serializable, Long> invalidation : invalidations.entrySet() ) {
+			applyInvalidation( invalidation.getKey(), invalidation.getValue() );
+		}
+	}
+
+	/**
+	 * Apply an invalidation made by another node to the local copy of the timestamps.  A timestamp older than
+	 * the one known locally for the space is ignored.
+	 *
+	 * @param space The invalidated space
+	 * @param ts The new last update timestamp of the space
+	 */
+	public void applyInvalidation(Serializable space, Long ts) {
+		timestamps.merge( space, ts, Math::max );
+	}
+
+	/**
+	 * The number of spaces whose last update timestamp is known locally
+	 */
+	public int getLocalSpaceCount() {
+		return timestamps.size();
+	}
+
+	@Override
+	public void clear() throws CacheException {
+		timestamps.clear();
+		super.clear();
+	}
+}
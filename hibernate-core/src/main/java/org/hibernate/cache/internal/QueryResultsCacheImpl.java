@@ -8,19 +8,28 @@ package org.hibernate.cache.internal;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.HibernateException;
+import org.hibernate.LockOptions;
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
 import org.hibernate.cache.spi.QueryResultsRegion;
 import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.persister.entity.MultiLoadOptions;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 
@@ -178,9 +187,71 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 			}
 		}
 
+		loadEntities( cacheItem.results, singleResult, returnTypes, session );
+
 		return assembleCachedResult( key, cacheItem.results, singleResult, returnTypes, session );
 	}
 
+	/**
+	 * Loads the entities referenced by the cached results ahead of their assembly, with one multi-load per entity
+	 * type: their second-level cache entries are retrieved at once, and the others are selected by batches,
+	 * rather than resolving them one row at a time.
+	 */
+	private static void loadEntities(
+			final List cached,
+			final boolean singleResult,
+			final Type[] returnTypes,
+			final SharedSessionContractImplementor session) {
+		if ( !( session instanceof EventSource ) || cached.size() < 2 ) {
+			return;
+		}
+
+		Map<String, Set<Serializable>> idsByEntityName = null;
+		for ( int i = 0; i < returnTypes.length; i++ ) {
+			if ( !returnTypes[i].isEntityType() ) {
+				continue;
+			}
+			final EntityType entityType = (EntityType) returnTypes[i];
+			if ( !entityType.isReferenceToPrimaryKey() || !entityType.isEager() ) {
+				continue;
+			}
+			final Type identifierType = entityType.getIdentifierOrUniqueKeyType( session.getFactory() );
+			for ( Object row : cached ) {
+				final Serializable value = singleResult ? (Serializable) row : ( (Serializable[]) row )[i];
+				if ( value == null
+						|| value == LazyPropertyInitializer.UNFETCHED_PROPERTY
+						|| value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+					continue;
+				}
+				final Serializable id = (Serializable) identifierType.assemble( value, session, null );
+				if ( id != null ) {
+					if ( idsByEntityName == null ) {
+						idsByEntityName = new HashMap<>();
+					}
+					idsByEntityName.computeIfAbsent( entityType.getAssociatedEntityName(), k -> new LinkedHashSet<>() )
+							.add( id );
+				}
+			}
+		}
+
+		if ( idsByEntityName == null ) {
+			return;
+		}
+		final MultiLoadOptions loadOptions = new CachedResultsLoadOptions( session.getCacheMode().isGetEnabled() );
+		for ( Map.Entry<String, Set<Serializable>> entry : idsByEntityName.entrySet() ) {
+			final Set<Serializable> ids = entry.getValue();
+			if ( ids.size() < 2 ) {
+				// a single lookup either way
+				continue;
+			}
+			session.getFactory().getMetamodel().entityPersister( entry.getKey() ).multiLoad(
+					ids.toArray( new Serializable[ids.size()] ),
+					session,
+					loadOptions
+			);
+		}
+	}
+
 	private CacheItem getCachedData(QueryKey key, SharedSessionContractImplementor session) {
 		CacheItem cachedItem = null;
 		try {
@@ -220,6 +291,44 @@ public class QueryResultsCacheImpl implements QueryResultsCache {
 		return result;
 	}
 
+	private static class CachedResultsLoadOptions implements MultiLoadOptions {
+		private final boolean secondLevelCacheCheckingEnabled;
+
+		private CachedResultsLoadOptions(boolean secondLevelCacheCheckingEnabled) {
+			this.secondLevelCacheCheckingEnabled = secondLevelCacheCheckingEnabled;
+		}
+
+		@Override
+		public boolean isSessionCheckingEnabled() {
+			return true;
+		}
+
+		@Override
+		public boolean isSecondLevelCacheCheckingEnabled() {
+			return secondLevelCacheCheckingEnabled;
+		}
+
+		@Override
+		public boolean isReturnOfDeletedEntitiesEnabled() {
+			return false;
+		}
+
+		@Override
+		public boolean isOrderReturnEnabled() {
+			return false;
+		}
+
+		@Override
+		public LockOptions getLockOptions() {
+			return null;
+		}
+
+		@Override
+		public Integer getBatchSize() {
+			return null;
+		}
+	}
+
 	private static void logCachedResultRowDetails(Type[] returnTypes, Object result) {
 		logCachedResultRowDetails(
 				returnTypes,
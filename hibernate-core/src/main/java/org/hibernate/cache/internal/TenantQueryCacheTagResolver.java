@@ -0,0 +1,36 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.QueryCacheTagResolver;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * QueryCacheTagResolver tagging rows and queries with the tenant identifier of the session, so that the writes
+ * of one tenant do not make stale the cached query results of the others.
+ */
+public class TenantQueryCacheTagResolver implements QueryCacheTagResolver {
+	/**
+	 * Singleton access
+	 */
+	public static final TenantQueryCacheTagResolver INSTANCE = new TenantQueryCacheTagResolver();
+
+	@Override
+	public String resolveEntityTag(
+			EntityPersister persister,
+			Object[] state,
+			SharedSessionContractImplementor session) {
+		return session.getTenantIdentifier();
+	}
+
+	@Override
+	public String[] resolveQueryTags(SharedSessionContractImplementor session) {
+		final String tenantIdentifier = session.getTenantIdentifier();
+		return tenantIdentifier == null ? null : new String[] { tenantIdentifier };
+	}
+}
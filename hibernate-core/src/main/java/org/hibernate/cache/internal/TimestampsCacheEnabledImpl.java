@@ -7,13 +7,14 @@
 package org.hibernate.cache.internal;
 
 import java.io.Serializable;
+import java.util.Map;
 
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.cache.spi.TimestampsRegion;
 import org.hibernate.cache.spi.TimestampsCache;
 import org.hibernate.engine.spi.SessionEventListenerManager;
-import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
@@ -41,63 +42,55 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 	public void preInvalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final SessionFactoryImplementor factory = session.getFactory();
-		final RegionFactory regionFactory = factory.getCache().getRegionFactory();
-
-		final StatisticsImplementor statistics = factory.getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
+		final RegionFactory regionFactory = session.getFactory().getCache().getRegionFactory();
 		final Long ts = regionFactory.nextTimestamp() + regionFactory.getTimeout();
 
-		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-		final boolean debugEnabled = log.isDebugEnabled();
-
-		for ( Serializable space : spaces ) {
-			if ( debugEnabled ) {
+		if ( log.isDebugEnabled() ) {
+			for ( Serializable space : spaces ) {
 				log.debugf( "Pre-invalidating space [%s], timestamp: %s", space, ts );
 			}
-
-			try {
-				eventListenerManager.cachePutStart();
-
-				//put() has nowait semantics, is this really appropriate?
-				//note that it needs to be async replication, never local or sync
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventListenerManager.cachePutEnd();
-			}
-
-			if ( stats ) {
-				statistics.updateTimestampsCachePut();
-			}
 		}
+
+		//putAllIntoCache() has nowait semantics, is this really appropriate?
+		//note that it needs to be async replication, never local or sync
+		putTimestamps( spaces, ts, session );
 	}
 
 	@Override
 	public void invalidate(
 			String[] spaces,
 			SharedSessionContractImplementor session) {
-		final StatisticsImplementor statistics = session.getFactory().getStatistics();
-		final boolean stats = statistics.isStatisticsEnabled();
-
 		final Long ts = session.getFactory().getCache().getRegionFactory().nextTimestamp();
-		final boolean debugEnabled = log.isDebugEnabled();
 
-		for ( Serializable space : spaces ) {
-			if ( debugEnabled ) {
+		if ( log.isDebugEnabled() ) {
+			for ( Serializable space : spaces ) {
 				log.debugf( "Invalidating space [%s], timestamp: %s", space, ts );
 			}
+		}
 
-			final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
-			try {
-				eventListenerManager.cachePutStart();
-				timestampsRegion.putIntoCache( space, ts, session );
-			}
-			finally {
-				eventListenerManager.cachePutEnd();
+		putTimestamps( spaces, ts, session );
+	}
 
-				if ( stats ) {
+	/**
+	 * Record the given timestamp for all the given spaces, with a single put into the region
+	 */
+	protected void putTimestamps(String[] spaces, Long ts, SharedSessionContractImplementor session) {
+		final Map<String, Long> timestamps = CollectionHelper.mapOfSize( spaces.length );
+		for ( String space : spaces ) {
+			timestamps.put( space, ts );
+		}
+
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		try {
+			eventListenerManager.cachePutStart();
+			timestampsRegion.putAllIntoCache( timestamps, session );
+		}
+		finally {
+			eventListenerManager.cachePutEnd();
+
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				for ( int i = 0; i < timestamps.size(); i++ ) {
 					statistics.updateTimestampsCachePut();
 				}
 			}
@@ -142,7 +135,7 @@ public class TimestampsCacheEnabledImpl implements TimestampsCache {
 		return true;
 	}
 
-	private Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
+	protected Long getLastUpdateTimestampForSpace(Serializable space, SharedSessionContractImplementor session) {
 		Long ts = null;
 		try {
 			session.getEventListenerManager().cacheGetStart();
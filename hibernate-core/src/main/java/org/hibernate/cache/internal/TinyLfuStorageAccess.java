@@ -0,0 +1,74 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
+
+/**
+ * {@link DomainDataStorageAccess} keeping the items of a region in a local {@link BoundedConcurrentCache},
+ * bounded by a Window TinyLFU eviction policy.
+ *
+ * @see LocalRegionFactory
+ */
+public class TinyLfuStorageAccess implements DomainDataStorageAccess {
+	private final BoundedConcurrentCache<Object, Object> data;
+
+	/**
+	 * Constructs a TinyLfuStorageAccess
+	 *
+	 * @param maximumSize The maximum number of items kept, or 0 or less for no maximum
+	 */
+	public TinyLfuStorageAccess(int maximumSize) {
+		this.data = new BoundedConcurrentCache<>( maximumSize );
+	}
+
+	/**
+	 * The number of items currently kept
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		return data.get( key );
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		data.put( key, value );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return data.containsKey( key );
+	}
+
+	@Override
+	public void evictData() {
+		data.clear();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		data.remove( key );
+	}
+
+	@Override
+	public void release() {
+		evictData();
+	}
+
+	/**
+	 * Apply the pending accesses to the eviction policy
+	 */
+	void cleanUp() {
+		data.cleanUp();
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -27,4 +29,16 @@ public interface DirectAccessRegion extends Region {
 	 * Put a value by key
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
+
+	/**
+	 * Put several values at once, which providers backed by a remote store can do in a single
+	 * round trip
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each value
+	 */
+	default void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : values.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
 }
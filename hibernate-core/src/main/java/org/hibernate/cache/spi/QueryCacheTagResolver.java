@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Tells which query cache tag the rows written for an entity carry, so that writes only make stale the cached
+ * results of queries declaring that tag (see {@link org.hibernate.query.Query#setCacheTags}), instead of the
+ * cached results of all the queries over the same tables.
+ * <p/>
+ * A query declaring tags promises that it only reads rows carrying one of them: a row partitioning attribute
+ * such as a tenant or customer identifier is the typical tag.  Writes whose tag cannot be resolved (bulk
+ * operations, native updates, collection changes, or entities for which {@code null} is returned) make stale
+ * all the cached results over their tables.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TAG_RESOLVER
+ */
+public interface QueryCacheTagResolver {
+	/**
+	 * Resolve the tag of the rows holding the given state of an entity
+	 *
+	 * @param persister The persister of the entity
+	 * @param state The property values of the entity, as ordered by {@link EntityPersister#getPropertyNames()}
+	 * @param session The session writing the entity
+	 *
+	 * @return The tag, or {@code null} if the rows carry no known tag
+	 */
+	String resolveEntityTag(EntityPersister persister, Object[] state, SharedSessionContractImplementor session);
+
+	/**
+	 * Resolve the tags of the cacheable queries of the given session which do not declare any
+	 *
+	 * @param session The session executing the query
+	 *
+	 * @return The tags, or {@code null} to check such queries against all the writes to their tables
+	 */
+	default String[] resolveQueryTags(SharedSessionContractImplementor session) {
+		return null;
+	}
+}
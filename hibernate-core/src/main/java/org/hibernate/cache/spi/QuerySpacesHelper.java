@@ -38,4 +38,37 @@ public class QuerySpacesHelper {
 		Collections.addAll( set, spacesArray );
 		return set;
 	}
+
+	/**
+	 * The timestamps key of the rows of the given space carrying the given query cache tag
+	 *
+	 * @see QueryCacheTagResolver
+	 */
+	public String toTaggedSpace(String space, String tag) {
+		return space + '#' + tag;
+	}
+
+	/**
+	 * The timestamps key of the rows of the given space whose query cache tag is unknown
+	 *
+	 * @see QueryCacheTagResolver
+	 */
+	public String toUntaggedSpace(String space) {
+		return space + "#*";
+	}
+
+	/**
+	 * The timestamps keys to check for query results cached with the given tags: the rows of the spaces
+	 * carrying one of those tags, and the rows whose tag is unknown
+	 */
+	public Set<Serializable> toTaggedSpaces(Set<Serializable> spaces, String[] tags) {
+		final HashSet<Serializable> set = new HashSet<>();
+		for ( Serializable space : spaces ) {
+			set.add( toUntaggedSpace( (String) space ) );
+			for ( String tag : tags ) {
+				set.add( toTaggedSpace( (String) space, tag ) );
+			}
+		}
+		return set;
+	}
 }
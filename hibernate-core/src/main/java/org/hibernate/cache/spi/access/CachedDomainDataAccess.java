@@ -7,11 +7,14 @@
 package org.hibernate.cache.spi.access;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
 import javax.persistence.Cache;
 
 import org.hibernate.cache.CacheException;
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * Base contract for accessing the underlying cached data for a particular
@@ -58,6 +61,30 @@ public interface CachedDomainDataAccess {
 	 */
 	Object get(SharedSessionContractImplementor session, Object key);
 
+	/**
+	 * Attempt to retrieve several objects from the cache at once, as done when batch
+	 * fetching or multi-loading entities.
+	 *
+	 * @param session Current session.
+	 * @param keys The keys of the items to be retrieved.
+	 *
+	 * @return the cached data, by key; keys without cached data have no entry
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #get} for each key
+	 */
+	default Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		final Map<Object, Object> values = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object value = get( session, key );
+			if ( value != null ) {
+				values.put( key, value );
+			}
+		}
+		return values;
+	}
+
 	/**
 	 * Attempt to cache an object, afterQuery loading from the database.
 	 *
@@ -97,6 +124,34 @@ public interface CachedDomainDataAccess {
 			Object version,
 			boolean minimalPutOverride);
 
+	/**
+	 * Attempt to cache several objects at once, afterQuery loading them from the database.
+	 *
+	 * @param session Current session.
+	 * @param keys The item keys
+	 * @param values The items, in the order of {@code keys}
+	 * @param versions the item version numbers, in the order of {@code keys}
+	 *
+	 * @return the number of objects which were successfully cached
+	 *
+	 * @throws CacheException Propagated from underlying cache provider
+	 *
+	 * @implNote the method default is to call {@link #putFromLoad} for each key
+	 */
+	default int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		int cached = 0;
+		for ( int i = 0; i < keys.length; i++ ) {
+			if ( putFromLoad( session, keys[i], values[i], versions[i] ) ) {
+				cached++;
+			}
+		}
+		return cached;
+	}
+
 	/**
 	 * We are going to attempt to update/delete the keyed object. This
 	 * method is used by "asynchronous" concurrency strategies.
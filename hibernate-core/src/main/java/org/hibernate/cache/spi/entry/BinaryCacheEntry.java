@@ -0,0 +1,115 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.Type;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Binary CacheEntry format for entities: the disassembled state is written to a compact byte array, in the
+ * order of the persister's properties, instead of being kept as an array of (Java serialized) values.
+ * <p/>
+ * The byte array starts with the entity name and a layout version computed from the names and types of the
+ * entity's properties, so that entries written with a different mapping of the entity are detected instead
+ * of being misread: {@link #destructure} returns {@code null} for them, and they are handled as cache misses.
+ */
+public class BinaryCacheEntry implements CacheEntryStructure {
+	private static final Logger LOG = CoreLogging.logger( BinaryCacheEntry.class );
+
+	private final EntityPersister persister;
+	private volatile int layoutVersion;
+
+	/**
+	 * Constructs a BinaryCacheEntry strategy
+	 *
+	 * @param persister The persister whose data needs to be structured.
+	 */
+	public BinaryCacheEntry(EntityPersister persister) {
+		this.persister = persister;
+	}
+
+	/**
+	 * The version of the binary layout of the persister's state, derived from its properties.
+	 */
+	public int getLayoutVersion() {
+		int version = layoutVersion;
+		if ( version == 0 ) {
+			version = computeLayoutVersion( persister );
+			layoutVersion = version;
+		}
+		return version;
+	}
+
+	private static int computeLayoutVersion(EntityPersister persister) {
+		final String[] names = persister.getPropertyNames();
+		final Type[] types = persister.getPropertyTypes();
+		int version = names.length;
+		for ( int i = 0; i < names.length; i++ ) {
+			version = 31 * version + names[i].hashCode();
+			version = 31 * version + types[i].getName().hashCode();
+		}
+		// 0 means "not computed yet"
+		return version == 0 ? 1 : version;
+	}
+
+	@Override
+	public Object structure(Object item) {
+		final CacheEntry entry = (CacheEntry) item;
+		final Serializable[] state = entry.getDisassembledState();
+		final BinaryCacheEntryCodec.Writer writer = new BinaryCacheEntryCodec.Writer( 16 + state.length * 8 );
+		writer.writeString( entry.getSubclass() );
+		writer.writeVarLong( getLayoutVersion() & 0xFFFFFFFFL );
+		writer.writeValue( entry.getVersion() );
+		writer.writeVarLong( state.length );
+		for ( Serializable value : state ) {
+			writer.writeValue( value );
+		}
+		return writer.toByteArray();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return The {@link CacheEntry}, or {@code null} if the entry was written with a different mapping of the
+	 * entity, or for an entity which is no longer mapped
+	 */
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final BinaryCacheEntryCodec.Reader reader = new BinaryCacheEntryCodec.Reader( (byte[]) structured );
+		final String subclass = reader.readString();
+		final int version = (int) reader.readVarLong();
+
+		final EntityPersister subclassPersister = factory.getMetamodel().entityPersisters().get( subclass );
+		if ( subclassPersister == null ) {
+			LOG.debugf( "Ignoring binary cache entry for unknown entity [%s]", subclass );
+			return null;
+		}
+		final int expectedVersion = subclassPersister.getCacheEntryStructure() instanceof BinaryCacheEntry
+				? ( (BinaryCacheEntry) subclassPersister.getCacheEntryStructure() ).getLayoutVersion()
+				: computeLayoutVersion( subclassPersister );
+		if ( version != expectedVersion ) {
+			LOG.debugf(
+					"Ignoring binary cache entry for entity [%s] written with a different mapping of the entity",
+					subclass
+			);
+			return null;
+		}
+
+		final Object entityVersion = reader.readValue();
+		final Serializable[] disassembledState = new Serializable[(int) reader.readVarLong()];
+		for ( int i = 0; i < disassembledState.length; i++ ) {
+			disassembledState[i] = reader.readValue();
+		}
+		return new StandardCacheEntryImpl( disassembledState, subclass, entityVersion );
+	}
+}
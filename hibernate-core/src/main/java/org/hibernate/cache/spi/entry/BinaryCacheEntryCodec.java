@@ -0,0 +1,336 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.UUID;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.cache.CacheException;
+import org.hibernate.internal.util.SerializationHelper;
+import org.hibernate.property.access.internal.PropertyAccessStrategyBackRefImpl;
+
+/**
+ * Reads and writes disassembled values in the compact format of {@link BinaryCacheEntry} and
+ * {@link BinaryCollectionCacheEntry}.
+ * <p/>
+ * Each value is written as a one byte tag followed by its data.  Boxed primitives, strings, dates, numbers
+ * and arrays (the disassembled state of components) have a dedicated encoding, integral numbers being
+ * written as variable-length integers; any other value falls back to Java serialization.
+ */
+final class BinaryCacheEntryCodec {
+	private static final byte NULL = 0;
+	private static final byte UNFETCHED = 1;
+	private static final byte UNKNOWN = 2;
+	private static final byte TRUE = 3;
+	private static final byte FALSE = 4;
+	private static final byte BYTE = 5;
+	private static final byte SHORT = 6;
+	private static final byte INTEGER = 7;
+	private static final byte LONG = 8;
+	private static final byte FLOAT = 9;
+	private static final byte DOUBLE = 10;
+	private static final byte CHARACTER = 11;
+	private static final byte STRING = 12;
+	private static final byte BYTES = 13;
+	private static final byte BIG_INTEGER = 14;
+	private static final byte BIG_DECIMAL = 15;
+	private static final byte DATE = 16;
+	private static final byte SQL_DATE = 17;
+	private static final byte SQL_TIME = 18;
+	private static final byte SQL_TIMESTAMP = 19;
+	private static final byte UUID_VALUE = 20;
+	private static final byte ARRAY = 21;
+	private static final byte SERIALIZED = 22;
+
+	private BinaryCacheEntryCodec() {
+	}
+
+	/**
+	 * Accumulates the encoded form of values
+	 */
+	static final class Writer {
+		private byte[] buffer;
+		private int position;
+
+		Writer(int initialCapacity) {
+			this.buffer = new byte[Math.max( initialCapacity, 16 )];
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf( buffer, position );
+		}
+
+		private void ensureCapacity(int extra) {
+			if ( position + extra > buffer.length ) {
+				buffer = Arrays.copyOf( buffer, Math.max( buffer.length << 1, position + extra ) );
+			}
+		}
+
+		void writeByte(int value) {
+			ensureCapacity( 1 );
+			buffer[position++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity( 10 );
+			while ( ( value & ~0x7FL ) != 0 ) {
+				buffer[position++] = (byte) ( ( value & 0x7F ) | 0x80 );
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeSignedVarLong(long value) {
+			// zig-zag encoding, so that small negative values stay small
+			writeVarLong( ( value << 1 ) ^ ( value >> 63 ) );
+		}
+
+		void writeFixedLong(long value) {
+			ensureCapacity( 8 );
+			for ( int shift = 56; shift >= 0; shift -= 8 ) {
+				buffer[position++] = (byte) ( value >>> shift );
+			}
+		}
+
+		void writeBytes(byte[] bytes) {
+			writeVarLong( bytes.length );
+			ensureCapacity( bytes.length );
+			System.arraycopy( bytes, 0, buffer, position, bytes.length );
+			position += bytes.length;
+		}
+
+		void writeString(String value) {
+			writeBytes( value.getBytes( StandardCharsets.UTF_8 ) );
+		}
+
+		void writeValue(Object value) {
+			if ( value == null ) {
+				writeByte( NULL );
+			}
+			else if ( value == LazyPropertyInitializer.UNFETCHED_PROPERTY ) {
+				writeByte( UNFETCHED );
+			}
+			else if ( value == PropertyAccessStrategyBackRefImpl.UNKNOWN ) {
+				writeByte( UNKNOWN );
+			}
+			else if ( value instanceof String ) {
+				writeByte( STRING );
+				writeString( (String) value );
+			}
+			else if ( value instanceof Integer ) {
+				writeByte( INTEGER );
+				writeSignedVarLong( (Integer) value );
+			}
+			else if ( value instanceof Long ) {
+				writeByte( LONG );
+				writeSignedVarLong( (Long) value );
+			}
+			else if ( value instanceof Boolean ) {
+				writeByte( (Boolean) value ? TRUE : FALSE );
+			}
+			else if ( value instanceof Short ) {
+				writeByte( SHORT );
+				writeSignedVarLong( (Short) value );
+			}
+			else if ( value instanceof Byte ) {
+				writeByte( BYTE );
+				writeByte( (Byte) value );
+			}
+			else if ( value instanceof Double ) {
+				writeByte( DOUBLE );
+				writeFixedLong( Double.doubleToRawLongBits( (Double) value ) );
+			}
+			else if ( value instanceof Float ) {
+				writeByte( FLOAT );
+				writeVarLong( Float.floatToRawIntBits( (Float) value ) & 0xFFFFFFFFL );
+			}
+			else if ( value instanceof Character ) {
+				writeByte( CHARACTER );
+				writeVarLong( (Character) value );
+			}
+			else if ( value instanceof byte[] ) {
+				writeByte( BYTES );
+				writeBytes( (byte[]) value );
+			}
+			else if ( value.getClass() == BigDecimal.class ) {
+				writeByte( BIG_DECIMAL );
+				writeSignedVarLong( ( (BigDecimal) value ).scale() );
+				writeBytes( ( (BigDecimal) value ).unscaledValue().toByteArray() );
+			}
+			else if ( value.getClass() == BigInteger.class ) {
+				writeByte( BIG_INTEGER );
+				writeBytes( ( (BigInteger) value ).toByteArray() );
+			}
+			else if ( value.getClass() == Date.class ) {
+				writeByte( DATE );
+				writeSignedVarLong( ( (Date) value ).getTime() );
+			}
+			else if ( value.getClass() == java.sql.Date.class ) {
+				writeByte( SQL_DATE );
+				writeSignedVarLong( ( (Date) value ).getTime() );
+			}
+			else if ( value.getClass() == java.sql.Time.class ) {
+				writeByte( SQL_TIME );
+				writeSignedVarLong( ( (Date) value ).getTime() );
+			}
+			else if ( value.getClass() == Timestamp.class ) {
+				writeByte( SQL_TIMESTAMP );
+				writeSignedVarLong( ( (Timestamp) value ).getTime() );
+				writeVarLong( ( (Timestamp) value ).getNanos() );
+			}
+			else if ( value instanceof UUID ) {
+				writeByte( UUID_VALUE );
+				writeFixedLong( ( (UUID) value ).getMostSignificantBits() );
+				writeFixedLong( ( (UUID) value ).getLeastSignificantBits() );
+			}
+			else if ( value.getClass() == Object[].class || value.getClass() == Serializable[].class ) {
+				final Object[] array = (Object[]) value;
+				writeByte( ARRAY );
+				writeByte( value.getClass() == Serializable[].class ? 1 : 0 );
+				writeVarLong( array.length );
+				for ( Object element : array ) {
+					writeValue( element );
+				}
+			}
+			else if ( value instanceof Serializable ) {
+				writeByte( SERIALIZED );
+				writeBytes( SerializationHelper.serialize( (Serializable) value ) );
+			}
+			else {
+				throw new CacheException( "Unable to write non-serializable cache entry value of type " + value.getClass().getName() );
+			}
+		}
+	}
+
+	/**
+	 * Decodes values from their encoded form
+	 */
+	static final class Reader {
+		private final byte[] buffer;
+		private int position;
+
+		Reader(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		int readByte() {
+			return buffer[position++];
+		}
+
+		long readVarLong() {
+			long value = 0;
+			int shift = 0;
+			byte b;
+			do {
+				b = buffer[position++];
+				value |= (long) ( b & 0x7F ) << shift;
+				shift += 7;
+			} while ( ( b & 0x80 ) != 0 );
+			return value;
+		}
+
+		long readSignedVarLong() {
+			final long value = readVarLong();
+			return ( value >>> 1 ) ^ -( value & 1 );
+		}
+
+		long readFixedLong() {
+			long value = 0;
+			for ( int i = 0; i < 8; i++ ) {
+				value = ( value << 8 ) | ( buffer[position++] & 0xFF );
+			}
+			return value;
+		}
+
+		byte[] readBytes() {
+			final int length = (int) readVarLong();
+			final byte[] bytes = Arrays.copyOfRange( buffer, position, position + length );
+			position += length;
+			return bytes;
+		}
+
+		String readString() {
+			final int length = (int) readVarLong();
+			final String value = new String( buffer, position, length, StandardCharsets.UTF_8 );
+			position += length;
+			return value;
+		}
+
+		Serializable readValue() {
+			final int tag = readByte();
+			switch ( tag ) {
+				case NULL:
+					return null;
+				case UNFETCHED:
+					return LazyPropertyInitializer.UNFETCHED_PROPERTY;
+				case UNKNOWN:
+					return PropertyAccessStrategyBackRefImpl.UNKNOWN;
+				case TRUE:
+					return Boolean.TRUE;
+				case FALSE:
+					return Boolean.FALSE;
+				case BYTE:
+					return (byte) readByte();
+				case SHORT:
+					return (short) readSignedVarLong();
+				case INTEGER:
+					return (int) readSignedVarLong();
+				case LONG:
+					return readSignedVarLong();
+				case FLOAT:
+					return Float.intBitsToFloat( (int) readVarLong() );
+				case DOUBLE:
+					return Double.longBitsToDouble( readFixedLong() );
+				case CHARACTER:
+					return (char) readVarLong();
+				case STRING:
+					return readString();
+				case BYTES:
+					return readBytes();
+				case BIG_INTEGER:
+					return new BigInteger( readBytes() );
+				case BIG_DECIMAL: {
+					final int scale = (int) readSignedVarLong();
+					return new BigDecimal( new BigInteger( readBytes() ), scale );
+				}
+				case DATE:
+					return new Date( readSignedVarLong() );
+				case SQL_DATE:
+					return new java.sql.Date( readSignedVarLong() );
+				case SQL_TIME:
+					return new java.sql.Time( readSignedVarLong() );
+				case SQL_TIMESTAMP: {
+					final Timestamp timestamp = new Timestamp( readSignedVarLong() );
+					timestamp.setNanos( (int) readVarLong() );
+					return timestamp;
+				}
+				case UUID_VALUE:
+					return new UUID( readFixedLong(), readFixedLong() );
+				case ARRAY: {
+					final boolean serializableArray = readByte() == 1;
+					final int length = (int) readVarLong();
+					final Object[] array = serializableArray ? new Serializable[length] : new Object[length];
+					for ( int i = 0; i < length; i++ ) {
+						array[i] = readValue();
+					}
+					return array;
+				}
+				case SERIALIZED:
+					return (Serializable) SerializationHelper.deserialize( readBytes() );
+				default:
+					throw new CacheException( "Unexpected tag in binary cache entry : " + tag );
+			}
+		}
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.spi.entry;
+
+import java.io.Serializable;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+/**
+ * Binary CacheEntry format for persistent collections: the disassembled elements are written to a compact
+ * byte array, see {@link BinaryCacheEntry}.
+ */
+public class BinaryCollectionCacheEntry implements CacheEntryStructure {
+	/**
+	 * Access to the singleton reference.
+	 */
+	public static final BinaryCollectionCacheEntry INSTANCE = new BinaryCollectionCacheEntry();
+
+	@Override
+	public Object structure(Object item) {
+		final Serializable[] state = ( (CollectionCacheEntry) item ).getState();
+		final BinaryCacheEntryCodec.Writer writer = new BinaryCacheEntryCodec.Writer( 8 + state.length * 8 );
+		writer.writeVarLong( state.length );
+		for ( Serializable element : state ) {
+			writer.writeValue( element );
+		}
+		return writer.toByteArray();
+	}
+
+	@Override
+	public Object destructure(Object structured, SessionFactoryImplementor factory) {
+		final BinaryCacheEntryCodec.Reader reader = new BinaryCacheEntryCodec.Reader( (byte[]) structured );
+		final Serializable[] state = new Serializable[(int) reader.readVarLong()];
+		for ( int i = 0; i < state.length; i++ ) {
+			state[i] = reader.readValue();
+		}
+		return new CollectionCacheEntry( state );
+	}
+
+	private BinaryCollectionCacheEntry() {
+	}
+}
@@ -29,7 +29,8 @@ public interface CacheEntryStructure {
 	 * @param structured The structured form.
 	 * @param factory The session factory.
 	 *
-	 * @return The item
+	 * @return The item, or {@code null} if the structured form cannot be read back, in which case it is handled
+	 * as a cache miss
 	 */
 	public Object destructure(Object structured, SessionFactoryImplementor factory);
 }
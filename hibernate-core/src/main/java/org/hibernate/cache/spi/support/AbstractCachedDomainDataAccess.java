@@ -6,10 +6,14 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 import org.jboss.logging.Logger;
 
@@ -26,7 +30,7 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 			DomainDataRegion region,
 			DomainDataStorageAccess storageAccess) {
 		this.region = region;
-		this.storageAccess = storageAccess;
+		this.storageAccess = new StatisticsDomainDataStorageAccess( region, storageAccess );
 	}
 
 	@Override
@@ -53,6 +57,11 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return getStorageAccess().getFromCache( key, session );
 	}
 
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		return getStorageAccess().getAllFromCache( keys, session );
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -63,6 +72,20 @@ public abstract class AbstractCachedDomainDataAccess implements CachedDomainData
 		return true;
 	}
 
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.length );
+		for ( int i = 0; i < keys.length; i++ ) {
+			items.put( keys[i], values[i] );
+		}
+		getStorageAccess().putAllFromLoad( items, session );
+		return keys.length;
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
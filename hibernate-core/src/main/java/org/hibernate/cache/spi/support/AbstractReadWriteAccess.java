@@ -7,8 +7,11 @@
 package org.hibernate.cache.spi.support;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
@@ -18,6 +21,8 @@ import org.hibernate.cache.spi.DomainDataRegion;
 import org.hibernate.cache.spi.SecondLevelCacheLogger;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
 
 import org.jboss.logging.Logger;
 
@@ -57,6 +62,19 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		return writeLock;
 	}
 
+	/**
+	 * Acquires the given lock, counting the acquisitions which had to wait for it in the region statistics.
+	 */
+	protected void lock(Lock lock, SharedSessionContractImplementor session) {
+		if ( !lock.tryLock() ) {
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.cacheRegionLockContention( getRegion().getName() );
+			}
+			lock.lock();
+		}
+	}
+
 	/**
 	 * Returns <code>null</code> if the item is not readable.  Locked items are not readable, nor are items created
 	 * afterQuery the start of this transaction.
@@ -65,7 +83,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	public Object get(SharedSessionContractImplementor session, Object key) {
 		log.debugf( "Getting cached data from region [`%s` (%s)] by key [%s]", getRegion().getName(), getAccessType(), key );
 		try {
-			readLock.lock();
+			lock( readLock, session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item == null ) {
@@ -80,6 +98,9 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			}
 			else {
 				log.debugf( "Cache hit, but item is unreadable/invalid : region = `%s`, key = `%s`", getRegion().getName(), key );
+				if ( item instanceof SoftLock ) {
+					softLockedRead( session );
+				}
 				return null;
 			}
 		}
@@ -88,6 +109,46 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	/**
+	 * Returns the readable items only; see {@link #get}.
+	 */
+	@Override
+	public Map<Object, Object> getAll(SharedSessionContractImplementor session, Collection<?> keys) {
+		log.debugf( "Getting %s cached data from region [`%s` (%s)]", keys.size(), getRegion().getName(), getAccessType() );
+		try {
+			lock( readLock, session );
+			final Map<Object, Object> items = getStorageAccess().getAllFromCache( keys, session );
+
+			final Map<Object, Object> values = CollectionHelper.mapOfSize( items.size() );
+			for ( Map.Entry<Object, Object> entry : items.entrySet() ) {
+				final Lockable item = (Lockable) entry.getValue();
+				if ( item != null && item.isReadable( session.getTransactionStartTimestamp() ) ) {
+					values.put( entry.getKey(), item.getValue() );
+				}
+				else if ( item instanceof SoftLock ) {
+					softLockedRead( session );
+				}
+			}
+			log.debugf(
+					"Cache hits : region = `%s`, %s of %s keys readable",
+					getRegion().getName(),
+					values.size(),
+					keys.size()
+			);
+			return values;
+		}
+		finally {
+			readLock.unlock();
+		}
+	}
+
+	private void softLockedRead(SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		if ( statistics.isStatisticsEnabled() ) {
+			statistics.cacheRegionSoftLockedRead( getRegion().getName() );
+		}
+	}
+
 	@Override
 	public boolean putFromLoad(
 			SharedSessionContractImplementor session,
@@ -96,7 +157,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 			Object version) {
 		try {
 			log.debugf( "Caching data from load [region=`%s` (%s)] : key[%s] -> value[%s]", getRegion().getName(), getAccessType(), key, value );
-			writeLock.lock();
+			lock( writeLock, session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			boolean writable = item == null || item.isWriteable( session.getTransactionStartTimestamp(), version, getVersionComparator() );
@@ -124,6 +185,44 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 		}
 	}
 
+	@Override
+	public int putAllFromLoad(
+			SharedSessionContractImplementor session,
+			Object[] keys,
+			Object[] values,
+			Object[] versions) {
+		try {
+			log.debugf( "Caching %s data from load [region=`%s` (%s)]", keys.length, getRegion().getName(), getAccessType() );
+			lock( writeLock, session );
+			final Map<Object, Object> existing = getStorageAccess().getAllFromCache( Arrays.asList( keys ), session );
+
+			final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.length );
+			for ( int i = 0; i < keys.length; i++ ) {
+				final Lockable item = (Lockable) existing.get( keys[i] );
+				final boolean writable = item == null
+						|| item.isWriteable( session.getTransactionStartTimestamp(), versions[i], getVersionComparator() );
+				if ( writable ) {
+					items.put( keys[i], new Item( values[i], versions[i], session.getTransactionStartTimestamp() ) );
+				}
+				else {
+					log.debugf(
+							"Cache put-from-load [region=`%s` (%s), key=`%s`] failed due to being non-writable",
+							getRegion().getName(),
+							getAccessType(),
+							keys[i]
+					);
+				}
+			}
+			if ( !items.isEmpty() ) {
+				getStorageAccess().putAllIntoCache( items, session );
+			}
+			return items.size();
+		}
+		finally {
+			writeLock.unlock();
+		}
+	}
+
 	protected abstract AccessedDataClassification getAccessedDataClassification();
 
 	@Override
@@ -139,7 +238,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	@Override
 	public SoftLock lockItem(SharedSessionContractImplementor session, Object key, Object version) {
 		try {
-			writeLock.lock();
+			lock( writeLock, session );
 
 			long timeout = getRegion().getRegionFactory().nextTimestamp() + getRegion().getRegionFactory().getTimeout();
 			log.debugf( "Locking cache item [region=`%s` (%s)] : `%s` (timeout=%s, version=%s)", getRegion().getName(), getAccessType(), key, timeout, version );
@@ -149,6 +248,10 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 					? new SoftLockImpl( timeout, uuid, nextLockId(), version )
 					: item.lock( timeout, uuid, nextLockId() );
 			getStorageAccess().putIntoCache( key, lock, session );
+			final StatisticsImplementor statistics = session.getFactory().getStatistics();
+			if ( statistics.isStatisticsEnabled() ) {
+				statistics.cacheRegionSoftLock( getRegion().getName() );
+			}
 			return lock;
 		}
 		finally {
@@ -160,7 +263,7 @@ public abstract class AbstractReadWriteAccess extends AbstractCachedDomainDataAc
 	public void unlockItem(SharedSessionContractImplementor session, Object key, SoftLock lock) {
 		try {
 			log.debugf( "Unlocking cache item [region=`%s` (%s)] : %s", getRegion().getName(), getAccessType(), key );
-			writeLock.lock();
+			lock( writeLock, session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( ( item != null ) && item.isUnlockable( lock ) ) {
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.entry.CollectionCacheEntry;
+
+/**
+ * Rough estimate of the heap size of the values put into the second-level cache, walking the disassembled state
+ * they hold.  Only meant to tell regions holding large entries apart from the others: object layouts are assumed
+ * to be those of a 64-bit JVM with compressed references, and values of unknown types count as a bare object.
+ */
+final class CacheEntrySizeEstimator {
+	private static final int OBJECT_SIZE = 16;
+	private static final int REFERENCE_SIZE = 4;
+	private static final int MAX_DEPTH = 8;
+
+	private CacheEntrySizeEstimator() {
+	}
+
+	static long estimate(Object value) {
+		return estimate( value, 0 );
+	}
+
+	private static long estimate(Object value, int depth) {
+		if ( value == null ) {
+			return 0;
+		}
+		if ( depth > MAX_DEPTH ) {
+			return OBJECT_SIZE;
+		}
+		if ( value instanceof AbstractReadWriteAccess.Item ) {
+			return 32 + estimate( ( (AbstractReadWriteAccess.Item) value ).getValue(), depth + 1 );
+		}
+		if ( value instanceof CacheEntry ) {
+			return 32 + estimate( ( (CacheEntry) value ).getDisassembledState(), depth + 1 );
+		}
+		if ( value instanceof CollectionCacheEntry ) {
+			return OBJECT_SIZE + estimate( ( (CollectionCacheEntry) value ).getState(), depth + 1 );
+		}
+		if ( value instanceof String ) {
+			return 40 + 2L * ( (String) value ).length();
+		}
+		if ( value instanceof byte[] ) {
+			return OBJECT_SIZE + ( (byte[]) value ).length;
+		}
+		if ( value instanceof char[] ) {
+			return OBJECT_SIZE + 2L * ( (char[]) value ).length;
+		}
+		if ( value instanceof Object[] ) {
+			final Object[] array = (Object[]) value;
+			long size = OBJECT_SIZE + (long) REFERENCE_SIZE * array.length;
+			for ( Object element : array ) {
+				size += estimate( element, depth + 1 );
+			}
+			return size;
+		}
+		if ( value instanceof Number || value instanceof Date ) {
+			return 24;
+		}
+		if ( value instanceof Collection ) {
+			final Collection<?> collection = (Collection<?>) value;
+			long size = 48 + (long) OBJECT_SIZE * collection.size();
+			for ( Object element : collection ) {
+				size += estimate( element, depth + 1 );
+			}
+			return size;
+		}
+		if ( value instanceof Map ) {
+			final Map<?, ?> map = (Map<?, ?>) value;
+			long size = 48 + 32L * map.size();
+			for ( Map.Entry<?, ?> entry : map.entrySet() ) {
+				size += estimate( entry.getKey(), depth + 1 ) + estimate( entry.getValue(), depth + 1 );
+			}
+			return size;
+		}
+		return OBJECT_SIZE;
+	}
+}
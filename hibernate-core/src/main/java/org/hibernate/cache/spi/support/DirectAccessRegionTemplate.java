@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import org.hibernate.cache.spi.DirectAccessRegion;
 import org.hibernate.cache.spi.RegionFactory;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -44,6 +46,11 @@ public abstract class DirectAccessRegionTemplate extends AbstractRegion implemen
 		getStorageAccess().putIntoCache( key, value, session );
 	}
 
+	@Override
+	public void putAllIntoCache(Map<?, ?> values, SharedSessionContractImplementor session) {
+		getStorageAccess().putAllIntoCache( values, session );
+	}
+
 	@Override
 	public void clear() {
 		getStorageAccess().evictData();
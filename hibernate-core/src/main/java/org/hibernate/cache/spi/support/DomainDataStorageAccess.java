@@ -6,6 +6,8 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Map;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 
 /**
@@ -24,4 +26,15 @@ public interface DomainDataStorageAccess extends StorageAccess {
 	default void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
 		putIntoCache( key, value, session );
 	}
+
+	/**
+	 * Specialized form of putting several items into the cache
+	 * at once in cases where the put is coming from a load (read)
+	 * from the database
+	 *
+	 * @implNote the method default is to call {@link #putAllIntoCache}
+	 */
+	default void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		putAllIntoCache( items, session );
+	}
 }
@@ -81,7 +81,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value, Object version) {
 		try {
-			writeLock().lock();
+			lock( writeLock(), session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -119,7 +119,7 @@ public class EntityReadWriteAccess extends AbstractReadWriteAccess implements En
 			Object previousVersion,
 			SoftLock lock) {
 		try {
-			writeLock().lock();
+			lock( writeLock(), session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -72,7 +72,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 	@Override
 	public boolean afterInsert(SharedSessionContractImplementor session, Object key, Object value) {
 		try {
-			writeLock().lock();
+			lock( writeLock(), session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 			if ( item == null ) {
 				getStorageAccess().putIntoCache(
@@ -99,7 +99,7 @@ public class NaturalIdReadWriteAccess extends AbstractReadWriteAccess implements
 	@Override
 	public boolean afterUpdate(SharedSessionContractImplementor session, Object key, Object value, SoftLock lock) {
 		try {
-			writeLock().lock();
+			lock( writeLock(), session );
 			Lockable item = (Lockable) getStorageAccess().getFromCache( key, session );
 
 			if ( item != null && item.isUnlockable( lock ) ) {
@@ -0,0 +1,161 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.cache.spi.support;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.hibernate.cache.spi.DomainDataRegion;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * DomainDataStorageAccess reporting the latency of the gets and puts made against the underlying storage, and the
+ * estimated size of a sample of the entries put (soft locks aside), to the statistics of the region when statistics are enabled.
+ * <p/>
+ * Operations on several entries at once are reported as a single get or put.
+ */
+final class StatisticsDomainDataStorageAccess implements DomainDataStorageAccess {
+	/**
+	 * The size of one put out of this many is estimated
+	 */
+	private static final int SIZE_SAMPLING_RATE = 16;
+
+	private final DomainDataRegion region;
+	private final DomainDataStorageAccess delegate;
+
+	StatisticsDomainDataStorageAccess(DomainDataRegion region, DomainDataStorageAccess delegate) {
+		this.region = region;
+		this.delegate = delegate;
+	}
+
+	@Override
+	public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = getStatistics( session );
+		if ( statistics == null ) {
+			return delegate.getFromCache( key, session );
+		}
+		final long start = System.nanoTime();
+		final Object item = delegate.getFromCache( key, session );
+		statistics.cacheRegionGet( region.getName(), System.nanoTime() - start );
+		return item;
+	}
+
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = getStatistics( session );
+		if ( statistics == null ) {
+			return delegate.getAllFromCache( keys, session );
+		}
+		final long start = System.nanoTime();
+		final Map<Object, Object> items = delegate.getAllFromCache( keys, session );
+		statistics.cacheRegionGet( region.getName(), System.nanoTime() - start );
+		return items;
+	}
+
+	@Override
+	public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = getStatistics( session );
+		if ( statistics == null ) {
+			delegate.putIntoCache( key, value, session );
+		}
+		else {
+			final long start = System.nanoTime();
+			delegate.putIntoCache( key, value, session );
+			recordPut( statistics, start, value );
+		}
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = getStatistics( session );
+		if ( statistics == null ) {
+			delegate.putAllIntoCache( items, session );
+		}
+		else {
+			final long start = System.nanoTime();
+			delegate.putAllIntoCache( items, session );
+			recordPut( statistics, start, items.isEmpty() ? null : items.values().iterator().next() );
+		}
+	}
+
+	@Override
+	public void putFromLoad(Object key, Object value, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = getStatistics( session );
+		if ( statistics == null ) {
+			delegate.putFromLoad( key, value, session );
+		}
+		else {
+			final long start = System.nanoTime();
+			delegate.putFromLoad( key, value, session );
+			recordPut( statistics, start, value );
+		}
+	}
+
+	@Override
+	public void putAllFromLoad(Map<?, ?> items, SharedSessionContractImplementor session) {
+		final StatisticsImplementor statistics = getStatistics( session );
+		if ( statistics == null ) {
+			delegate.putAllFromLoad( items, session );
+		}
+		else {
+			final long start = System.nanoTime();
+			delegate.putAllFromLoad( items, session );
+			recordPut( statistics, start, items.isEmpty() ? null : items.values().iterator().next() );
+		}
+	}
+
+	@Override
+	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
+		delegate.removeFromCache( key, session );
+	}
+
+	@Override
+	public void clearCache(SharedSessionContractImplementor session) {
+		delegate.clearCache( session );
+	}
+
+	@Override
+	public boolean contains(Object key) {
+		return delegate.contains( key );
+	}
+
+	@Override
+	public void evictData() {
+		delegate.evictData();
+	}
+
+	@Override
+	public void evictData(Object key) {
+		delegate.evictData( key );
+	}
+
+	@Override
+	public void release() {
+		delegate.release();
+	}
+
+	private void recordPut(StatisticsImplementor statistics, long start, Object sampledValue) {
+		final long latency = System.nanoTime() - start;
+		final long estimatedEntrySize = sampledValue != null
+				&& !( sampledValue instanceof SoftLock )
+				&& ThreadLocalRandom.current().nextInt( SIZE_SAMPLING_RATE ) == 0
+				? CacheEntrySizeEstimator.estimate( sampledValue )
+				: -1;
+		statistics.cacheRegionPut( region.getName(), latency, estimatedEntrySize );
+	}
+
+	private static StatisticsImplementor getStatistics(SharedSessionContractImplementor session) {
+		if ( session == null ) {
+			return null;
+		}
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		return statistics.isStatisticsEnabled() ? statistics : null;
+	}
+}
@@ -6,7 +6,12 @@
  */
 package org.hibernate.cache.spi.support;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.collections.CollectionHelper;
 
 /**
  * A general read/write abstraction over the specific "cache"
@@ -28,6 +33,48 @@ public interface StorageAccess {
 	 */
 	void putIntoCache(Object key, Object value, SharedSessionContractImplementor session);
 
+	/**
+	 * Get several items from the cache at once.
+	 *
+	 * @implNote the method default is to call {@link #getFromCache} for each key
+	 *
+	 * @return The items found, by key; keys not found in the cache have no entry
+	 */
+	default Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		final Map<Object, Object> items = CollectionHelper.mapOfSize( keys.size() );
+		for ( Object key : keys ) {
+			final Object item = getFromCache( key, session );
+			if ( item != null ) {
+				items.put( key, item );
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Put several items into the cache at once
+	 *
+	 * @implNote the method default is to call {@link #putIntoCache} for each item
+	 */
+	default void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		for ( Map.Entry<?, ?> entry : items.entrySet() ) {
+			putIntoCache( entry.getKey(), entry.getValue(), session );
+		}
+	}
+
+	/**
+	 * Register a listener to be notified of the items put into the cache by the other nodes sharing it, when
+	 * the cache is replicated or distributed.  The listener may also be notified of the items put by this node.
+	 *
+	 * @implNote the method default registers nothing, as for a cache which is not shared
+	 *
+	 * @return {@code true} if the listener was registered; {@code false} if the cache does not notify of
+	 * the items put into it
+	 */
+	default boolean addPutListener(BiConsumer<Object, Object> listener) {
+		return false;
+	}
+
 	/**
 	 * Remove an item from the cache by key
 	 */
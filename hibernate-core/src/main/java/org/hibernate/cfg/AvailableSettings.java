@@ -795,6 +795,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String BATCH_VERSIONED_DATA = "hibernate.jdbc.batch_versioned_data";
 
+	/**
+	 * Should the JDBC batches for statements which do not depend on each other be kept open together during
+	 * a flush, and executed back to back once all of them are filled, rather than one after the other?
+	 * <p/>
+	 * This applies to the insertion of collection rows, where the rows of several collections of the same
+	 * owner otherwise alternate between tables and end up executed in batches of a single row unless
+	 * {@link #ORDER_UPDATES} is enabled.
+	 * <p/>
+	 * The default value is {@code false}.
+	 */
+	String BATCH_PIPELINING = "hibernate.jdbc.batch_pipelining";
+
 	/**
 	 * Default JDBC TimeZone. Unless specified, the JVM default TimeZone is going to be used by the underlying JDBC Driver.
 	 *
@@ -812,6 +824,33 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String FLUSH_BEFORE_COMPLETION = "hibernate.transaction.flush_before_completion";
 
+	/**
+	 * Should flushes only process the entities which might have been modified since the last flush,
+	 * instead of every entity associated with the session?
+	 * <p/>
+	 * An entity is considered possibly modified after it has been persisted, deleted, reattached,
+	 * replicated or merged into, when one of its collections was modified, when one of its attributes
+	 * was written through the bytecode-enhanced setters, or when it was passed to
+	 * {@link org.hibernate.Session#touch}.  Changes made to entities which are not bytecode-enhanced
+	 * must be signalled through {@link org.hibernate.Session#touch}, or they are not flushed.
+	 * <p/>
+	 * The default value is {@code false}.
+	 */
+	String FLUSH_INCREMENTAL = "hibernate.flush.incremental";
+
+	/**
+	 * Should auto-flushes be skipped without dirty checking the session when neither the queued actions
+	 * nor any entity or collection managed by the session could write to the query spaces of the query
+	 * being executed?
+	 * <p/>
+	 * The session then tracks the persisters of its managed entities and collections.  The spaces they
+	 * could write to include those of every entity and collection reachable through their associations,
+	 * so transient instances which a flush would cascade to are accounted for.
+	 * <p/>
+	 * The default value is {@code false}.
+	 */
+	String FLUSH_AUTO_QUERY_SPACE_INDEX = "hibernate.flush.auto.query_space_index";
+
 	/**
 	 * Specifies how Hibernate should acquire JDBC connections.  Should generally only configure
 	 * this or {@link #RELEASE_CONNECTIONS}, not both
@@ -858,6 +897,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_REFLECTION_OPTIMIZER = "hibernate.bytecode.use_reflection_optimizer";
 
+	/**
+	 * Should Hibernate generate a dirty checker for each entity class at SessionFactory build time?
+	 * <p/>
+	 * The generated checker compares the current and loaded state of basic, immutable-valued
+	 * properties with a dedicated call site per property, rather than going through
+	 * {@link org.hibernate.type.Type#isDirty} for every property.  Other properties are still
+	 * checked through their {@link org.hibernate.type.Type}.
+	 * <p/>
+	 * The default value is {@code false}.
+	 *
+	 * @see org.hibernate.bytecode.spi.DirtyCheckOptimizer
+	 */
+	String USE_DIRTY_CHECK_OPTIMIZER = "hibernate.bytecode.use_dirty_check_optimizer";
+
 	/**
 	 * Configure the global BytecodeProvider implementation to generate class names matching the
 	 * existing naming patterns.
@@ -906,6 +959,16 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_STARTUP_CHECKING = "hibernate.query.startup_check";
 
+	/**
+	 * The number of threads compiling named queries when they are checked during startup (see
+	 * {@link #QUERY_STARTUP_CHECKING}).  The compiled plans are kept in the
+	 * {@link org.hibernate.engine.query.spi.QueryPlanCache}.  The default, {@code 1}, compiles them on the thread
+	 * building the SessionFactory.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_STARTUP_CHECK_PARALLELISM = "hibernate.query.startup_check_parallelism";
+
 	/**
 	 * Setting which indicates whether or not Java constant follow the Java Naming conventions.
 	 * <p/>
@@ -1121,6 +1184,20 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_CACHE_FACTORY = "hibernate.cache.query_cache_factory";
 
+	/**
+	 * The {@link org.hibernate.cache.spi.QueryCacheTagResolver} telling the query cache tags of the rows written
+	 * for entities, as an instance, a class or a class name.  When set, the cached results of queries declaring
+	 * tags are only made stale by writes of rows carrying one of them.  Not set by default: any write to a table
+	 * makes stale the cached results of all the queries over it.
+	 * <p/>
+	 * {@link org.hibernate.cache.internal.TenantQueryCacheTagResolver} tags rows and queries with the tenant
+	 * identifier of the session.
+	 *
+	 * @see org.hibernate.query.Query#setCacheTags
+	 * @since 5.4
+	 */
+	String QUERY_CACHE_TAG_RESOLVER = "hibernate.cache.query_cache_tag_resolver";
+
 	/**
 	 * The <tt>CacheProvider</tt> region name prefix
 	 */
@@ -1136,6 +1213,15 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_STRUCTURED_CACHE = "hibernate.cache.use_structured_entries";
 
+	/**
+	 * Enable use of compact binary second-level cache entries: the disassembled state of entities and
+	 * collections is written to a byte array instead of being kept as an array of values.  Takes precedence
+	 * over {@link #USE_STRUCTURED_CACHE}.  Default is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String USE_BINARY_CACHE_ENTRIES = "hibernate.cache.use_binary_entries";
+
 	/**
 	 * Enables the automatic eviction of a bi-directional association's collection cache when an element in the
 	 * ManyToOne collection is added/updated/removed without properly managing the change on the OneToMany side.
@@ -1148,6 +1234,15 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String USE_DIRECT_REFERENCE_CACHE_ENTRIES = "hibernate.cache.use_reference_entries";
 
+	/**
+	 * The maximum number of entries of each region of the {@link org.hibernate.cache.internal.LocalRegionFactory}.
+	 * The maximum of a specific region can be set using this setting name suffixed with {@code .} and the
+	 * region name, e.g. {@code hibernate.cache.local.maximum_size.com.acme.Customer}.  Default is 10000.
+	 *
+	 * @since 5.4
+	 */
+	String CACHE_LOCAL_MAXIMUM_SIZE = "hibernate.cache.local.maximum_size";
+
 
 
 
@@ -1241,6 +1336,18 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String QUERY_PLAN_CACHE_PARAMETER_METADATA_MAX_SIZE = "hibernate.query.plan_parameter_metadata_max_size";
 
+	/**
+	 * HQL queries whose plans should be compiled into the {@link org.hibernate.engine.query.spi.QueryPlanCache}
+	 * while the SessionFactory is built.  Can refer to:<ul>
+	 *     <li>a {@link java.util.Collection} of HQL query strings</li>
+	 *     <li>the name of a classpath resource listing one HQL query per line, lines starting with {@code #} being ignored</li>
+	 * </ul>
+	 * Queries which fail to compile are logged and skipped.
+	 *
+	 * @since 5.4
+	 */
+	String QUERY_PLAN_CACHE_WARMUP = "hibernate.query.plan_cache_warmup";
+
 	/**
 	 * Should we not use contextual LOB creation (aka based on {@link java.sql.Connection#createBlob()} et al).
 	 */
@@ -1647,12 +1754,13 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	/**
 	 * Controls how the individual Loaders for an entity are created.
 	 *
-	 * When `true` (the default), only the minimal set of Loaders are
-	 * created.  These include the handling for {@link org.hibernate.LockMode#READ}
-	 * and {@link org.hibernate.LockMode#NONE} as well as specialized Loaders for
-	 * merge and refresh handling.
+	 * When `true` (the default), the Loaders are created on first use, for
+	 * each {@link org.hibernate.LockMode} and for the merge and refresh handling.
+	 * The batching Loaders in turn create the Loader of each batch size on
+	 * first use.
 	 *
-	 * `false` indicates that all loaders should be created up front
+	 * `false` indicates that the Loaders for all the lock modes, and for merge
+	 * and refresh handling, should be created up front
 	 *
 	 * @since 5.3
 	 */
@@ -2035,6 +2143,22 @@ public interface AvailableSettings extends org.hibernate.jpa.AvailableSettings {
 	 */
 	String IN_CLAUSE_PARAMETER_PADDING = "hibernate.query.in_clause_parameter_padding";
 
+	/**
+	 * By default, the IN clause expands to include a bind parameter per value, making a different query,
+	 * and a different query plan, for each number of values.
+	 * </p>
+	 * When the Dialect supports it (see {@link org.hibernate.dialect.Dialect#supportsArrayInListBinding()}),
+	 * the values of a collection-valued parameter of basic type can instead be bound as a single JDBC array,
+	 * e.g. {@code in (select unnest(?))} on PostgreSQL, so that a single query serves any number of values.
+	 * </p>
+	 * If you want to activate this feature, you need to set this property to {@code true}.
+	 * </p>
+	 * The default value is {@code false}.
+	 *
+	 * @since 5.4
+	 */
+	String IN_CLAUSE_PARAMETER_ARRAY_BINDING = "hibernate.query.in_clause_parameter_array_binding";
+
 	/**
 	 * This setting controls the number of {@link org.hibernate.stat.QueryStatistics} entries
 	 * that will be stored by the Hibernate {@link org.hibernate.stat.Statistics} object.
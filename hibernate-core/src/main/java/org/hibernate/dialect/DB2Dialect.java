@@ -16,6 +16,8 @@ import org.hibernate.JDBCException;
 import org.hibernate.MappingException;
 import org.hibernate.NullPrecedence;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MultiRowValuesBulkInsertSupport;
 import org.hibernate.dialect.function.AvgWithArgumentCastFunction;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -587,6 +589,11 @@ public class DB2Dialect extends Dialect {
 		return new DB2IdentityColumnSupport();
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return new MultiRowValuesBulkInsertSupport( 1000, 32767 );
+	}
+
 	@Override
 	public boolean supportsPartitionBy() {
 		return true;
@@ -43,6 +43,9 @@ import org.hibernate.boot.model.relational.AuxiliaryDatabaseObject;
 import org.hibernate.boot.model.relational.Sequence;
 import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.BulkInsertSupportImpl;
+import org.hibernate.dialect.function.ArrayInListFunction;
 import org.hibernate.dialect.function.CastFunction;
 import org.hibernate.dialect.function.SQLFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -186,6 +189,7 @@ public abstract class Dialect implements ConversionContext {
 		registerFunction( "upper", new StandardSQLFunction("upper") );
 		registerFunction( "lower", new StandardSQLFunction("lower") );
 		registerFunction( "cast", new CastFunction() );
+		registerFunction( ArrayInListFunction.NAME, ArrayInListFunction.INSTANCE );
 		registerFunction( "extract", new SQLFunctionTemplate(StandardBasicTypes.INTEGER, "extract(?1 ?2 ?3)") );
 
 		//map second/minute/hour/day/month/year to ANSI extract(), override on subclasses
@@ -808,6 +812,18 @@ public abstract class Dialect implements ConversionContext {
 		return new IdentityColumnSupportImpl();
 	}
 
+	// bulk insert support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
+
+	/**
+	 * Get the appropriate {@link BulkInsertSupport}, used to insert many rows of a table at once.
+	 *
+	 * @return the BulkInsertSupport
+	 * @since 5.4
+	 */
+	public BulkInsertSupport getBulkInsertSupport() {
+		return BulkInsertSupportImpl.INSTANCE;
+	}
+
 	// SEQUENCE support ~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~
 
 	/**
@@ -2712,6 +2728,45 @@ public abstract class Dialect implements ConversionContext {
 		return 0;
 	}
 
+	/**
+	 * Does this dialect support binding the values of an {@code IN} predicate as a single JDBC
+	 * {@link java.sql.Array}, selected by {@link #getArrayInListExpression}?
+	 *
+	 * @return True if array in lists are supported; false otherwise.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY_BINDING
+	 */
+	public boolean supportsArrayInListBinding() {
+		return false;
+	}
+
+	/**
+	 * Build the subquery selecting the elements of the JDBC array bound to the given parameter, to be used as
+	 * the value list of an {@code IN} predicate; for example {@code select unnest(?)}.
+	 *
+	 * @param placeholder The placeholder of the array parameter
+	 * @param elementTypeName The name of the type of the array elements, see {@link #getArrayElementTypeName}
+	 *
+	 * @return The subquery, without enclosing parentheses
+	 */
+	public String getArrayInListExpression(String placeholder, String elementTypeName) {
+		throw new UnsupportedOperationException( getClass().getName() + " does not support array in lists" );
+	}
+
+	/**
+	 * Get the name of the type of the elements of a JDBC array, as given to
+	 * {@link java.sql.Connection#createArrayOf}, for elements of the given {@link Types} typecode.
+	 *
+	 * @param code The {@link Types} typecode of the elements
+	 *
+	 * @return The database type name, without any length, precision or scale
+	 */
+	public String getArrayElementTypeName(int code) {
+		final String typeName = getTypeName( code );
+		final int parenthesis = typeName.indexOf( '(' );
+		return parenthesis < 0 ? typeName : typeName.substring( 0, parenthesis );
+	}
+
 	/**
 	 * HHH-4635
 	 * Oracle expects all Lob values to be last in inserts and updates.
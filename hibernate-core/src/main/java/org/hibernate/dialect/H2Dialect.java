@@ -13,6 +13,8 @@ import org.hibernate.JDBCException;
 import org.hibernate.PessimisticLockException;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MultiRowValuesBulkInsertSupport;
 import org.hibernate.dialect.function.AvgWithArgumentCastFunction;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.StandardSQLFunction;
@@ -433,6 +435,16 @@ public class H2Dialect extends Dialect {
 	public boolean supportsTuplesInSubqueries() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsArrayInListBinding() {
+		return true;
+	}
+
+	@Override
+	public String getArrayInListExpression(String placeholder, String elementTypeName) {
+		return "select * from table(x " + elementTypeName + " = " + placeholder + ")";
+	}
 	
 	@Override
 	public boolean dropConstraints() {
@@ -446,6 +458,11 @@ public class H2Dialect extends Dialect {
 		return new H2IdentityColumnSupport();
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		return new MultiRowValuesBulkInsertSupport( 1000, 32767 );
+	}
+
 	@Override
 	public String getQueryHintString(String query, String hints) {
 		return IndexQueryHintHandler.INSTANCE.addQueryHints( query, hints );
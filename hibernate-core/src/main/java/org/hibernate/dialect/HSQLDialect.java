@@ -18,6 +18,8 @@ import org.hibernate.MappingException;
 import org.hibernate.StaleObjectStateException;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MultiRowValuesBulkInsertSupport;
 import org.hibernate.dialect.function.AvgWithArgumentCastFunction;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.SQLFunctionTemplate;
@@ -683,6 +685,14 @@ public class HSQLDialect extends Dialect {
 		return new HSQLIdentityColumnSupport( this.hsqldbVersion );
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		if ( hsqldbVersion < 200 ) {
+			return super.getBulkInsertSupport();
+		}
+		return new MultiRowValuesBulkInsertSupport( 1000, 32767 );
+	}
+
 	@Override
 	public NameQualifierSupport getNameQualifierSupport() {
 		return NameQualifierSupport.SCHEMA;
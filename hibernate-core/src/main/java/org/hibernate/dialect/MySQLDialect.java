@@ -18,6 +18,8 @@ import org.hibernate.NullPrecedence;
 import org.hibernate.PessimisticLockException;
 import org.hibernate.boot.TempTableDdlTransactionHandling;
 import org.hibernate.cfg.Environment;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MultiRowValuesBulkInsertSupport;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.dialect.function.StandardSQLFunction;
 import org.hibernate.dialect.identity.IdentityColumnSupport;
@@ -567,6 +569,12 @@ public class MySQLDialect extends Dialect {
 		return new MySQLIdentityColumnSupport();
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		// prepared statements accept at most 65535 placeholders
+		return new MultiRowValuesBulkInsertSupport( 1000, 65535 );
+	}
+
 	@Override
 	public boolean isJdbcLogWarningsEnabledByDefault() {
 		return false;
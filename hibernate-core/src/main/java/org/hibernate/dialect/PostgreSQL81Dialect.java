@@ -526,6 +526,16 @@ public class PostgreSQL81Dialect extends Dialect {
 		return false;
 	}
 
+	@Override
+	public boolean supportsArrayInListBinding() {
+		return true;
+	}
+
+	@Override
+	public String getArrayInListExpression(String placeholder, String elementTypeName) {
+		return "select unnest(" + placeholder + ")";
+	}
+
 	@Override
 	public boolean supportsExpectedLobUsagePattern() {
 		return true;
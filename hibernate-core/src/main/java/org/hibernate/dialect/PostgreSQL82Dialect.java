@@ -7,6 +7,8 @@
 package org.hibernate.dialect;
 
 import org.hibernate.boot.model.TypeContributions;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MultiRowValuesBulkInsertSupport;
 import org.hibernate.hql.spi.id.IdTableSupportStandardImpl;
 import org.hibernate.hql.spi.id.MultiTableBulkIdStrategy;
 import org.hibernate.hql.spi.id.local.AfterUseAction;
@@ -62,6 +64,12 @@ public class PostgreSQL82Dialect extends PostgreSQL81Dialect {
 		return true;
 	}
 
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		// the protocol limits the number of parameters of a statement to 32767
+		return new MultiRowValuesBulkInsertSupport( 1000, 32767 );
+	}
+
 	public boolean supportsRowValueConstructorSyntaxInInList() {
 		return true;
 	}
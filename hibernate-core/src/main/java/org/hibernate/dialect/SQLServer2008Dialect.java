@@ -9,6 +9,8 @@ package org.hibernate.dialect;
 import java.sql.Types;
 
 import org.hibernate.NullPrecedence;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
+import org.hibernate.dialect.bulk.MultiRowValuesBulkInsertSupport;
 import org.hibernate.dialect.function.NoArgSQLFunction;
 import org.hibernate.type.StandardBasicTypes;
 
@@ -61,4 +63,10 @@ public class SQLServer2008Dialect extends SQLServer2005Dialect {
 	public boolean supportsValuesList() {
 		return true;
 	}
+
+	@Override
+	public BulkInsertSupport getBulkInsertSupport() {
+		// a table value constructor holds at most 1000 rows, and a request at most 2100 parameters
+		return new MultiRowValuesBulkInsertSupport( 1000, 2099 );
+	}
 }
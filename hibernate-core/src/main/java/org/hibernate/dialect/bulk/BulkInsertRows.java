@@ -0,0 +1,52 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * The rows of a table to be inserted in bulk, passed to a {@link BulkInsertSupport#load vendor-specific bulk loader}.
+ *
+ * @since 5.4
+ */
+public interface BulkInsertRows {
+	/**
+	 * The name of the table.
+	 *
+	 * @return The table name, as rendered in SQL
+	 */
+	String getTableName();
+
+	/**
+	 * The statement which would insert a single row.
+	 *
+	 * @return The insert statement, whose parameters are bound by {@link #bind}
+	 */
+	String getSingleRowInsertString();
+
+	/**
+	 * The number of rows to insert.
+	 *
+	 * @return The number of rows
+	 */
+	int getRowCount();
+
+	/**
+	 * Bind the values of a row onto a statement, as they would be bound onto the
+	 * {@link #getSingleRowInsertString insert statement}.
+	 *
+	 * @param row The index of the row
+	 * @param statement The statement
+	 * @param index The index of the first parameter to bind
+	 *
+	 * @return The index of the parameter following those of the row
+	 *
+	 * @throws SQLException Indicates a problem binding the values
+	 */
+	int bind(int row, PreparedStatement statement, int index) throws SQLException;
+}
@@ -0,0 +1,59 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * Represents the support of a Dialect for inserting many rows of a table at once, as done by
+ * {@link org.hibernate.StatelessSession#insertAll}.
+ * <p/>
+ * The rows are first offered to the {@link #load vendor-specific bulk loader}, if any.  Otherwise they are
+ * inserted by statements inserting up to {@link #getMaxRowsPerInsert} rows each, rendered from the insert
+ * statement of a single row by {@link #renderMultiRowInsert}.
+ *
+ * @since 5.4
+ */
+public interface BulkInsertSupport {
+	/**
+	 * The maximum number of rows a single insert statement may insert.
+	 *
+	 * @param parametersPerRow The number of parameters bound for each row
+	 *
+	 * @return The number of rows; {@code 1} if statements can only insert one row
+	 */
+	int getMaxRowsPerInsert(int parametersPerRow);
+
+	/**
+	 * Render a statement inserting several rows, from the statement inserting a single row.
+	 *
+	 * @param singleRowInsert The insert statement for a single row, of the form
+	 * {@code insert into table (columns) values (parameters)}
+	 * @param rowCount The number of rows to insert
+	 *
+	 * @return The insert statement for the given number of rows, or {@code null} if the statement for a single
+	 * row could not be rewritten
+	 */
+	String renderMultiRowInsert(String singleRowInsert, int rowCount);
+
+	/**
+	 * Insert the given rows through a vendor-specific bulk loading mechanism, like the PostgreSQL {@code COPY}
+	 * command, instead of insert statements.
+	 *
+	 * @param rows The rows to insert
+	 * @param session The session through which the rows are inserted
+	 *
+	 * @return {@code true} if the rows were inserted; {@code false} if they should be inserted with statements
+	 *
+	 * @throws SQLException Indicates a problem loading the rows
+	 */
+	default boolean load(BulkInsertRows rows, SharedSessionContractImplementor session) throws SQLException {
+		return false;
+	}
+}
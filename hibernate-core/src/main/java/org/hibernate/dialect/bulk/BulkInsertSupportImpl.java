@@ -0,0 +1,29 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+/**
+ * The default {@link BulkInsertSupport}: each statement inserts a single row.
+ *
+ * @since 5.4
+ */
+public class BulkInsertSupportImpl implements BulkInsertSupport {
+	/**
+	 * Singleton access
+	 */
+	public static final BulkInsertSupportImpl INSTANCE = new BulkInsertSupportImpl();
+
+	@Override
+	public int getMaxRowsPerInsert(int parametersPerRow) {
+		return 1;
+	}
+
+	@Override
+	public String renderMultiRowInsert(String singleRowInsert, int rowCount) {
+		return rowCount == 1 ? singleRowInsert : null;
+	}
+}
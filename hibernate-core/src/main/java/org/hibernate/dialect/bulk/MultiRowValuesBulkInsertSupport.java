@@ -0,0 +1,63 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.bulk;
+
+import java.util.Locale;
+
+/**
+ * A {@link BulkInsertSupport} for databases accepting several rows in the {@code values} clause of an insert
+ * statement: {@code insert into table (a, b) values (?, ?), (?, ?)}.
+ *
+ * @since 5.4
+ */
+public class MultiRowValuesBulkInsertSupport implements BulkInsertSupport {
+	private final int maxRows;
+	private final int maxParameters;
+
+	/**
+	 * Constructs a MultiRowValuesBulkInsertSupport
+	 *
+	 * @param maxRows The maximum number of rows in the values clause
+	 * @param maxParameters The maximum number of parameters in a statement
+	 */
+	public MultiRowValuesBulkInsertSupport(int maxRows, int maxParameters) {
+		this.maxRows = maxRows;
+		this.maxParameters = maxParameters;
+	}
+
+	@Override
+	public int getMaxRowsPerInsert(int parametersPerRow) {
+		if ( parametersPerRow <= 0 ) {
+			return maxRows;
+		}
+		return Math.max( Math.min( maxRows, maxParameters / parametersPerRow ), 1 );
+	}
+
+	@Override
+	public String renderMultiRowInsert(String singleRowInsert, int rowCount) {
+		if ( rowCount == 1 ) {
+			return singleRowInsert;
+		}
+		final int valuesIndex = singleRowInsert.toLowerCase( Locale.ROOT ).lastIndexOf( "values" );
+		if ( valuesIndex < 0 ) {
+			return null;
+		}
+		final String row = singleRowInsert.substring( valuesIndex + "values".length() ).trim();
+		if ( !row.startsWith( "(" ) || !row.endsWith( ")" ) ) {
+			return null;
+		}
+
+		final StringBuilder buffer = new StringBuilder( valuesIndex + ( row.length() + 2 ) * rowCount + 8 )
+				.append( singleRowInsert, 0, valuesIndex )
+				.append( "values " )
+				.append( row );
+		for ( int i = 1; i < rowCount; i++ ) {
+			buffer.append( ", " ).append( row );
+		}
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,68 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.dialect.function;
+
+import java.util.List;
+
+import org.hibernate.QueryException;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.Type;
+
+/**
+ * The subquery selecting the elements of a JDBC array parameter in an {@code IN} predicate, as in
+ * <tt>x in (array_in_list(:values, 'int8'))</tt>, rendered by
+ * {@link org.hibernate.dialect.Dialect#getArrayInListExpression}.  The second argument is the string literal
+ * naming the type of the array elements.  Rendering it fails with a {@link QueryException} on the dialects which
+ * do not {@link Dialect#supportsArrayInListBinding() support array in lists}.
+ * <p/>
+ * Used for the collection-valued parameters bound as arrays, see
+ * {@link org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY_BINDING}.
+ */
+public class ArrayInListFunction implements SQLFunction {
+	public static final String NAME = "array_in_list";
+
+	/**
+	 * Singleton access
+	 */
+	public static final ArrayInListFunction INSTANCE = new ArrayInListFunction();
+
+	@Override
+	public boolean hasArguments() {
+		return true;
+	}
+
+	@Override
+	public boolean hasParenthesesIfNoArguments() {
+		return true;
+	}
+
+	@Override
+	public Type getReturnType(Type argumentType, Mapping mapping) throws QueryException {
+		return argumentType;
+	}
+
+	@Override
+	public String render(Type argumentType, List args, SessionFactoryImplementor factory) throws QueryException {
+		final Dialect dialect = factory.getJdbcServices().getDialect();
+		if ( !dialect.supportsArrayInListBinding() ) {
+			throw new QueryException( "array_in_list() is not supported by " + dialect.getClass().getName() );
+		}
+		if ( args.size() != 2 ) {
+			throw new QueryException( "array_in_list() requires two arguments" );
+		}
+		final String elementTypeName = args.get( 1 ).toString().trim();
+		if ( elementTypeName.length() < 2 || elementTypeName.charAt( 0 ) != '\'' ) {
+			throw new QueryException( "array_in_list() requires the element type name as a string literal" );
+		}
+		return dialect.getArrayInListExpression(
+				args.get( 0 ).toString(),
+				elementTypeName.substring( 1, elementTypeName.length() - 1 )
+		);
+	}
+}
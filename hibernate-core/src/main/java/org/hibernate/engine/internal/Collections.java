@@ -52,6 +52,22 @@ public final class Collections {
 		}
 	}
 
+	/**
+	 * record the fact that this collection was not reached because an incremental flush skipped its
+	 * owner; the owner was not touched, so the collection is still referenced under its loaded role and key
+	 *
+	 * @param coll The collection whose owner was skipped
+	 * @param session The session
+	 */
+	public static void processCollectionOfUntouchedOwner(PersistentCollection coll, SessionImplementor session) {
+		final CollectionEntry entry = session.getPersistenceContextInternal().getCollectionEntry( coll );
+		entry.setReached( true );
+		entry.setCurrentPersister( entry.getLoadedPersister() );
+		entry.setCurrentKey( entry.getLoadedKey() );
+
+		prepareCollectionForUpdate( coll, entry, session.getFactory() );
+	}
+
 	private static void processDereferencedCollection(PersistentCollection coll, SessionImplementor session) {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final CollectionEntry entry = persistenceContext.getCollectionEntry( coll );
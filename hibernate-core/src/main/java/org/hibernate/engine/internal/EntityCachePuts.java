@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.engine.spi.SessionEventListenerManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.internal.StatsHelper;
+import org.hibernate.stat.spi.StatisticsImplementor;
+
+/**
+ * Collects the second-level cache entries of the entities initialized by a load, so that the entries of each
+ * entity hierarchy are put with a single {@link EntityDataAccess#putAllFromLoad} call once all the entities are
+ * initialized, rather than one at a time.  Used when a load initializes several entities, as batch fetching
+ * and multi-load do.
+ *
+ * @see TwoPhaseLoad#initializeEntity(Object, boolean, SharedSessionContractImplementor,
+ * org.hibernate.event.spi.PreLoadEvent, Iterable, EntityCachePuts)
+ */
+public final class EntityCachePuts {
+	private final Map<EntityDataAccess, Puts> putsByCache = new IdentityHashMap<>();
+
+	void add(EntityPersister persister, EntityDataAccess cache, Object cacheKey, Object entry, Object version) {
+		putsByCache.computeIfAbsent( cache, k -> new Puts( persister ) ).add( cacheKey, entry, version );
+	}
+
+	/**
+	 * Put the collected entries into the second-level cache.
+	 *
+	 * @param session The session which loaded the entities
+	 */
+	public void putAll(SharedSessionContractImplementor session) {
+		if ( putsByCache.isEmpty() ) {
+			return;
+		}
+		final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
+		final StatisticsImplementor statistics = session.getFactory().getStatistics();
+		for ( Map.Entry<EntityDataAccess, Puts> entry : putsByCache.entrySet() ) {
+			final EntityDataAccess cache = entry.getKey();
+			final Puts puts = entry.getValue();
+			eventListenerManager.cachePutStart();
+			try {
+				final int put = cache.putAllFromLoad(
+						session,
+						puts.keys.toArray(),
+						puts.entries.toArray(),
+						puts.versions.toArray()
+				);
+				if ( statistics.isStatisticsEnabled() ) {
+					for ( int i = 0; i < put; i++ ) {
+						statistics.entityCachePut(
+								StatsHelper.INSTANCE.getRootEntityRole( puts.persister ),
+								cache.getRegion().getName()
+						);
+					}
+				}
+			}
+			finally {
+				eventListenerManager.cachePutEnd();
+			}
+		}
+		putsByCache.clear();
+	}
+
+	private static final class Puts {
+		private final EntityPersister persister;
+		private final List<Object> keys = new ArrayList<>();
+		private final List<Object> entries = new ArrayList<>();
+		private final List<Object> versions = new ArrayList<>();
+
+		private Puts(EntityPersister persister) {
+			this.persister = persister;
+		}
+
+		private void add(Object cacheKey, Object entry, Object version) {
+			keys.add( cacheKey );
+			entries.add( entry );
+			versions.add( version );
+		}
+	}
+}
@@ -20,6 +20,8 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.IdentityHashMap;
 import java.util.Map;
 
@@ -325,6 +327,26 @@ public class EntityEntryContext {
 		return reentrantSafeEntries;
 	}
 
+	/**
+	 * Like {@link #reentrantSafeEntityEntries()}, but restricted to the given entity instances.  Instances which
+	 * are not managed by this context, and {@code null} elements, are skipped.
+	 *
+	 * @param entities The entity instances
+	 *
+	 * @return The entity/EntityEntry combos of the managed entities, in the order of the given entities
+	 */
+	public Map.Entry<Object, EntityEntry>[] reentrantSafeEntityEntries(Collection<?> entities) {
+		final EntityEntryCrossRefImpl[] entries = new EntityEntryCrossRefImpl[entities.size()];
+		int i = 0;
+		for ( Object entity : entities ) {
+			final EntityEntry entityEntry = entity == null ? null : getEntityEntry( entity );
+			if ( entityEntry != null ) {
+				entries[i++] = new EntityEntryCrossRefImpl( entity, entityEntry );
+			}
+		}
+		return i == entries.length ? entries : Arrays.copyOf( entries, i );
+	}
+
 	/**
 	 * Clear this context of all managed entities
 	 */
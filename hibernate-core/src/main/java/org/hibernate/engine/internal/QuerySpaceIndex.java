@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.internal;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.type.AnyType;
+import org.hibernate.type.CollectionType;
+import org.hibernate.type.CompositeType;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * Tracks the query spaces a flush of a persistence context could write to.
+ * <p/>
+ * Registering the persister of every managed entity and collection is cheap: the index only remembers
+ * the persisters it has seen.  The query spaces are resolved lazily, the first time they are asked for
+ * after new persisters were registered.  They are the spaces of the registered persisters plus the spaces
+ * of every entity and collection reachable from them through their associations, since cascading or
+ * orphan removal could reach those during the flush.  The index never forgets a persister until it is
+ * {@linkplain #clear cleared}, so it may overestimate but never underestimate the spaces.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#FLUSH_AUTO_QUERY_SPACE_INDEX
+ */
+public final class QuerySpaceIndex {
+	private final SessionFactoryImplementor factory;
+
+	private final IdentityHashMap<Object,Object> registeredPersisters = new IdentityHashMap<>();
+	private final ArrayList<Object> unresolvedPersisters = new ArrayList<>();
+	private Object lastRegisteredPersister;
+
+	private final IdentityHashMap<Object,Object> resolvedPersisters = new IdentityHashMap<>();
+	private final Set<Serializable> querySpaces = new HashSet<>();
+	private boolean unbounded;
+
+	public QuerySpaceIndex(SessionFactoryImplementor factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Register the persister of a managed entity.
+	 *
+	 * @param persister The entity persister
+	 */
+	public void registerEntityPersister(EntityPersister persister) {
+		register( persister );
+	}
+
+	/**
+	 * Register the persister of a managed collection.
+	 *
+	 * @param persister The collection persister
+	 */
+	public void registerCollectionPersister(CollectionPersister persister) {
+		register( persister );
+	}
+
+	private void register(Object persister) {
+		// entities are usually added in runs of the same type
+		if ( persister == null || persister == lastRegisteredPersister ) {
+			return;
+		}
+		lastRegisteredPersister = persister;
+		if ( registeredPersisters.put( persister, persister ) == null ) {
+			unresolvedPersisters.add( persister );
+		}
+	}
+
+	/**
+	 * Could a flush of the registered entities and collections write to any of the given query spaces?
+	 *
+	 * @param spaces The query spaces to check
+	 *
+	 * @return {@code true} if a flush could write to at least one of the spaces
+	 */
+	public boolean mightAffect(Set<? extends Serializable> spaces) {
+		resolve();
+		if ( unbounded ) {
+			return true;
+		}
+		for ( Serializable space : spaces ) {
+			if ( querySpaces.contains( space ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Forget all the registered persisters.
+	 */
+	public void clear() {
+		registeredPersisters.clear();
+		unresolvedPersisters.clear();
+		lastRegisteredPersister = null;
+		resolvedPersisters.clear();
+		querySpaces.clear();
+		unbounded = false;
+	}
+
+	private void resolve() {
+		if ( unresolvedPersisters.isEmpty() ) {
+			return;
+		}
+		for ( Object persister : unresolvedPersisters ) {
+			resolvePersister( persister );
+		}
+		unresolvedPersisters.clear();
+	}
+
+	private void resolvePersister(Object persister) {
+		if ( unbounded || resolvedPersisters.put( persister, persister ) != null ) {
+			return;
+		}
+		if ( persister instanceof EntityPersister ) {
+			final EntityPersister entityPersister = (EntityPersister) persister;
+			Collections.addAll( querySpaces, entityPersister.getQuerySpaces() );
+			for ( Type propertyType : entityPersister.getPropertyTypes() ) {
+				resolveType( propertyType );
+			}
+		}
+		else {
+			final CollectionPersister collectionPersister = (CollectionPersister) persister;
+			Collections.addAll( querySpaces, collectionPersister.getCollectionSpaces() );
+			resolveType( collectionPersister.getElementType() );
+			if ( collectionPersister.hasIndex() ) {
+				resolveType( collectionPersister.getIndexType() );
+			}
+		}
+	}
+
+	private void resolveType(Type type) {
+		if ( type instanceof AnyType ) {
+			// may refer to an instance of any entity type
+			unbounded = true;
+		}
+		else if ( type instanceof EntityType ) {
+			final String entityName = ( (EntityType) type ).getAssociatedEntityName( factory );
+			final EntityPersister associatedPersister = factory.getMetamodel().entityPersister( entityName );
+			for ( Object subclassEntityName : associatedPersister.getEntityMetamodel().getSubclassEntityNames() ) {
+				resolvePersister( factory.getMetamodel().entityPersister( (String) subclassEntityName ) );
+			}
+		}
+		else if ( type instanceof CollectionType ) {
+			resolvePersister( factory.getMetamodel().collectionPersister( ( (CollectionType) type ).getRole() ) );
+		}
+		else if ( type instanceof CompositeType ) {
+			for ( Type subtype : ( (CompositeType) type ).getSubtypes() ) {
+				resolveType( subtype );
+			}
+		}
+	}
+}
@@ -21,8 +21,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.hibernate.AssertionFailure;
@@ -61,6 +63,7 @@ import org.hibernate.event.spi.EventSource;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.util.collections.ConcurrentReferenceHashMap;
 import org.hibernate.internal.util.collections.IdentityMap;
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
@@ -92,12 +95,17 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	private static final int INIT_COLL_SIZE = 8;
 
+	private static final LinearProbingHashMap.KeyMatcher<EntityKey, EntityPersister, Serializable> ENTITY_KEY_MATCHER =
+			EntityKey::matches;
+
 	/*
 		Eagerly Initialized Fields
 		the following fields are used in all circumstances, and are not worth (or not suited) to being converted into lazy
 	 */
 	private SharedSessionContractImplementor session;
 	private EntityEntryContext entityEntryContext;
+	private final boolean incrementalFlushEnabled;
+	private final boolean querySpaceIndexEnabled;
 
 	/*
 		Everything else below should be carefully initialized only on first need;
@@ -108,7 +116,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 
 	// Loaded entity instances, by EntityKey
-	private HashMap<EntityKey, Object> entitiesByKey;
+	private LinearProbingHashMap<EntityKey, Object> entitiesByKey;
 
 	// Loaded entity instances, by EntityUniqueKey
 	private HashMap<EntityUniqueKey, Object> entitiesByUniqueKey;
@@ -118,7 +126,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 	// Snapshots of current database state for entities
 	// that have *not* been loaded
-	private HashMap<EntityKey, Object> entitySnapshotsByKey;
+	private LinearProbingHashMap<EntityKey, Object> entitySnapshotsByKey;
 
 	// Identity map of array holder ArrayHolder instances, by the array instance
 	private IdentityHashMap<Object, PersistentCollection> arrayHolders;
@@ -127,7 +135,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private IdentityMap<PersistentCollection, CollectionEntry> collectionEntries;
 
 	// Collection wrappers, by the CollectionKey
-	private HashMap<CollectionKey, PersistentCollection> collectionsByKey;
+	private LinearProbingHashMap<CollectionKey, PersistentCollection> collectionsByKey;
 
 	// Set of EntityKeys of deleted objects
 	private HashSet<EntityKey> nullifiableEntityKeys;
@@ -147,6 +155,19 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	// May be empty or not contains all relation
 	private IdentityHashMap<Object,Object> parentsByChild;
 
+	// Entities touched since the last flush, when flushing incrementally; the list keeps the
+	// order in which they were touched, the identity map their position in it, which is nulled
+	// out once the entity is no longer managed
+	private ArrayList<Object> touchedEntities;
+	private IdentityHashMap<Object,Integer> touchedEntitiesIndex;
+
+	// Listeners notified of the entities becoming managed, as streams evicting the entities they loaded
+	private ArrayList<Consumer<Object>> managedEntityListeners;
+
+	// Persisters of the entities and collections associated with this context, when auto-flushes
+	// check which query spaces a flush could write to
+	private QuerySpaceIndex querySpaceIndex;
+
 	private int cascading;
 	private int loadCounter;
 	private int removeOrphanBeforeUpdatesCounter;
@@ -166,6 +187,8 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public StatefulPersistenceContext(SharedSessionContractImplementor session) {
 		this.session = session;
 		this.entityEntryContext = new EntityEntryContext( this );
+		this.incrementalFlushEnabled = session.getFactory().getSessionFactoryOptions().isIncrementalFlushEnabled();
+		this.querySpaceIndexEnabled = session.getFactory().getSessionFactoryOptions().isAutoFlushQuerySpaceIndexEnabled();
 	}
 
 	private ConcurrentMap<EntityKey, Object> getOrInitializeProxiesByKey() {
@@ -251,6 +274,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		entitiesByUniqueKey = null;
 		entityEntryContext.clear();
 		parentsByChild = null;
+		touchedEntities = null;
+		touchedEntitiesIndex = null;
+		querySpaceIndex = null;
 		entitySnapshotsByKey = null;
 		collectionsByKey = null;
 		nonlazyCollections = null;
@@ -288,6 +314,9 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	public void setEntryStatus(EntityEntry entry, Status status) {
 		entry.setStatus( status );
 		setHasNonReadOnlyEnties( status );
+		if ( incrementalFlushEnabled && ( status == Status.DELETED || status == Status.SAVING ) ) {
+			touch( getEntity( entry.getEntityKey() ) );
+		}
 	}
 
 	private void setHasNonReadOnlyEnties(Status status) {
@@ -311,17 +340,18 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	@Override
 	public Object[] getDatabaseSnapshot(Serializable id, EntityPersister persister) throws HibernateException {
-		final EntityKey key = session.generateEntityKey( id, persister );
-		final Object cached = entitySnapshotsByKey == null ? null : entitySnapshotsByKey.get( key );
+		final Object cached = entitySnapshotsByKey == null
+				? null
+				: entitySnapshotsByKey.get( EntityKey.generateHashCode( id, persister ), ENTITY_KEY_MATCHER, persister, id );
 		if ( cached != null ) {
 			return cached == NO_ROW ? null : (Object[]) cached;
 		}
 		else {
 			final Object[] snapshot = persister.getDatabaseSnapshot( id, session );
 			if ( entitySnapshotsByKey == null ) {
-				entitySnapshotsByKey = new HashMap<>( INIT_COLL_SIZE );
+				entitySnapshotsByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 			}
-			entitySnapshotsByKey.put( key, snapshot == null ? NO_ROW : snapshot );
+			entitySnapshotsByKey.put( session.generateEntityKey( id, persister ), snapshot == null ? NO_ROW : snapshot );
 			return snapshot;
 		}
 	}
@@ -392,7 +422,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEntity(EntityKey key, Object entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 		final BatchFetchQueue fetchQueue = this.batchFetchQueue;
@@ -411,6 +441,22 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entitiesByKey == null ? false : entitiesByKey.containsKey( key );
 	}
 
+	@Override
+	public Object getEntity(EntityPersister persister, Serializable id) {
+		if ( entitiesByKey == null ) {
+			return null;
+		}
+		return entitiesByKey.get( EntityKey.generateHashCode( id, persister ), ENTITY_KEY_MATCHER, persister, id );
+	}
+
+	@Override
+	public boolean containsEntity(EntityPersister persister, Serializable id) {
+		if ( entitiesByKey == null ) {
+			return false;
+		}
+		return entitiesByKey.containsKey( EntityKey.generateHashCode( id, persister ), ENTITY_KEY_MATCHER, persister, id );
+	}
+
 	@Override
 	public Object removeEntity(EntityKey key) {
 		final Object entity;
@@ -463,8 +509,93 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return entityEntryContext.getEntityEntry( entity );
 	}
 
+	@Override
+	public boolean isIncrementalFlushEnabled() {
+		return incrementalFlushEnabled;
+	}
+
+	@Override
+	public void touch(Object entity) {
+		if ( !incrementalFlushEnabled || entity == null ) {
+			return;
+		}
+		if ( entity instanceof HibernateProxy ) {
+			final LazyInitializer li = ( (HibernateProxy) entity ).getHibernateLazyInitializer();
+			if ( li.isUninitialized() ) {
+				// nothing could have been modified
+				return;
+			}
+			entity = li.getImplementation();
+		}
+		if ( touchedEntitiesIndex == null ) {
+			touchedEntitiesIndex = new IdentityHashMap<>( INIT_COLL_SIZE );
+			touchedEntities = new ArrayList<>( INIT_COLL_SIZE );
+		}
+		if ( touchedEntitiesIndex.putIfAbsent( entity, touchedEntities.size() ) == null ) {
+			touchedEntities.add( entity );
+		}
+	}
+
+	@Override
+	public boolean isTouched(Object entity) {
+		return !incrementalFlushEnabled || ( touchedEntitiesIndex != null && touchedEntitiesIndex.containsKey( entity ) );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Entry<Object, EntityEntry>[] reentrantSafeTouchedEntityEntries() {
+		if ( !incrementalFlushEnabled ) {
+			return entityEntryContext.reentrantSafeEntityEntries();
+		}
+		if ( touchedEntities == null ) {
+			return new Entry[0];
+		}
+		else {
+			return entityEntryContext.reentrantSafeEntityEntries( touchedEntities );
+		}
+	}
+
+	@Override
+	public void clearTouchedEntities() {
+		touchedEntities = null;
+		touchedEntitiesIndex = null;
+	}
+
+	@Override
+	public boolean mightAffectQuerySpaces(Set<? extends Serializable> querySpaces) {
+		if ( !querySpaceIndexEnabled ) {
+			return true;
+		}
+		return querySpaceIndex != null && querySpaceIndex.mightAffect( querySpaces );
+	}
+
+	private void registerInQuerySpaceIndex(EntityPersister persister) {
+		if ( querySpaceIndexEnabled ) {
+			getOrInitializeQuerySpaceIndex().registerEntityPersister( persister );
+		}
+	}
+
+	private void registerInQuerySpaceIndex(CollectionPersister persister) {
+		if ( querySpaceIndexEnabled ) {
+			getOrInitializeQuerySpaceIndex().registerCollectionPersister( persister );
+		}
+	}
+
+	private QuerySpaceIndex getOrInitializeQuerySpaceIndex() {
+		if ( querySpaceIndex == null ) {
+			querySpaceIndex = new QuerySpaceIndex( session.getFactory() );
+		}
+		return querySpaceIndex;
+	}
+
 	@Override
 	public EntityEntry removeEntry(Object entity) {
+		if ( touchedEntitiesIndex != null ) {
+			final Integer position = touchedEntitiesIndex.remove( entity );
+			if ( position != null ) {
+				touchedEntities.set( position, null );
+			}
+		}
 		return entityEntryContext.removeEntityEntry( entity );
 	}
 
@@ -566,8 +697,13 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		}
 
 		entityEntryContext.addEntityEntry( entity, e );
+		registerInQuerySpaceIndex( persister );
 
 		setHasNonReadOnlyEnties( status );
+		if ( status == Status.SAVING || status == Status.DELETED ) {
+			touch( entity );
+		}
+		notifyManagedEntityListeners( entity, status );
 		return e;
 	}
 
@@ -577,11 +713,40 @@ public class StatefulPersistenceContext implements PersistenceContext {
 
 		((ManagedEntity)entity).$$_hibernate_getEntityEntry().setStatus( status );
 		entityEntryContext.addEntityEntry( entity, ((ManagedEntity)entity).$$_hibernate_getEntityEntry() );
+		registerInQuerySpaceIndex( ((ManagedEntity)entity).$$_hibernate_getEntityEntry().getPersister() );
 
 		setHasNonReadOnlyEnties( status );
+		notifyManagedEntityListeners( entity, status );
 		return ((ManagedEntity)entity).$$_hibernate_getEntityEntry();
 	}
 
+	@Override
+	public void addManagedEntityListener(Consumer<Object> listener) {
+		if ( managedEntityListeners == null ) {
+			managedEntityListeners = new ArrayList<>( 1 );
+		}
+		managedEntityListeners.add( listener );
+	}
+
+	@Override
+	public void removeManagedEntityListener(Consumer<Object> listener) {
+		if ( managedEntityListeners != null ) {
+			managedEntityListeners.remove( listener );
+			if ( managedEntityListeners.isEmpty() ) {
+				managedEntityListeners = null;
+			}
+		}
+	}
+
+	private void notifyManagedEntityListeners(Object entity, Status status) {
+		if ( managedEntityListeners != null
+				&& ( status == Status.LOADING || status == Status.MANAGED || status == Status.READ_ONLY ) ) {
+			for ( Consumer<Object> listener : managedEntityListeners ) {
+				listener.accept( entity );
+			}
+		}
+	}
+
 	@Override
 	public boolean containsCollection(PersistentCollection collection) {
 		return collectionEntries != null && collectionEntries.containsKey( collection );
@@ -775,7 +940,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public void addEnhancedProxy(EntityKey key, PersistentAttributeInterceptable entity) {
 		if ( entitiesByKey == null ) {
-			entitiesByKey = new HashMap<>( INIT_COLL_SIZE );
+			entitiesByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 		}
 		entitiesByKey.put( key, entity );
 	}
@@ -788,7 +953,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		// these 2 are not always the same.  Same is true in the case of ToOne associations with property-ref...
 		final EntityPersister ownerPersister = collectionPersister.getOwnerEntityPersister();
 		if ( ownerPersister.getIdentifierType().getReturnedClass().isInstance( key ) ) {
-			return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+			return getEntity( collectionPersister.getOwnerEntityPersister(), key );
 		}
 
 		// we have a property-ref type mapping for the collection key.  But that could show up a few ways here...
@@ -799,7 +964,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( owenerId == null ) {
 				return null;
 			}
-			return getEntity( session.generateEntityKey( owenerId, ownerPersister ) );
+			return getEntity( ownerPersister, owenerId );
 		}
 
 		final CollectionType collectionType = collectionPersister.getCollectionType();
@@ -836,11 +1001,11 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			//			in place of natural id snapshots.  BUt really its better to just do it the right way ^^ if we start
 			// 			going that route
 			final Serializable ownerId = ownerPersister.getIdByUniqueKey( key, collectionType.getLHSPropertyName(), session );
-			return getEntity( session.generateEntityKey( ownerId, ownerPersister ) );
+			return getEntity( ownerPersister, ownerId );
 		}
 
 		// as a last resort this is what the old code did...
-		return getEntity( session.generateEntityKey( key, collectionPersister.getOwnerEntityPersister() ) );
+		return getEntity( collectionPersister.getOwnerEntityPersister(), key );
 	}
 
 	@Override
@@ -913,6 +1078,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	 */
 	private void addCollection(PersistentCollection coll, CollectionEntry entry, Serializable key) {
 		getOrInitializeCollectionEntries().put( coll, entry );
+		registerInQuerySpaceIndex( entry.getLoadedPersister() );
 		final CollectionKey collectionKey = new CollectionKey( entry.getLoadedPersister(), key );
 		final PersistentCollection old = addCollectionByKey( collectionKey, coll );
 		if ( old != null ) {
@@ -945,6 +1111,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	private void addCollection(PersistentCollection collection, CollectionPersister persister) {
 		final CollectionEntry ce = new CollectionEntry( persister, collection );
 		getOrInitializeCollectionEntries().put( collection, ce );
+		registerInQuerySpaceIndex( persister );
 	}
 
 	@Override
@@ -1059,6 +1226,16 @@ public class StatefulPersistenceContext implements PersistenceContext {
 		return proxiesByKey == null ? null : proxiesByKey.get( key );
 	}
 
+	@Override
+	public Object getProxy(EntityPersister persister, Serializable id) {
+		// the proxy map is keyed by EntityKey (and is concurrent): at least avoid building the key
+		// in the common case of a persistence context not holding any proxy
+		if ( proxiesByKey == null || proxiesByKey.isEmpty() ) {
+			return null;
+		}
+		return proxiesByKey.get( session.generateEntityKey( id, persister ) );
+	}
+
 	@Override
 	public void addProxy(EntityKey key, Object proxy) {
 		getOrInitializeProxiesByKey().put( key, proxy );
@@ -1715,7 +1892,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitiesByKey entries" );
 			}
-			rtn.entitiesByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitiesByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitiesByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
@@ -1754,18 +1931,29 @@ public class StatefulPersistenceContext implements PersistenceContext {
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] entitySnapshotsByKey entries" );
 			}
-			rtn.entitySnapshotsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.entitySnapshotsByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.entitySnapshotsByKey.put( EntityKey.deserialize( ois, sfi ), ois.readObject() );
 			}
 
 			rtn.entityEntryContext = EntityEntryContext.deserialize( ois, rtn );
+			if ( rtn.querySpaceIndexEnabled ) {
+				for ( Entry<Object, EntityEntry> entry : rtn.entityEntryContext.reentrantSafeEntityEntries() ) {
+					rtn.registerInQuerySpaceIndex( entry.getValue().getPersister() );
+				}
+			}
+			if ( rtn.incrementalFlushEnabled ) {
+				// which entities were touched is not serialized: the next flush has to process all of them
+				for ( Entry<Object, EntityEntry> entry : rtn.entityEntryContext.reentrantSafeEntityEntries() ) {
+					rtn.touch( entry.getKey() );
+				}
+			}
 
 			count = ois.readInt();
 			if ( LOG.isTraceEnabled() ) {
 				LOG.trace( "Starting deserialization of [" + count + "] collectionsByKey entries" );
 			}
-			rtn.collectionsByKey = new HashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
+			rtn.collectionsByKey = new LinearProbingHashMap<>( count < INIT_COLL_SIZE ? INIT_COLL_SIZE : count );
 			for ( int i = 0; i < count; i++ ) {
 				rtn.collectionsByKey.put( CollectionKey.deserialize( ois, session ), (PersistentCollection) ois.readObject() );
 			}
@@ -1779,6 +1967,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 				final CollectionEntry ce = CollectionEntry.deserialize( ois, session );
 				pc.setCurrentSession( session );
 				rtn.getOrInitializeCollectionEntries().put( pc, ce );
+				rtn.registerInQuerySpaceIndex( ce.getLoadedPersister() );
 			}
 
 			count = ois.readInt();
@@ -1911,7 +2100,7 @@ public class StatefulPersistenceContext implements PersistenceContext {
 	@Override
 	public PersistentCollection addCollectionByKey(CollectionKey collectionKey, PersistentCollection persistentCollection) {
 		if ( collectionsByKey == null ) {
-			collectionsByKey = new HashMap<>( INIT_COLL_SIZE );
+			collectionsByKey = new LinearProbingHashMap<>( INIT_COLL_SIZE );
 		}
 		final PersistentCollection old = collectionsByKey.put( collectionKey, persistentCollection );
 		return old;
@@ -129,7 +129,7 @@ public final class TwoPhaseLoad {
 			.getService( EventListenerRegistry.class )
 			.getEventListenerGroup( EventType.PRE_LOAD );
 		final Iterable<PreLoadEventListener> listeners = listenerGroup.listeners();
-		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent, listeners );
+		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent, listeners, null );
 	}
 
 	/**
@@ -152,12 +152,33 @@ public final class TwoPhaseLoad {
 		final SharedSessionContractImplementor session,
 		final PreLoadEvent preLoadEvent,
 		final Iterable<PreLoadEventListener> preLoadEventListeners) {
+		initializeEntity( entity, readOnly, session, preLoadEvent, preLoadEventListeners, null );
+	}
+
+	/**
+	 * Perform the second step of 2-phase load, collecting the second-level cache entry of the entity into
+	 * the given {@link EntityCachePuts} instead of putting it into the cache right away.
+	 *
+	 * @param entity The entity being loaded
+	 * @param readOnly Is the entity being loaded as read-only
+	 * @param session The Session
+	 * @param preLoadEvent The (re-used) pre-load event
+	 * @param preLoadEventListeners the pre-load event listeners
+	 * @param cachePuts The cache entries of the load, or {@code null} to put the entry right away
+	 */
+	public static void initializeEntity(
+		final Object entity,
+		final boolean readOnly,
+		final SharedSessionContractImplementor session,
+		final PreLoadEvent preLoadEvent,
+		final Iterable<PreLoadEventListener> preLoadEventListeners,
+		final EntityCachePuts cachePuts) {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final EntityEntry entityEntry = persistenceContext.getEntry( entity );
 		if ( entityEntry == null ) {
 			throw new AssertionFailure( "possible non-threadsafe access to the session" );
 		}
-		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent, preLoadEventListeners );
+		doInitializeEntity( entity, entityEntry, readOnly, session, preLoadEvent, preLoadEventListeners, cachePuts );
 	}
 
 	private static void doInitializeEntity(
@@ -166,7 +187,8 @@ public final class TwoPhaseLoad {
 			final boolean readOnly,
 			final SharedSessionContractImplementor session,
 			final PreLoadEvent preLoadEvent,
-			final Iterable<PreLoadEventListener> preLoadEventListeners) throws HibernateException {
+			final Iterable<PreLoadEventListener> preLoadEventListeners,
+			final EntityCachePuts cachePuts) throws HibernateException {
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		final EntityPersister persister = entityEntry.getPersister();
 		final Serializable id = entityEntry.getId();
@@ -273,6 +295,9 @@ public final class TwoPhaseLoad {
 						version
 				);
 			}
+			else if ( cachePuts != null && !useMinimalPuts( session, entityEntry ) ) {
+				cachePuts.add( persister, cache, cacheKey, persister.getCacheEntryStructure().structure( entry ), version );
+			}
 			else {
 				final SessionEventListenerManager eventListenerManager = session.getEventListenerManager();
 				try {
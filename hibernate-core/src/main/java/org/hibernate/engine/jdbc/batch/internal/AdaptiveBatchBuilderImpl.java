@@ -0,0 +1,100 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.spi.Batch;
+import org.hibernate.engine.jdbc.batch.spi.BatchKey;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+/**
+ * A builder for {@link Batch} instances whose size is adapted separately for each {@link BatchKey}, based on
+ * how long their executions took and how many parameters they bind.  The configured JDBC batch size is the
+ * size of the first batches for each key; a batch size set on the session still overrides the adapted size.
+ * <p/>
+ * Selected by setting {@link BatchBuilderInitiator#BUILDER} to {@code adaptive}.
+ *
+ * @see AdaptiveBatchSize
+ */
+public class AdaptiveBatchBuilderImpl extends BatchBuilderImpl {
+	/**
+	 * The maximum size of the batches; the default is 1000.
+	 */
+	public static final String MAX_SIZE = "hibernate.jdbc.batch.adaptive.max_size";
+
+	/**
+	 * The time the execution of a batch should take, in milliseconds; the default is 100.
+	 */
+	public static final String TARGET_LATENCY = "hibernate.jdbc.batch.adaptive.target_latency";
+
+	/**
+	 * The maximum number of parameters bound by a batch, or {@code 0} for no maximum; the default is 30000.
+	 */
+	public static final String MAX_PARAMETERS = "hibernate.jdbc.batch.adaptive.max_parameters";
+
+	private int maxSize = 1000;
+	private long targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( 100 );
+	private int maxParameters = 30000;
+
+	private final ConcurrentHashMap<BatchKey,AdaptiveBatchSize> batchSizes = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructs an AdaptiveBatchBuilderImpl
+	 */
+	public AdaptiveBatchBuilderImpl() {
+	}
+
+	/**
+	 * Constructs an AdaptiveBatchBuilderImpl
+	 *
+	 * @param jdbcBatchSize The size of the first batches for each key.
+	 */
+	public AdaptiveBatchBuilderImpl(int jdbcBatchSize) {
+		super( jdbcBatchSize );
+	}
+
+	@Override
+	public void configure(Map configurationValues) {
+		super.configure( configurationValues );
+		maxSize = ConfigurationHelper.getInt( MAX_SIZE, configurationValues, maxSize );
+		targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(
+				ConfigurationHelper.getLong( TARGET_LATENCY, configurationValues, 100 )
+		);
+		maxParameters = ConfigurationHelper.getInt( MAX_PARAMETERS, configurationValues, maxParameters );
+	}
+
+	@Override
+	public void setJdbcBatchSize(int jdbcBatchSize) {
+		super.setJdbcBatchSize( jdbcBatchSize );
+		// start over from the new size
+		batchSizes.clear();
+	}
+
+	@Override
+	public Map<String, Integer> getBatchSizes() {
+		final Map<String, Integer> sizes = new TreeMap<>();
+		batchSizes.forEach( (key, size) -> sizes.put( key.toString(), size.getSize() ) );
+		return sizes;
+	}
+
+	@Override
+	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
+		if ( jdbcCoordinator.getJdbcSessionOwner().getJdbcBatchSize() != null || getJdbcBatchSize() <= 1 ) {
+			return super.buildBatch( key, jdbcCoordinator );
+		}
+		final AdaptiveBatchSize batchSize = batchSizes.computeIfAbsent(
+				key,
+				k -> new AdaptiveBatchSize( getJdbcBatchSize(), maxSize, targetLatencyNanos, maxParameters )
+		);
+		return new BatchingBatch( key, jdbcCoordinator, batchSize );
+	}
+}
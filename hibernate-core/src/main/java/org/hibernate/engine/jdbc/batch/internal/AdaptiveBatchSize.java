@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.jdbc.batch.internal;
+
+/**
+ * The size of the batches for one {@link org.hibernate.engine.jdbc.batch.spi.BatchKey}, adapted to the
+ * executions observed so far.
+ * <p/>
+ * The size aims at batches executing within the target latency, based on a moving average of the time
+ * each row took to execute: wide rows, LOBs and slow tables lead to smaller batches, narrow rows lead to
+ * larger ones.  The size grows at most twofold per execution, never exceeds the maximum size, and is
+ * capped so that a batch does not bind more than the maximum number of parameters.
+ *
+ * @see AdaptiveBatchBuilderImpl
+ */
+public final class AdaptiveBatchSize {
+	// weight of the latest execution in the moving average of the time per row
+	private static final double SMOOTHING = 0.3;
+
+	private final int maxSize;
+	private final long targetLatencyNanos;
+	private final int maxParameters;
+
+	private volatile int size;
+	private double nanosPerRow = -1;
+
+	/**
+	 * Constructs an AdaptiveBatchSize
+	 *
+	 * @param initialSize The size of the batches until the first execution
+	 * @param maxSize The maximum size of the batches
+	 * @param targetLatencyNanos The time the execution of a batch should take, in nanoseconds
+	 * @param maxParameters The maximum number of parameters bound by a batch
+	 */
+	public AdaptiveBatchSize(int initialSize, int maxSize, long targetLatencyNanos, int maxParameters) {
+		this.maxSize = Math.max( maxSize, 1 );
+		this.targetLatencyNanos = targetLatencyNanos;
+		this.maxParameters = maxParameters;
+		this.size = Math.max( Math.min( initialSize, this.maxSize ), 1 );
+	}
+
+	/**
+	 * The size of the next batch.
+	 *
+	 * @return The number of rows
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * The size of the next batch of rows binding the given number of parameters each.
+	 *
+	 * @param parametersPerRow The number of parameters bound for each row
+	 *
+	 * @return The number of rows
+	 */
+	public int getSize(int parametersPerRow) {
+		if ( parametersPerRow <= 0 || maxParameters <= 0 ) {
+			return size;
+		}
+		return Math.max( Math.min( size, maxParameters / parametersPerRow ), 1 );
+	}
+
+	/**
+	 * Account for the execution of a batch.
+	 *
+	 * @param rows The number of rows in the batch
+	 * @param elapsedNanos The time the execution took, in nanoseconds
+	 */
+	public synchronized void executed(int rows, long elapsedNanos) {
+		if ( rows <= 0 || elapsedNanos < 0 ) {
+			return;
+		}
+		final double rowNanos = (double) elapsedNanos / rows;
+		nanosPerRow = nanosPerRow < 0 ? rowNanos : nanosPerRow + SMOOTHING * ( rowNanos - nanosPerRow );
+
+		final double targetSize = targetLatencyNanos / Math.max( nanosPerRow, 1d );
+		final long growthLimit = 2L * size;
+		size = (int) Math.max( Math.min( Math.min( (long) targetSize, growthLimit ), maxSize ), 1 );
+	}
+
+	@Override
+	public String toString() {
+		return "AdaptiveBatchSize(" + size + ")";
+	}
+}
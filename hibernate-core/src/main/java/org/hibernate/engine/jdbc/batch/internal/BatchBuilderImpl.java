@@ -6,6 +6,7 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.Collections;
 import java.util.Map;
 
 import org.hibernate.cfg.Environment;
@@ -59,6 +60,11 @@ public class BatchBuilderImpl implements BatchBuilder, Configurable, Manageable,
 		this.jdbcBatchSize = jdbcBatchSize;
 	}
 
+	@Override
+	public Map<String, Integer> getBatchSizes() {
+		return Collections.emptyMap();
+	}
+
 	@Override
 	public Batch buildBatch(BatchKey key, JdbcCoordinator jdbcCoordinator) {
 		final Integer sessionJdbcBatchSize = jdbcCoordinator.getJdbcSessionOwner()
@@ -28,10 +28,16 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 	public static final BatchBuilderInitiator INSTANCE = new BatchBuilderInitiator();
 
 	/**
-	 * Names the BatchBuilder implementation to use.
+	 * Names the BatchBuilder implementation to use: {@value #ADAPTIVE}, a BatchBuilder instance or the name
+	 * of a BatchBuilder implementation class.
 	 */
 	public static final String BUILDER = "hibernate.jdbc.batch.builder";
 
+	/**
+	 * Short name of the {@link AdaptiveBatchBuilderImpl}.
+	 */
+	public static final String ADAPTIVE = "adaptive";
+
 	@Override
 	public Class<BatchBuilder> getServiceInitiated() {
 		return BatchBuilder.class;
@@ -51,6 +57,11 @@ public class BatchBuilderInitiator implements StandardServiceInitiator<BatchBuil
 		}
 
 		final String builderClassName = builder.toString();
+		if ( ADAPTIVE.equalsIgnoreCase( builderClassName ) ) {
+			return new AdaptiveBatchBuilderImpl(
+					ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 )
+			);
+		}
 		try {
 			return (BatchBuilder) registry.getService( ClassLoaderService.class ).classForName( builderClassName ).newInstance();
 		}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.engine.jdbc.batch.internal;
 
+import java.util.Map;
+
 /**
  * The BatchBuilderImpl JMX management interface
  *
@@ -14,4 +16,11 @@ package org.hibernate.engine.jdbc.batch.internal;
 public interface BatchBuilderMXBean {
 	int getJdbcBatchSize();
 	void setJdbcBatchSize(int size);
+
+	/**
+	 * The batch sizes currently chosen for each batch key, when they are adapted to the executions.
+	 *
+	 * @return The sizes by batch key, empty if all the batches use the JDBC batch size.
+	 */
+	Map<String,Integer> getBatchSizes();
 }
@@ -20,6 +20,8 @@ import org.jboss.logging.Logger;
 /**
  * A {@link org.hibernate.engine.jdbc.batch.spi.Batch} implementation which does bathing based on a given size.  Once
  * the batch size is reached for a statement in the batch, the entire batch is implicitly executed.
+ * <p/>
+ * The size is either fixed, or taken from an {@link AdaptiveBatchSize} which is told how long each execution took.
  *
  * @author Steve Ebersole
  */
@@ -32,7 +34,9 @@ public class BatchingBatch extends AbstractBatchImpl {
 	// IMPL NOTE : Until HHH-5797 is fixed, there will only be 1 statement in a batch
 
 	private int batchSize;
-	private final int configuredBatchSize;
+	private int configuredBatchSize;
+	private final AdaptiveBatchSize adaptiveBatchSize;
+	private int parametersPerRow;
 	private int batchPosition;
 	private boolean batchExecuted;
 	private int statementPosition;
@@ -48,12 +52,35 @@ public class BatchingBatch extends AbstractBatchImpl {
 			BatchKey key,
 			JdbcCoordinator jdbcCoordinator,
 			int batchSize) {
+		this( key, jdbcCoordinator, batchSize, null );
+	}
+
+	/**
+	 * Constructs a BatchingBatch whose size adapts to the observed executions
+	 *
+	 * @param key The batch key
+	 * @param jdbcCoordinator The JDBC jdbcCoordinator
+	 * @param adaptiveBatchSize The size, which is told about the executions of the batch
+	 */
+	public BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			AdaptiveBatchSize adaptiveBatchSize) {
+		this( key, jdbcCoordinator, adaptiveBatchSize.getSize(), adaptiveBatchSize );
+	}
+
+	private BatchingBatch(
+			BatchKey key,
+			JdbcCoordinator jdbcCoordinator,
+			int batchSize,
+			AdaptiveBatchSize adaptiveBatchSize) {
 		super( key, jdbcCoordinator );
 		if ( ! key.getExpectation().canBeBatched() ) {
 			throw new HibernateException( "attempting to batch an operation which cannot be batched" );
 		}
 		this.batchSize = batchSize;
 		this.configuredBatchSize = batchSize;
+		this.adaptiveBatchSize = adaptiveBatchSize;
 	}
 
 	private String currentStatementSql;
@@ -61,11 +88,23 @@ public class BatchingBatch extends AbstractBatchImpl {
 
 	@Override
 	public PreparedStatement getBatchStatement(String sql, boolean callable) {
+		return getBatchStatement( sql, callable, -1 );
+	}
+
+	@Override
+	public PreparedStatement getBatchStatement(String sql, boolean callable, int parameterCount) {
 		currentStatementSql = sql;
 		int previousBatchSize = getStatements().size();
 		currentStatement = super.getBatchStatement( sql, callable );
 		int currentBatchSize = getStatements().size();
 		if ( currentBatchSize > previousBatchSize ) {
+			if ( adaptiveBatchSize != null ) {
+				parametersPerRow = Math.max(
+						parametersPerRow,
+						parameterCount < 0 ? getParameterCount( currentStatement ) : parameterCount
+				);
+				this.configuredBatchSize = adaptiveBatchSize.getSize( parametersPerRow );
+			}
 			this.batchSize = this.configuredBatchSize * currentBatchSize;
 		}
 		return currentStatement;
@@ -84,7 +123,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 		statementPosition++;
 		if ( statementPosition >= getKey().getBatchedStatementCount() ) {
 			batchPosition++;
-			if ( batchPosition == batchSize ) {
+			if ( batchPosition >= batchSize ) {
 				notifyObserversImplicitExecution();
 				performExecution();
 				batchPosition = 0;
@@ -108,6 +147,7 @@ public class BatchingBatch extends AbstractBatchImpl {
 
 	private void performExecution() {
 		LOG.debugf( "Executing batch size: %s", batchPosition );
+		final long start = adaptiveBatchSize == null ? 0 : System.nanoTime();
 		try {
 			for ( Map.Entry<String,PreparedStatement> entry : getStatements().entrySet() ) {
 				String sql = entry.getKey();
@@ -134,12 +174,28 @@ public class BatchingBatch extends AbstractBatchImpl {
 					throw re;
 				}
 			}
+			if ( adaptiveBatchSize != null ) {
+				adaptiveBatchSize.executed( batchPosition, System.nanoTime() - start );
+				configuredBatchSize = adaptiveBatchSize.getSize( parametersPerRow );
+				batchSize = configuredBatchSize * getStatements().size();
+			}
 		}
 		finally {
 			batchPosition = 0;
 		}
 	}
 
+	private static int getParameterCount(PreparedStatement statement) {
+		try {
+			return statement.getParameterMetaData().getParameterCount();
+		}
+		catch ( SQLException e ) {
+			// the batch size is then not limited by the number of parameters
+			LOG.debugf( "Unable to determine the number of parameters of the batch statement: %s", e.getMessage() );
+			return 0;
+		}
+	}
+
 	private void checkRowCounts(int[] rowCounts, PreparedStatement ps) throws SQLException, HibernateException {
 		final int numberOfRowCounts = rowCounts.length;
 		if ( batchPosition != 0 && numberOfRowCounts != batchPosition / getStatements().size() ) {
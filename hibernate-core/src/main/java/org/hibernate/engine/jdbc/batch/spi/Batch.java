@@ -41,6 +41,20 @@ public interface Batch {
 	 */
 	PreparedStatement getBatchStatement(String sql, boolean callable);
 
+	/**
+	 * Get a statement which is part of the batch, creating if necessary (and storing for next time), along with
+	 * the number of JDBC parameters it binds, when the caller knows it.
+	 *
+	 * @param sql The SQL statement.
+	 * @param callable Is the SQL statement callable?
+	 * @param parameterCount The number of JDBC parameters bound for each execution of the statement
+	 *
+	 * @return The prepared statement instance, representing the SQL statement.
+	 */
+	default PreparedStatement getBatchStatement(String sql, boolean callable, int parameterCount) {
+		return getBatchStatement( sql, callable );
+	}
+
 	/**
 	 * Indicates completion of the current part of the batch.
 	 */
@@ -16,6 +16,7 @@ import java.sql.Statement;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -65,6 +66,9 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	private transient Batch currentBatch;
 
+	// while pipelining, the batches kept open together, in the order they were opened
+	private transient LinkedHashMap<BatchKey,Batch> pipelinedBatches;
+
 	private transient long transactionTimeOutInstant = -1;
 
 	private Statement lastQuery;
@@ -166,7 +170,11 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 		LOG.tracev( "Closing JDBC container [{0}]", this );
 		Connection connection;
 		try {
-			if ( currentBatch != null ) {
+			if ( pipelinedBatches != null ) {
+				LOG.closingUnreleasedBatch();
+				releasePipelinedBatches();
+			}
+			else if ( currentBatch != null ) {
 				LOG.closingUnreleasedBatch();
 				currentBatch.release();
 			}
@@ -179,6 +187,15 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public Batch getBatch(BatchKey key) {
+		if ( pipelinedBatches != null ) {
+			Batch batch = pipelinedBatches.get( key );
+			if ( batch == null ) {
+				batch = batchBuilder().buildBatch( key, this );
+				pipelinedBatches.put( key, batch );
+			}
+			currentBatch = batch;
+			return batch;
+		}
 		if ( currentBatch != null ) {
 			if ( currentBatch.getKey().equals( key ) ) {
 				return currentBatch;
@@ -193,8 +210,37 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 	}
 
 	@Override
-	public void executeBatch() {
+	public void pipelineBatches() {
+		if ( pipelinedBatches != null ) {
+			return;
+		}
+		pipelinedBatches = new LinkedHashMap<>();
 		if ( currentBatch != null ) {
+			pipelinedBatches.put( currentBatch.getKey(), currentBatch );
+		}
+	}
+
+	boolean isPipeliningBatches() {
+		return pipelinedBatches != null;
+	}
+
+	@Override
+	public void executeBatch() {
+		if ( pipelinedBatches != null ) {
+			final LinkedHashMap<BatchKey,Batch> batches = pipelinedBatches;
+			try {
+				for ( Batch batch : batches.values() ) {
+					batch.execute();
+				}
+			}
+			finally {
+				// an execution failure already aborted the pipelined batches
+				if ( pipelinedBatches == batches ) {
+					releasePipelinedBatches();
+				}
+			}
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.execute();
 			// needed?
 			currentBatch.release();
@@ -203,11 +249,23 @@ public class JdbcCoordinatorImpl implements JdbcCoordinator {
 
 	@Override
 	public void abortBatch() {
-		if ( currentBatch != null ) {
+		if ( pipelinedBatches != null ) {
+			releasePipelinedBatches();
+		}
+		else if ( currentBatch != null ) {
 			currentBatch.release();
 		}
 	}
 
+	private void releasePipelinedBatches() {
+		final LinkedHashMap<BatchKey,Batch> batches = pipelinedBatches;
+		pipelinedBatches = null;
+		currentBatch = null;
+		for ( Batch batch : batches.values() ) {
+			batch.release();
+		}
+	}
+
 	private transient StatementPreparer statementPreparer;
 
 	@Override
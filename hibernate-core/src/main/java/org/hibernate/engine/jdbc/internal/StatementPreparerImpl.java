@@ -81,6 +81,14 @@ class StatementPreparerImpl implements StatementPreparer {
 		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
 	}
 
+	@Override
+	public PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		if ( !jdbcCoordinator.isPipeliningBatches() ) {
+			jdbcCoordinator.executeBatch();
+		}
+		return buildPreparedStatementPreparationTemplate( sql, isCallable ).prepareStatement();
+	}
+
 	private StatementPreparationTemplate buildPreparedStatementPreparationTemplate(String sql, final boolean isCallable) {
 		return new StatementPreparationTemplate( sql ) {
 			@Override
@@ -52,6 +52,16 @@ public interface JdbcCoordinator extends Serializable, TransactionCoordinatorOwn
 	 */
 	Batch getBatch(BatchKey key);
 
+	/**
+	 * Keep the batches for different keys open together, instead of executing the current batch as soon as
+	 * one for another key is requested, until {@link #executeBatch} executes them all in the order they were
+	 * opened.  The statements added to the different batches in the meantime must not depend on each other.
+	 * <p/>
+	 * This implementation does nothing: the current batch is executed whenever another one is requested.
+	 */
+	default void pipelineBatches() {
+	}
+
 	/**
 	 * Execute the currently managed batch (if any)
 	 */
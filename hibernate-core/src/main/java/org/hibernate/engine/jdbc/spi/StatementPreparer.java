@@ -44,6 +44,20 @@ public interface StatementPreparer {
 	 */
 	public PreparedStatement prepareStatement(String sql, boolean isCallable);
 
+	/**
+	 * Prepare a statement to be added to a {@link org.hibernate.engine.jdbc.batch.spi.Batch}.  Unlike
+	 * {@link #prepareStatement(String, boolean)}, the batches kept open together by
+	 * {@link JdbcCoordinator#pipelineBatches()} are not executed beforehand.
+	 *
+	 * @param sql The SQL the statement to be prepared
+	 * @param isCallable Whether to prepare as a callable statement.
+	 *
+	 * @return the prepared statement
+	 */
+	default PreparedStatement prepareBatchStatement(String sql, boolean isCallable) {
+		return prepareStatement( sql, isCallable );
+	}
+
 	/**
 	 * Prepare an INSERT statement, specifying how auto-generated (by the database) keys should be handled.  Really this
 	 * is a boolean, but JDBC opted to define it instead using 2 int constants:<ul>
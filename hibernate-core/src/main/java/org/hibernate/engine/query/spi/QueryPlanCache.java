@@ -16,6 +16,7 @@ import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.Filter;
+import org.hibernate.HibernateException;
 import org.hibernate.MappingException;
 import org.hibernate.QueryException;
 import org.hibernate.cfg.Environment;
@@ -24,11 +25,10 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.internal.FilterImpl;
-import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
 import org.hibernate.internal.util.collections.CollectionHelper;
 import org.hibernate.internal.util.config.ConfigurationHelper;
 import org.hibernate.query.ParameterMetadata;
-import org.hibernate.query.internal.ParameterMetadataImpl;
 import org.hibernate.stat.spi.StatisticsImplementor;
 
 /**
@@ -56,7 +56,7 @@ public class QueryPlanCache implements Serializable {
 	/**
 	 * the cache of the actual plans...
 	 */
-	private final BoundedConcurrentHashMap queryPlanCache;
+	private final transient BoundedConcurrentCache<Object, Object> queryPlanCache;
 
 	/**
 	 * simple cache of param metadata based on query string.  Ideally, the original "user-supplied query"
@@ -66,7 +66,7 @@ public class QueryPlanCache implements Serializable {
 	 * Used solely for caching param metadata for native-sql queries, see {@link #getSQLParameterMetadata} for a
 	 * discussion as to why...
 	 */
-	private final BoundedConcurrentHashMap<ParameterMetadataKey,ParameterMetadataImpl> parameterMetadataCache;
+	private final transient BoundedConcurrentCache<ParameterMetadataKey,ParameterMetadata> parameterMetadataCache;
 
 
 	private NativeQueryInterpreter nativeQueryInterpreter;
@@ -103,12 +103,8 @@ public class QueryPlanCache implements Serializable {
 			);
 		}
 
-		queryPlanCache = new BoundedConcurrentHashMap( maxQueryPlanCount, 20, BoundedConcurrentHashMap.Eviction.LIRS );
-		parameterMetadataCache = new BoundedConcurrentHashMap<>(
-				maxParameterMetadataCount,
-				20,
-				BoundedConcurrentHashMap.Eviction.LIRS
-		);
+		queryPlanCache = new BoundedConcurrentCache<>( maxQueryPlanCount, plan -> 1, this::queryPlanEvicted );
+		parameterMetadataCache = new BoundedConcurrentCache<>( maxParameterMetadataCount );
 
 		nativeQueryInterpreter = factory.getServiceRegistry().getService( NativeQueryInterpreter.class );
 	}
@@ -125,7 +121,15 @@ public class QueryPlanCache implements Serializable {
 	 */
 	public ParameterMetadata getSQLParameterMetadata(final String query, boolean isOrdinalParameterZeroBased)  {
 		final ParameterMetadataKey key = new ParameterMetadataKey( query, isOrdinalParameterZeroBased );
-		return parameterMetadataCache.computeIfAbsent( key, k -> nativeQueryInterpreter.getParameterMetadata( query ) );
+		ParameterMetadata value = parameterMetadataCache.get( key );
+		if ( value == null ) {
+			value = nativeQueryInterpreter.getParameterMetadata( query );
+			final ParameterMetadata existing = parameterMetadataCache.putIfAbsent( key, value );
+			if ( existing != null ) {
+				value = existing;
+			}
+		}
+		return value;
 	}
 
 	/**
@@ -232,14 +236,53 @@ public class QueryPlanCache implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Compile and cache the plans of the given HQL queries ahead of their first execution, typically while the
+	 * SessionFactory is built.  Queries which fail to compile are logged and skipped.
+	 *
+	 * @param queryStrings The HQL queries
+	 *
+	 * @return The number of plans compiled
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_PLAN_CACHE_WARMUP
+	 */
+	public int warmUp(Collection<String> queryStrings) {
+		int compiled = 0;
+		for ( String queryString : queryStrings ) {
+			try {
+				getHQLQueryPlan( queryString, false, Collections.emptyMap() );
+				compiled++;
+			}
+			catch ( HibernateException e ) {
+				LOG.warnf( "Unable to compile query plan while warming up the query plan cache (%s) : %s", queryString, e.getMessage() );
+			}
+		}
+		return compiled;
+	}
+
+	/**
+	 * The number of query plans currently cached.
+	 */
+	public int getQueryPlanCount() {
+		return queryPlanCache.size();
+	}
+
+	/**
+	 * The number of query plans evicted from the cache so far, to make room for other plans.
+	 */
+	public long getQueryPlanEvictionCount() {
+		return queryPlanCache.evictionCount();
+	}
+
+	private void queryPlanEvicted(Object key, Object plan) {
+		final StatisticsImplementor statistics = factory.getStatistics();
+		if ( statistics != null && statistics.isStatisticsEnabled() ) {
+			statistics.queryPlanCacheEviction( key instanceof HQLQueryPlanKey ? ( (HQLQueryPlanKey) key ).query : null );
+		}
+	}
+
 	/**
 	 * Clean up the caches when the SessionFactory is closed.
-	 * <p>
-	 * Note that depending on the cache strategy implementation chosen, clearing the cache might not reclaim all the
-	 * memory.
-	 * <p>
-	 * Typically, when using LIRS, clearing the cache only invalidates the entries but the outdated entries are kept in
-	 * memory until they are replaced by others. It is not considered a memory leak as the cache is bounded.
 	 */
 	public void cleanup() {
 		LOG.trace( "Cleaning QueryPlan Cache" );
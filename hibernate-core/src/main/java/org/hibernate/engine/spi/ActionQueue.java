@@ -30,6 +30,7 @@ import org.hibernate.action.internal.BulkOperationCleanupAction;
 import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
+import org.hibernate.action.internal.EntityAction;
 import org.hibernate.action.internal.EntityActionVetoException;
 import org.hibernate.action.internal.EntityDeleteAction;
 import org.hibernate.action.internal.EntityIdentityInsertAction;
@@ -42,7 +43,10 @@ import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
 import org.hibernate.action.spi.Executable;
 import org.hibernate.cache.CacheException;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
+import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.engine.internal.NonNullableTransientDependencies;
+import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
 import org.hibernate.internal.CoreLogging;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metadata.ClassMetadata;
@@ -202,6 +206,10 @@ public class ActionQueue {
 								instance.isOrderUpdatesEnabled()
 						);
 					}
+					boolean hasIndependentBatches() {
+						// the rows of different collections only refer to entities inserted beforehand
+						return true;
+					}
 				}
 		);
 		EXECUTABLE_LISTS_MAP.put(
@@ -397,7 +405,15 @@ public class ActionQueue {
 			beforeTransactionProcesses.register( executable.getBeforeTransactionCompletionProcess() );
 		}
 		if ( session.getFactory().getSessionFactoryOptions().isQueryCacheEnabled() ) {
-			invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			final QueryCacheTagResolver tagResolver = session.getFactory().getSessionFactoryOptions().getQueryCacheTagResolver();
+			if ( tagResolver == null ) {
+				invalidateSpaces( convertTimestampSpaces( executable.getPropertySpaces() ) );
+			}
+			else {
+				final Set<String> spaces = new HashSet<>();
+				addTimestampSpaces( executable, tagResolver, spaces );
+				invalidateSpaces( convertTimestampSpaces( spaces ) );
+			}
 		}
 		if ( executable.getAfterTransactionCompletionProcess() != null ) {
 			if ( afterTransactionProcesses == null ) {
@@ -475,11 +491,34 @@ public class ActionQueue {
 		EXECUTABLE_LISTS_MAP.forEach( (k,listProvider) -> {
 			ExecutableList<?> l = listProvider.get( this );
 			if ( l != null && !l.isEmpty() ) {
-				executeActions( l );
+				if ( listProvider.hasIndependentBatches() && isBatchPipeliningEnabled() ) {
+					executePipelinedActions( l );
+				}
+				else {
+					executeActions( l );
+				}
 			}
 		} );
 	}
 
+	/**
+	 * Perform the actions of a list whose batches do not depend on each other, keeping the batches open
+	 * together until all the actions were performed.
+	 *
+	 * @param list The list of Executable elements to be performed
+	 */
+	private <E extends Executable & Comparable<?> & Serializable> void executePipelinedActions(ExecutableList<E> list) {
+		final JdbcCoordinator jdbcCoordinator = session.getJdbcCoordinator();
+		jdbcCoordinator.pipelineBatches();
+		try {
+			executeActions( list );
+		}
+		catch (RuntimeException e) {
+			jdbcCoordinator.abortBatch();
+			throw e;
+		}
+	}
+
 	/**
 	 * Prepares the internal action queues for execution.
 	 *
@@ -624,8 +663,18 @@ public class ActionQueue {
 				// Strictly speaking, only a subset of the list may have been processed if a RuntimeException occurs.
 				// We still invalidate all spaces. I don't see this as a big deal - after all, RuntimeExceptions are
 				// unexpected.
-				Set propertySpaces = list.getQuerySpaces();
-				invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				final QueryCacheTagResolver tagResolver = session.getFactory().getSessionFactoryOptions().getQueryCacheTagResolver();
+				if ( tagResolver == null ) {
+					Set propertySpaces = list.getQuerySpaces();
+					invalidateSpaces( convertTimestampSpaces( propertySpaces ) );
+				}
+				else {
+					final Set<String> spaces = new HashSet<>();
+					for ( E e : list ) {
+						addTimestampSpaces( e, tagResolver, spaces );
+					}
+					invalidateSpaces( convertTimestampSpaces( spaces ) );
+				}
 			}
 		}
 
@@ -637,6 +686,31 @@ public class ActionQueue {
 		return (String[]) spaces.toArray( new String[ spaces.size() ] );
 	}
 
+	/**
+	 * Collect the timestamps keys written by the given action when query cache tags are resolved: its spaces,
+	 * and either the tagged spaces of the rows it wrote, or the untagged spaces if their tags cannot be told.
+	 */
+	private static void addTimestampSpaces(
+			Executable executable,
+			QueryCacheTagResolver tagResolver,
+			Set<String> timestampSpaces) {
+		final Set<String> tags = executable instanceof EntityAction
+				? ( (EntityAction) executable ).getQueryCacheTags( tagResolver )
+				: null;
+		for ( Serializable propertySpace : executable.getPropertySpaces() ) {
+			final String space = (String) propertySpace;
+			timestampSpaces.add( space );
+			if ( tags == null ) {
+				timestampSpaces.add( QuerySpacesHelper.INSTANCE.toUntaggedSpace( space ) );
+			}
+			else {
+				for ( String tag : tags ) {
+					timestampSpaces.add( QuerySpacesHelper.INSTANCE.toTaggedSpace( space, tag ) );
+				}
+			}
+		}
+	}
+
 	/**
 	 * @param executable The action to execute
 	 */
@@ -791,6 +865,10 @@ public class ActionQueue {
 		return session.getFactory().getSessionFactoryOptions().isOrderInsertsEnabled();
 	}
 
+	private boolean isBatchPipeliningEnabled() {
+		return session.getFactory().getSessionFactoryOptions().isJdbcBatchPipeliningEnabled();
+	}
+
 	public void clearFromFlushNeededCheck(int previousCollectionRemovalSize) {
 		if ( collectionCreations != null ) {
 			collectionCreations.clear();
@@ -1351,6 +1429,9 @@ public class ActionQueue {
 	private abstract static class ListProvider<T extends Executable & Comparable & Serializable> {
 		abstract ExecutableList<T> get(ActionQueue instance);
 		abstract ExecutableList<T> init(ActionQueue instance);
+		boolean hasIndependentBatches() {
+			return false;
+		}
 		ExecutableList<T> getOrInit( ActionQueue instance ) {
 			ExecutableList<T> list = get( instance );
 			if ( list == null ) {
@@ -7,13 +7,22 @@
 package org.hibernate.engine.spi;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
 
 import org.hibernate.EntityMode;
+import org.hibernate.cache.spi.access.CachedDomainDataAccess;
 import org.hibernate.cache.spi.access.CollectionDataAccess;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.collection.spi.PersistentCollection;
@@ -206,18 +215,18 @@ public class BatchFetchQueue {
 
 		LinkedHashSet<EntityKey> set =  batchLoadableEntityKeys.get( persister.getEntityName() );
 		if ( set != null ) {
-			for ( EntityKey key : set ) {
-				if ( checkForEnd && i == end ) {
-					//the first id found after the given id
-					return ids;
+			final UncachedCandidates<EntityKey> candidates = uncachedCandidates( set, persister, id );
+			while ( !checkForEnd || i != end ) {
+				// never probe the cache for more candidates than the batch can still take
+				final EntityKey key = candidates.next( checkForEnd ? end - i : batchSize - i );
+				if ( key == null ) {
+					break;
 				}
 				if ( persister.getIdentifierType().isEqual( id, key.getIdentifier() ) ) {
 					end = i;
 				}
 				else {
-					if ( !isCached( key, persister ) ) {
-						ids[i++] = key.getIdentifier();
-					}
+					ids[i++] = key.getIdentifier();
 				}
 				if ( i == batchSize ) {
 					i = 1; // end of array, start filling again from start
@@ -230,19 +239,28 @@ public class BatchFetchQueue {
 		return ids; //we ran out of ids to try
 	}
 
-	private boolean isCached(EntityKey entityKey, EntityPersister persister) {
+	private UncachedCandidates<EntityKey> uncachedCandidates(
+			LinkedHashSet<EntityKey> set,
+			EntityPersister persister,
+			Serializable id) {
 		final SharedSessionContractImplementor session = context.getSession();
-		if ( context.getSession().getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
+		if ( session.getCacheMode().isGetEnabled() && persister.canReadFromCache() ) {
 			final EntityDataAccess cache = persister.getCacheAccessStrategy();
-			final Object key = cache.generateCacheKey(
-					entityKey.getIdentifier(),
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			return new UncachedCandidates<>(
+					set.iterator(),
+					session,
+					cache,
+					key -> persister.getIdentifierType().isEqual( id, key.getIdentifier() )
+							? null
+							: cache.generateCacheKey(
+									key.getIdentifier(),
+									persister,
+									session.getFactory(),
+									session.getTenantIdentifier()
+							)
 			);
-			return CacheHelper.fromSharedCache( session, key, cache ) != null;
 		}
-		return false;
+		return new UncachedCandidates<>( set.iterator(), session, null, null );
 	}
 
 
@@ -308,7 +326,15 @@ public class BatchFetchQueue {
 
 		final LinkedHashMap<CollectionEntry, PersistentCollection> map =  batchLoadableCollections.get( collectionPersister.getRole() );
 		if ( map != null ) {
-			for ( Entry<CollectionEntry, PersistentCollection> me : map.entrySet() ) {
+			final UncachedCandidates<Entry<CollectionEntry, PersistentCollection>> candidates =
+					uncachedCandidates( map, collectionPersister, id );
+			while ( !checkForEnd || i != end ) {
+				// never probe the cache for more candidates than the batch can still take
+				final Entry<CollectionEntry, PersistentCollection> me =
+						candidates.next( checkForEnd ? end - i : batchSize - i );
+				if ( me == null ) {
+					break;
+				}
 				final CollectionEntry ce = me.getKey();
 				final PersistentCollection collection = me.getValue();
 
@@ -327,10 +353,6 @@ public class BatchFetchQueue {
 					continue;
 				}
 
-				if ( checkForEnd && i == end ) {
-					return keys; //the first key found after the given key
-				}
-
 				final boolean isEqual = collectionPersister.getKeyType().isEqual(
 						id,
 						ce.getLoadedKey(),
@@ -341,7 +363,7 @@ public class BatchFetchQueue {
 					end = i;
 					//checkForEnd = false;
 				}
-				else if ( !isCached( ce.getLoadedKey(), collectionPersister ) ) {
+				else {
 					keys[i++] = ce.getLoadedKey();
 					//count++;
 				}
@@ -357,19 +379,100 @@ public class BatchFetchQueue {
 		return keys; //we ran out of keys to try
 	}
 
-	private boolean isCached(Serializable collectionKey, CollectionPersister persister) {
-		SharedSessionContractImplementor session = context.getSession();
+	private UncachedCandidates<Entry<CollectionEntry, PersistentCollection>> uncachedCandidates(
+			LinkedHashMap<CollectionEntry, PersistentCollection> map,
+			CollectionPersister persister,
+			Serializable id) {
+		final SharedSessionContractImplementor session = context.getSession();
 		if ( session.getCacheMode().isGetEnabled() && persister.hasCache() ) {
-			CollectionDataAccess cache = persister.getCacheAccessStrategy();
-			Object cacheKey = cache.generateCacheKey(
-					collectionKey,
-					persister,
-					session.getFactory(),
-					session.getTenantIdentifier()
+			final CollectionDataAccess cache = persister.getCacheAccessStrategy();
+			return new UncachedCandidates<>(
+					map.entrySet().iterator(),
+					session,
+					cache,
+					entry -> {
+						final Serializable loadedKey = entry.getKey().getLoadedKey();
+						if ( loadedKey == null
+								|| entry.getValue().wasInitialized()
+								|| persister.getKeyType().isEqual( id, loadedKey, persister.getFactory() ) ) {
+							return null;
+						}
+						return cache.generateCacheKey(
+								loadedKey,
+								persister,
+								session.getFactory(),
+								session.getTenantIdentifier()
+						);
+					}
 			);
-			return CacheHelper.fromSharedCache( session, cacheKey, cache ) != null;
 		}
-		return false;
+		return new UncachedCandidates<>( map.entrySet().iterator(), session, null, null );
+	}
+
+	/**
+	 * Iterates over the candidates for a batch, skipping those whose data is in the second-level cache, so that
+	 * they are not loaded again.  The cache is probed for several candidates at once, as they are reached, but
+	 * never for more candidates than asked for; the candidates without cache key are always returned.
+	 */
+	private static final class UncachedCandidates<T> {
+		private final Iterator<T> candidates;
+		private final SharedSessionContractImplementor session;
+		private final CachedDomainDataAccess cacheAccess;
+		private final Function<T, Object> cacheKeys;
+
+		private final ArrayDeque<T> uncached = new ArrayDeque<>();
+
+		private UncachedCandidates(
+				Iterator<T> candidates,
+				SharedSessionContractImplementor session,
+				CachedDomainDataAccess cacheAccess,
+				Function<T, Object> cacheKeys) {
+			this.candidates = candidates;
+			this.session = session;
+			this.cacheAccess = cacheAccess;
+			this.cacheKeys = cacheKeys;
+		}
+
+		/**
+		 * The next candidate whose data is not cached.
+		 *
+		 * @param bound The number of candidates the cache may be probed for, if it needs to be
+		 *
+		 * @return The candidate, or {@code null} if there is none left
+		 */
+		private T next(int bound) {
+			if ( cacheAccess == null ) {
+				return candidates.hasNext() ? candidates.next() : null;
+			}
+			while ( uncached.isEmpty() && candidates.hasNext() ) {
+				probe( Math.max( bound, 1 ) );
+			}
+			return uncached.poll();
+		}
+
+		private void probe(int bound) {
+			final List<T> probed = new ArrayList<>( bound );
+			final Map<Object, T> byCacheKey = new HashMap<>();
+			while ( probed.size() < bound && candidates.hasNext() ) {
+				final T candidate = candidates.next();
+				probed.add( candidate );
+				final Object cacheKey = cacheKeys.apply( candidate );
+				if ( cacheKey != null ) {
+					byCacheKey.put( cacheKey, candidate );
+				}
+			}
+			final Set<T> cached = Collections.newSetFromMap( new IdentityHashMap<>() );
+			if ( !byCacheKey.isEmpty() ) {
+				for ( Object cacheKey : CacheHelper.fromSharedCache( session, byCacheKey.keySet(), cacheAccess ).keySet() ) {
+					cached.add( byCacheKey.get( cacheKey ) );
+				}
+			}
+			for ( T candidate : probed ) {
+				if ( !cached.contains( candidate ) ) {
+					uncached.add( candidate );
+				}
+			}
+		}
 	}
 
 }
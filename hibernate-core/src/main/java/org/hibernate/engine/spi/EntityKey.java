@@ -51,14 +51,28 @@ public final class EntityKey implements Serializable {
 			throw new AssertionFailure( "null identifier" );
 		}
 		this.identifier = id;
-		this.hashCode = generateHashCode();
+		this.hashCode = generateHashCode( id, persister );
 	}
 
-	private int generateHashCode() {
+	/**
+	 * Computes the hash code of the EntityKey which would be built for the given identifier
+	 * and persister, so that lookups can be performed without instantiating the key.
+	 *
+	 * @param id The entity id
+	 * @param persister The entity persister
+	 *
+	 * @return The same value {@link #hashCode()} returns for {@code new EntityKey( id, persister )}
+	 *
+	 * @see #matches(EntityPersister, Serializable)
+	 */
+	public static int generateHashCode(Serializable id, EntityPersister persister) {
+		if ( id == null ) {
+			throw new AssertionFailure( "null identifier" );
+		}
 		int result = 17;
 		final String rootEntityName = persister.getRootEntityName();
 		result = 37 * result + ( rootEntityName != null ? rootEntityName.hashCode() : 0 );
-		result = 37 * result + persister.getIdentifierType().getHashCode( identifier, persister.getFactory() );
+		result = 37 * result + persister.getIdentifierType().getHashCode( id, persister.getFactory() );
 		return result;
 	}
 
@@ -93,6 +107,19 @@ public final class EntityKey implements Serializable {
 
 	}
 
+	/**
+	 * Would this key be equal to an EntityKey built for the given persister and identifier?
+	 *
+	 * @param otherPersister The entity persister
+	 * @param otherId The entity id
+	 *
+	 * @return {@code true} if {@code equals( new EntityKey( otherId, otherPersister ) )} would be
+	 */
+	public boolean matches(EntityPersister otherPersister, Serializable otherId) {
+		return ( otherPersister == persister || Objects.equals( otherPersister.getRootEntityName(), persister.getRootEntityName() ) )
+				&& persister.getIdentifierType().isEqual( otherId, identifier, persister.getFactory() );
+	}
+
 	private boolean sameIdentifier(final EntityKey otherKey) {
 		return persister.getIdentifierType().isEqual( otherKey.identifier, this.identifier, persister.getFactory() );
 	}
@@ -11,7 +11,9 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.hibernate.HibernateException;
@@ -175,6 +177,36 @@ public interface PersistenceContext {
 	 */
 	boolean containsEntity(EntityKey key);
 
+	/**
+	 * Get the entity instance associated with the given persister and identifier.
+	 * <p/>
+	 * Equivalent to {@code getEntity( session.generateEntityKey( id, persister ) )}, but
+	 * implementations are encouraged not to instantiate an {@link EntityKey}: this lookup is
+	 * performed for every first-level cache hit.
+	 *
+	 * @param persister The persister of the entity to look for
+	 * @param id The identifier of the entity to look for
+	 *
+	 * @return The matching entity, or {@code null}
+	 */
+	default Object getEntity(EntityPersister persister, Serializable id) {
+		return getEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
+	/**
+	 * Is there an entity with the given persister and identifier in the persistence context
+	 *
+	 * @param persister The persister of the entity to look for
+	 * @param id The identifier of the entity to look for
+	 *
+	 * @return {@code true} indicates an entity was found; otherwise {@code false}
+	 *
+	 * @see #getEntity(EntityPersister, Serializable)
+	 */
+	default boolean containsEntity(EntityPersister persister, Serializable id) {
+		return containsEntity( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Remove an entity.  Also clears up all other state associated with the entity aside from the {@link EntityEntry}
 	 *
@@ -462,6 +494,15 @@ public interface PersistenceContext {
 	 */
 	Object getProxy(EntityKey key);
 
+	/**
+	 * Get an existing proxy by persister and identifier
+	 *
+	 * @see #getEntity(EntityPersister, Serializable)
+	 */
+	default Object getProxy(EntityPersister persister, Serializable id) {
+		return getProxy( getSession().generateEntityKey( id, persister ) );
+	}
+
 	/**
 	 * Add a proxy to the session cache
 	 */
@@ -499,6 +540,88 @@ public interface PersistenceContext {
 	 */
 	Map.Entry<Object,EntityEntry>[] reentrantSafeEntityEntries();
 
+	/**
+	 * Register a listener notified of each entity which becomes managed by this persistence context, as it is
+	 * loaded or reassociated with the session; entities being saved or deleted are not notified.  The listener
+	 * is called while the entity is being added, so it must not access the session.
+	 *
+	 * @param listener The listener, called with the entity instance
+	 */
+	default void addManagedEntityListener(Consumer<Object> listener) {
+	}
+
+	/**
+	 * Unregister a listener {@linkplain #addManagedEntityListener registered} earlier.
+	 *
+	 * @param listener The listener
+	 */
+	default void removeManagedEntityListener(Consumer<Object> listener) {
+	}
+
+	/**
+	 * Is incremental flushing enabled for this persistence context?  If so, a flush only processes the
+	 * entities {@link #touch touched} since the last flush, rather than every managed entity.
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_INCREMENTAL
+	 */
+	default boolean isIncrementalFlushEnabled() {
+		return false;
+	}
+
+	/**
+	 * Record that the given entity might have been modified since the last flush, so that the next
+	 * incremental flush processes it.  Does nothing unless {@link #isIncrementalFlushEnabled incremental
+	 * flushing} is enabled.
+	 *
+	 * @param entity The entity instance, or a proxy to it
+	 *
+	 * @see org.hibernate.Session#touch
+	 */
+	default void touch(Object entity) {
+	}
+
+	/**
+	 * Has the given entity been {@link #touch touched} since the last flush?  Always {@code true} unless
+	 * {@link #isIncrementalFlushEnabled incremental flushing} is enabled.
+	 *
+	 * @param entity The entity instance
+	 *
+	 * @return {@code true} if the entity should be processed by the next flush
+	 */
+	default boolean isTouched(Object entity) {
+		return true;
+	}
+
+	/**
+	 * Provides access to the entity/EntityEntry combos which the next flush has to process: all of them,
+	 * unless {@link #isIncrementalFlushEnabled incremental flushing} is enabled, in which case only those of
+	 * the {@link #touch touched} entities.  Safe from reentrant access, like {@link #reentrantSafeEntityEntries}.
+	 */
+	default Map.Entry<Object,EntityEntry>[] reentrantSafeTouchedEntityEntries() {
+		return reentrantSafeEntityEntries();
+	}
+
+	/**
+	 * Forget the entities {@link #touch touched} so far; called once a flush has been executed.
+	 */
+	default void clearTouchedEntities() {
+	}
+
+	/**
+	 * Could flushing the entities and collections associated with this persistence context write to any of
+	 * the given query spaces?  Used to skip the dirty checking of auto-flushes which could not affect the
+	 * results of the query being executed; the actions already queued are not considered.
+	 *
+	 * @param querySpaces The query spaces of the query being executed
+	 *
+	 * @return {@code false} if a flush certainly would not write to any of the query spaces
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#FLUSH_AUTO_QUERY_SPACE_INDEX
+	 */
+	default boolean mightAffectQuerySpaces(Set<? extends Serializable> querySpaces) {
+		return true;
+	}
+
 	/**
 	 * Get the mapping from entity instance to entity entry
 	 *
@@ -51,6 +51,7 @@ public final class QueryParameters {
 	private RowSelection rowSelection;
 	private boolean cacheable;
 	private String cacheRegion;
+	private String[] cacheTags;
 	private String comment;
 	private List<String> queryHints;
 	private ScrollMode scrollMode;
@@ -520,6 +521,21 @@ public final class QueryParameters {
 		this.passDistinctThrough = passDistinctThrough;
 	}
 
+	/**
+	 * The query cache tags of the rows read by this query.
+	 *
+	 * @return The tags, or {@code null} if the query declares none
+	 *
+	 * @see org.hibernate.cache.spi.QueryCacheTagResolver
+	 */
+	public String[] getCacheTags() {
+		return cacheTags;
+	}
+
+	public void setCacheTags(String[] cacheTags) {
+		this.cacheTags = cacheTags;
+	}
+
 	public void processFilters(String sql, SharedSessionContractImplementor session) {
 		processFilters( sql, session.getLoadQueryInfluencers().getEnabledFilters(), session.getFactory() );
 	}
@@ -654,6 +670,7 @@ public final class QueryParameters {
 		copy.processedPositionalParameterTypes = this.processedPositionalParameterTypes;
 		copy.processedPositionalParameterValues = this.processedPositionalParameterValues;
 		copy.passDistinctThrough = this.passDistinctThrough;
+		copy.cacheTags = this.cacheTags;
 		return copy;
 	}
 
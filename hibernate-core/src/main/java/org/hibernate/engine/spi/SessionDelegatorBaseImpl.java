@@ -1100,6 +1100,11 @@ public class SessionDelegatorBaseImpl implements SessionImplementor {
 		delegate.setReadOnly( entityOrProxy, readOnly );
 	}
 
+	@Override
+	public void touch(Object entityOrProxy) {
+		delegate.touch( entityOrProxy );
+	}
+
 	@Override
 	public void doWork(Work work) throws HibernateException {
 		delegate.doWork( work );
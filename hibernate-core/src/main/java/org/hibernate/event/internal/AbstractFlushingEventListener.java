@@ -16,6 +16,7 @@ import org.hibernate.action.internal.CollectionRecreateAction;
 import org.hibernate.action.internal.CollectionRemoveAction;
 import org.hibernate.action.internal.CollectionUpdateAction;
 import org.hibernate.action.internal.QueuedOperationCollectionAction;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.engine.internal.Cascade;
 import org.hibernate.engine.internal.CascadePoint;
 import org.hibernate.engine.internal.Collections;
@@ -78,6 +79,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		session.getInterceptor().preFlush( persistenceContext.managedEntitiesIterator() );
 
+		if ( persistenceContext.isIncrementalFlushEnabled() ) {
+			touchOwnersOfDirtyCollections( persistenceContext );
+		}
 		prepareEntityFlushes( session, persistenceContext );
 		// we could move this inside if we wanted to
 		// tolerate collection initializations during
@@ -140,7 +144,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final Object anything = getAnything();
 		//safe from concurrent modification because of how concurrentEntries() is implemented on IdentityMap
-		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeEntityEntries() ) {
+		for ( Map.Entry<Object,EntityEntry> me : persistenceContext.reentrantSafeTouchedEntityEntries() ) {
 //		for ( Map.Entry me : IdentityMap.concurrentEntries( persistenceContext.getEntityEntries() ) ) {
 			EntityEntry entry = (EntityEntry) me.getValue();
 			Status status = entry.getStatus();
@@ -180,6 +184,18 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		}
 	}
 
+	/**
+	 * When flushing incrementally, the owner of a modified collection has to be processed
+	 * (for orphan removal and version increments), even though the owner itself was not touched.
+	 */
+	private void touchOwnersOfDirtyCollections(PersistenceContext persistenceContext) {
+		persistenceContext.forEachCollectionEntry( (pc,ce) -> {
+			if ( pc.isDirty() && pc.getOwner() != null ) {
+				persistenceContext.touch( pc.getOwner() );
+			}
+		}, false );
+	}
+
 	/**
 	 * Initialize the flags of the CollectionEntry, including the
 	 * dirty check.
@@ -216,7 +232,9 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		// So this needs to be safe from concurrent modification problems.
 
-		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeEntityEntries();
+		// When flushing incrementally, only the entities touched since the last flush are processed;
+		// the collections of the others are accounted for in flushCollections()
+		final Map.Entry<Object,EntityEntry>[] entityEntries = persistenceContext.reentrantSafeTouchedEntityEntries();
 		final int count = entityEntries.length;
 
 		for ( Map.Entry<Object,EntityEntry> me : entityEntries ) {
@@ -252,7 +270,12 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		persistenceContext.forEachCollectionEntry(
 				(persistentCollection, collectionEntry) -> {
 					if ( !collectionEntry.isReached() && !collectionEntry.isIgnore() ) {
-						Collections.processUnreachableCollection( persistentCollection, session );
+						if ( isOwnerUntouched( persistentCollection, persistenceContext ) ) {
+							Collections.processCollectionOfUntouchedOwner( persistentCollection, session );
+						}
+						else {
+							Collections.processUnreachableCollection( persistentCollection, session );
+						}
 					}
 				}, true );
 
@@ -317,6 +340,19 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 		return count;
 	}
 
+	/**
+	 * Was the owner of the collection skipped by an incremental flush?
+	 */
+	private boolean isOwnerUntouched(PersistentCollection collection, PersistenceContext persistenceContext) {
+		final Object owner = collection.getOwner();
+		if ( owner == null || persistenceContext.isTouched( owner ) ) {
+			return false;
+		}
+		final EntityEntry ownerEntry = persistenceContext.getEntry( owner );
+		return ownerEntry != null
+				&& ( ownerEntry.getStatus() == Status.MANAGED || ownerEntry.getStatus() == Status.READ_ONLY );
+	}
+
 	/**
 	 * Execute all SQL (and second-level cache updates) in a special order so that foreign-key constraints cannot
 	 * be violated: <ol>
@@ -369,6 +405,7 @@ public abstract class AbstractFlushingEventListener implements JpaBootstrapSensi
 
 		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
 		persistenceContext.clearCollectionsByKey();
+		persistenceContext.clearTouchedEntities();
 		
 		// the database has changed now, so the subselect results need to be invalidated
 		// the batch fetching queues should also be cleared - especially the collection batch fetching one
@@ -80,6 +80,7 @@ public abstract class AbstractReassociateEventListener implements Serializable {
 				persister,
 				false
 		);
+		persistenceContext.touch( object );
 
 		new OnLockVisitor( source, id, object ).process( object, persister );
 
@@ -42,7 +42,7 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 		try {
 			eventListenerManager.partialFlushStart();
 
-			if ( flushMightBeNeeded( source ) ) {
+			if ( flushMightBeNeeded( source ) && !flushIsCertainlyNotNeeded( event, source ) ) {
 				// Need to get the number of collection removals before flushing to executions
 				// (because flushing to executions can add collection removal actions to the action queue).
 				final ActionQueue actionQueue = source.getActionQueue();
@@ -84,6 +84,22 @@ public class DefaultAutoFlushEventListener extends AbstractFlushingEventListener
 				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() );
 	}
 
+	/**
+	 * Can we tell that the flush will not be needed without flushing everything to executions first?  That
+	 * is the case when neither the queued actions nor any entity or collection associated with the session
+	 * could write to the query spaces, as tracked when the query space index is enabled.
+	 */
+	private boolean flushIsCertainlyNotNeeded(AutoFlushEvent event, final EventSource source) {
+		if ( source.getHibernateFlushMode() == FlushMode.ALWAYS
+				|| source.getPersistenceContextInternal().mightAffectQuerySpaces( event.getQuerySpaces() )
+				|| source.getActionQueue().areTablesToBeUpdated( event.getQuerySpaces() ) ) {
+			return false;
+		}
+		LOG.trace( "Don't need to execute flush: no pending change can affect the query spaces" );
+		event.setFlushRequired( false );
+		return true;
+	}
+
 	private boolean flushMightBeNeeded(final EventSource source) {
 		final PersistenceContext persistenceContext = source.getPersistenceContextInternal();
 		return !source.getHibernateFlushMode().lessThan( FlushMode.AUTO )
@@ -14,11 +14,13 @@ import org.hibernate.NonUniqueObjectException;
 import org.hibernate.PersistentObjectException;
 import org.hibernate.TypeMismatchException;
 import org.hibernate.action.internal.DelayedPostInsertIdentifier;
+import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.engine.spi.EntityEntry;
 import org.hibernate.engine.spi.EntityKey;
 import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.PersistentAttributeInterceptable;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.Status;
@@ -95,6 +97,12 @@ public class DefaultLoadEventListener implements LoadEventListener {
 			final LoadEventListener.LoadType loadType) {
 
 		try {
+			final Object managed = resolveManagedEntity( event, persister, loadType );
+			if ( managed != null ) {
+				event.setResult( managed );
+				return;
+			}
+
 			final EventSource session = event.getSession();
 			final EntityKey keyToLoad = session.generateEntityKey( event.getEntityId(), persister );
 			if ( loadType.isNakedEntityReturned() ) {
@@ -118,6 +126,59 @@ public class DefaultLoadEventListener implements LoadEventListener {
 		}
 	}
 
+	/**
+	 * Handles the most frequent outcome of a load request - the entity is already managed by the
+	 * persistence context - without building an {@link EntityKey}.
+	 * <p/>
+	 * Only the cases where the full resolution ({@link #proxyOrLoad}, {@link #load}) is known to return
+	 * the managed instance as-is are handled here: no lock to acquire, no instance to load into,
+	 * no proxy to narrow and an entry which is neither deleted nor of an inconsistent type.
+	 *
+	 * @return The managed entity, or {@code null} if the regular resolution needs to be performed
+	 */
+	private Object resolveManagedEntity(
+			final LoadEvent event,
+			final EntityPersister persister,
+			final LoadEventListener.LoadType loadType) {
+		if ( event.getInstanceToLoad() != null || event.getLockMode() != LockMode.NONE ) {
+			return null;
+		}
+
+		final PersistenceContext persistenceContext = event.getSession().getPersistenceContextInternal();
+		final Serializable id = event.getEntityId();
+		final Object managed = persistenceContext.getEntity( persister, id );
+		if ( managed == null ) {
+			return null;
+		}
+		if ( !loadType.isNakedEntityReturned() && persistenceContext.getProxy( persister, id ) != null ) {
+			return null;
+		}
+		if ( !persister.isInstance( managed ) || isEnhancedProxy( managed ) ) {
+			return null;
+		}
+		final EntityEntry entry = persistenceContext.getEntry( managed );
+		if ( entry == null ) {
+			return null;
+		}
+		final Status status = entry.getStatus();
+		if ( status == Status.DELETED || status == Status.GONE ) {
+			return null;
+		}
+
+		if ( LOG.isTraceEnabled() ) {
+			LOG.tracev(
+					"Resolved object in session cache: {0}",
+					MessageHelper.infoString( persister, id, event.getSession().getFactory() )
+			);
+		}
+		return managed;
+	}
+
+	private static boolean isEnhancedProxy(Object entity) {
+		return entity instanceof PersistentAttributeInterceptable
+				&& ( (PersistentAttributeInterceptable) entity ).$$_hibernate_getInterceptor() instanceof EnhancementAsProxyLazinessInterceptor;
+	}
+
 	private void checkIdClass(
 			final EntityPersister persister,
 			final LoadEvent event,
@@ -348,6 +348,7 @@ public class DefaultMergeEventListener extends AbstractSaveEventListener impleme
 
 			//copyValues works by reflection, so explicitly mark the entity instance dirty
 			markInterceptorDirty( entity, target, persister );
+			source.getPersistenceContextInternal().touch( target );
 
 			event.setResult( result );
 		}
@@ -138,6 +138,7 @@ public class DefaultPersistEventListener
 			case DELETED: {
 				entityEntry.setStatus( Status.MANAGED );
 				entityEntry.setDeletedState( null );
+				event.getSession().getPersistenceContextInternal().touch( entity );
 				event.getSession().getActionQueue().unScheduleDeletion( entityEntry, event.getObject() );
 				entityIsDeleted( event, createCache );
 				break;
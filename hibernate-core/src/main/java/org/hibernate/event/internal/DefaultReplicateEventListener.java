@@ -194,6 +194,7 @@ public class DefaultReplicateEventListener extends AbstractSaveEventListener imp
 				persister,
 				true
 		);
+		source.getPersistenceContextInternal().touch( entity );
 
 		cascadeAfterReplicate( entity, persister, replicationMode, source );
 	}
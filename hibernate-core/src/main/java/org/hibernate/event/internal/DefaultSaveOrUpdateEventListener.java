@@ -317,6 +317,7 @@ public class DefaultSaveOrUpdateEventListener extends AbstractSaveEventListener
 				persister,
 				false
 		);
+		persistenceContext.touch( entity );
 
 		persister.afterReassociate( entity, source );
 
@@ -6,12 +6,17 @@
  */
 package org.hibernate.internal;
 
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -340,6 +345,8 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 				}
 			}
 
+			warmUpQueryPlanCache( properties.get( AvailableSettings.QUERY_PLAN_CACHE_WARMUP ) );
+
 			// this needs to happen after persisters are all ready to go...
 			this.fetchProfiles = new HashMap<>();
 			for ( org.hibernate.mapping.FetchProfile mappingProfile : metadata.getFetchProfiles() ) {
@@ -544,7 +551,51 @@ public final class SessionFactoryImpl implements SessionFactoryImplementor {
 	}
 
 	private Map<String,HibernateException> checkNamedQueries() throws HibernateException {
-		return namedQueryRepository.checkNamedQueries( queryPlanCache );
+		return namedQueryRepository.checkNamedQueries(
+				queryPlanCache,
+				getSessionFactoryOptions().getNamedQueryStartupCheckParallelism()
+		);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void warmUpQueryPlanCache(Object warmUpSetting) {
+		if ( warmUpSetting == null ) {
+			return;
+		}
+
+		final Collection<String> queryStrings;
+		if ( warmUpSetting instanceof Collection ) {
+			queryStrings = (Collection<String>) warmUpSetting;
+		}
+		else {
+			final String resourceName = warmUpSetting.toString().trim();
+			final InputStream stream = serviceRegistry.getService( ClassLoaderService.class )
+					.locateResourceStream( resourceName );
+			if ( stream == null ) {
+				throw new ConfigurationException(
+						"Unable to locate query plan cache warm-up resource [" + resourceName + "]"
+				);
+			}
+			queryStrings = new ArrayList<>();
+			try ( BufferedReader reader = new BufferedReader( new InputStreamReader( stream, StandardCharsets.UTF_8 ) ) ) {
+				String line;
+				while ( ( line = reader.readLine() ) != null ) {
+					line = line.trim();
+					if ( !line.isEmpty() && !line.startsWith( "#" ) ) {
+						queryStrings.add( line );
+					}
+				}
+			}
+			catch (IOException e) {
+				throw new ConfigurationException(
+						"Unable to read query plan cache warm-up resource [" + resourceName + "]",
+						e
+				);
+			}
+		}
+
+		final int compiled = queryPlanCache.warmUp( queryStrings );
+		LOG.debugf( "Warmed up the query plan cache with %s of %s queries", compiled, queryStrings.size() );
 	}
 
 	@Override
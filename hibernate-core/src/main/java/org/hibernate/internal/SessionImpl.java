@@ -2284,6 +2284,12 @@ public final class SessionImpl
 		persistenceContext.setReadOnly( entity, readOnly );
 	}
 
+	@Override
+	public void touch(Object entityOrProxy) {
+		checkOpen();
+		persistenceContext.touch( entityOrProxy );
+	}
+
 	@Override
 	public void doWork(final Work work) throws HibernateException {
 		WorkExecutorVisitable<Void> realWork = new WorkExecutorVisitable<Void>() {
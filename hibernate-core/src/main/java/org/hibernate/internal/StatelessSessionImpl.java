@@ -8,6 +8,8 @@ package org.hibernate.internal;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -96,6 +98,69 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 		checkOpen();
 		EntityPersister persister = getEntityPersister( entityName, entity );
 		Serializable id = persister.getIdentifierGenerator().generate( this, entity );
+		Object[] state = getInsertState( persister, entity );
+		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+			id = persister.insert( state, entity, this );
+		}
+		else {
+			persister.insert( id, state, entity, this );
+		}
+		persister.setIdentifier( entity, id, this );
+		return id;
+	}
+
+	@Override
+	public void insertAll(Collection<?> entities) {
+		checkOpen();
+		EntityPersister groupPersister = null;
+		final List<Serializable> ids = new ArrayList<>();
+		final List<Object[]> states = new ArrayList<>();
+		final List<Object> groupEntities = new ArrayList<>();
+		for ( Object entity : entities ) {
+			final EntityPersister persister = getEntityPersister( null, entity );
+			if ( persister != groupPersister ) {
+				insertAll( groupPersister, ids, states, groupEntities );
+				groupPersister = persister;
+			}
+			final Serializable id = persister.getIdentifierGenerator().generate( this, entity );
+			final Object[] state = getInsertState( persister, entity );
+			if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
+				// keep the order of the inserts
+				insertAll( groupPersister, ids, states, groupEntities );
+				persister.setIdentifier( entity, persister.insert( state, entity, this ), this );
+			}
+			else {
+				ids.add( id );
+				states.add( state );
+				groupEntities.add( entity );
+			}
+		}
+		insertAll( groupPersister, ids, states, groupEntities );
+	}
+
+	private void insertAll(
+			EntityPersister persister,
+			List<Serializable> ids,
+			List<Object[]> states,
+			List<Object> entities) {
+		if ( ids.isEmpty() ) {
+			return;
+		}
+		persister.insertAll(
+				ids.toArray( new Serializable[ids.size()] ),
+				states.toArray( new Object[states.size()][] ),
+				entities.toArray(),
+				this
+		);
+		for ( int i = 0; i < ids.size(); i++ ) {
+			persister.setIdentifier( entities.get( i ), ids.get( i ), this );
+		}
+		ids.clear();
+		states.clear();
+		entities.clear();
+	}
+
+	private Object[] getInsertState(EntityPersister persister, Object entity) {
 		Object[] state = persister.getPropertyValues( entity );
 		if ( persister.isVersioned() ) {
 			boolean substitute = Versioning.seedVersion(
@@ -108,14 +173,7 @@ public class StatelessSessionImpl extends AbstractSharedSessionContract implemen
 				persister.setPropertyValues( entity, state );
 			}
 		}
-		if ( id == IdentifierGeneratorHelper.POST_INSERT_INDICATOR ) {
-			id = persister.insert( state, entity, this );
-		}
-		else {
-			persister.insert( id, state, entity, this );
-		}
-		persister.setIdentifier( entity, id, this );
-		return id;
+		return state;
 	}
 
 
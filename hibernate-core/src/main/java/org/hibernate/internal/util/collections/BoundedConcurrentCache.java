@@ -0,0 +1,439 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * A concurrent cache bounded by the total weight of its entries, evicting according to a Window TinyLFU
+ * policy.
+ * <p/>
+ * New entries enter a small LRU window (1% of the maximum weight); entries leaving the window are admitted
+ * into the main space only if they were accessed more often, according to a {@link FrequencySketch}, than
+ * the entries the main space would evict for them.  The main space is split into a probation and a protected
+ * LRU segment, entries accessed while on probation being promoted to the protected one (80% of the main space).
+ * This keeps frequently used entries cached through scans of entries used only once, which plain LRU and
+ * LIRS segment maps do not.
+ * <p/>
+ * Reads never block: accesses are recorded in a lossy ring buffer which is replayed against the policy once
+ * in a while by whichever thread obtains the policy lock.  Writes update the map directly and apply their
+ * policy changes under that lock.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class BoundedConcurrentCache<K, V> {
+	private static final int READ_BUFFER_SIZE = 128;
+	private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+	private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+	private static final int WINDOW = 0;
+	private static final int PROBATION = 1;
+	private static final int PROTECTED = 2;
+
+	private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+	private final long maximumWeight;
+	private final ToIntFunction<? super V> weigher;
+	private final BiConsumer<? super K, ? super V> evictionListener;
+
+	private final ReentrantLock policyLock = new ReentrantLock();
+	private final AtomicReferenceArray<Node<K, V>> readBuffer;
+	private final AtomicLong readCount;
+	private final FrequencySketch sketch;
+
+	// the policy state, guarded by policyLock
+	private final AccessOrderDeque[] deques;
+	private final long maximumWindowWeight;
+	private final long maximumMainWeight;
+	private final long maximumProtectedWeight;
+	private volatile long evictionCount;
+
+	/**
+	 * Constructs a cache of at most the given number of entries
+	 *
+	 * @param maximumSize The maximum number of entries, or 0 or less for no maximum
+	 */
+	public BoundedConcurrentCache(int maximumSize) {
+		this( maximumSize, value -> 1, null );
+	}
+
+	/**
+	 * Constructs a cache of at most the given total weight
+	 *
+	 * @param maximumWeight The maximum total weight of the entries, or 0 or less for no maximum
+	 * @param weigher Determines the (positive) weight of a value
+	 * @param evictionListener Notified of the entries evicted by the policy, under the policy lock; may be
+	 * {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public BoundedConcurrentCache(
+			long maximumWeight,
+			ToIntFunction<? super V> weigher,
+			BiConsumer<? super K, ? super V> evictionListener) {
+		this.maximumWeight = maximumWeight;
+		this.weigher = weigher;
+		this.evictionListener = evictionListener;
+		if ( maximumWeight > 0 ) {
+			this.readBuffer = new AtomicReferenceArray<>( READ_BUFFER_SIZE );
+			this.readCount = new AtomicLong();
+			this.sketch = new FrequencySketch( (int) Math.min( maximumWeight, Integer.MAX_VALUE ) );
+			this.deques = new AccessOrderDeque[] { new AccessOrderDeque(), new AccessOrderDeque(), new AccessOrderDeque() };
+			this.maximumWindowWeight = Math.max( 1, maximumWeight / 100 );
+			this.maximumMainWeight = Math.max( 0, maximumWeight - maximumWindowWeight );
+			this.maximumProtectedWeight = (long) ( maximumMainWeight * 0.8 );
+		}
+		else {
+			this.readBuffer = null;
+			this.readCount = null;
+			this.sketch = null;
+			this.deques = null;
+			this.maximumWindowWeight = 0;
+			this.maximumMainWeight = 0;
+			this.maximumProtectedWeight = 0;
+		}
+	}
+
+	private boolean isBounded() {
+		return maximumWeight > 0;
+	}
+
+	/**
+	 * The number of entries currently cached
+	 */
+	public int size() {
+		return data.size();
+	}
+
+	/**
+	 * The total weight of the entries currently cached, as of the last policy update
+	 */
+	public long weightedSize() {
+		if ( !isBounded() ) {
+			return data.size();
+		}
+		policyLock.lock();
+		try {
+			return deques[WINDOW].weight + deques[PROBATION].weight + deques[PROTECTED].weight;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	/**
+	 * The number of entries evicted by the policy so far
+	 */
+	public long evictionCount() {
+		return evictionCount;
+	}
+
+	public boolean containsKey(K key) {
+		return data.containsKey( key );
+	}
+
+	public V get(K key) {
+		final Node<K, V> node = data.get( key );
+		if ( node == null ) {
+			return null;
+		}
+		if ( isBounded() ) {
+			recordRead( node );
+		}
+		return node.value;
+	}
+
+	/**
+	 * Cache the given value, replacing the value cached for the key if any
+	 *
+	 * @return The value previously cached for the key, or {@code null}
+	 */
+	public V put(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value, isBounded() ? weigher.applyAsInt( value ) : 1 );
+		final Node<K, V> previous = data.put( key, node );
+		if ( isBounded() ) {
+			policyLock.lock();
+			try {
+				if ( previous != null ) {
+					retire( previous );
+				}
+				drainReadBuffer();
+				onAdd( node );
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+		return previous == null ? null : previous.value;
+	}
+
+	/**
+	 * Cache the given value unless a value is already cached for the key
+	 *
+	 * @return The value already cached for the key, or {@code null} if the given value was cached
+	 */
+	public V putIfAbsent(K key, V value) {
+		final Node<K, V> node = new Node<>( key, value, isBounded() ? weigher.applyAsInt( value ) : 1 );
+		final Node<K, V> existing = data.putIfAbsent( key, node );
+		if ( existing != null ) {
+			if ( isBounded() ) {
+				recordRead( existing );
+			}
+			return existing.value;
+		}
+		if ( isBounded() ) {
+			policyLock.lock();
+			try {
+				drainReadBuffer();
+				onAdd( node );
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Remove the value cached for the key, if any
+	 *
+	 * @return The removed value, or {@code null}
+	 */
+	public V remove(K key) {
+		if ( !isBounded() ) {
+			final Node<K, V> node = data.remove( key );
+			return node == null ? null : node.value;
+		}
+		policyLock.lock();
+		try {
+			final Node<K, V> node = data.remove( key );
+			if ( node == null ) {
+				return null;
+			}
+			retire( node );
+			return node.value;
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	/**
+	 * Remove all entries
+	 */
+	public void clear() {
+		if ( !isBounded() ) {
+			data.clear();
+			return;
+		}
+		policyLock.lock();
+		try {
+			drainReadBuffer();
+			for ( Node<K, V> node : data.values() ) {
+				if ( data.remove( node.key, node ) ) {
+					retire( node );
+				}
+			}
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	/**
+	 * Apply the pending accesses to the eviction policy
+	 */
+	public void cleanUp() {
+		if ( !isBounded() ) {
+			return;
+		}
+		policyLock.lock();
+		try {
+			drainReadBuffer();
+		}
+		finally {
+			policyLock.unlock();
+		}
+	}
+
+	private void recordRead(Node<K, V> node) {
+		final long count = readCount.getAndIncrement();
+		final int index = (int) ( count & READ_BUFFER_MASK );
+		// a concurrent read recorded at the same index is simply lost
+		readBuffer.lazySet( index, node );
+		if ( ( count + 1 ) % READ_BUFFER_DRAIN_THRESHOLD == 0 && policyLock.tryLock() ) {
+			try {
+				drainReadBuffer();
+			}
+			finally {
+				policyLock.unlock();
+			}
+		}
+	}
+
+	private void drainReadBuffer() {
+		for ( int i = 0; i < READ_BUFFER_SIZE; i++ ) {
+			final Node<K, V> read = readBuffer.getAndSet( i, null );
+			if ( read != null ) {
+				onRead( read );
+			}
+		}
+	}
+
+	private void onAdd(Node<K, V> node) {
+		if ( node.retired ) {
+			// already replaced or removed by a concurrent write
+			return;
+		}
+		sketch.increment( node.key );
+		if ( node.weight > maximumWeight ) {
+			evict( node );
+			return;
+		}
+		deques[WINDOW].addLast( node, WINDOW );
+		evictFromWindow();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void onRead(Node<K, V> node) {
+		if ( node.retired || node.queue < 0 ) {
+			return;
+		}
+		sketch.increment( node.key );
+		if ( node.queue == PROBATION ) {
+			deques[PROBATION].unlink( node );
+			deques[PROTECTED].addLast( node, PROTECTED );
+			while ( deques[PROTECTED].weight > maximumProtectedWeight ) {
+				final Node<K, V> demoted = deques[PROTECTED].head;
+				deques[PROTECTED].unlink( demoted );
+				deques[PROBATION].addLast( demoted, PROBATION );
+			}
+		}
+		else {
+			deques[node.queue].moveToLast( node );
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void evictFromWindow() {
+		while ( deques[WINDOW].weight > maximumWindowWeight ) {
+			final Node<K, V> candidate = deques[WINDOW].head;
+			deques[WINDOW].unlink( candidate );
+			final int candidateFrequency = sketch.frequency( candidate.key );
+			while ( mainWeight() + candidate.weight > maximumMainWeight ) {
+				final Node<K, V> victim = deques[PROBATION].head != null
+						? deques[PROBATION].head
+						: deques[PROTECTED].head;
+				if ( victim == null || candidateFrequency <= sketch.frequency( victim.key ) ) {
+					break;
+				}
+				deques[victim.queue].unlink( victim );
+				evict( victim );
+			}
+			if ( mainWeight() + candidate.weight <= maximumMainWeight ) {
+				deques[PROBATION].addLast( candidate, PROBATION );
+			}
+			else {
+				evict( candidate );
+			}
+		}
+	}
+
+	private long mainWeight() {
+		return deques[PROBATION].weight + deques[PROTECTED].weight;
+	}
+
+	private void evict(Node<K, V> node) {
+		node.retired = true;
+		if ( data.remove( node.key, node ) ) {
+			evictionCount++;
+			if ( evictionListener != null ) {
+				evictionListener.accept( node.key, node.value );
+			}
+		}
+	}
+
+	private void retire(Node<K, V> node) {
+		node.retired = true;
+		if ( node.queue >= 0 ) {
+			deques[node.queue].unlink( node );
+		}
+	}
+
+	private static class Node<K, V> {
+		private final K key;
+		private final V value;
+		private final int weight;
+		private volatile boolean retired;
+
+		// the policy state, guarded by policyLock
+		private int queue = -1;
+		private Node<K, V> previous;
+		private Node<K, V> next;
+
+		private Node(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * An intrusive doubly-linked list of nodes in access order, least recently used first
+	 */
+	@SuppressWarnings("unchecked")
+	private static class AccessOrderDeque {
+		private Node head;
+		private Node tail;
+		private long weight;
+
+		private void addLast(Node node, int queue) {
+			node.queue = queue;
+			node.previous = tail;
+			node.next = null;
+			if ( tail == null ) {
+				head = node;
+			}
+			else {
+				tail.next = node;
+			}
+			tail = node;
+			weight += node.weight;
+		}
+
+		private void unlink(Node node) {
+			if ( node.previous == null ) {
+				head = node.next;
+			}
+			else {
+				node.previous.next = node.next;
+			}
+			if ( node.next == null ) {
+				tail = node.previous;
+			}
+			else {
+				node.next.previous = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			node.queue = -1;
+			weight -= node.weight;
+		}
+
+		private void moveToLast(Node node) {
+			if ( node != tail ) {
+				final int queue = node.queue;
+				unlink( node );
+				addLast( node, queue );
+			}
+		}
+	}
+}
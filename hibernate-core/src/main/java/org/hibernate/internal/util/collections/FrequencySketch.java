@@ -0,0 +1,120 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+/**
+ * A probabilistic estimate of how often keys were accessed recently, used by {@link BoundedConcurrentCache} to
+ * decide whether a new entry deserves to replace an older one.
+ * <p/>
+ * The estimate is a count-min sketch of 4-bit counters: each key maps to four counters of the table, and its
+ * frequency is the smallest of them.  Once as many increments as ten times the maximum size of the cache
+ * were recorded, all counters are halved so that the estimate favors recent accesses.
+ * <p/>
+ * Not thread-safe; callers synchronize.
+ */
+final class FrequencySketch {
+	private static final long[] SEEDS = {
+			0xc3a5c85c97cb3127L,
+			0xb492b66fbe98f273L,
+			0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L
+	};
+	// the lowest bit of every counter
+	private static final long ONE_MASK = 0x1111111111111111L;
+	// every bit of every counter but the highest one
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAXIMUM_TABLE_SIZE = 1 << 24;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	/**
+	 * Constructs a FrequencySketch
+	 *
+	 * @param maximumSize The maximum number of entries of the cache
+	 */
+	FrequencySketch(int maximumSize) {
+		final int capacity = tableSizeFor( Math.max( maximumSize, 1 ) );
+		this.table = new long[capacity];
+		this.tableMask = capacity - 1;
+		this.sampleSize = (int) Math.min( 10L * Math.max( maximumSize, 1 ), Integer.MAX_VALUE );
+	}
+
+	/**
+	 * The estimated number of recent accesses to the given key, between 0 and 15.
+	 */
+	int frequency(Object key) {
+		final int hash = spread( key.hashCode() );
+		// the group of 4 counters of each long used for this key
+		final int start = ( hash & 3 ) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for ( int i = 0; i < 4; i++ ) {
+			final int index = indexOf( hash, i );
+			final int count = (int) ( ( table[index] >>> ( ( start + i ) << 2 ) ) & 0xfL );
+			frequency = Math.min( frequency, count );
+		}
+		return frequency;
+	}
+
+	/**
+	 * Record an access to the given key.
+	 */
+	void increment(Object key) {
+		final int hash = spread( key.hashCode() );
+		final int start = ( hash & 3 ) << 2;
+		boolean added = false;
+		for ( int i = 0; i < 4; i++ ) {
+			added |= incrementAt( indexOf( hash, i ), start + i );
+		}
+		if ( added && ++size == sampleSize ) {
+			reset();
+		}
+	}
+
+	private boolean incrementAt(int index, int counter) {
+		final int offset = counter << 2;
+		final long mask = 0xfL << offset;
+		if ( ( table[index] & mask ) != mask ) {
+			table[index] += 1L << offset;
+			return true;
+		}
+		return false;
+	}
+
+	private void reset() {
+		int odd = 0;
+		for ( int i = 0; i < table.length; i++ ) {
+			odd += Long.bitCount( table[i] & ONE_MASK );
+			table[i] = ( table[i] >>> 1 ) & RESET_MASK;
+		}
+		size = ( size >>> 1 ) - ( odd >>> 2 );
+	}
+
+	private int indexOf(int hash, int i) {
+		long h = ( hash + SEEDS[i] ) * SEEDS[i];
+		h += h >>> 32;
+		return ( (int) h ) & tableMask;
+	}
+
+	private static int spread(int hash) {
+		int h = hash * 0x9e3779b9;
+		h ^= h >>> 16;
+		return h;
+	}
+
+	private static int tableSizeFor(int size) {
+		if ( size >= MAXIMUM_TABLE_SIZE ) {
+			return MAXIMUM_TABLE_SIZE;
+		}
+		if ( size <= 1 ) {
+			return 1;
+		}
+		return Integer.highestOneBit( size - 1 ) << 1;
+	}
+}
@@ -0,0 +1,566 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.internal.util.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * A hash map using open addressing with linear probing, meant to hold the very large
+ * number of entries a persistence context might accumulate.
+ * <p/>
+ * Keys and values are stored next to each other in a single array, and the hash code
+ * of each key is cached in a parallel {@code int} array: compared to {@link java.util.HashMap}
+ * no node object is allocated per entry, and probing for a missing key rarely needs to
+ * dereference the keys it skips.
+ * <p/>
+ * Removals leave a tombstone behind (unless the slot terminates a probe sequence),
+ * which means entries never move except when the table is rehashed: iterators can safely
+ * remove the current entry.
+ * <p/>
+ * Null keys are not supported; iteration order is unspecified. This implementation is not
+ * thread-safe, and its iterators are fail-fast.
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ */
+public final class LinearProbingHashMap<K,V> extends AbstractMap<K,V> {
+	private static final Object TOMBSTONE = new Object();
+	private static final int MINIMUM_CAPACITY = 8;
+	private static final int MAXIMUM_CAPACITY = 1 << 29;
+
+	// keys at even positions, the associated value right after each key
+	private Object[] table;
+	private int[] hashes;
+
+	private int size;
+	private int tombstones;
+	private int resizeThreshold;
+	private int modCount;
+
+	public LinearProbingHashMap() {
+		this( MINIMUM_CAPACITY );
+	}
+
+	/**
+	 * Create a map sized to hold the given number of entries without rehashing.
+	 *
+	 * @param expectedSize The number of entries expected
+	 */
+	public LinearProbingHashMap(int expectedSize) {
+		allocate( capacityFor( expectedSize ) );
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// keep the load factor (including tombstones) at or below 2/3
+		final long required = Math.max( MINIMUM_CAPACITY, expectedSize + ( (long) expectedSize >> 1 ) + 1 );
+		if ( required >= MAXIMUM_CAPACITY ) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Integer.highestOneBit( (int) required - 1 ) << 1;
+	}
+
+	private void allocate(int capacity) {
+		table = new Object[capacity << 1];
+		hashes = new int[capacity];
+		resizeThreshold = capacity - capacity / 3;
+	}
+
+	private static int spread(int hash) {
+		final int h = hash * 0x9E3779B9;
+		return h ^ ( h >>> 16 );
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key, key.hashCode() );
+		return index < 0 ? null : (V) table[( index << 1 ) + 1];
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key != null && indexOf( key, key.hashCode() ) >= 0;
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		final Object[] tab = table;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null && key != TOMBSTONE && Objects.equals( value, tab[i + 1] ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Looks up the value associated with the key matching the given components, without
+	 * requiring a key instance to be built.
+	 *
+	 * @param hash The hash code of the key being looked up: what its {@code hashCode()} would return
+	 * @param matcher Decides whether a stored key corresponds to the components
+	 * @param first The first component of the key being looked up
+	 * @param second The second component of the key being looked up
+	 *
+	 * @return The associated value, or {@code null}
+	 */
+	@SuppressWarnings("unchecked")
+	public <A,B> V get(int hash, KeyMatcher<? super K,A,B> matcher, A first, B second) {
+		final int index = indexOf( hash, matcher, first, second );
+		return index < 0 ? null : (V) table[( index << 1 ) + 1];
+	}
+
+	/**
+	 * Is there a key matching the given components?
+	 *
+	 * @see #get(int, KeyMatcher, Object, Object)
+	 */
+	public <A,B> boolean containsKey(int hash, KeyMatcher<? super K,A,B> matcher, A first, B second) {
+		return indexOf( hash, matcher, first, second ) >= 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A,B> int indexOf(int hash, KeyMatcher<? super K,A,B> matcher, A first, B second) {
+		final Object[] tab = table;
+		final int[] hs = hashes;
+		final int mask = hs.length - 1;
+		int index = spread( hash ) & mask;
+		while ( true ) {
+			final Object candidate = tab[index << 1];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( hs[index] == hash && candidate != TOMBSTONE && matcher.matches( (K) candidate, first, second ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	private int indexOf(Object key, int hash) {
+		final Object[] tab = table;
+		final int[] hs = hashes;
+		final int mask = hs.length - 1;
+		int index = spread( hash ) & mask;
+		while ( true ) {
+			final Object candidate = tab[index << 1];
+			if ( candidate == null ) {
+				return -1;
+			}
+			if ( hs[index] == hash && candidate != TOMBSTONE && ( candidate == key || candidate.equals( key ) ) ) {
+				return index;
+			}
+			index = ( index + 1 ) & mask;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value) {
+		if ( key == null ) {
+			throw new NullPointerException( "LinearProbingHashMap does not support null keys" );
+		}
+		final int hash = key.hashCode();
+		final Object[] tab = table;
+		final int[] hs = hashes;
+		final int mask = hs.length - 1;
+		int index = spread( hash ) & mask;
+		int firstTombstone = -1;
+		while ( true ) {
+			final Object candidate = tab[index << 1];
+			if ( candidate == null ) {
+				break;
+			}
+			if ( candidate == TOMBSTONE ) {
+				if ( firstTombstone < 0 ) {
+					firstTombstone = index;
+				}
+			}
+			else if ( hs[index] == hash && ( candidate == key || candidate.equals( key ) ) ) {
+				final V previous = (V) tab[( index << 1 ) + 1];
+				tab[( index << 1 ) + 1] = value;
+				return previous;
+			}
+			index = ( index + 1 ) & mask;
+		}
+
+		modCount++;
+		if ( firstTombstone >= 0 ) {
+			index = firstTombstone;
+			tombstones--;
+		}
+		else if ( size + tombstones >= resizeThreshold ) {
+			rehash( size + 1 );
+			index = freeIndex( hash );
+		}
+		table[index << 1] = key;
+		table[( index << 1 ) + 1] = value;
+		hashes[index] = hash;
+		size++;
+		return null;
+	}
+
+	private int freeIndex(int hash) {
+		final Object[] tab = table;
+		final int mask = hashes.length - 1;
+		int index = spread( hash ) & mask;
+		while ( tab[index << 1] != null ) {
+			index = ( index + 1 ) & mask;
+		}
+		return index;
+	}
+
+	private void rehash(int expectedSize) {
+		final Object[] oldTable = table;
+		final int[] oldHashes = hashes;
+		allocate( capacityFor( expectedSize ) );
+		tombstones = 0;
+		for ( int i = 0; i < oldHashes.length; i++ ) {
+			final Object key = oldTable[i << 1];
+			if ( key != null && key != TOMBSTONE ) {
+				final int index = freeIndex( oldHashes[i] );
+				table[index << 1] = key;
+				table[( index << 1 ) + 1] = oldTable[( i << 1 ) + 1];
+				hashes[index] = oldHashes[i];
+			}
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key) {
+		if ( key == null ) {
+			return null;
+		}
+		final int index = indexOf( key, key.hashCode() );
+		return index < 0 ? null : (V) removeAt( index );
+	}
+
+	private Object removeAt(int index) {
+		final Object[] tab = table;
+		final int mask = hashes.length - 1;
+		final Object previous = tab[( index << 1 ) + 1];
+		modCount++;
+		size--;
+		tab[( index << 1 ) + 1] = null;
+		hashes[index] = 0;
+		if ( tab[( ( index + 1 ) & mask ) << 1] == null ) {
+			// this slot terminates the probe sequence, so does any tombstone right before it
+			tab[index << 1] = null;
+			int previousIndex = ( index - 1 ) & mask;
+			while ( tab[previousIndex << 1] == TOMBSTONE ) {
+				tab[previousIndex << 1] = null;
+				tombstones--;
+				previousIndex = ( previousIndex - 1 ) & mask;
+			}
+		}
+		else {
+			tab[index << 1] = TOMBSTONE;
+			tombstones++;
+		}
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		if ( size > 0 || tombstones > 0 ) {
+			modCount++;
+			Arrays.fill( table, null );
+			Arrays.fill( hashes, 0 );
+			size = 0;
+			tombstones = 0;
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void forEach(BiConsumer<? super K, ? super V> action) {
+		final Object[] tab = table;
+		final int expectedModCount = modCount;
+		for ( int i = 0; i < tab.length; i += 2 ) {
+			final Object key = tab[i];
+			if ( key != null && key != TOMBSTONE ) {
+				action.accept( (K) key, (V) tab[i + 1] );
+			}
+		}
+		if ( expectedModCount != modCount ) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<K> keySet() {
+		return new AbstractSet<K>() {
+			@Override
+			public Iterator<K> iterator() {
+				return new SlotIterator<K>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					K element(int index) {
+						return (K) table[index << 1];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsKey( o );
+			}
+
+			@Override
+			public boolean remove(Object o) {
+				if ( o == null ) {
+					return false;
+				}
+				final int index = indexOf( o, o.hashCode() );
+				if ( index < 0 ) {
+					return false;
+				}
+				removeAt( index );
+				return true;
+			}
+
+			@Override
+			public void clear() {
+				LinearProbingHashMap.this.clear();
+			}
+		};
+	}
+
+	@Override
+	public Collection<V> values() {
+		return new AbstractCollection<V>() {
+			@Override
+			public Iterator<V> iterator() {
+				return new SlotIterator<V>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					V element(int index) {
+						return (V) table[( index << 1 ) + 1];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				return containsValue( o );
+			}
+
+			@Override
+			public void clear() {
+				LinearProbingHashMap.this.clear();
+			}
+		};
+	}
+
+	@Override
+	public Set<Map.Entry<K,V>> entrySet() {
+		return new AbstractSet<Map.Entry<K,V>>() {
+			@Override
+			public Iterator<Map.Entry<K,V>> iterator() {
+				return new SlotIterator<Map.Entry<K,V>>() {
+					@Override
+					Map.Entry<K,V> element(int index) {
+						return new SlotEntry( index );
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public boolean contains(Object o) {
+				if ( !( o instanceof Map.Entry ) ) {
+					return false;
+				}
+				final Map.Entry<?,?> entry = (Map.Entry<?,?>) o;
+				final Object key = entry.getKey();
+				if ( key == null ) {
+					return false;
+				}
+				final int index = indexOf( key, key.hashCode() );
+				return index >= 0 && Objects.equals( table[( index << 1 ) + 1], entry.getValue() );
+			}
+
+			@Override
+			public boolean remove(Object o) {
+				if ( !contains( o ) ) {
+					return false;
+				}
+				LinearProbingHashMap.this.remove( ( (Map.Entry<?,?>) o ).getKey() );
+				return true;
+			}
+
+			@Override
+			public void clear() {
+				LinearProbingHashMap.this.clear();
+			}
+		};
+	}
+
+	/**
+	 * Matches stored keys against a key expressed through its two components, see
+	 * {@link #get(int, KeyMatcher, Object, Object)}.
+	 *
+	 * @param <K> The key type
+	 * @param <A> The type of the first component
+	 * @param <B> The type of the second component
+	 */
+	@FunctionalInterface
+	public interface KeyMatcher<K,A,B> {
+		boolean matches(K key, A first, B second);
+	}
+
+	private abstract class SlotIterator<E> implements Iterator<E> {
+		private final Object[] tab = table;
+		private int nextIndex;
+		private int currentIndex = -1;
+		private int expectedModCount = modCount;
+
+		SlotIterator() {
+			advance();
+		}
+
+		abstract E element(int index);
+
+		private void advance() {
+			final int capacity = tab.length >> 1;
+			while ( nextIndex < capacity ) {
+				final Object key = tab[nextIndex << 1];
+				if ( key != null && key != TOMBSTONE ) {
+					return;
+				}
+				nextIndex++;
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < ( tab.length >> 1 );
+		}
+
+		@Override
+		public E next() {
+			if ( expectedModCount != modCount ) {
+				throw new ConcurrentModificationException();
+			}
+			if ( !hasNext() ) {
+				throw new NoSuchElementException();
+			}
+			currentIndex = nextIndex++;
+			final E element = element( currentIndex );
+			advance();
+			return element;
+		}
+
+		@Override
+		public void remove() {
+			if ( currentIndex < 0 ) {
+				throw new IllegalStateException();
+			}
+			if ( expectedModCount != modCount ) {
+				throw new ConcurrentModificationException();
+			}
+			removeAt( currentIndex );
+			currentIndex = -1;
+			expectedModCount = modCount;
+		}
+	}
+
+	private final class SlotEntry implements Map.Entry<K,V> {
+		private final int index;
+		private final K key;
+		private V value;
+
+		@SuppressWarnings("unchecked")
+		SlotEntry(int index) {
+			this.index = index;
+			this.key = (K) table[index << 1];
+			this.value = (V) table[( index << 1 ) + 1];
+		}
+
+		@Override
+		public K getKey() {
+			return key;
+		}
+
+		@Override
+		public V getValue() {
+			return value;
+		}
+
+		@Override
+		public V setValue(V value) {
+			final V previous = this.value;
+			this.value = value;
+			if ( table[index << 1] == key ) {
+				table[( index << 1 ) + 1] = value;
+			}
+			else {
+				put( key, value );
+			}
+			return previous;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if ( !( o instanceof Map.Entry ) ) {
+				return false;
+			}
+			final Map.Entry<?,?> other = (Map.Entry<?,?>) o;
+			return key.equals( other.getKey() ) && Objects.equals( value, other.getValue() );
+		}
+
+		@Override
+		public int hashCode() {
+			return key.hashCode() ^ Objects.hashCode( value );
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + value;
+		}
+	}
+}
@@ -39,7 +39,16 @@ public enum BatchFetchStyle {
 	 * Dynamically builds its SQL based on the actual number of available ids.  Does still limit to the batch-size
 	 * defined on the entity/collection
 	 */
-	DYNAMIC;
+	DYNAMIC,
+	/**
+	 * Builds a single SQL statement per entity/collection, binding the whole batch of ids as a single
+	 * {@link java.sql.Array} parameter, so that the SQL and its prepared statement are the same whatever the number
+	 * of ids to load.  Still limits to the batch-size defined on the entity/collection.
+	 * <p/>
+	 * Requires a Dialect supporting {@link org.hibernate.dialect.Dialect#supportsArrayInListBinding() array in lists},
+	 * and single-column ids of a basic type with a plain JDBC representation; otherwise falls back to {@link #DYNAMIC}.
+	 */
+	ARRAY;
 
 	private static final Logger log = Logger.getLogger( BatchFetchStyle.class );
 
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
@@ -33,8 +34,10 @@ import org.hibernate.StaleObjectStateException;
 import org.hibernate.WrongClassException;
 import org.hibernate.bytecode.enhance.spi.interceptor.EnhancementAsProxyLazinessInterceptor;
 import org.hibernate.cache.spi.FilterKey;
+import org.hibernate.cache.spi.QueryCacheTagResolver;
 import org.hibernate.cache.spi.QueryKey;
 import org.hibernate.cache.spi.QueryResultsCache;
+import org.hibernate.cache.spi.QuerySpacesHelper;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
@@ -44,6 +47,7 @@ import org.hibernate.dialect.pagination.LimitHandler;
 import org.hibernate.dialect.pagination.LimitHelper;
 import org.hibernate.dialect.pagination.NoopLimitHandler;
 import org.hibernate.engine.internal.CacheHelper;
+import org.hibernate.engine.internal.EntityCachePuts;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.jdbc.ColumnNameCache;
 import org.hibernate.engine.jdbc.spi.JdbcCoordinator;
@@ -82,6 +86,7 @@ import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.collection.CollectionPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.persister.entity.Loadable;
+import org.hibernate.persister.entity.PrimitivePropertyReader;
 import org.hibernate.persister.entity.UniqueKeyLoadable;
 import org.hibernate.pretty.MessageHelper;
 import org.hibernate.proxy.HibernateProxy;
@@ -117,6 +122,7 @@ public abstract class Loader {
 
 	private final SessionFactoryImplementor factory;
 	private volatile ColumnNameCache columnNameCache;
+	private volatile AtomicReferenceArray<PrimitivePropertyReader> primitivePropertyReaders;
 
 	private final boolean referenceCachingEnabled;
 	private final boolean enhancementAsProxyEnabled;
@@ -1175,8 +1181,13 @@ public abstract class Loader {
 					.getEventListenerGroup( EventType.PRE_LOAD )
 					.listeners();
 
+				// the cache entries of several entities are put together, once all are initialized
+				final EntityCachePuts cachePuts = hydratedObjectsSize > 1 ? new EntityCachePuts() : null;
 				for ( Object hydratedObject : hydratedObjects ) {
-					TwoPhaseLoad.initializeEntity( hydratedObject, readOnly, session, pre, listeners );
+					TwoPhaseLoad.initializeEntity( hydratedObject, readOnly, session, pre, listeners, cachePuts );
+				}
+				if ( cachePuts != null ) {
+					cachePuts.putAll( session );
 				}
 
 			}
@@ -1870,6 +1881,7 @@ public abstract class Loader {
 				rootPersister,
 				cols,
 				fetchAllPropertiesRequested,
+				persister == rootPersister ? getPrimitivePropertyReader( i, persister, cols, session ) : null,
 				session
 		);
 
@@ -2364,6 +2376,29 @@ public abstract class Loader {
 		}
 	}
 
+	/**
+	 * The reader of the properties of primitive types of the i-th entity of the rows, built when first needed and
+	 * then kept with the positions of its columns, as the column name cache is.
+	 */
+	private PrimitivePropertyReader getPrimitivePropertyReader(
+			int i,
+			Loadable persister,
+			String[][] suffixedPropertyColumns,
+			SharedSessionContractImplementor session) {
+		AtomicReferenceArray<PrimitivePropertyReader> readers = primitivePropertyReaders;
+		if ( readers == null ) {
+			//there is no need for synchronization: at worst, some readers will be built twice
+			readers = new AtomicReferenceArray<>( getEntityPersisters().length );
+			primitivePropertyReaders = readers;
+		}
+		PrimitivePropertyReader reader = readers.get( i );
+		if ( reader == null ) {
+			reader = PrimitivePropertyReader.build( persister, suffixedPropertyColumns, session );
+			readers.set( i, reader );
+		}
+		return reader.isEnabled() ? reader : null;
+	}
+
 	private ColumnNameCache retrieveColumnNameToIndexCache(final ResultSet rs) throws SQLException {
 		final ColumnNameCache cache = columnNameCache;
 		if ( cache == null ) {
@@ -2763,7 +2798,7 @@ public abstract class Loader {
 			try {
 				result = queryCache.get(
 						key,
-						querySpaces,
+						resolveTimestampSpaces( session, queryParameters, querySpaces ),
 						key.getResultTransformer().getCachedResultTypes( resultTypes ),
 						session
 				);
@@ -2786,6 +2821,28 @@ public abstract class Loader {
 		return result;
 	}
 
+	/**
+	 * The timestamps keys the cached results are checked against: the query spaces, or when query cache tags are
+	 * resolved and the query has some, the tagged and the untagged spaces
+	 */
+	private Set<Serializable> resolveTimestampSpaces(
+			SharedSessionContractImplementor session,
+			QueryParameters queryParameters,
+			Set<Serializable> querySpaces) {
+		final QueryCacheTagResolver tagResolver = factory.getSessionFactoryOptions().getQueryCacheTagResolver();
+		if ( tagResolver == null || querySpaces == null ) {
+			return querySpaces;
+		}
+		String[] tags = queryParameters.getCacheTags();
+		if ( tags == null ) {
+			tags = tagResolver.resolveQueryTags( session );
+		}
+		if ( tags == null || tags.length == 0 ) {
+			return querySpaces;
+		}
+		return QuerySpacesHelper.INSTANCE.toTaggedSpaces( querySpaces, tags );
+	}
+
 	private EntityPersister getEntityPersister(EntityType entityType) {
 		return factory.getMetamodel().entityPersister( entityType.getAssociatedEntityName() );
 	}
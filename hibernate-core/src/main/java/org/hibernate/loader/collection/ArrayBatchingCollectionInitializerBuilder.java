@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.collection;
+
+import java.io.Serializable;
+import java.sql.SQLException;
+
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.loader.JoinWalker;
+import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.query.internal.ArrayInListParameterType;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.Type;
+
+/**
+ * A BatchingCollectionInitializerBuilder that builds CollectionInitializer instances binding the collection keys
+ * waiting to be fetched as a single array parameter of a fixed SQL statement.  Falls back to
+ * {@link DynamicBatchingCollectionInitializerBuilder} for the collection keys which cannot be bound as an array.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ARRAY
+ */
+public class ArrayBatchingCollectionInitializerBuilder extends BatchingCollectionInitializerBuilder {
+	public static final ArrayBatchingCollectionInitializerBuilder INSTANCE = new ArrayBatchingCollectionInitializerBuilder();
+
+	@Override
+	protected CollectionInitializer createRealBatchingCollectionInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		final String elementTypeName = ArrayInListParameterType.resolveElementTypeName( persister.getKeyType(), factory );
+		if ( elementTypeName == null ) {
+			return DynamicBatchingCollectionInitializerBuilder.INSTANCE.createRealBatchingCollectionInitializer(
+					persister,
+					maxBatchSize,
+					factory,
+					influencers
+			);
+		}
+		return new ArrayBatchingCollectionInitializer( persister, maxBatchSize, elementTypeName, factory, influencers );
+	}
+
+	@Override
+	protected CollectionInitializer createRealBatchingOneToManyInitializer(
+			QueryableCollection persister,
+			int maxBatchSize,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		final String elementTypeName = ArrayInListParameterType.resolveElementTypeName( persister.getKeyType(), factory );
+		if ( elementTypeName == null ) {
+			return DynamicBatchingCollectionInitializerBuilder.INSTANCE.createRealBatchingOneToManyInitializer(
+					persister,
+					maxBatchSize,
+					factory,
+					influencers
+			);
+		}
+		return new ArrayBatchingCollectionInitializer( persister, maxBatchSize, elementTypeName, factory, influencers );
+	}
+
+	public static class ArrayBatchingCollectionInitializer extends BatchingCollectionInitializer {
+		private final int maxBatchSize;
+		private final ArrayBatchingCollectionLoader batchLoader;
+
+		public ArrayBatchingCollectionInitializer(
+				QueryableCollection collectionPersister,
+				int maxBatchSize,
+				String elementTypeName,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers influencers) {
+			super( collectionPersister );
+			this.maxBatchSize = maxBatchSize;
+			this.batchLoader = new ArrayBatchingCollectionLoader( collectionPersister, elementTypeName, factory, influencers );
+		}
+
+		@Override
+		public void initialize(Serializable id, SharedSessionContractImplementor session) throws HibernateException {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getCollectionBatch( collectionPersister(), id, maxBatchSize );
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+
+			// a single key is loaded by the same statement, as a single element array
+			final Serializable[] idsToLoad = new Serializable[numberOfIds];
+			System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+
+			batchLoader.doBatchedCollectionLoad( session, idsToLoad );
+		}
+	}
+
+	private static class ArrayBatchingCollectionLoader extends CollectionLoader {
+		private final Type arrayType;
+
+		public ArrayBatchingCollectionLoader(
+				QueryableCollection collectionPersister,
+				String elementTypeName,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers influencers) {
+			super( collectionPersister, factory, influencers );
+			this.arrayType = new CustomType( new ArrayInListParameterType( elementTypeName ) );
+
+			final String arrayExpression = factory.getJdbcServices().getDialect().getArrayInListExpression( "?", elementTypeName );
+			JoinWalker walker = buildJoinWalker( collectionPersister, arrayExpression, factory, influencers );
+			initFromWalker( walker );
+			postInstantiate();
+
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Static select for array collection [%s] batch-fetching : %s",
+						collectionPersister.getRole(),
+						getSQLString()
+				);
+			}
+		}
+
+		private JoinWalker buildJoinWalker(
+				QueryableCollection collectionPersister,
+				String arrayExpression,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers influencers) {
+
+			if ( collectionPersister.isOneToMany() ) {
+				return new OneToManyJoinWalker( collectionPersister, -1, null, factory, influencers ) {
+					@Override
+					protected StringBuilder whereString(String alias, String[] columnNames, String subselect, int batchSize) {
+						if ( subselect != null ) {
+							return super.whereString( alias, columnNames, subselect, batchSize );
+						}
+
+						return buildArrayRestrictionFragment( alias, columnNames, arrayExpression );
+					}
+				};
+			}
+			else {
+				return new BasicCollectionJoinWalker( collectionPersister, -1, null, factory, influencers ) {
+					@Override
+					protected StringBuilder whereString(String alias, String[] columnNames, String subselect, int batchSize) {
+						if ( subselect != null ) {
+							return super.whereString( alias, columnNames, subselect, batchSize );
+						}
+
+						return buildArrayRestrictionFragment( alias, columnNames, arrayExpression );
+					}
+				};
+			}
+		}
+
+		private static StringBuilder buildArrayRestrictionFragment(
+				String alias,
+				String[] columnNames,
+				String arrayExpression) {
+			return new StringBuilder( StringHelper.qualify( alias, columnNames[0] ) )
+					.append( " in (" )
+					.append( arrayExpression )
+					.append( ')' );
+		}
+
+		public final void doBatchedCollectionLoad(
+				final SharedSessionContractImplementor session,
+				final Serializable[] ids) throws HibernateException {
+
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Batch loading collection: %s",
+						MessageHelper.collectionInfoString( getCollectionPersisters()[0], ids, getFactory() )
+				);
+			}
+
+			final QueryParameters queryParameters = new QueryParameters(
+					new Type[] { arrayType },
+					new Object[] { ids },
+					ids
+			);
+
+			try {
+				doQueryAndInitializeNonLazyCollections( session, queryParameters, true );
+			}
+			catch ( SQLException e ) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						e,
+						"could not initialize a collection batch: " +
+								MessageHelper.collectionInfoString( collectionPersister(), ids, getFactory() ),
+						getSQLString()
+				);
+			}
+
+			LOG.debug( "Done batch load" );
+		}
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.loader.entity;
+
+import java.io.Serializable;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.QueryParameters;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.StringHelper;
+import org.hibernate.internal.util.collections.ArrayHelper;
+import org.hibernate.persister.entity.OuterJoinLoadable;
+import org.hibernate.pretty.MessageHelper;
+import org.hibernate.query.internal.ArrayInListParameterType;
+import org.hibernate.type.CustomType;
+import org.hibernate.type.Type;
+
+/**
+ * A BatchingEntityLoaderBuilder that builds UniqueEntityLoader instances binding the entity ids waiting to be
+ * fetched as a single array parameter of a fixed SQL statement.  Falls back to
+ * {@link DynamicBatchingEntityLoaderBuilder} for the ids which cannot be bound as an array.
+ *
+ * @see org.hibernate.loader.BatchFetchStyle#ARRAY
+ */
+public class ArrayBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
+	public static final ArrayBatchingEntityLoaderBuilder INSTANCE = new ArrayBatchingEntityLoaderBuilder();
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockMode lockMode,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		final String elementTypeName = ArrayInListParameterType.resolveElementTypeName( persister.getIdentifierType(), factory );
+		if ( elementTypeName == null ) {
+			return DynamicBatchingEntityLoaderBuilder.INSTANCE.buildBatchingLoader(
+					persister,
+					batchSize,
+					lockMode,
+					factory,
+					influencers
+			);
+		}
+		return new ArrayBatchingEntityLoader(
+				persister,
+				batchSize,
+				new ArrayEntityLoader( persister, elementTypeName, lockMode, factory, influencers )
+		);
+	}
+
+	@Override
+	protected UniqueEntityLoader buildBatchingLoader(
+			OuterJoinLoadable persister,
+			int batchSize,
+			LockOptions lockOptions,
+			SessionFactoryImplementor factory,
+			LoadQueryInfluencers influencers) {
+		final String elementTypeName = ArrayInListParameterType.resolveElementTypeName( persister.getIdentifierType(), factory );
+		if ( elementTypeName == null ) {
+			return DynamicBatchingEntityLoaderBuilder.INSTANCE.buildBatchingLoader(
+					persister,
+					batchSize,
+					lockOptions,
+					factory,
+					influencers
+			);
+		}
+		return new ArrayBatchingEntityLoader(
+				persister,
+				batchSize,
+				new ArrayEntityLoader( persister, elementTypeName, lockOptions, factory, influencers )
+		);
+	}
+
+	public static class ArrayBatchingEntityLoader extends BatchingEntityLoader {
+		private final int maxBatchSize;
+		private final ArrayEntityLoader arrayLoader;
+
+		private ArrayBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				ArrayEntityLoader arrayLoader) {
+			super( persister );
+			this.maxBatchSize = maxBatchSize;
+			this.arrayLoader = arrayLoader;
+		}
+
+		@Override
+		public Object load(
+				Serializable id,
+				Object optionalObject,
+				SharedSessionContractImplementor session,
+				LockOptions lockOptions) {
+			return load( id, optionalObject, session, lockOptions, null );
+		}
+
+		@Override
+		public Object load(
+				Serializable id,
+				Object optionalObject,
+				SharedSessionContractImplementor session,
+				LockOptions lockOptions,
+				Boolean readOnly) {
+			final Serializable[] batch = session.getPersistenceContextInternal()
+					.getBatchFetchQueue()
+					.getEntityBatch( persister(), id, maxBatchSize, persister().getEntityMode() );
+
+			// a single id is loaded by the same statement, as a single element array
+			final int numberOfIds = ArrayHelper.countNonNull( batch );
+			final Serializable[] idsToLoad = new Serializable[numberOfIds];
+			System.arraycopy( batch, 0, idsToLoad, 0, numberOfIds );
+
+			return doBatchLoad( id, arrayLoader, session, idsToLoad, optionalObject, lockOptions, readOnly );
+		}
+
+		@Override
+		protected QueryParameters buildQueryParameters(
+				Serializable id,
+				Serializable[] ids,
+				Object optionalObject,
+				LockOptions lockOptions,
+				Boolean readOnly) {
+			final QueryParameters qp = super.buildQueryParameters( id, ids, optionalObject, lockOptions, readOnly );
+			qp.setPositionalParameterTypes( new Type[] { arrayLoader.getArrayType() } );
+			qp.setPositionalParameterValues( new Object[] { ids } );
+			return qp;
+		}
+	}
+
+	static class ArrayEntityLoader extends EntityLoader {
+		private final Type arrayType;
+
+		public ArrayEntityLoader(
+				OuterJoinLoadable persister,
+				String elementTypeName,
+				LockMode lockMode,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister, -1, lockMode, factory, loadQueryInfluencers );
+			this.arrayType = new CustomType( new ArrayInListParameterType( elementTypeName ) );
+
+			final String arrayExpression = factory.getJdbcServices().getDialect().getArrayInListExpression( "?", elementTypeName );
+			EntityJoinWalker walker = new EntityJoinWalker(
+					persister,
+					persister.getIdentifierColumnNames(),
+					-1,
+					lockMode,
+					factory,
+					loadQueryInfluencers) {
+				@Override
+				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					return buildArrayRestrictionFragment( alias, columnNames, arrayExpression );
+				}
+			};
+			initFromWalker( walker );
+			postInstantiate();
+
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf( "Static select for array entity [%s] batch-fetching [%s] : %s", entityName, lockMode, getSQLString() );
+			}
+		}
+
+		public ArrayEntityLoader(
+				OuterJoinLoadable persister,
+				String elementTypeName,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			super( persister, -1, lockOptions, factory, loadQueryInfluencers );
+			this.arrayType = new CustomType( new ArrayInListParameterType( elementTypeName ) );
+
+			final String arrayExpression = factory.getJdbcServices().getDialect().getArrayInListExpression( "?", elementTypeName );
+			EntityJoinWalker walker = new EntityJoinWalker(
+					persister,
+					persister.getIdentifierColumnNames(),
+					-1,
+					lockOptions,
+					factory,
+					loadQueryInfluencers) {
+				@Override
+				protected StringBuilder whereString(String alias, String[] columnNames, int batchSize) {
+					return buildArrayRestrictionFragment( alias, columnNames, arrayExpression );
+				}
+			};
+			initFromWalker( walker );
+			postInstantiate();
+
+			if ( LOG.isDebugEnabled() ) {
+				LOG.debugf(
+						"Static select for array entity [%s] batch-fetching [%s] : %s",
+						entityName,
+						lockOptions.getLockMode(),
+						getSQLString()
+				);
+			}
+		}
+
+		private static StringBuilder buildArrayRestrictionFragment(
+				String alias,
+				String[] columnNames,
+				String arrayExpression) {
+			return new StringBuilder( StringHelper.qualify( alias, columnNames[0] ) )
+					.append( " in (" )
+					.append( arrayExpression )
+					.append( ')' );
+		}
+
+		@Override
+		protected boolean isSingleRowLoader() {
+			return false;
+		}
+
+		@Override
+		protected boolean isSubselectLoadingEnabled() {
+			return persister.hasSubselectLoadableCollections();
+		}
+
+		Type getArrayType() {
+			return arrayType;
+		}
+
+		/**
+		 * Loads the entities of the given ids, as done by multi-load
+		 */
+		List doEntityBatchFetch(SharedSessionContractImplementor session, Serializable[] ids, LockOptions lockOptions) {
+			final QueryParameters qp = DynamicBatchingEntityLoaderBuilder.buildMultiLoadQueryParameters(
+					persister,
+					ids,
+					lockOptions
+			);
+			qp.setPositionalParameterTypes( new Type[] { arrayType } );
+			qp.setPositionalParameterValues( new Object[] { ids } );
+
+			try {
+				return doQueryAndInitializeNonLazyCollections( session, qp, false );
+			}
+			catch ( SQLException sqle ) {
+				throw session.getJdbcServices().getSqlExceptionHelper().convert(
+						sqle,
+						"could not load an entity batch: " + MessageHelper.infoString( persister, ids, session.getFactory() ),
+						getSQLString()
+				);
+			}
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -25,6 +27,7 @@ import org.hibernate.engine.spi.ManagedEntity;
 import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.Status;
 import org.hibernate.event.internal.AbstractLockUpgradeEventListener;
 import org.hibernate.event.service.spi.EventListenerRegistry;
@@ -150,6 +153,73 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		return processCachedEntry( event, persister, ce, source, entityKey );
 	}
 
+	/**
+	 * Attempts to load several entities from the second-level cache, retrieving their cache entries at once
+	 * rather than one at a time.
+	 *
+	 * @param events The load events, all for the same session and lock mode
+	 * @param persister The persister for the entities being requested for load
+	 * @param entityKeys The keys of the entities, in the order of {@code events}
+	 *
+	 * @return The entities from the second-level cache in the order of {@code events}, {@code null} for the
+	 * entities which were not found.
+	 */
+	public Object[] loadFromSecondLevelCache(
+			final LoadEvent[] events,
+			final EntityPersister persister,
+			final EntityKey[] entityKeys) {
+
+		final Object[] entities = new Object[events.length];
+		if ( events.length == 0 ) {
+			return entities;
+		}
+
+		final SessionImplementor source = events[0].getSession();
+		final boolean useCache = persister.canReadFromCache()
+				&& source.getCacheMode().isGetEnabled()
+				&& events[0].getLockMode().lessThan( LockMode.READ );
+
+		if ( !useCache ) {
+			// we can't use cache here
+			return entities;
+		}
+
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final SessionFactoryImplementor factory = source.getFactory();
+		final Object[] cacheKeys = new Object[events.length];
+		for ( int i = 0; i < events.length; i++ ) {
+			cacheKeys[i] = cache.generateCacheKey(
+					events[i].getEntityId(),
+					persister,
+					factory,
+					source.getTenantIdentifier()
+			);
+		}
+
+		final Map<Object, Object> cachedEntries = CacheHelper.fromSharedCache( source, Arrays.asList( cacheKeys ), cache );
+		final StatisticsImplementor statistics = factory.getStatistics();
+		for ( int i = 0; i < events.length; i++ ) {
+			final Object ce = cachedEntries.get( cacheKeys[i] );
+			if ( statistics.isStatisticsEnabled() ) {
+				if ( ce == null ) {
+					statistics.entityCacheMiss(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+				else {
+					statistics.entityCacheHit(
+							StatsHelper.INSTANCE.getRootEntityRole( persister ),
+							cache.getRegion().getName()
+					);
+				}
+			}
+			if ( ce != null ) {
+				entities[i] = processCachedEntry( events[i], persister, ce, source, entityKeys[i] );
+			}
+		}
+		return entities;
+	}
 
 	private Object processCachedEntry(
 			final LoadEvent event,
@@ -159,6 +229,11 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 			final EntityKey entityKey) {
 
 		CacheEntry entry = (CacheEntry) persister.getCacheEntryStructure().destructure( ce, source.getFactory() );
+		if ( entry == null ) {
+			// written with a different mapping of the entity: a miss
+			evictUnreadableEntry( event.getEntityId(), persister, source );
+			return null;
+		}
 		if ( entry.isReferenceEntry() ) {
 			if ( event.getInstanceToLoad() != null ) {
 				throw new HibernateException(
@@ -188,6 +263,18 @@ public class CacheEntityLoaderHelper extends AbstractLockUpgradeEventListener {
 		}
 	}
 
+	/**
+	 * Evict a cache entry which could not be read, so that the entity is cached again once loaded.
+	 */
+	public static void evictUnreadableEntry(
+			Serializable id,
+			EntityPersister persister,
+			SharedSessionContractImplementor session) {
+		final EntityDataAccess cache = persister.getCacheAccessStrategy();
+		final Object ck = cache.generateCacheKey( id, persister, session.getFactory(), session.getTenantIdentifier() );
+		cache.evict( ck );
+	}
+
 	private Object getFromSharedCache(
 			final LoadEvent event,
 			final EntityPersister persister,
@@ -7,13 +7,15 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
-import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -36,10 +38,12 @@ import org.hibernate.event.spi.LoadEventListener;
 import org.hibernate.internal.util.StringHelper;
 import org.hibernate.internal.util.collections.ArrayHelper;
 import org.hibernate.internal.util.collections.CollectionHelper;
+import org.hibernate.loader.BatchFetchStyle;
 import org.hibernate.loader.spi.AfterLoadAction;
 import org.hibernate.persister.entity.MultiLoadOptions;
 import org.hibernate.persister.entity.OuterJoinLoadable;
 import org.hibernate.pretty.MessageHelper;
+import org.hibernate.query.internal.ArrayInListParameterType;
 import org.hibernate.type.Type;
 
 import org.jboss.logging.Logger;
@@ -76,133 +80,37 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			MultiLoadOptions loadOptions) {
 		assert loadOptions.isOrderReturnEnabled();
 
-		final List result = CollectionHelper.arrayList( ids.length );
-
 		final LockOptions lockOptions = (loadOptions.getLockOptions() == null)
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
-		final int maxBatchSize;
-		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
-			maxBatchSize = loadOptions.getBatchSize();
-		}
-		else {
-			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
-					ids.length
-			);
-		}
-
-		final List<Serializable> idsInBatch = new ArrayList<>();
-		final List<Integer> elementPositionsLoadedByBatch = new ArrayList<>();
-
-		for ( int i = 0; i < ids.length; i++ ) {
-			final Serializable id = ids[i];
-			final EntityKey entityKey = new EntityKey( id, persister );
-
-			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-				LoadEvent loadEvent = new LoadEvent(
-						id,
-						persister.getMappedClass().getName(),
-						lockOptions,
-						(EventSource) session,
-						null
-				);
-
-				Object managedEntity = null;
+		final Object[] resolved = resolveManagedAndCachedEntities( persister, ids, session, loadOptions, lockOptions );
+		loadUnresolvedEntities( persister, resolved, session, loadOptions, lockOptions );
 
-				if ( loadOptions.isSessionCheckingEnabled() ) {
-					// look for it in the Session first
-					CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
-							.loadFromSessionCache(
-									loadEvent,
-									entityKey,
-									LoadEventListener.GET
-							);
-					managedEntity = persistenceContextEntry.getEntity();
-
-					if ( managedEntity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry
-							.isManaged() ) {
-						// put a null in the result
-						result.add( i, null );
-						continue;
+		final List result = CollectionHelper.arrayList( ids.length );
+		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		for ( Object element : resolved ) {
+			if ( element instanceof EntityKey ) {
+				// the entity was loaded by the batches, under this EntityKey
+				Object entity = persistenceContext.getEntity( (EntityKey) element );
+				if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
+					// make sure it is not DELETED
+					final EntityEntry entry = persistenceContext.getEntry( entity );
+					if ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) {
+						// the entity is locally deleted, and the options ask that we not return such entities...
+						entity = null;
 					}
 				}
-
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					// look for it in the SessionFactory
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
-				}
-
-				if ( managedEntity != null ) {
-					result.add( i, managedEntity );
-					continue;
-				}
-			}
-
-			// if we did not hit any of the continues above, then we need to batch
-			// load the entity state.
-			idsInBatch.add( ids[i] );
-
-			if ( idsInBatch.size() >= maxBatchSize ) {
-				performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
+				result.add( entity );
 			}
-
-			// Save the EntityKey instance for use later!
-			result.add( i, entityKey );
-			elementPositionsLoadedByBatch.add( i );
-		}
-
-		if ( !idsInBatch.isEmpty() ) {
-			performOrderedBatchLoad( idsInBatch, lockOptions, persister, session );
-		}
-
-		final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
-		for ( Integer position : elementPositionsLoadedByBatch ) {
-			// the element value at this position in the result List should be
-			// the EntityKey for that entity; reuse it!
-			final EntityKey entityKey = (EntityKey) result.get( position );
-			Object entity = persistenceContext.getEntity( entityKey );
-			if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() ) {
-				// make sure it is not DELETED
-				final EntityEntry entry = persistenceContext.getEntry( entity );
-				if ( entry.getStatus() == Status.DELETED || entry.getStatus() == Status.GONE ) {
-					// the entity is locally deleted, and the options ask that we not return such entities...
-					entity = null;
-				}
+			else {
+				result.add( element );
 			}
-			result.set( position, entity );
 		}
 
 		return result;
 	}
 
-	private void performOrderedBatchLoad(
-			List<Serializable> idsInBatch,
-			LockOptions lockOptions,
-			OuterJoinLoadable persister,
-			SharedSessionContractImplementor session) {
-		final int batchSize =  idsInBatch.size();
-		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
-				persister,
-				batchSize,
-				lockOptions,
-				session.getFactory(),
-				session.getLoadQueryInfluencers()
-		);
-
-		final Serializable[] idsInBatchArray = idsInBatch.toArray( new Serializable[ idsInBatch.size() ] );
-
-		QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatchArray, lockOptions );
-		batchingLoader.doEntityBatchFetch( session, qp, idsInBatchArray );
-
-		idsInBatch.clear();
-	}
-
 	@SuppressWarnings("unchecked")
 	protected List performUnorderedMultiLoad(
 			OuterJoinLoadable persister,
@@ -211,33 +119,55 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			MultiLoadOptions loadOptions) {
 		assert !loadOptions.isOrderReturnEnabled();
 
-		final List result = CollectionHelper.arrayList( ids.length );
-
 		final LockOptions lockOptions = (loadOptions.getLockOptions() == null)
 				? new LockOptions( LockMode.NONE )
 				: loadOptions.getLockOptions();
 
-		if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-			// the user requested that we exclude ids corresponding to already managed
-			// entities from the generated load SQL.  So here we will iterate all
-			// incoming id values and see whether it corresponds to an existing
-			// entity associated with the PC - if it does we add it to the result
-			// list immediately and remove its id from the group of ids to load.
-			boolean foundAnyManagedEntities = false;
-			final List<Serializable> nonManagedIds = new ArrayList<Serializable>();
-			for ( Serializable id : ids ) {
-				final EntityKey entityKey = new EntityKey( id, persister );
-
-				LoadEvent loadEvent = new LoadEvent(
-						id,
-						persister.getMappedClass().getName(),
-						lockOptions,
-						(EventSource) session,
-						null
-				);
+		final Object[] resolved = resolveManagedAndCachedEntities( persister, ids, session, loadOptions, lockOptions );
+
+		final List result = CollectionHelper.arrayList( ids.length );
+		for ( Object element : resolved ) {
+			if ( !( element instanceof EntityKey ) ) {
+				result.add( element );
+			}
+		}
+		result.addAll( loadUnresolvedEntities( persister, resolved, session, loadOptions, lockOptions ) );
+		return result;
+	}
+
+	/**
+	 * Classifies all the ids in one pass, resolving the entities already associated with the session and then the
+	 * ones held by the second-level cache, all at once.
+	 *
+	 * @return For each id, the resolved entity, {@code null} for an entity deleted in the session and not to be
+	 * returned, or the EntityKey of an entity left to be loaded
+	 */
+	private Object[] resolveManagedAndCachedEntities(
+			OuterJoinLoadable persister,
+			Serializable[] ids,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions,
+			LockOptions lockOptions) {
+		final Object[] resolved = new Object[ids.length];
+		final List<Integer> unresolvedPositions = new ArrayList<>();
+		final List<LoadEvent> unresolvedLoadEvents = new ArrayList<>();
+		for ( int i = 0; i < ids.length; i++ ) {
+			final EntityKey entityKey = new EntityKey( ids[i], persister );
+			resolved[i] = entityKey;
 
-				Object managedEntity = null;
+			if ( !loadOptions.isSessionCheckingEnabled() && !loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				continue;
+			}
 
+			final LoadEvent loadEvent = new LoadEvent(
+					ids[i],
+					persister.getMappedClass().getName(),
+					lockOptions,
+					(EventSource) session,
+					null
+			);
+
+			if ( loadOptions.isSessionCheckingEnabled() ) {
 				// look for it in the Session first
 				CacheEntityLoaderHelper.PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
 						.loadFromSessionCache(
@@ -245,85 +175,130 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 								entityKey,
 								LoadEventListener.GET
 						);
-				if ( loadOptions.isSessionCheckingEnabled() ) {
-					managedEntity = persistenceContextEntry.getEntity();
-
-					if ( managedEntity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry
-							.isManaged() ) {
-						foundAnyManagedEntities = true;
-						result.add( null );
-						continue;
+				final Object managedEntity = persistenceContextEntry.getEntity();
+				if ( managedEntity != null ) {
+					if ( !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry.isManaged() ) {
+						// put a null in the result
+						resolved[i] = null;
 					}
+					else {
+						resolved[i] = managedEntity;
+					}
+					continue;
 				}
+			}
 
-				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
-					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
-							loadEvent,
-							persister,
-							entityKey
-					);
-				}
+			unresolvedPositions.add( i );
+			unresolvedLoadEvents.add( loadEvent );
+		}
 
-				if ( managedEntity != null ) {
-					foundAnyManagedEntities = true;
-					result.add( managedEntity );
-				}
-				else {
-					nonManagedIds.add( id );
+		if ( loadOptions.isSecondLevelCacheCheckingEnabled() && !unresolvedPositions.isEmpty() ) {
+			// look for the remaining ones in the SessionFactory, all at once
+			final EntityKey[] entityKeys = new EntityKey[unresolvedPositions.size()];
+			for ( int i = 0; i < entityKeys.length; i++ ) {
+				entityKeys[i] = (EntityKey) resolved[unresolvedPositions.get( i )];
+			}
+			final Object[] cachedEntities = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache(
+					unresolvedLoadEvents.toArray( new LoadEvent[unresolvedLoadEvents.size()] ),
+					persister,
+					entityKeys
+			);
+			for ( int i = 0; i < cachedEntities.length; i++ ) {
+				if ( cachedEntities[i] != null ) {
+					resolved[unresolvedPositions.get( i )] = cachedEntities[i];
 				}
 			}
+		}
 
-			if ( foundAnyManagedEntities ) {
-				if ( nonManagedIds.isEmpty() ) {
-					// all of the given ids were already associated with the Session
-					return result;
-				}
-				else {
-					// over-write the ids to be loaded with the collection of
-					// just non-managed ones
-					ids = nonManagedIds.toArray(
-							(Serializable[]) Array.newInstance(
-									ids.getClass().getComponentType(),
-									nonManagedIds.size()
-							)
-					);
-				}
+		return resolved;
+	}
+
+	/**
+	 * Loads the entities left unresolved, each of them once, with a single array-bound query when the
+	 * {@link org.hibernate.loader.BatchFetchStyle#ARRAY} style applies to the entity, or else with batches all
+	 * padded to the same size so that they share a single SQL statement.
+	 *
+	 * @return The loaded entities
+	 */
+	@SuppressWarnings("unchecked")
+	private List loadUnresolvedEntities(
+			OuterJoinLoadable persister,
+			Object[] resolved,
+			SharedSessionContractImplementor session,
+			MultiLoadOptions loadOptions,
+			LockOptions lockOptions) {
+		final Set<EntityKey> unresolvedKeys = new LinkedHashSet<>();
+		for ( Object element : resolved ) {
+			if ( element instanceof EntityKey ) {
+				unresolvedKeys.add( (EntityKey) element );
 			}
 		}
+		if ( unresolvedKeys.isEmpty() ) {
+			return Collections.emptyList();
+		}
+
+		final Serializable[] ids = new Serializable[unresolvedKeys.size()];
+		int position = 0;
+		for ( EntityKey entityKey : unresolvedKeys ) {
+			ids[position++] = entityKey.getIdentifier();
+		}
+
+		final SessionFactoryImplementor factory = session.getFactory();
+		final String arrayElementTypeName = factory.getSessionFactoryOptions().getBatchFetchStyle() == BatchFetchStyle.ARRAY
+				? ArrayInListParameterType.resolveElementTypeName( persister.getIdentifierType(), factory )
+				: null;
 
-		int numberOfIdsLeft = ids.length;
 		final int maxBatchSize;
 		if ( loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0 ) {
 			maxBatchSize = loadOptions.getBatchSize();
 		}
+		else if ( arrayElementTypeName != null ) {
+			// a single parameter, whatever the number of ids
+			maxBatchSize = ids.length;
+		}
 		else {
 			maxBatchSize = session.getJdbcServices().getJdbcEnvironment().getDialect().getDefaultBatchLoadSizingStrategy().determineOptimalBatchLoadSize(
-					persister.getIdentifierType().getColumnSpan( session.getFactory() ),
-					numberOfIdsLeft
+					persister.getIdentifierType().getColumnSpan( factory ),
+					ids.length
 			);
 		}
 
-		int idPosition = 0;
-		while ( numberOfIdsLeft > 0 ) {
-			int batchSize =  Math.min( numberOfIdsLeft, maxBatchSize );
-			final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
+		if ( arrayElementTypeName != null ) {
+			final ArrayBatchingEntityLoaderBuilder.ArrayEntityLoader arrayLoader = new ArrayBatchingEntityLoaderBuilder.ArrayEntityLoader(
 					persister,
-					batchSize,
+					arrayElementTypeName,
 					lockOptions,
-					session.getFactory(),
+					factory,
 					session.getLoadQueryInfluencers()
 			);
+			final List result = new ArrayList( ids.length );
+			for ( int idPosition = 0; idPosition < ids.length; idPosition += maxBatchSize ) {
+				final Serializable[] idsInBatch = Arrays.copyOfRange( ids, idPosition, Math.min( ids.length, idPosition + maxBatchSize ) );
+				result.addAll( arrayLoader.doEntityBatchFetch( session, idsInBatch, lockOptions ) );
+			}
+			return result;
+		}
 
-			Serializable[] idsInBatch = new Serializable[batchSize];
-			System.arraycopy( ids, idPosition, idsInBatch, 0, batchSize );
+		// the SQL template does not depend on the number of ids
+		final DynamicEntityLoader batchingLoader = new DynamicEntityLoader(
+				persister,
+				maxBatchSize,
+				lockOptions,
+				factory,
+				session.getLoadQueryInfluencers()
+		);
+		final int batchSize = Math.min( ids.length, maxBatchSize );
+		final List result = new ArrayList( ids.length );
+		for ( int idPosition = 0; idPosition < ids.length; idPosition += batchSize ) {
+			final Serializable[] idsInBatch = new Serializable[batchSize];
+			final int numberOfIds = Math.min( ids.length - idPosition, batchSize );
+			System.arraycopy( ids, idPosition, idsInBatch, 0, numberOfIds );
+			// pad the last batch, repeating its last id, for all the batches to execute the same SQL
+			Arrays.fill( idsInBatch, numberOfIds, batchSize, ids[idPosition + numberOfIds - 1] );
 
 			QueryParameters qp = buildMultiLoadQueryParameters( persister, idsInBatch, lockOptions );
 			result.addAll( batchingLoader.doEntityBatchFetch( session, qp, idsInBatch ) );
-
-			numberOfIdsLeft = numberOfIdsLeft - batchSize;
-			idPosition += batchSize;
 		}
-
 		return result;
 	}
 
@@ -393,6 +368,11 @@ public class DynamicBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuil
 			this.dynamicLoader = new DynamicEntityLoader( persister, maxBatchSize, lockOptions, factory, loadQueryInfluencers );
 		}
 
+		@Override
+		public int getBuiltLoaderCount() {
+			return 2;
+		}
+
 		@Override
 		public Object load(
 				Serializable id,
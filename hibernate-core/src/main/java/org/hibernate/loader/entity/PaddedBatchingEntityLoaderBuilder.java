@@ -7,6 +7,7 @@
 package org.hibernate.loader.entity;
 
 import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.HibernateException;
 import org.hibernate.LockMode;
@@ -47,7 +48,11 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 
 	public static class PaddedBatchingEntityLoader extends BatchingEntityLoader {
 		private final int[] batchSizes;
-		private final Loader[] loaders;
+		private final AtomicReferenceArray<Loader> loaders;
+		private final LockMode lockMode;
+		private final LockOptions lockOptions;
+		private final SessionFactoryImplementor factory;
+		private final LoadQueryInfluencers loadQueryInfluencers;
 
 		public PaddedBatchingEntityLoader(
 				OuterJoinLoadable persister,
@@ -55,12 +60,32 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 				LockMode lockMode,
 				SessionFactoryImplementor factory,
 				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, lockMode, null, factory, loadQueryInfluencers );
+		}
+
+		public PaddedBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
+			this( persister, maxBatchSize, null, lockOptions, factory, loadQueryInfluencers );
+		}
+
+		private PaddedBatchingEntityLoader(
+				OuterJoinLoadable persister,
+				int maxBatchSize,
+				LockMode lockMode,
+				LockOptions lockOptions,
+				SessionFactoryImplementor factory,
+				LoadQueryInfluencers loadQueryInfluencers) {
 			super( persister );
 			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new Loader[ batchSizes.length ];
-			for ( int i = 0; i < batchSizes.length; i++ ) {
-				this.loaders[i] = new EntityLoader( persister, batchSizes[i], lockMode, factory, loadQueryInfluencers);
-			}
+			this.loaders = new AtomicReferenceArray<>( batchSizes.length );
+			this.lockMode = lockMode;
+			this.lockOptions = lockOptions == null ? null : lockOptions.makeCopy();
+			this.factory = factory;
+			this.loadQueryInfluencers = loadQueryInfluencers;
 			validate( maxBatchSize );
 		}
 
@@ -74,19 +99,33 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 			}
 		}
 
-		public PaddedBatchingEntityLoader(
-				OuterJoinLoadable persister,
-				int maxBatchSize,
-				LockOptions lockOptions,
-				SessionFactoryImplementor factory,
-				LoadQueryInfluencers loadQueryInfluencers) {
-			super( persister );
-			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new Loader[ batchSizes.length ];
+		/**
+		 * The loader of the given batch size, built on first use as most entities are only ever loaded with a few
+		 * of the batch sizes.
+		 */
+		private Loader getLoader(int index) {
+			Loader loader = loaders.get( index );
+			if ( loader == null ) {
+				final OuterJoinLoadable persister = (OuterJoinLoadable) persister();
+				loader = lockOptions == null
+						? new EntityLoader( persister, batchSizes[index], lockMode, factory, loadQueryInfluencers )
+						: new EntityLoader( persister, batchSizes[index], lockOptions, factory, loadQueryInfluencers );
+				if ( !loaders.compareAndSet( index, null, loader ) ) {
+					loader = loaders.get( index );
+				}
+			}
+			return loader;
+		}
+
+		@Override
+		public int getBuiltLoaderCount() {
+			int count = 0;
 			for ( int i = 0; i < batchSizes.length; i++ ) {
-				this.loaders[i] = new EntityLoader( persister, batchSizes[i], lockOptions, factory, loadQueryInfluencers);
+				if ( loaders.get( i ) != null ) {
+					count++;
+				}
 			}
-			validate( maxBatchSize );
+			return count;
 		}
 
 		@Override
@@ -102,7 +141,7 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 
 			final int numberOfIds = ArrayHelper.countNonNull( batch );
 			if ( numberOfIds <= 1 ) {
-				final Object result =  ( (UniqueEntityLoader) loaders[batchSizes.length-1] ).load( id, optionalObject, session );
+				final Object result =  ( (UniqueEntityLoader) getLoader( batchSizes.length - 1 ) ).load( id, optionalObject, session );
 				if ( result == null ) {
 					// There was no entity with the specified ID. Make sure the EntityKey does not remain
 					// in the batch to avoid including it in future batches that get executed.
@@ -128,7 +167,7 @@ class PaddedBatchingEntityLoaderBuilder extends BatchingEntityLoaderBuilder {
 				idsToLoad[i] = id;
 			}
 
-			return doBatchLoad( id, loaders[indexToUse], session, idsToLoad, optionalObject, lockOptions, readOnly );
+			return doBatchLoad( id, getLoader( indexToUse ), session, idsToLoad, optionalObject, lockOptions, readOnly );
 		}
 	}
 
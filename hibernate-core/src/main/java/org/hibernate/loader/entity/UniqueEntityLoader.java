@@ -60,4 +60,14 @@ public interface UniqueEntityLoader {
 			Boolean readOnly) {
 		return load( id, optionalObject, session, lockOptions );
 	}
+
+	/**
+	 * The number of SQL loaders built so far by this loader, batching loaders building one per batch size on demand.
+	 * Used to report the footprint of the entity loaders in the statistics.
+	 *
+	 * @return The number of SQL loaders built
+	 */
+	default int getBuiltLoaderCount() {
+		return 1;
+	}
 }
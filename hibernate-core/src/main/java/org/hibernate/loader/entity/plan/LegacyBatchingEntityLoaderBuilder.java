@@ -8,6 +8,7 @@ package org.hibernate.loader.entity.plan;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
@@ -49,7 +50,10 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 
 	public static class LegacyBatchingEntityLoader extends BatchingEntityLoader  {
 		private final int[] batchSizes;
-		private final EntityLoader[] loaders;
+		private final AtomicReferenceArray<EntityLoader> loaders;
+		private final LockMode lockMode;
+		private final LockOptions lockOptions;
+		private final LoadQueryInfluencers loadQueryInfluencers;
 
 		public LegacyBatchingEntityLoader(
 				OuterJoinLoadable persister,
@@ -78,18 +82,55 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 				LoadQueryInfluencers loadQueryInfluencers) {
 			super( persister );
 			this.batchSizes = ArrayHelper.getBatchSizes( maxBatchSize );
-			this.loaders = new EntityLoader[ batchSizes.length ];
-			final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( persister )
+			this.loaders = new AtomicReferenceArray<>( batchSizes.length );
+			this.lockMode = lockMode;
+			this.lockOptions = lockOptions == null ? null : lockOptions.makeCopy();
+			this.loadQueryInfluencers = loadQueryInfluencers;
+		}
+
+		/**
+		 * The loader of the given batch size, built on first use as most entities are only ever loaded with a few
+		 * of the batch sizes.
+		 */
+		private EntityLoader getLoader(int index) {
+			EntityLoader loader = loaders.get( index );
+			if ( loader == null ) {
+				loader = buildLoader( index );
+				if ( !loaders.compareAndSet( index, null, loader ) ) {
+					loader = loaders.get( index );
+				}
+			}
+			return loader;
+		}
+
+		private EntityLoader buildLoader(int index) {
+			final EntityLoader.Builder entityLoaderBuilder = EntityLoader.forEntity( (OuterJoinLoadable) persister() )
 					.withInfluencers( loadQueryInfluencers )
 					.withLockMode( lockMode )
-					.withLockOptions( lockOptions );
+					.withLockOptions( lockOptions )
+					.withBatchSize( batchSizes[index] );
 
-			// we create a first entity loader to use it as a template for the others
-			this.loaders[0] = entityLoaderBuilder.withBatchSize( batchSizes[0] ).byPrimaryKey();
+			// any entity loader already built is used as a template for the others
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				final EntityLoader template = loaders.get( i );
+				if ( template != null ) {
+					entityLoaderBuilder.withEntityLoaderTemplate( template );
+					break;
+				}
+			}
+
+			return entityLoaderBuilder.byPrimaryKey();
+		}
 
-			for ( int i = 1; i < batchSizes.length; i++ ) {
-				this.loaders[i] = entityLoaderBuilder.withEntityLoaderTemplate( this.loaders[0] ).withBatchSize( batchSizes[i] ).byPrimaryKey();
+		@Override
+		public int getBuiltLoaderCount() {
+			int count = 0;
+			for ( int i = 0; i < batchSizes.length; i++ ) {
+				if ( loaders.get( i ) != null ) {
+					count++;
+				}
 			}
+			return count;
 		}
 
 		@Override
@@ -109,7 +150,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 					Serializable[] smallBatch = new Serializable[smallBatchSize];
 					System.arraycopy(batch, 0, smallBatch, 0, smallBatchSize);
 					// for now...
-					final List results = loaders[i].loadEntityBatch(
+					final List results = getLoader( i ).loadEntityBatch(
 							session,
 							smallBatch,
 							persister().getIdentifierType(),
@@ -134,7 +175,7 @@ public class LegacyBatchingEntityLoaderBuilder extends AbstractBatchingEntityLoa
 					return getObjectFromList( results, id, session );
 				}
 			}
-			final Object result = ( loaders[batchSizes.length-1] ).load( id, optionalObject, session, lockOptions );
+			final Object result = getLoader( batchSizes.length - 1 ).load( id, optionalObject, session, lockOptions );
 			if ( result == null ) {
 				// There was no entity with the specified ID. Make sure the EntityKey does not remain
 				// in the batch to avoid including it in future batches that get executed.
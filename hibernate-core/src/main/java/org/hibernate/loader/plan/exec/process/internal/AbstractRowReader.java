@@ -14,6 +14,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.engine.internal.EntityCachePuts;
 import org.hibernate.engine.internal.TwoPhaseLoad;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.event.service.spi.EventListenerGroup;
@@ -251,15 +252,21 @@ public abstract class AbstractRowReader implements RowReader {
 			.getEventListenerGroup( EventType.PRE_LOAD )
 			.listeners();
 
+		// the cache entries of several entities are put together, once all are initialized
+		final EntityCachePuts cachePuts = numberOfHydratedObjects > 1 ? new EntityCachePuts() : null;
 		for ( HydratedEntityRegistration registration : hydratedEntityRegistrations ) {
 			TwoPhaseLoad.initializeEntity(
 					registration.getInstance(),
 					context.isReadOnly(),
 					session,
 					preLoadEvent,
-					listeners
+					listeners,
+					cachePuts
 			);
 		}
+		if ( cachePuts != null ) {
+			cachePuts.putAll( session );
+		}
 	}
 
 	private void finishLoadingCollections(ResultSetProcessingContextImpl context) {
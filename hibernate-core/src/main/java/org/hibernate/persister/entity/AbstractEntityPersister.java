@@ -45,16 +45,20 @@ import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeDescriptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributeLoadingInterceptor;
 import org.hibernate.bytecode.enhance.spi.interceptor.LazyAttributesMetadata;
 import org.hibernate.bytecode.spi.BytecodeEnhancementMetadata;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
 import org.hibernate.cache.spi.access.EntityDataAccess;
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntry;
 import org.hibernate.cache.spi.entry.CacheEntryStructure;
 import org.hibernate.cache.spi.entry.ReferenceCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
 import org.hibernate.cache.spi.entry.StructuredCacheEntry;
 import org.hibernate.cache.spi.entry.UnstructuredCacheEntry;
+import org.hibernate.cfg.Environment;
 import org.hibernate.collection.spi.PersistentCollection;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.bulk.BulkInsertSupport;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.engine.OptimisticLockStyle;
 import org.hibernate.engine.internal.CacheHelper;
@@ -98,6 +102,7 @@ import org.hibernate.jdbc.Expectations;
 import org.hibernate.jdbc.TooManyRowsAffectedException;
 import org.hibernate.loader.custom.sql.SQLQueryParser;
 import org.hibernate.loader.entity.BatchingEntityLoaderBuilder;
+import org.hibernate.loader.entity.CacheEntityLoaderHelper;
 import org.hibernate.loader.entity.CascadeEntityLoader;
 import org.hibernate.loader.entity.DynamicBatchingEntityLoaderBuilder;
 import org.hibernate.loader.entity.EntityLoader;
@@ -137,6 +142,7 @@ import org.hibernate.tuple.NonIdentifierAttribute;
 import org.hibernate.tuple.ValueGeneration;
 import org.hibernate.tuple.entity.EntityMetamodel;
 import org.hibernate.tuple.entity.EntityTuplizer;
+import org.hibernate.type.AbstractStandardBasicType;
 import org.hibernate.type.AssociationType;
 import org.hibernate.type.CollectionType;
 import org.hibernate.type.ComponentType;
@@ -145,6 +151,15 @@ import org.hibernate.type.EntityType;
 import org.hibernate.type.Type;
 import org.hibernate.type.TypeHelper;
 import org.hibernate.type.VersionType;
+import org.hibernate.type.descriptor.java.BooleanTypeDescriptor;
+import org.hibernate.type.descriptor.java.ByteTypeDescriptor;
+import org.hibernate.type.descriptor.java.CharacterTypeDescriptor;
+import org.hibernate.type.descriptor.java.DoubleTypeDescriptor;
+import org.hibernate.type.descriptor.java.FloatTypeDescriptor;
+import org.hibernate.type.descriptor.java.IntegerTypeDescriptor;
+import org.hibernate.type.descriptor.java.LongTypeDescriptor;
+import org.hibernate.type.descriptor.java.ShortTypeDescriptor;
+import org.hibernate.type.descriptor.java.StringTypeDescriptor;
 
 /**
  * Basic functionality for persisting an entity via JDBC
@@ -158,6 +173,23 @@ public abstract class AbstractEntityPersister
 
 	private static final CoreMessageLogger LOG = CoreLogging.messageLogger( AbstractEntityPersister.class );
 
+	/**
+	 * The java type descriptors whose {@code areEqual()} is plain {@link Object#equals}, for
+	 * immutable values.  Basic properties described by these are dirty checked by the
+	 * {@link DirtyCheckOptimizer}.
+	 */
+	private static final Set<Class<?>> EQUALITY_CHECKED_JAVA_TYPE_DESCRIPTORS = new HashSet<>( Arrays.asList(
+			StringTypeDescriptor.class,
+			LongTypeDescriptor.class,
+			IntegerTypeDescriptor.class,
+			ShortTypeDescriptor.class,
+			ByteTypeDescriptor.class,
+			BooleanTypeDescriptor.class,
+			CharacterTypeDescriptor.class,
+			DoubleTypeDescriptor.class,
+			FloatTypeDescriptor.class
+	) );
+
 	public static final String ENTITY_CLASS = "class";
 
 	private final NavigableRole navigableRole;
@@ -208,6 +240,9 @@ public abstract class AbstractEntityPersister
 
 	private final List<Integer> lobProperties = new ArrayList<>();
 
+	private final DirtyCheckOptimizer dirtyCheckOptimizer;
+	private final DirtyCheckOptimizer.PropertyDirtyCheck propertyDirtyCheck = this::isPropertyDirty;
+
 	//information about lazy properties of this class
 	private final String[] lazyPropertyNames;
 	private final int[] lazyPropertyNumbers;
@@ -247,8 +282,7 @@ public abstract class AbstractEntityPersister
 
 	private final Map uniqueKeyLoaders = new HashMap();
 	private final Map lockers = new HashMap();
-	private UniqueEntityLoader noneLockLoader;
-	private UniqueEntityLoader readLockLoader;
+	// keyed by LockMode or internal fetch profile name, so bounded by their number
 	private final Map<Object, UniqueEntityLoader> loaders = new ConcurrentHashMap<>();
 
 	// SQL strings
@@ -752,6 +786,8 @@ public abstract class AbstractEntityPersister
 		lazyPropertyNumbers = ArrayHelper.toIntArray( lazyNumbers );
 		lazyPropertyTypes = ArrayHelper.toTypeArray( lazyTypes );
 
+		dirtyCheckOptimizer = buildDirtyCheckOptimizer( creationContext );
+
 		// SUBCLASS PROPERTY CLOSURE
 
 		ArrayList columns = new ArrayList();
@@ -995,6 +1031,10 @@ public abstract class AbstractEntityPersister
 			return new ReferenceCacheEntryHelper( this );
 		}
 
+		if ( factory.getSessionFactoryOptions().isBinaryCacheEntriesEnabled() ) {
+			return new BinaryCacheEntryHelper( this );
+		}
+
 		return factory.getSessionFactoryOptions().isStructuredCacheEntriesEnabled()
 				? new StructuredCacheEntryHelper( this )
 				: new StandardCacheEntryHelper( this );
@@ -1145,13 +1185,19 @@ public abstract class AbstractEntityPersister
 			final Object ce = CacheHelper.fromSharedCache( session, cacheKey, cacheAccess );
 			if ( ce != null ) {
 				final CacheEntry cacheEntry = (CacheEntry) getCacheEntryStructure().destructure( ce, factory );
-				final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
-				if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
-					// The following should be redundant, since the setter should have set this already.
-					// interceptor.attributeInitialized(fieldName);
+				if ( cacheEntry == null ) {
+					// written with a different mapping of the entity: read from the datastore instead
+					CacheEntityLoaderHelper.evictUnreadableEntry( id, this, session );
+				}
+				else {
+					final Object initializedValue = initializeLazyPropertiesFromCache( fieldName, entity, session, entry, cacheEntry );
+					if (initializedValue != LazyPropertyInitializer.UNFETCHED_PROPERTY) {
+						// The following should be redundant, since the setter should have set this already.
+						// interceptor.attributeInitialized(fieldName);
 
-					// NOTE EARLY EXIT!!!
-					return initializedValue;
+						// NOTE EARLY EXIT!!!
+						return initializedValue;
+					}
 				}
 			}
 		}
@@ -2984,6 +3030,19 @@ public abstract class AbstractEntityPersister
 			final String[][] suffixedPropertyColumns,
 			final boolean allProperties,
 			final SharedSessionContractImplementor session) throws SQLException, HibernateException {
+		return hydrate( rs, id, object, rootLoadable, suffixedPropertyColumns, allProperties, null, session );
+	}
+
+	@Override
+	public Object[] hydrate(
+			final ResultSet rs,
+			final Serializable id,
+			final Object object,
+			final Loadable rootLoadable,
+			final String[][] suffixedPropertyColumns,
+			final boolean allProperties,
+			final PrimitivePropertyReader primitivePropertyReader,
+			final SharedSessionContractImplementor session) throws SQLException, HibernateException {
 
 		if ( LOG.isTraceEnabled() ) {
 			LOG.tracev( "Hydrating entity: {0}", MessageHelper.infoString( this, id, getFactory() ) );
@@ -3051,6 +3110,10 @@ public abstract class AbstractEntityPersister
 					if ( propertyIsDeferred && sequentialSelectEmpty ) {
 						values[i] = null;
 					}
+					else if ( !propertyIsDeferred && primitivePropertyReader != null
+							&& primitivePropertyReader.canRead( i ) ) {
+						values[i] = primitivePropertyReader.read( rs, i );
+					}
 					else {
 						final ResultSet propertyResultSet = propertyIsDeferred ? sequentialResultSet : rs;
 						final String[] cols = propertyIsDeferred ?
@@ -3143,6 +3206,36 @@ public abstract class AbstractEntityPersister
 	}
 
 	private BasicBatchKey inserBatchKey;
+	private int[] insertParameterCounts;
+
+	/**
+	 * The number of JDBC parameters bound by an INSERT into the given table: the insertable columns of the
+	 * included properties mapped to the table, followed by the identifier columns.  A discriminator value is
+	 * rendered as a literal, and binds none.
+	 */
+	protected int getInsertParameterCount(boolean[] includeProperty, int j) {
+		if ( includeProperty != getPropertyInsertability() ) {
+			return countInsertParameters( includeProperty, j );
+		}
+		if ( insertParameterCounts == null ) {
+			final int[] counts = new int[getTableSpan()];
+			for ( int table = 0; table < counts.length; table++ ) {
+				counts[table] = countInsertParameters( includeProperty, table );
+			}
+			insertParameterCounts = counts;
+		}
+		return insertParameterCounts[j];
+	}
+
+	private int countInsertParameters(boolean[] includeProperty, int j) {
+		int count = getIdentifierColumnSpan();
+		for ( int i = 0; i < entityMetamodel.getPropertySpan(); i++ ) {
+			if ( includeProperty[i] && isPropertyOfTable( i, j ) ) {
+				count += ArrayHelper.countTrue( propertyColumnInsertable[i] );
+			}
+		}
+		return count;
+	}
 
 	/**
 	 * Perform an SQL INSERT.
@@ -3198,7 +3291,7 @@ public abstract class AbstractEntityPersister
 				insert = session
 						.getJdbcCoordinator()
 						.getBatch( inserBatchKey )
-						.getBatchStatement( sql, callable );
+						.getBatchStatement( sql, callable, getInsertParameterCount( notNull, j ) );
 			}
 			else {
 				insert = session
@@ -3753,6 +3846,141 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	@Override
+	public void insertAll(Serializable[] ids, Object[][] fields, Object[] objects, SharedSessionContractImplementor session) {
+		if ( entityMetamodel.isDynamicInsert() ) {
+			// every row may need a different INSERT SQL
+			for ( int i = 0; i < ids.length; i++ ) {
+				insert( ids[i], fields[i], objects[i], session );
+			}
+			return;
+		}
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			preInsertInMemoryValueGeneration( fields[i], objects[i], session );
+		}
+		final int span = getTableSpan();
+		for ( int j = 0; j < span; j++ ) {
+			insertAll( ids, fields, objects, j, getSQLInsertStrings()[j], session );
+		}
+	}
+
+	/**
+	 * Perform the SQL INSERTs of the rows of a table for several instances, inserting many rows per statement
+	 * as allowed by the {@link org.hibernate.dialect.bulk.BulkInsertSupport} of the Dialect.
+	 */
+	protected void insertAll(
+			final Serializable[] ids,
+			final Object[][] fields,
+			final Object[] objects,
+			final int j,
+			final String sql,
+			final SharedSessionContractImplementor session) throws HibernateException {
+
+		if ( isInverseTable( j ) ) {
+			return;
+		}
+
+		final int[] rows = new int[ids.length];
+		int rowCount = 0;
+		for ( int i = 0; i < ids.length; i++ ) {
+			if ( !( isNullableTable( j ) && isAllNull( fields[i], j ) ) ) {
+				rows[rowCount++] = i;
+			}
+		}
+
+		if ( rowCount < 2 || isInsertCallable( j ) ) {
+			for ( int r = 0; r < rowCount; r++ ) {
+				final int i = rows[r];
+				insert( ids[i], fields[i], getPropertyInsertability(), j, sql, objects[i], session );
+			}
+			return;
+		}
+
+		final BulkInsertSupport bulkInsertSupport = getFactory().getDialect().getBulkInsertSupport();
+		final BulkInsertRowsImpl bulkInsertRows = new BulkInsertRowsImpl(
+				this,
+				j,
+				sql,
+				ids,
+				fields,
+				Arrays.copyOf( rows, rowCount ),
+				session
+		);
+		try {
+			if ( bulkInsertSupport.load( bulkInsertRows, session ) ) {
+				return;
+			}
+		}
+		catch (SQLException e) {
+			throw getFactory().getSQLExceptionHelper().convert(
+					e,
+					"could not insert: " + MessageHelper.infoString( this ),
+					sql
+			);
+		}
+
+		final int parametersPerRow = getInsertParameterCount( getPropertyInsertability(), j );
+		final int maxRows = Math.max( bulkInsertSupport.getMaxRowsPerInsert( parametersPerRow ), 1 );
+		final Expectation expectation = Expectations.appropriateExpectation( insertResultCheckStyles[j] );
+
+		int r = 0;
+		while ( r < rowCount ) {
+			final int chunk = Math.min( maxRows, rowCount - r );
+			final String multiRowSql = chunk == 1 ? null : bulkInsertSupport.renderMultiRowInsert( sql, chunk );
+			if ( multiRowSql == null ) {
+				final int i = rows[r];
+				insert( ids[i], fields[i], getPropertyInsertability(), j, sql, objects[i], session );
+				r++;
+				continue;
+			}
+
+			if ( LOG.isTraceEnabled() ) {
+				LOG.tracev( "Inserting {0} rows of entity: {1}", chunk, MessageHelper.infoString( this ) );
+			}
+
+			try {
+				final PreparedStatement insert = session
+						.getJdbcCoordinator()
+						.getStatementPreparer()
+						.prepareStatement( multiRowSql, false );
+				try {
+					int index = 1;
+					for ( int row = r; row < r + chunk; row++ ) {
+						index = bulkInsertRows.bind( row, insert, index );
+					}
+					final int inserted = session.getJdbcCoordinator().getResultSetReturn().executeUpdate( insert );
+					if ( expectation != Expectations.NONE ) {
+						if ( inserted < chunk ) {
+							throw new StaleStateException(
+									"Unexpected row count: " + inserted + "; expected: " + chunk
+							);
+						}
+						else if ( inserted > chunk ) {
+							throw new TooManyRowsAffectedException(
+									"Unexpected row count: " + inserted + "; expected: " + chunk,
+									chunk,
+									inserted
+							);
+						}
+					}
+				}
+				finally {
+					session.getJdbcCoordinator().getResourceRegistry().release( insert );
+					session.getJdbcCoordinator().afterStatementExecution();
+				}
+			}
+			catch (SQLException e) {
+				throw getFactory().getSQLExceptionHelper().convert(
+						e,
+						"could not insert: " + MessageHelper.infoString( this ),
+						multiRowSql
+				);
+			}
+			r += chunk;
+		}
+	}
+
 	private void preInsertInMemoryValueGeneration(Object[] fields, Object object, SharedSessionContractImplementor session) {
 		if ( getEntityMetamodel().hasPreInsertGeneratedValues() ) {
 			final InMemoryValueGenerationStrategy[] strategies = getEntityMetamodel().getInMemoryValueGenerationStrategies();
@@ -4280,56 +4508,39 @@ public abstract class AbstractEntityPersister
 
 	//Relational based Persisters should be content with this implementation
 	protected void createLoaders() {
-		// We load the entity loaders for the most common lock modes.
-
-		noneLockLoader = createEntityLoader( LockMode.NONE );
-		readLockLoader = createEntityLoader( LockMode.READ );
-
-
-		// The loaders for the other lock modes are lazily loaded and will later be stored in this map,
-		//		unless this setting is disabled
+		// The entity loaders, and within them the loaders for each batch size, are created on first use
+		//		and later stored in this map, unless this setting is disabled
 		if ( ! factory.getSessionFactoryOptions().isDelayBatchFetchLoaderCreationsEnabled() ) {
-			for ( LockMode lockMode : EnumSet.complementOf( EnumSet.of( LockMode.NONE, LockMode.READ, LockMode.WRITE ) ) ) {
-				loaders.put( lockMode, createEntityLoader( lockMode ) );
+			for ( LockMode lockMode : EnumSet.complementOf( EnumSet.of( LockMode.WRITE ) ) ) {
+				getLoaderByLockMode( lockMode );
 			}
+			getLoaderByInternalFetchProfile( "merge" );
+			getLoaderByInternalFetchProfile( "refresh" );
 		}
-
-
-		// And finally, create the internal merge and refresh load plans
-
-		loaders.put(
-				"merge",
-				new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() )
-		);
-		loaders.put(
-				"refresh",
-				new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() )
-		);
 	}
 
 	protected final UniqueEntityLoader getLoaderByLockMode(LockMode lockMode) {
-		if ( LockMode.NONE == lockMode ) {
-			return noneLockLoader;
-		}
-		else if ( LockMode.READ == lockMode ) {
-			return readLockLoader;
+		if ( isForUpdateLoaderDisabled( lockMode ) ) {
+			lockMode = LockMode.READ;
 		}
 
+		final UniqueEntityLoader loader = loaders.get( lockMode );
+		if ( loader != null ) {
+			return loader;
+		}
 		return loaders.computeIfAbsent( lockMode, this::generateDelayedEntityLoader );
 	}
 
-	private UniqueEntityLoader generateDelayedEntityLoader(Object lockModeObject) {
-		// Unfortunately, the loaders map mixes LockModes and Strings as keys so we need to accept an Object.
-		// The cast is safe as we will always call this method with a LockMode.
-		LockMode lockMode = (LockMode) lockModeObject;
+	private UniqueEntityLoader getLoaderByInternalFetchProfile(String internalFetchProfile) {
+		final UniqueEntityLoader loader = loaders.get( internalFetchProfile );
+		if ( loader != null ) {
+			return loader;
+		}
+		return loaders.computeIfAbsent( internalFetchProfile, this::generateDelayedEntityLoader );
+	}
 
+	private boolean isForUpdateLoaderDisabled(LockMode lockMode) {
 		switch ( lockMode ) {
-			case NONE:
-			case READ:
-			case OPTIMISTIC:
-			case OPTIMISTIC_FORCE_INCREMENT: {
-				return createEntityLoader( lockMode );
-			}
 			case UPGRADE:
 			case UPGRADE_NOWAIT:
 			case UPGRADE_SKIPLOCKED:
@@ -4338,11 +4549,39 @@ public abstract class AbstractEntityPersister
 			case PESSIMISTIC_WRITE:
 			case PESSIMISTIC_FORCE_INCREMENT: {
 				//TODO: inexact, what we really need to know is: are any outer joins used?
-				boolean disableForUpdate = getSubclassTableSpan() > 1
+				return getSubclassTableSpan() > 1
 						&& hasSubclasses()
 						&& !getFactory().getDialect().supportsOuterJoinForUpdate();
+			}
+			default: {
+				return false;
+			}
+		}
+	}
 
-				return disableForUpdate ? readLockLoader : createEntityLoader( lockMode );
+	private UniqueEntityLoader generateDelayedEntityLoader(Object key) {
+		// Unfortunately, the loaders map mixes LockModes and Strings as keys so we need to accept an Object.
+		if ( "merge".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.MERGE, getFactory() );
+		}
+		else if ( "refresh".equals( key ) ) {
+			return new CascadeEntityLoader( this, CascadingActions.REFRESH, getFactory() );
+		}
+
+		final LockMode lockMode = (LockMode) key;
+		switch ( lockMode ) {
+			case NONE:
+			case READ:
+			case OPTIMISTIC:
+			case OPTIMISTIC_FORCE_INCREMENT:
+			case UPGRADE:
+			case UPGRADE_NOWAIT:
+			case UPGRADE_SKIPLOCKED:
+			case FORCE:
+			case PESSIMISTIC_READ:
+			case PESSIMISTIC_WRITE:
+			case PESSIMISTIC_FORCE_INCREMENT: {
+				return createEntityLoader( lockMode );
 			}
 			default: {
 				throw new IllegalStateException( String.format( Locale.ROOT, "Lock mode %1$s not supported by entity loaders.", lockMode ) );
@@ -4350,6 +4589,21 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	/**
+	 * The number of SQL loaders built so far and held by this persister for loading its entities by id, each batch
+	 * size counting as a loader.  The loaders built for a single load, such as the ones taking enabled filters or
+	 * fetch profiles into account, are not held.
+	 *
+	 * @return The number of SQL loaders held
+	 */
+	public int getEntityLoaderCount() {
+		int count = 0;
+		for ( UniqueEntityLoader loader : loaders.values() ) {
+			count += loader.getBuiltLoaderCount();
+		}
+		return count;
+	}
+
 	protected void createQueryLoader() {
 		if ( loaderName != null ) {
 			queryLoader = new NamedQueryLoader( loaderName, this );
@@ -4400,7 +4654,7 @@ public abstract class AbstractEntityPersister
 
 			final EntityKey entityKey = proxyInterceptor.getEntityKey();
 			final Serializable identifier = entityKey.getIdentifier();
-			final Object loaded = readLockLoader.load(
+			final Object loaded = getLoaderByLockMode( LockMode.READ ).load(
 					identifier,
 					entity,
 					session,
@@ -4493,7 +4747,7 @@ public abstract class AbstractEntityPersister
 			// Next, we consider whether an 'internal' fetch profile has been set.
 			// This indicates a special fetch profile Hibernate needs applied
 			// (for its merge loading process e.g.).
-			return loaders.get( session.getLoadQueryInfluencers().getInternalFetchProfile() );
+			return getLoaderByInternalFetchProfile( session.getLoadQueryInfluencers().getInternalFetchProfile() );
 		}
 		else if ( isAffectedByEnabledFetchProfiles( session ) ) {
 			// If the session has associated influencers we need to adjust the
@@ -4575,13 +4829,19 @@ public abstract class AbstractEntityPersister
 	 */
 	public int[] findDirty(Object[] currentState, Object[] previousState, Object entity, SharedSessionContractImplementor session)
 			throws HibernateException {
-		int[] props = TypeHelper.findDirty(
-				entityMetamodel.getProperties(),
-				currentState,
-				previousState,
-				propertyColumnUpdateable,
-				session
-		);
+		final int[] props;
+		if ( dirtyCheckOptimizer != null ) {
+			props = dirtyCheckOptimizer.findDirty( currentState, previousState, propertyDirtyCheck, session );
+		}
+		else {
+			props = TypeHelper.findDirty(
+					entityMetamodel.getProperties(),
+					currentState,
+					previousState,
+					propertyColumnUpdateable,
+					session
+			);
+		}
 		if ( props == null ) {
 			return null;
 		}
@@ -4632,6 +4892,67 @@ public abstract class AbstractEntityPersister
 				: getPropertyUpdateability();
 	}
 
+	private DirtyCheckOptimizer buildDirtyCheckOptimizer(PersisterCreationContext creationContext) {
+		if ( !creationContext.getSessionFactory().getSessionFactoryOptions().isDirtyCheckOptimizerEnabled()
+				|| entityMetamodel.getEntityMode() != EntityMode.POJO ) {
+			return null;
+		}
+
+		final NonIdentifierAttribute[] properties = entityMetamodel.getProperties();
+		final boolean[] equalityCheckedProperties = new boolean[properties.length];
+		boolean anyEqualityChecked = false;
+		for ( int i = 0; i < properties.length; i++ ) {
+			equalityCheckedProperties[i] = isEqualityChecked( properties[i], propertyColumnUpdateable[i] );
+			anyEqualityChecked = anyEqualityChecked || equalityCheckedProperties[i];
+		}
+		if ( !anyEqualityChecked ) {
+			return null;
+		}
+
+		try {
+			return Environment.getBytecodeProvider().getDirtyCheckOptimizer(
+					entityTuplizer.getMappedClass(),
+					equalityCheckedProperties
+			);
+		}
+		catch (HibernateException e) {
+			// the generated dirty checker is an optimization only: fall back to TypeHelper#findDirty
+			LOG.debugf( e, "Unable to generate a dirty checker for entity [%s]", getEntityName() );
+			return null;
+		}
+	}
+
+	/**
+	 * Can the dirtiness of the property be decided by a direct {@code equals()} comparison of
+	 * its current and loaded values, exactly as {@link Type#isDirty} would decide it?
+	 */
+	private static boolean isEqualityChecked(NonIdentifierAttribute property, boolean[] columnUpdateability) {
+		final Type type = property.getType();
+		return property.isDirtyCheckable()
+				&& columnUpdateability.length == 1
+				&& columnUpdateability[0]
+				&& type instanceof AbstractStandardBasicType
+				&& EQUALITY_CHECKED_JAVA_TYPE_DESCRIPTORS.contains(
+						( (AbstractStandardBasicType) type ).getJavaTypeDescriptor().getClass()
+				);
+	}
+
+	/**
+	 * The dirty check applied by the {@link DirtyCheckOptimizer} to the properties it does not
+	 * check itself; this is the check {@link TypeHelper#findDirty} applies to each property.
+	 */
+	private boolean isPropertyDirty(
+			int index,
+			Object[] currentState,
+			Object[] previousState,
+			SharedSessionContractImplementor session) {
+		final NonIdentifierAttribute property = entityMetamodel.getProperties()[index];
+		return currentState[index] != LazyPropertyInitializer.UNFETCHED_PROPERTY
+				&& ( previousState[index] == LazyPropertyInitializer.UNFETCHED_PROPERTY
+						|| ( property.isDirtyCheckable()
+								&& property.getType().isDirty( previousState[index], currentState[index], propertyColumnUpdateable[index], session ) ) );
+	}
+
 	private void logDirtyProperties(int[] props) {
 		if ( LOG.isTraceEnabled() ) {
 			for ( int i = 0; i < props.length; i++ ) {
@@ -5739,6 +6060,32 @@ public abstract class AbstractEntityPersister
 		}
 	}
 
+	private static class BinaryCacheEntryHelper implements CacheEntryHelper {
+		private final EntityPersister persister;
+		private final BinaryCacheEntry structure;
+
+		private BinaryCacheEntryHelper(EntityPersister persister) {
+			this.persister = persister;
+			this.structure = new BinaryCacheEntry( persister );
+		}
+
+		@Override
+		public CacheEntryStructure getCacheEntryStructure() {
+			return structure;
+		}
+
+		@Override
+		public CacheEntry buildCacheEntry(Object entity, Object[] state, Object version, SharedSessionContractImplementor session) {
+			return new StandardCacheEntryImpl(
+					state,
+					persister,
+					version,
+					session,
+					entity
+			);
+		}
+	}
+
 	private static class NoopCacheEntryHelper implements CacheEntryHelper {
 		public static final NoopCacheEntryHelper INSTANCE = new NoopCacheEntryHelper();
 
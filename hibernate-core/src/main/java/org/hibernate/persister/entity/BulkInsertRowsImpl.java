@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.hibernate.dialect.bulk.BulkInsertRows;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+/**
+ * The rows of one table of an {@link AbstractEntityPersister} which are inserted in bulk.
+ */
+class BulkInsertRowsImpl implements BulkInsertRows {
+	private final AbstractEntityPersister persister;
+	private final int tableNumber;
+	private final String sql;
+	private final Serializable[] ids;
+	private final Object[][] fields;
+	private final int[] rows;
+	private final SharedSessionContractImplementor session;
+
+	BulkInsertRowsImpl(
+			AbstractEntityPersister persister,
+			int tableNumber,
+			String sql,
+			Serializable[] ids,
+			Object[][] fields,
+			int[] rows,
+			SharedSessionContractImplementor session) {
+		this.persister = persister;
+		this.tableNumber = tableNumber;
+		this.sql = sql;
+		this.ids = ids;
+		this.fields = fields;
+		this.rows = rows;
+		this.session = session;
+	}
+
+	@Override
+	public String getTableName() {
+		return persister.getTableName( tableNumber );
+	}
+
+	@Override
+	public String getSingleRowInsertString() {
+		return sql;
+	}
+
+	@Override
+	public int getRowCount() {
+		return rows.length;
+	}
+
+	@Override
+	public int bind(int row, PreparedStatement statement, int index) throws SQLException {
+		final int i = rows[row];
+		return persister.dehydrate(
+				ids[i],
+				fields[i],
+				null,
+				persister.getPropertyInsertability(),
+				persister.getPropertyColumnInsertable(),
+				tableNumber,
+				statement,
+				session,
+				index,
+				false
+		);
+	}
+}
@@ -421,6 +421,22 @@ public interface EntityPersister extends EntityDefinition {
 	void insert(Serializable id, Object[] fields, Object object, SharedSessionContractImplementor session)
 	throws HibernateException;
 
+	/**
+	 * Persist several instances at once, whose identifiers are known.  Implementations may insert the rows of
+	 * each table with fewer statements than one per instance.
+	 *
+	 * @param ids The identifiers of the instances
+	 * @param fields The property values of the instances, in the order of {@code ids}
+	 * @param objects The instances, in the order of {@code ids}
+	 * @param session The session through which the instances are persisted
+	 */
+	default void insertAll(Serializable[] ids, Object[][] fields, Object[] objects, SharedSessionContractImplementor session)
+	throws HibernateException {
+		for ( int i = 0; i < ids.length; i++ ) {
+			insert( ids[i], fields[i], objects[i], session );
+		}
+	}
+
 	/**
 	 * Persist an instance, using a natively generated identifier (optional operation)
 	 */
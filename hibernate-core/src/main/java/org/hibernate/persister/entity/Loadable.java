@@ -92,6 +92,22 @@ public interface Loadable extends EntityPersister {
 			boolean allProperties,
 			SharedSessionContractImplementor session) throws SQLException, HibernateException;
 
+	/**
+	 * Retrieve property values from one row of a result set, reading the values of the properties of primitive
+	 * types with the given reader.
+	 */
+	default Object[] hydrate(
+			ResultSet rs,
+			Serializable id,
+			Object object,
+			Loadable rootLoadable,
+			String[][] suffixedPropertyColumns,
+			boolean allProperties,
+			PrimitivePropertyReader primitivePropertyReader,
+			SharedSessionContractImplementor session) throws SQLException, HibernateException {
+		return hydrate( rs, id, object, rootLoadable, suffixedPropertyColumns, allProperties, session );
+	}
+
 	boolean isAbstract();
 
 	/**
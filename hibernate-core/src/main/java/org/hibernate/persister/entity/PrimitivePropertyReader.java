@@ -0,0 +1,162 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.persister.entity;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.CoreLogging;
+import org.hibernate.type.BooleanType;
+import org.hibernate.type.DoubleType;
+import org.hibernate.type.FloatType;
+import org.hibernate.type.IntegerType;
+import org.hibernate.type.LongType;
+import org.hibernate.type.ShortType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.sql.BasicExtractor;
+import org.hibernate.type.descriptor.sql.SqlTypeDescriptor;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Reads the values of the properties of an entity mapped to one of the standard numeric or boolean types
+ * directly with the primitive getters of the {@link ResultSet}, by column position.
+ * <p/>
+ * A reader is built for a given persister and set of column aliases, and is meant to be kept by the loader
+ * whose SQL produced these aliases: the position of each column is resolved once, when it is first read, in the
+ * same way as the loader's {@link org.hibernate.engine.jdbc.ColumnNameCache}. The values read are the same as the
+ * ones returned by {@link Type#hydrate}, the property types only being bypassed when their SQL type is not
+ * remapped by the dialect.
+ */
+public final class PrimitivePropertyReader {
+	private static final Logger EXTRACTOR_LOG = CoreLogging.logger( BasicExtractor.class );
+
+	private static final byte NONE = 0;
+	private static final byte LONG = 1;
+	private static final byte INTEGER = 2;
+	private static final byte SHORT = 3;
+	private static final byte DOUBLE = 4;
+	private static final byte FLOAT = 5;
+	private static final byte BOOLEAN = 6;
+
+	private final String[][] suffixedPropertyColumns;
+	private final byte[] kinds;
+	private final boolean anyReadable;
+	private final int[] positions;
+
+	private PrimitivePropertyReader(String[][] suffixedPropertyColumns, byte[] kinds, boolean anyReadable) {
+		this.suffixedPropertyColumns = suffixedPropertyColumns;
+		this.kinds = kinds;
+		this.anyReadable = anyReadable;
+		this.positions = new int[kinds.length];
+	}
+
+	/**
+	 * Build a reader for the properties of the given persister, selected with the given column aliases.
+	 */
+	public static PrimitivePropertyReader build(
+			Loadable persister,
+			String[][] suffixedPropertyColumns,
+			SharedSessionContractImplementor session) {
+		final Type[] types = persister.getPropertyTypes();
+		final byte[] kinds = new byte[types.length];
+		boolean found = false;
+		for ( int i = 0; i < types.length; i++ ) {
+			if ( suffixedPropertyColumns[i] != null && suffixedPropertyColumns[i].length == 1 ) {
+				kinds[i] = resolveKind( types[i], session );
+				found = found || kinds[i] != NONE;
+			}
+		}
+		return new PrimitivePropertyReader( suffixedPropertyColumns, kinds, found );
+	}
+
+	private static byte resolveKind(Type type, SharedSessionContractImplementor session) {
+		if ( type == LongType.INSTANCE ) {
+			return kindIfNotRemapped( LONG, LongType.INSTANCE.getSqlTypeDescriptor(), session );
+		}
+		if ( type == IntegerType.INSTANCE ) {
+			return kindIfNotRemapped( INTEGER, IntegerType.INSTANCE.getSqlTypeDescriptor(), session );
+		}
+		if ( type == ShortType.INSTANCE ) {
+			return kindIfNotRemapped( SHORT, ShortType.INSTANCE.getSqlTypeDescriptor(), session );
+		}
+		if ( type == DoubleType.INSTANCE ) {
+			return kindIfNotRemapped( DOUBLE, DoubleType.INSTANCE.getSqlTypeDescriptor(), session );
+		}
+		if ( type == FloatType.INSTANCE ) {
+			return kindIfNotRemapped( FLOAT, FloatType.INSTANCE.getSqlTypeDescriptor(), session );
+		}
+		if ( type == BooleanType.INSTANCE ) {
+			return kindIfNotRemapped( BOOLEAN, BooleanType.INSTANCE.getSqlTypeDescriptor(), session );
+		}
+		return NONE;
+	}
+
+	private static byte kindIfNotRemapped(
+			byte kind,
+			SqlTypeDescriptor sqlTypeDescriptor,
+			SharedSessionContractImplementor session) {
+		return session.remapSqlTypeDescriptor( sqlTypeDescriptor ) == sqlTypeDescriptor ? kind : NONE;
+	}
+
+	/**
+	 * Is this reader to be used? It is not when no property can be read directly, nor when the extracted values
+	 * are traced, so that they keep being logged by the property types.
+	 */
+	public boolean isEnabled() {
+		return anyReadable && !EXTRACTOR_LOG.isTraceEnabled();
+	}
+
+	/**
+	 * Can the value of the given property be read by this reader?
+	 */
+	public boolean canRead(int propertyIndex) {
+		return kinds[propertyIndex] != NONE;
+	}
+
+	/**
+	 * Read the value of the given property from the current row of the result set.
+	 *
+	 * @return The value, or {@code null} if the column is null
+	 */
+	public Object read(ResultSet rs, int propertyIndex) throws SQLException {
+		int position = positions[propertyIndex];
+		if ( position == 0 ) {
+			position = rs.findColumn( suffixedPropertyColumns[propertyIndex][0] );
+			positions[propertyIndex] = position;
+		}
+		switch ( kinds[propertyIndex] ) {
+			case LONG: {
+				final long value = rs.getLong( position );
+				return rs.wasNull() ? null : value;
+			}
+			case INTEGER: {
+				final int value = rs.getInt( position );
+				return rs.wasNull() ? null : value;
+			}
+			case SHORT: {
+				final short value = rs.getShort( position );
+				return rs.wasNull() ? null : value;
+			}
+			case DOUBLE: {
+				final double value = rs.getDouble( position );
+				return rs.wasNull() ? null : value;
+			}
+			case FLOAT: {
+				final float value = rs.getFloat( position );
+				return rs.wasNull() ? null : value;
+			}
+			case BOOLEAN: {
+				final boolean value = rs.getBoolean( position );
+				return rs.wasNull() ? null : value;
+			}
+			default:
+				throw new IllegalArgumentException( "Property cannot be read directly: " + propertyIndex );
+		}
+	}
+}
@@ -214,6 +214,9 @@ public interface NativeQuery<T> extends Query<T>, SQLQuery<T>, SynchronizeableQu
 	@Override
 	NativeQuery<T> setCacheRegion(String cacheRegion);
 
+	@Override
+	NativeQuery<T> setCacheTags(String... tags);
+
 	@Override
 	NativeQuery<T> setTimeout(int timeout);
 
@@ -93,6 +93,33 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	 */
 	Stream<R> stream();
 
+	/**
+	 * Retrieve a Stream over the query results, keeping only the entities of the last {@code windowSize}
+	 * results managed by the session.
+	 * <p/>
+	 * The entities of older results are {@linkplain org.hibernate.Session#evict evicted} as the stream moves
+	 * past them, so that streaming a large number of results runs in constant memory without having to
+	 * {@linkplain org.hibernate.Session#clear clear} the session.  Only the entities loaded while streaming are
+	 * evicted, be it as results, as their associations or fetches, or while processing the results, along with
+	 * the associations cascading eviction: the entities already managed when the stream started are kept, and
+	 * so are the entities modified or removed while within the window, whose changes are flushed as usual.  As with an explicit eviction, the uninitialized lazy associations of an evicted entity
+	 * can no longer be initialized: such entities should be navigated while they are within the window.
+	 * <p/>
+	 * Unless a {@link #setFetchSize fetch size} is set on this query, the window size is used as JDBC fetch size.
+	 *
+	 * <p>
+	 *
+	 * You should call {@link java.util.stream.Stream#close()} after processing the stream
+	 * so that the underlying resources are deallocated right away.
+	 *
+	 * @param windowSize The number of results whose entities are kept managed
+	 *
+	 * @return The results Stream
+	 *
+	 * @since 5.4
+	 */
+	Stream<R> stream(int windowSize);
+
 	/**
 	 * Apply the given graph using the given semantic
 	 *
@@ -278,6 +305,24 @@ public interface Query<R> extends TypedQuery<R>, org.hibernate.Query<R>, CommonQ
 	@Override
 	Query<R> setCacheRegion(String cacheRegion);
 
+	/**
+	 * Declare the query cache tags of the rows read by this query, so that its cached results are only made
+	 * stale by writes of rows carrying one of these tags (or of rows whose tag is unknown).  Ignored unless a
+	 * {@link org.hibernate.cache.spi.QueryCacheTagResolver} is configured.
+	 *
+	 * @param tags The tags
+	 *
+	 * @return {@code this}, for method chaining
+	 *
+	 * @see org.hibernate.cfg.AvailableSettings#QUERY_CACHE_TAG_RESOLVER
+	 */
+	Query<R> setCacheTags(String... tags);
+
+	/**
+	 * The query cache tags declared by {@link #setCacheTags}, or {@code null}
+	 */
+	String[] getCacheTags();
+
 	@Override
 	Query<R> setTimeout(int timeout);
 
@@ -91,6 +91,11 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return jpqlQuery.stream();
 	}
 
+	@Override
+	public Stream<X> stream(int windowSize) {
+		return jpqlQuery.stream( windowSize );
+	}
+
 	@Override
 	public List<X> list() {
 		return jpqlQuery.list();
@@ -228,6 +233,17 @@ public class CriteriaQueryTypeQueryAdapter<X> implements QueryImplementor<X> {
 		return this;
 	}
 
+	@Override
+	public String[] getCacheTags() {
+		return jpqlQuery.getCacheTags();
+	}
+
+	@Override
+	public QueryImplementor setCacheTags(String... tags) {
+		jpqlQuery.setCacheTags( tags );
+		return this;
+	}
+
 	@Override
 	public Integer getTimeout() {
 		return jpqlQuery.getTimeout();
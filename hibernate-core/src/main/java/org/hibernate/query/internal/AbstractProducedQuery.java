@@ -52,6 +52,7 @@ import org.hibernate.engine.query.spi.HQLQueryPlan;
 import org.hibernate.engine.spi.ExceptionConverter;
 import org.hibernate.engine.spi.QueryParameters;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.TypedValue;
 import org.hibernate.graph.GraphSemantic;
@@ -119,6 +120,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 	private CacheRetrieveMode cacheRetrieveMode;
 	private boolean cacheable;
 	private String cacheRegion;
+	private String[] cacheTags;
 	private Boolean readOnly;
 
 	private LockOptions lockOptions = new LockOptions();
@@ -220,6 +222,18 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return this;
 	}
 
+	@Override
+	public String[] getCacheTags() {
+		return cacheTags;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public QueryImplementor setCacheTags(String... cacheTags) {
+		this.cacheTags = cacheTags;
+		return this;
+	}
+
 	@Override
 	public Integer getTimeout() {
 		return queryOptions.getTimeout();
@@ -1390,6 +1404,7 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 				resultTransformer
 		);
 		queryParameters.setQueryPlan( entityGraphHintedQueryPlan );
+		queryParameters.setCacheTags( cacheTags );
 		if ( passDistinctThrough != null ) {
 			queryParameters.setPassDistinctThrough( passDistinctThrough );
 		}
@@ -1514,6 +1529,45 @@ public abstract class AbstractProducedQuery<R> implements QueryImplementor<R> {
 		return stream;
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public Stream<R> stream(int windowSize) {
+		if ( windowSize < 1 ) {
+			throw new IllegalArgumentException( "The window size must be positive: " + windowSize );
+		}
+		if ( !( getProducer() instanceof SessionImplementor ) ) {
+			// a stateless session keeps no entities
+			return stream();
+		}
+		if ( getMaxResults() == 0 ) {
+			final Spliterator<R> spliterator = Spliterators.emptySpliterator();
+			return StreamSupport.stream( spliterator, false );
+		}
+
+		final Integer fetchSize = queryOptions.getFetchSize();
+		if ( fetchSize == null ) {
+			queryOptions.setFetchSize( windowSize );
+		}
+		final ScrollableResultsImplementor scrollableResults;
+		try {
+			scrollableResults = scroll( ScrollMode.FORWARD_ONLY );
+		}
+		finally {
+			queryOptions.setFetchSize( fetchSize );
+		}
+		final ScrollableResultsIterator<R> iterator = new EvictingScrollableResultsIterator<>(
+				scrollableResults,
+				(SessionImplementor) getProducer(),
+				windowSize
+		);
+		final Spliterator<R> spliterator = Spliterators.spliteratorUnknownSize( iterator, Spliterator.NONNULL );
+
+		final Stream<R> stream = StreamSupport.stream( spliterator, false );
+		stream.onClose( iterator::close );
+
+		return stream;
+	}
+
 	@Override
 	public Optional<R> uniqueResultOptional() {
 		return Optional.ofNullable( uniqueResult() );
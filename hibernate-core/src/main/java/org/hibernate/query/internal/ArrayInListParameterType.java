@@ -0,0 +1,140 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.AbstractStandardBasicType;
+import org.hibernate.type.Type;
+import org.hibernate.type.descriptor.converter.AttributeConverterTypeAdapter;
+import org.hibernate.usertype.LoggableUserType;
+import org.hibernate.usertype.UserType;
+
+/**
+ * Binds the values of a collection-valued parameter, collected into an {@code Object[]}, as a single JDBC
+ * {@link java.sql.Array} of the given element type.  Only ever used for binding query parameters, although
+ * such an array is read back as the {@code Object[]} of its elements.
+ *
+ * @see org.hibernate.cfg.AvailableSettings#IN_CLAUSE_PARAMETER_ARRAY_BINDING
+ * @see org.hibernate.loader.BatchFetchStyle#ARRAY
+ */
+public class ArrayInListParameterType implements UserType, LoggableUserType, Serializable {
+	private static final Set<Class> ELEMENT_TYPES = new HashSet<>(
+			Arrays.asList( Long.class, Integer.class, Short.class, BigDecimal.class, String.class )
+	);
+
+	private final String elementTypeName;
+
+	public ArrayInListParameterType(String elementTypeName) {
+		this.elementTypeName = elementTypeName;
+	}
+
+	/**
+	 * Resolve the SQL type name of the elements of an array binding values of the given type.
+	 *
+	 * @param type The type of the values
+	 * @param factory The SessionFactory
+	 *
+	 * @return The element type name, or {@code null} if the dialect does not support array in lists, or if
+	 * values of that type cannot be bound as array elements
+	 */
+	public static String resolveElementTypeName(Type type, SessionFactoryImplementor factory) {
+		final Dialect dialect = factory.getJdbcServices().getJdbcEnvironment().getDialect();
+		if ( !dialect.supportsArrayInListBinding() ) {
+			return null;
+		}
+
+		// the values are bound as they are, which is only safe for the types with a plain JDBC representation
+		if ( !( type instanceof AbstractStandardBasicType )
+				|| type instanceof AttributeConverterTypeAdapter
+				|| !ELEMENT_TYPES.contains( type.getReturnedClass() ) ) {
+			return null;
+		}
+
+		return dialect.getArrayElementTypeName( type.sqlTypes( factory )[0] );
+	}
+
+	@Override
+	public int[] sqlTypes() {
+		return new int[] { Types.ARRAY };
+	}
+
+	@Override
+	public Class returnedClass() {
+		return Object[].class;
+	}
+
+	@Override
+	public boolean equals(Object x, Object y) {
+		return Arrays.equals( (Object[]) x, (Object[]) y );
+	}
+
+	@Override
+	public int hashCode(Object x) {
+		return Arrays.hashCode( (Object[]) x );
+	}
+
+	@Override
+	public Object nullSafeGet(ResultSet rs, String[] names, SharedSessionContractImplementor session, Object owner)
+			throws SQLException {
+		final Array array = rs.getArray( names[0] );
+		return array == null ? null : array.getArray();
+	}
+
+	@Override
+	public void nullSafeSet(PreparedStatement st, Object value, int index, SharedSessionContractImplementor session)
+			throws SQLException {
+		if ( value == null ) {
+			st.setNull( index, Types.ARRAY );
+		}
+		else {
+			st.setArray( index, st.getConnection().createArrayOf( elementTypeName, (Object[]) value ) );
+		}
+	}
+
+	@Override
+	public Object deepCopy(Object value) {
+		return value == null ? null : ( (Object[]) value ).clone();
+	}
+
+	@Override
+	public boolean isMutable() {
+		return true;
+	}
+
+	@Override
+	public Serializable disassemble(Object value) {
+		return (Serializable) deepCopy( value );
+	}
+
+	@Override
+	public Object assemble(Serializable cached, Object owner) {
+		return deepCopy( cached );
+	}
+
+	@Override
+	public Object replace(Object original, Object target, Object owner) {
+		return deepCopy( original );
+	}
+
+	@Override
+	public String toLoggableString(Object value, SessionFactoryImplementor factory) {
+		return value == null ? "null" : Arrays.toString( (Object[]) value );
+	}
+}
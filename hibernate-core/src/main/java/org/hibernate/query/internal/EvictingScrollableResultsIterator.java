@@ -0,0 +1,190 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.query.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.Status;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
+
+/**
+ * A {@link ScrollableResultsIterator} keeping the entities of only the last rows it returned managed by the
+ * session: the entities of older rows are evicted, so that the persistence context does not grow with the
+ * number of rows.  The entities of a row are those of its elements, along with every entity which became
+ * managed while the row was loaded, as its EAGER associations and fetch joins, or while it was processed.  An
+ * entity belonging to several rows of the window is evicted once all of them left it.
+ * <p/>
+ * Only the entities loaded while streaming are evicted, as reported by the persistence context: those already
+ * managed when the stream started are left alone, and so are those modified or scheduled for deletion
+ * meanwhile, whose changes remain to be flushed.
+ *
+ * @see org.hibernate.query.Query#stream(int)
+ * @see PersistenceContext#addManagedEntityListener
+ */
+class EvictingScrollableResultsIterator<T> extends ScrollableResultsIterator<T> {
+	private final SessionImplementor session;
+	private final PersistenceContext persistenceContext;
+	private final int windowSize;
+
+	private final ArrayDeque<Set<Object>> window = new ArrayDeque<>();
+	private final Map<Object, Integer> windowEntities = new IdentityHashMap<>();
+
+	// the entities which became managed since they were last assigned to a row
+	private final List<Object> managedEntities = new ArrayList<>();
+	private final Consumer<Object> managedEntityListener = managedEntities::add;
+	private boolean listening;
+
+	EvictingScrollableResultsIterator(
+			ScrollableResultsImplementor scrollableResults,
+			SessionImplementor session,
+			int windowSize) {
+		super( scrollableResults );
+		this.session = session;
+		this.persistenceContext = session.getPersistenceContextInternal();
+		this.windowSize = windowSize;
+		persistenceContext.addManagedEntityListener( managedEntityListener );
+		listening = true;
+	}
+
+	@Override
+	public void close() {
+		stopListening();
+		super.close();
+	}
+
+	@Override
+	public boolean hasNext() {
+		// the entities loaded while the last row was processed belong to it
+		if ( !window.isEmpty() ) {
+			final Set<Object> row = window.getLast();
+			for ( Object entity : managedEntities ) {
+				assign( entity, row );
+			}
+			managedEntities.clear();
+		}
+		final boolean hasNext = super.hasNext();
+		if ( !hasNext ) {
+			stopListening();
+		}
+		return hasNext;
+	}
+
+	@Override
+	public T next() {
+		final T next = super.next();
+		if ( session.isOpen() ) {
+			enter( next instanceof Object[] ? (Object[]) next : new Object[] { next } );
+		}
+		return next;
+	}
+
+	private void stopListening() {
+		if ( listening ) {
+			persistenceContext.removeManagedEntityListener( managedEntityListener );
+			listening = false;
+		}
+	}
+
+	private void enter(Object[] elements) {
+		final Set<Object> row = Collections.newSetFromMap( new IdentityHashMap<>() );
+		for ( Object entity : managedEntities ) {
+			assign( entity, row );
+		}
+		managedEntities.clear();
+		// elements loaded by a previous row which is still within the window
+		for ( Object element : elements ) {
+			final Object entity = resolveEntity( element );
+			if ( entity != null && windowEntities.containsKey( entity ) ) {
+				assign( entity, row );
+			}
+		}
+		window.addLast( row );
+		while ( window.size() > windowSize ) {
+			leave( window.removeFirst() );
+		}
+	}
+
+	private void assign(Object entity, Set<Object> row) {
+		if ( row.add( entity ) ) {
+			windowEntities.merge( entity, 1, Integer::sum );
+		}
+	}
+
+	private void leave(Set<Object> row) {
+		for ( Object entity : row ) {
+			final int count = windowEntities.get( entity );
+			if ( count > 1 ) {
+				windowEntities.put( entity, count - 1 );
+			}
+			else {
+				windowEntities.remove( entity );
+				if ( isUnmodified( entity ) ) {
+					session.evict( entity );
+				}
+			}
+		}
+	}
+
+	/**
+	 * The managed entity instance of an element of a row, or {@code null} if the element is no entity, or an
+	 * uninitialized proxy holding none.
+	 */
+	private Object resolveEntity(Object element) {
+		if ( element instanceof HibernateProxy ) {
+			final LazyInitializer lazyInitializer = ( (HibernateProxy) element ).getHibernateLazyInitializer();
+			if ( lazyInitializer.isUninitialized() ) {
+				return null;
+			}
+			element = lazyInitializer.getImplementation();
+		}
+		return element != null && persistenceContext.getEntry( element ) != null ? element : null;
+	}
+
+	/**
+	 * Is the given entity still managed, and free of changes which the next flush would have to write?
+	 */
+	private boolean isUnmodified(Object entity) {
+		final EntityEntry entry = persistenceContext.getEntry( entity );
+		if ( entry == null || ( entry.getStatus() != Status.MANAGED && entry.getStatus() != Status.READ_ONLY ) ) {
+			return false;
+		}
+		final EntityPersister persister = entry.getPersister();
+		final Object[] values = persister.getPropertyValues( entity );
+		for ( Object value : values ) {
+			if ( value instanceof PersistentCollection && ( (PersistentCollection) value ).isDirty() ) {
+				return false;
+			}
+		}
+		if ( entry.getStatus() == Status.READ_ONLY ) {
+			return true;
+		}
+		final Object[] loadedState = entry.getLoadedState();
+		if ( loadedState == null ) {
+			// reassociated by an update, its changes are unknown
+			return false;
+		}
+		if ( entity instanceof SelfDirtinessTracker ) {
+			return !( (SelfDirtinessTracker) entity ).$$_hibernate_hasDirtyAttributes();
+		}
+		return persister.findDirty( values, loadedState, entity, session ) == null;
+	}
+}
@@ -178,7 +178,7 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 
 	private NativeSQLQuerySpecification generateQuerySpecification() {
 		return new NativeSQLQuerySpecification(
-				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer() ),
+				getQueryParameterBindings().expandListValuedParameters( getQueryString(), getProducer(), true ),
 				queryReturns.toArray( new NativeSQLQueryReturn[queryReturns.size()] ),
 				querySpaces
 		);
@@ -512,6 +512,12 @@ public class NativeQueryImpl<T> extends AbstractProducedQuery<T> implements Nati
 		return this;
 	}
 
+	@Override
+	public NativeQueryImplementor<T> setCacheTags(String... tags) {
+		super.setCacheTags( tags );
+		return this;
+	}
+
 	@Override
 	public NativeQueryImplementor<T> setTimeout(int timeout) {
 		super.setTimeout( timeout );
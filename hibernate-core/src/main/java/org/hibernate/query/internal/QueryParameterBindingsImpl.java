@@ -22,6 +22,7 @@ import org.hibernate.Incubating;
 import org.hibernate.QueryException;
 import org.hibernate.QueryParameterException;
 import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.function.ArrayInListFunction;
 import org.hibernate.engine.jdbc.spi.JdbcServices;
 import org.hibernate.engine.query.spi.NamedParameterDescriptor;
 import org.hibernate.engine.query.spi.OrdinalParameterDescriptor;
@@ -39,6 +40,7 @@ import org.hibernate.query.QueryParameter;
 import org.hibernate.query.spi.QueryParameterBinding;
 import org.hibernate.query.spi.QueryParameterBindings;
 import org.hibernate.query.spi.QueryParameterListBinding;
+import org.hibernate.type.CustomType;
 import org.hibernate.type.SerializableType;
 import org.hibernate.type.Type;
 
@@ -500,8 +502,19 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 	 * @deprecated (since 5.2) expected changes to "collection-valued parameter binding" in 6.0
 	 */
 	@Deprecated
-	@SuppressWarnings("unchecked")
 	public String expandListValuedParameters(String queryString, SharedSessionContractImplementor session) {
+		return expandListValuedParameters( queryString, session, false );
+	}
+
+	/**
+	 * @deprecated (since 5.2) expected changes to "collection-valued parameter binding" in 6.0
+	 */
+	@Deprecated
+	@SuppressWarnings("unchecked")
+	public String expandListValuedParameters(
+			String queryString,
+			SharedSessionContractImplementor session,
+			boolean nativeQuery) {
 		if ( queryString == null ) {
 			return null;
 		}
@@ -570,6 +583,33 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 					StringHelper.getLastNonWhitespaceCharacter( beforePlaceholder ) == '(' &&
 							StringHelper.getFirstNonWhitespaceCharacter( afterPlaceholder ) == ')';
 
+			if ( isEnclosedInParens ) {
+				// bind all the values as a single array, so that the query is the same whatever their number
+				final String elementTypeName = resolveArrayElementTypeName( entry.getValue(), session );
+				if ( elementTypeName != null ) {
+					final QueryParameterBinding arrayBinding = new QueryParameterBindingImpl(
+							new CustomType( new ArrayInListParameterType( elementTypeName ) ),
+							sessionFactory,
+							false
+					);
+					arrayBinding.setBindValue( bindValues.toArray() );
+					parameterBindingMap.put( sourceParam, arrayBinding );
+
+					final String arrayExpression = nativeQuery
+							? dialect.getArrayInListExpression( sourceToken, elementTypeName )
+							: ArrayInListFunction.NAME + "(" + sourceToken + ", '" + elementTypeName + "')";
+					queryString = StringHelper.replace(
+							beforePlaceholder,
+							afterPlaceholder,
+							sourceToken,
+							arrayExpression,
+							true,
+							true
+					);
+					continue;
+				}
+			}
+
 			if ( bindValues.size() == 1 && isEnclosedInParens ) {
 				// short-circuit for performance when only 1 value and the
 				// placeholder is already enclosed in parentheses...
@@ -657,6 +697,31 @@ public class QueryParameterBindingsImpl implements QueryParameterBindings {
 		return queryString;
 	}
 
+	/**
+	 * The name of the type of the elements of the array the values of the given binding are bound as, or
+	 * {@code null} if these are to be expanded instead.
+	 */
+	private String resolveArrayElementTypeName(
+			QueryParameterListBinding listBinding,
+			SharedSessionContractImplementor session) {
+		if ( !session.getFactory().getSessionFactoryOptions().inClauseParameterArrayBindingEnabled() ) {
+			return null;
+		}
+
+		final Type bindType = listBinding.getBindType();
+		final String elementTypeName = ArrayInListParameterType.resolveElementTypeName( bindType, session.getFactory() );
+		if ( elementTypeName == null ) {
+			return null;
+		}
+		for ( Object bindValue : listBinding.getBindValues() ) {
+			if ( bindValue != null && bindValue.getClass() != bindType.getReturnedClass() ) {
+				return null;
+			}
+		}
+
+		return elementTypeName;
+	}
+
 	private int getMaxOrdinalPosition() {
 		int maxOrdinalPosition = 0;
 		for ( QueryParameter<?> queryParameter : parameterBindingMap.keySet() ) {
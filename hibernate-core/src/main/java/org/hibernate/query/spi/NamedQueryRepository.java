@@ -9,6 +9,9 @@ package org.hibernate.query.spi;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
 import org.hibernate.HibernateException;
 import org.hibernate.Incubating;
@@ -145,58 +148,120 @@ public class NamedQueryRepository {
 	}
 
 	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache) {
-		Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
-
-		// Check named HQL queries
-		log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
-		for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
-				//TODO: BUG! this currently fails for named queries for non-POJO entities
-				queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
-			}
-			catch ( HibernateException e ) {
-				errors.put( namedQueryDefinition.getName(), e );
+		return checkNamedQueries( queryPlanCache, 1 );
+	}
+
+	/**
+	 * Compile the named HQL and native queries into the given QueryPlanCache, collecting the failures
+	 * by query name.
+	 *
+	 * @param queryPlanCache The cache seeded with the compiled plans
+	 * @param parallelism The number of threads compiling the queries; {@code 1} compiles them on the calling thread
+	 *
+	 * @return The failures, keyed by query name
+	 */
+	public Map<String,HibernateException> checkNamedQueries(QueryPlanCache queryPlanCache, int parallelism) {
+		final Map<String, NamedQueryDefinition> namedQueryDefinitionMap = this.namedQueryDefinitionMap;
+		final Map<String, NamedSQLQueryDefinition> namedSqlQueryDefinitionMap = this.namedSqlQueryDefinitionMap;
+
+		if ( parallelism <= 1 ) {
+			final Map<String,HibernateException> errors = new HashMap<String,HibernateException>();
+
+			// Check named HQL queries
+			log.debugf( "Checking %s named HQL queries", namedQueryDefinitionMap.size() );
+			for ( NamedQueryDefinition namedQueryDefinition : namedQueryDefinitionMap.values() ) {
+				checkNamedQuery( namedQueryDefinition, queryPlanCache, errors );
 			}
 
+			// Check native-sql queries
+			log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
+			for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
+				checkNamedSQLQuery( namedSQLQueryDefinition, queryPlanCache, errors );
+			}
 
+			return errors;
 		}
 
-		// Check native-sql queries
-		log.debugf( "Checking %s named SQL queries", namedSqlQueryDefinitionMap.size() );
-		for ( NamedSQLQueryDefinition namedSQLQueryDefinition : namedSqlQueryDefinitionMap.values() ) {
-			// this will throw an error if there's something wrong.
-			try {
-				log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
-				// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
-				// currently not doable though because of the resultset-ref stuff...
-				NativeSQLQuerySpecification spec;
-				if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
-					ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
-					if ( definition == null ) {
-						throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
+		log.debugf(
+				"Checking %s named HQL queries and %s named SQL queries on %s threads",
+				namedQueryDefinitionMap.size(),
+				namedSqlQueryDefinitionMap.size(),
+				parallelism
+		);
+		final Map<String,HibernateException> errors = new ConcurrentHashMap<String,HibernateException>();
+		final ForkJoinPool pool = new ForkJoinPool( parallelism );
+		try {
+			pool.submit(
+					() -> {
+						namedQueryDefinitionMap.values().parallelStream().forEach(
+								definition -> checkNamedQuery( definition, queryPlanCache, errors )
+						);
+						namedSqlQueryDefinitionMap.values().parallelStream().forEach(
+								definition -> checkNamedSQLQuery( definition, queryPlanCache, errors )
+						);
 					}
-					spec = new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							definition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
-				}
-				else {
-					spec =  new NativeSQLQuerySpecification(
-							namedSQLQueryDefinition.getQueryString(),
-							namedSQLQueryDefinition.getQueryReturns(),
-							namedSQLQueryDefinition.getQuerySpaces()
-					);
+			).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HibernateException( "Interrupted while checking named queries", e );
+		}
+		catch (ExecutionException e) {
+			throw new HibernateException( "Unable to check named queries", e.getCause() );
+		}
+		finally {
+			pool.shutdown();
+		}
+		return new HashMap<String,HibernateException>( errors );
+	}
+
+	private void checkNamedQuery(
+			NamedQueryDefinition namedQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named query: %s", namedQueryDefinition.getName() );
+			//TODO: BUG! this currently fails for named queries for non-POJO entities
+			queryPlanCache.getHQLQueryPlan( namedQueryDefinition.getQueryString(), false, Collections.EMPTY_MAP );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedQueryDefinition.getName(), e );
+		}
+	}
+
+	private void checkNamedSQLQuery(
+			NamedSQLQueryDefinition namedSQLQueryDefinition,
+			QueryPlanCache queryPlanCache,
+			Map<String,HibernateException> errors) {
+		// this will throw an error if there's something wrong.
+		try {
+			log.debugf( "Checking named SQL query: %s", namedSQLQueryDefinition.getName() );
+			// TODO : would be really nice to cache the spec on the query-def so as to not have to re-calc the hash;
+			// currently not doable though because of the resultset-ref stuff...
+			NativeSQLQuerySpecification spec;
+			if ( namedSQLQueryDefinition.getResultSetRef() != null ) {
+				ResultSetMappingDefinition definition = getResultSetMappingDefinition( namedSQLQueryDefinition.getResultSetRef() );
+				if ( definition == null ) {
+					throw new MappingException( "Unable to find resultset-ref definition: " + namedSQLQueryDefinition.getResultSetRef() );
 				}
-				queryPlanCache.getNativeSQLQueryPlan( spec );
+				spec = new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						definition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
 			}
-			catch ( HibernateException e ) {
-				errors.put( namedSQLQueryDefinition.getName(), e );
+			else {
+				spec =  new NativeSQLQuerySpecification(
+						namedSQLQueryDefinition.getQueryString(),
+						namedSQLQueryDefinition.getQueryReturns(),
+						namedSQLQueryDefinition.getQuerySpaces()
+				);
 			}
+			queryPlanCache.getNativeSQLQueryPlan( spec );
+		}
+		catch ( HibernateException e ) {
+			errors.put( namedSQLQueryDefinition.getName(), e );
 		}
-
-		return errors;
 	}
 }
@@ -82,6 +82,9 @@ public interface NativeQueryImplementor<T> extends QueryImplementor<T>, NativeQu
 	@Override
 	NativeQueryImplementor<T> setCacheRegion(String cacheRegion);
 
+	@Override
+	NativeQueryImplementor<T> setCacheTags(String... tags);
+
 	@Override
 	NativeQueryImplementor<T> setTimeout(int timeout);
 
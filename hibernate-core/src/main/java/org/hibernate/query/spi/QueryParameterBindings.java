@@ -28,6 +28,16 @@ public interface QueryParameterBindings {
 	void verifyParametersBound(boolean callable);
 	String expandListValuedParameters(String queryString, SharedSessionContractImplementor producer);
 
+	/**
+	 * Expand the collection-valued parameters of the given query, which is either an HQL or a native SQL query
+	 */
+	default String expandListValuedParameters(
+			String queryString,
+			SharedSessionContractImplementor producer,
+			boolean nativeQuery) {
+		return expandListValuedParameters( queryString, producer );
+	}
+
 	<T> QueryParameterListBinding<T> getQueryParameterListBinding(QueryParameter<T> parameter);
 	<T> QueryParameterListBinding<T> getQueryParameterListBinding(String name);
 	<T> QueryParameterListBinding<T> getQueryParameterListBinding(int position);
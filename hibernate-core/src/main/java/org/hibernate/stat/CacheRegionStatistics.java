@@ -73,4 +73,124 @@ public interface CacheRegionStatistics extends Serializable {
 	 * is returned instead.
 	 */
 	long getSizeInMemory();
+
+	/**
+	 * The mean time taken by the cache look-ups against the region since the
+	 * last Statistics clearing, in nanoseconds.
+	 *
+	 * This is only measured for regions accessed through the
+	 * {@link org.hibernate.cache.spi.support} access implementations; for
+	 * others, 0 is returned.
+	 */
+	default long getGetLatencyMeanNanos() {
+		return 0;
+	}
+
+	/**
+	 * The median time taken by the cache look-ups against the region since
+	 * the last Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getGetLatencyMedianNanos() {
+		return 0;
+	}
+
+	/**
+	 * The time within which 99% of the cache look-ups against the region
+	 * completed since the last Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getGetLatency99thPercentileNanos() {
+		return 0;
+	}
+
+	/**
+	 * The longest time taken by a cache look-up against the region since the
+	 * last Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getGetLatencyMaxNanos() {
+		return 0;
+	}
+
+	/**
+	 * The mean time taken by the cache puts into the region since the last
+	 * Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getPutLatencyMeanNanos() {
+		return 0;
+	}
+
+	/**
+	 * The median time taken by the cache puts into the region since the last
+	 * Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getPutLatencyMedianNanos() {
+		return 0;
+	}
+
+	/**
+	 * The time within which 99% of the cache puts into the region completed
+	 * since the last Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getPutLatency99thPercentileNanos() {
+		return 0;
+	}
+
+	/**
+	 * The longest time taken by a cache put into the region since the last
+	 * Statistics clearing, in nanoseconds.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getPutLatencyMaxNanos() {
+		return 0;
+	}
+
+	/**
+	 * The number of soft locks taken on entries of the region by
+	 * {@link org.hibernate.cache.spi.access.AccessType#READ_WRITE read-write}
+	 * accesses since the last Statistics clearing
+	 */
+	default long getSoftLockCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of cache look-ups against the region which found a soft
+	 * locked entry, and hence had to go to the database, since the last
+	 * Statistics clearing
+	 */
+	default long getSoftLockedReadCount() {
+		return 0;
+	}
+
+	/**
+	 * The number of times a read-write access to the region had to wait for
+	 * the lock guarding its entries since the last Statistics clearing
+	 */
+	default long getLockContentionCount() {
+		return 0;
+	}
+
+	/**
+	 * The estimated average size of the entries put into the region, in bytes,
+	 * computed from a sample of the puts since the last Statistics clearing.
+	 * The estimate only accounts for the cached state, not for the overhead
+	 * of the cache provider.
+	 *
+	 * @see #getGetLatencyMeanNanos()
+	 */
+	default long getEstimatedAverageEntrySize() {
+		return 0;
+	}
 }
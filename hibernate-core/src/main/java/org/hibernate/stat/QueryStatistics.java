@@ -92,6 +92,14 @@ public interface QueryStatistics extends Serializable {
 		return 0;
 	}
 
+	/**
+	 * The number of times the query plan was evicted from the cache.
+	 */
+	default long getPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
 	/**
 	 * The overall time spent to compile the plan for this particular query.
 	 */
@@ -386,4 +386,22 @@ public interface Statistics {
 		//For backward compatibility
 		return 0;
 	}
+
+	/**
+	 * Get the global number of query plans evicted from cache to make room for other plans
+	 */
+	default long getQueryPlanCacheEvictionCount() {
+		//For backward compatibility
+		return 0;
+	}
+
+	/**
+	 * Get the number of SQL loaders currently held by the entity persisters for loading entities by id: one per
+	 * lock mode and batch size actually used, as they are built on demand.  Each of them holds its own SQL and
+	 * result set mapping, which makes this count the measure of the heap taken by entity loading.
+	 */
+	default long getEntityLoaderCount() {
+		//For backward compatibility
+		return 0;
+	}
 }
@@ -26,6 +26,14 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 	private final LongAdder missCount = new LongAdder();
 	private final LongAdder putCount = new LongAdder();
 
+	private final LatencyHistogram getLatency = new LatencyHistogram();
+	private final LatencyHistogram putLatency = new LatencyHistogram();
+	private final LongAdder softLockCount = new LongAdder();
+	private final LongAdder softLockedReadCount = new LongAdder();
+	private final LongAdder lockContentionCount = new LongAdder();
+	private final LongAdder sampledEntryCount = new LongAdder();
+	private final LongAdder sampledEntrySize = new LongAdder();
+
 	CacheRegionStatisticsImpl(Region region) {
 		this.region = region;
 	}
@@ -74,6 +82,67 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 		return NO_EXTENDED_STAT_SUPPORT_RETURN;
 	}
 
+	@Override
+	public long getGetLatencyMeanNanos() {
+		return getLatency.getMeanNanos();
+	}
+
+	@Override
+	public long getGetLatencyMedianNanos() {
+		return getLatency.getPercentileNanos( 0.5d );
+	}
+
+	@Override
+	public long getGetLatency99thPercentileNanos() {
+		return getLatency.getPercentileNanos( 0.99d );
+	}
+
+	@Override
+	public long getGetLatencyMaxNanos() {
+		return getLatency.getMaxNanos();
+	}
+
+	@Override
+	public long getPutLatencyMeanNanos() {
+		return putLatency.getMeanNanos();
+	}
+
+	@Override
+	public long getPutLatencyMedianNanos() {
+		return putLatency.getPercentileNanos( 0.5d );
+	}
+
+	@Override
+	public long getPutLatency99thPercentileNanos() {
+		return putLatency.getPercentileNanos( 0.99d );
+	}
+
+	@Override
+	public long getPutLatencyMaxNanos() {
+		return putLatency.getMaxNanos();
+	}
+
+	@Override
+	public long getSoftLockCount() {
+		return softLockCount.sum();
+	}
+
+	@Override
+	public long getSoftLockedReadCount() {
+		return softLockedReadCount.sum();
+	}
+
+	@Override
+	public long getLockContentionCount() {
+		return lockContentionCount.sum();
+	}
+
+	@Override
+	public long getEstimatedAverageEntrySize() {
+		final long count = sampledEntryCount.sum();
+		return count == 0 ? 0 : sampledEntrySize.sum() / count;
+	}
+
 	void incrementHitCount() {
 		hitCount.increment();
 	}
@@ -86,6 +155,30 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 		putCount.increment();
 	}
 
+	void recordGet(long nanos) {
+		getLatency.record( nanos );
+	}
+
+	void recordPut(long nanos, long estimatedEntrySize) {
+		putLatency.record( nanos );
+		if ( estimatedEntrySize >= 0 ) {
+			sampledEntryCount.increment();
+			sampledEntrySize.add( estimatedEntrySize );
+		}
+	}
+
+	void incrementSoftLockCount() {
+		softLockCount.increment();
+	}
+
+	void incrementSoftLockedReadCount() {
+		softLockedReadCount.increment();
+	}
+
+	void incrementLockContentionCount() {
+		lockContentionCount.increment();
+	}
+
 	@Override
 	public String toString() {
 		StringBuilder buf = new StringBuilder().append( "CacheRegionStatistics" )
@@ -93,6 +186,14 @@ public class CacheRegionStatisticsImpl implements CacheRegionStatistics, SecondL
 				.append( ",hitCount=").append( this.hitCount )
 				.append( ",missCount=").append( this.missCount )
 				.append( ",putCount=").append( this.putCount )
+				.append( ",getLatencyMedianNanos=" ).append( this.getGetLatencyMedianNanos() )
+				.append( ",getLatency99thPercentileNanos=" ).append( this.getGetLatency99thPercentileNanos() )
+				.append( ",putLatencyMedianNanos=" ).append( this.getPutLatencyMedianNanos() )
+				.append( ",putLatency99thPercentileNanos=" ).append( this.getPutLatency99thPercentileNanos() )
+				.append( ",softLockCount=" ).append( this.softLockCount )
+				.append( ",softLockedReadCount=" ).append( this.softLockedReadCount )
+				.append( ",lockContentionCount=" ).append( this.lockContentionCount )
+				.append( ",estimatedAverageEntrySize=" ).append( this.getEstimatedAverageEntrySize() )
 				.append( ",elementCountInMemory=" ).append( this.getElementCountInMemory() )
 				.append( ",elementCountOnDisk=" ).append( this.getElementCountOnDisk() )
 				.append( ",sizeInMemory=" ).append( this.getSizeInMemory() )
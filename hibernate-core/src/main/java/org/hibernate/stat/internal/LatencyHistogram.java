@@ -0,0 +1,91 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.stat.internal;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds, recording without allocating.
+ * <p/>
+ * Latencies are counted in log-linear buckets: each power of two is split into 16 linear sub-buckets, so that
+ * percentiles are reported within 1/16th of the actual value, up to about 18 minutes.
+ */
+final class LatencyHistogram implements Serializable {
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_EXPONENT = 40;
+	private static final int BUCKET_COUNT = ( MAX_EXPONENT - SUB_BUCKET_BITS + 2 ) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray( BUCKET_COUNT );
+	private final LongAdder totalCount = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	void record(long nanos) {
+		if ( nanos < 0 ) {
+			nanos = 0;
+		}
+		counts.incrementAndGet( bucketIndex( nanos ) );
+		totalCount.increment();
+		totalNanos.add( nanos );
+		long max = maxNanos.get();
+		while ( nanos > max && !maxNanos.compareAndSet( max, nanos ) ) {
+			max = maxNanos.get();
+		}
+	}
+
+	long getMeanNanos() {
+		final long count = totalCount.sum();
+		return count == 0 ? 0 : totalNanos.sum() / count;
+	}
+
+	long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * The latency below which the given fraction of the recorded latencies fall, rounded up to the upper bound
+	 * of its bucket.
+	 *
+	 * @param fraction A fraction between 0 and 1
+	 */
+	long getPercentileNanos(double fraction) {
+		long remaining = (long) Math.ceil( totalCount.sum() * fraction );
+		if ( remaining <= 0 ) {
+			return 0;
+		}
+		for ( int i = 0; i < BUCKET_COUNT; i++ ) {
+			remaining -= counts.get( i );
+			if ( remaining <= 0 ) {
+				return Math.min( bucketUpperBound( i ), getMaxNanos() );
+			}
+		}
+		return getMaxNanos();
+	}
+
+	private static int bucketIndex(long nanos) {
+		if ( nanos < SUB_BUCKET_COUNT ) {
+			return (int) nanos;
+		}
+		final int exponent = Math.min( 63 - Long.numberOfLeadingZeros( nanos ), MAX_EXPONENT );
+		final int shift = exponent - SUB_BUCKET_BITS;
+		final int subBucket = (int) Math.min( ( nanos >>> shift ) - SUB_BUCKET_COUNT, SUB_BUCKET_COUNT - 1 );
+		return ( shift + 1 ) * SUB_BUCKET_COUNT + subBucket;
+	}
+
+	private static long bucketUpperBound(int index) {
+		if ( index < SUB_BUCKET_COUNT ) {
+			return index;
+		}
+		final int shift = index / SUB_BUCKET_COUNT - 1;
+		final long subBucket = index % SUB_BUCKET_COUNT;
+		return ( ( SUB_BUCKET_COUNT + subBucket + 1 ) << shift ) - 1;
+	}
+}
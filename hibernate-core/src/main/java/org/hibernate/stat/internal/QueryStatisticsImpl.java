@@ -35,6 +35,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 
 	private final LongAdder planCacheHitCount = new LongAdder();
 	private final LongAdder planCacheMissCount = new LongAdder();
+	private final LongAdder planCacheEvictionCount = new LongAdder();
 	private final AtomicLong planCompilationTotalMicroseconds = new AtomicLong();
 
 
@@ -146,6 +147,13 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		return planCacheMissCount.sum();
 	}
 
+	/**
+	 * Query plan evicted from the cache
+	 */
+	public long getPlanCacheEvictionCount() {
+		return planCacheEvictionCount.sum();
+	}
+
 	/**
 	 * Query plan overall compiled total
 	 */
@@ -202,6 +210,10 @@ public class QueryStatisticsImpl implements QueryStatistics {
 		planCacheHitCount.increment();
 	}
 
+	void incrementPlanCacheEvictionCount() {
+		planCacheEvictionCount.increment();
+	}
+
 	public String toString() {
 		return "QueryStatistics"
 				+ "[query=" + query
@@ -210,6 +222,7 @@ public class QueryStatisticsImpl implements QueryStatistics {
 				+ ",cachePutCount=" + this.cachePutCount
 				+ ",planCacheHitCount=" + this.planCacheHitCount
 				+ ",planCacheMissCount=" + this.planCacheMissCount
+				+ ",planCacheEvictionCount=" + this.planCacheEvictionCount
 				+ ",executionCount=" + this.executionCount
 				+ ",executionRowCount=" + this.executionRowCount
 				+ ",executionAvgTime=" + this.getExecutionAvgTime()
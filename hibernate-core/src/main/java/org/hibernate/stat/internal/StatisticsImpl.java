@@ -19,6 +19,7 @@ import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.internal.CoreMessageLogger;
 import org.hibernate.metamodel.model.domain.NavigableRole;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.service.Service;
 import org.hibernate.service.spi.Manageable;
@@ -87,6 +88,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 	private final LongAdder queryPlanCacheHitCount = new LongAdder();
 	private final LongAdder queryPlanCacheMissCount = new LongAdder();
+	private final LongAdder queryPlanCacheEvictionCount = new LongAdder();
 
 	private final LongAdder updateTimestampsCacheHitCount = new LongAdder();
 	private final LongAdder updateTimestampsCacheMissCount = new LongAdder();
@@ -191,6 +193,7 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 
 		queryPlanCacheHitCount.reset();
 		queryPlanCacheMissCount.reset();
+		queryPlanCacheEvictionCount.reset();
 
 		startTime = System.currentTimeMillis();
 	}
@@ -581,6 +584,31 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		);
 	}
 
+	@Override
+	public void cacheRegionGet(String regionName, long latencyNanos) {
+		getDomainDataRegionStatistics( regionName ).recordGet( latencyNanos );
+	}
+
+	@Override
+	public void cacheRegionPut(String regionName, long latencyNanos, long estimatedEntrySize) {
+		getDomainDataRegionStatistics( regionName ).recordPut( latencyNanos, estimatedEntrySize );
+	}
+
+	@Override
+	public void cacheRegionSoftLock(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementSoftLockCount();
+	}
+
+	@Override
+	public void cacheRegionSoftLockedRead(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementSoftLockedReadCount();
+	}
+
+	@Override
+	public void cacheRegionLockContention(String regionName) {
+		getDomainDataRegionStatistics( regionName ).incrementLockContentionCount();
+	}
+
 	@Override
 	public CacheRegionStatisticsImpl getQueryRegionStatistics(String regionName) {
 		final CacheRegionStatisticsImpl existing = l2CacheStatsMap.get( regionName );
@@ -795,6 +823,22 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		return queryPlanCacheMissCount.sum();
 	}
 
+	@Override
+	public long getQueryPlanCacheEvictionCount() {
+		return queryPlanCacheEvictionCount.sum();
+	}
+
+	@Override
+	public long getEntityLoaderCount() {
+		long count = 0;
+		for ( EntityPersister persister : metamodel.entityPersisters().values() ) {
+			if ( persister instanceof AbstractEntityPersister ) {
+				count += ( (AbstractEntityPersister) persister ).getEntityLoaderCount();
+			}
+		}
+		return count;
+	}
+
 	@Override
 	public void queryCompiled(String hql, long microseconds) {
 		queryPlanCacheMissCount.increment();
@@ -804,6 +848,15 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 		}
 	}
 
+	@Override
+	public void queryPlanCacheEviction(String hql) {
+		queryPlanCacheEvictionCount.increment();
+
+		if ( hql != null ) {
+			getQueryStatistics( hql ).incrementPlanCacheEvictionCount();
+		}
+	}
+
 	@Override
 	public void queryPlanCacheHit(String hql) {
 		queryPlanCacheHitCount.increment();
@@ -986,6 +1039,8 @@ public class StatisticsImpl implements StatisticsImplementor, Service, Manageabl
 				.append( ",max query time=" ).append( queryExecutionMaxTime )
 				.append( ",query plan cache hits=" ).append( queryPlanCacheHitCount )
 				.append( ",query plan cache misses=" ).append( queryPlanCacheMissCount )
+				.append( ",query plan cache evictions=" ).append( queryPlanCacheEvictionCount )
+				.append( ",entity loaders=" ).append( getEntityLoaderCount() )
 				.append( ']' )
 				.toString();
 	}
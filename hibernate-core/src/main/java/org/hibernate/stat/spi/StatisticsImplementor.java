@@ -266,4 +266,61 @@ public interface StatisticsImplementor extends Statistics, Service {
 	default void queryCompiled(String hql, long microseconds) {
 		//For backward compatibility
 	}
+
+	/**
+	 * Callback indicating the eviction of a query plan from the query plan cache.
+	 *
+	 * @param hql The query, or {@code null} for plans other than HQL query plans
+	 */
+	default void queryPlanCacheEviction(String hql) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from a second-level cache region, whether a hit or a miss.
+	 *
+	 * @param regionName The name of the cache region
+	 * @param latencyNanos The time taken by the get, in nanoseconds
+	 */
+	default void cacheRegionGet(String regionName, long latencyNanos) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a put into a second-level cache region.
+	 *
+	 * @param regionName The name of the cache region
+	 * @param latencyNanos The time taken by the put, in nanoseconds
+	 * @param estimatedEntrySize The estimated size of the entry put, in bytes, or a negative value if not estimated
+	 */
+	default void cacheRegionPut(String regionName, long latencyNanos, long estimatedEntrySize) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a soft lock taken on an entry of a second-level cache region.
+	 *
+	 * @param regionName The name of the cache region
+	 */
+	default void cacheRegionSoftLock(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a get from a second-level cache region which found a soft locked entry.
+	 *
+	 * @param regionName The name of the cache region
+	 */
+	default void cacheRegionSoftLockedRead(String regionName) {
+		//For backward compatibility
+	}
+
+	/**
+	 * Callback indicating a wait for the lock guarding the entries of a second-level cache region.
+	 *
+	 * @param regionName The name of the cache region
+	 */
+	default void cacheRegionLockContention(String regionName) {
+		//For backward compatibility
+	}
 }
@@ -177,6 +177,15 @@ public abstract class EntityType extends AbstractType implements AssociationType
 		return referenceToPrimaryKey;
 	}
 
+	/**
+	 * Is the associated entity loaded, rather than proxied, when resolving its identifier?
+	 *
+	 * @return True if the associated entity is fetched eagerly.
+	 */
+	public boolean isEager() {
+		return eager;
+	}
+
 	@Override
 	public String getRHSUniqueKeyPropertyName() {
 		// Return null if this type references a PK.  This is important for
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.cache.internal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the eviction policy of {@link TinyLfuStorageAccess}.
+ */
+public class TinyLfuStorageAccessTest {
+
+	@Test
+	public void testMaximumSizeIsHonored() {
+		final TinyLfuStorageAccess storage = new TinyLfuStorageAccess( 100 );
+		for ( int i = 0; i < 1000; i++ ) {
+			storage.putIntoCache( i, "value " + i, null );
+		}
+		storage.cleanUp();
+
+		assertEquals( 100, storage.size() );
+	}
+
+	@Test
+	public void testFrequentlyReadItemsAreKept() {
+		final TinyLfuStorageAccess storage = new TinyLfuStorageAccess( 100 );
+		for ( int i = 0; i < 100; i++ ) {
+			storage.putIntoCache( i, "value " + i, null );
+		}
+		for ( int round = 0; round < 5; round++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				assertEquals( "value " + i, storage.getFromCache( i, null ) );
+			}
+			storage.cleanUp();
+		}
+
+		// a scan of items read only once does not flush the frequently read ones
+		for ( int i = 100; i < 1000; i++ ) {
+			storage.putIntoCache( i, "value " + i, null );
+		}
+		storage.cleanUp();
+
+		for ( int i = 0; i < 10; i++ ) {
+			assertTrue( storage.contains( i ) );
+		}
+	}
+
+	@Test
+	public void testUpdateKeepsASingleItem() {
+		final TinyLfuStorageAccess storage = new TinyLfuStorageAccess( 10 );
+		storage.putIntoCache( "key", "first", null );
+		storage.putIntoCache( "key", "second", null );
+
+		assertEquals( 1, storage.size() );
+		assertEquals( "second", storage.getFromCache( "key", null ) );
+	}
+
+	@Test
+	public void testEvictData() {
+		final TinyLfuStorageAccess storage = new TinyLfuStorageAccess( 10 );
+		for ( int i = 0; i < 10; i++ ) {
+			storage.putIntoCache( i, "value " + i, null );
+		}
+
+		storage.evictData( 3 );
+		assertFalse( storage.contains( 3 ) );
+		assertNull( storage.getFromCache( 3, null ) );
+
+		storage.evictData();
+		assertEquals( 0, storage.size() );
+
+		// evicted items do not count against the maximum any more
+		for ( int i = 0; i < 10; i++ ) {
+			storage.putIntoCache( i, "value " + i, null );
+		}
+		storage.cleanUp();
+		assertEquals( 10, storage.size() );
+	}
+
+	@Test
+	public void testUnbounded() {
+		final TinyLfuStorageAccess storage = new TinyLfuStorageAccess( 0 );
+		for ( int i = 0; i < 1000; i++ ) {
+			storage.putIntoCache( i, "value " + i, null );
+		}
+
+		assertEquals( 1000, storage.size() );
+	}
+}
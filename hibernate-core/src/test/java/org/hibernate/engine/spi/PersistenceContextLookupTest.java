@@ -0,0 +1,148 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.engine.spi;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the persistence context lookups by (persister, id), which do not build an {@link EntityKey}.
+ */
+public class PersistenceContextLookupTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Book.class, Author.class };
+	}
+
+	@Before
+	public void prepareData() {
+		inTransaction(
+				session -> {
+					session.persist( new Book( 1L, "Dune" ) );
+					session.persist( new Book( 2L, "Hyperion" ) );
+					session.persist( new Author( 1L, "Frank Herbert" ) );
+				}
+		);
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLookupByPersisterAndId() {
+		inTransaction(
+				session -> {
+					final PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+					final EntityPersister bookPersister = session.getFactory().getMetamodel().entityPersister( Book.class );
+					final EntityPersister authorPersister = session.getFactory().getMetamodel().entityPersister( Author.class );
+
+					assertNull( persistenceContext.getEntity( bookPersister, 1L ) );
+					assertFalse( persistenceContext.containsEntity( bookPersister, 1L ) );
+
+					final Book book = session.get( Book.class, 1L );
+					assertSame( book, persistenceContext.getEntity( bookPersister, 1L ) );
+					assertSame( book, persistenceContext.getEntity( session.generateEntityKey( 1L, bookPersister ) ) );
+					assertTrue( persistenceContext.containsEntity( bookPersister, 1L ) );
+
+					// same id, other entity hierarchy
+					assertNull( persistenceContext.getEntity( authorPersister, 1L ) );
+					assertFalse( persistenceContext.containsEntity( authorPersister, 1L ) );
+					assertNull( persistenceContext.getEntity( bookPersister, 2L ) );
+
+					assertNull( persistenceContext.getProxy( bookPersister, 2L ) );
+					final Object proxy = session.load( Book.class, 2L );
+					assertSame( proxy, persistenceContext.getProxy( bookPersister, 2L ) );
+				}
+		);
+	}
+
+	@Test
+	public void testFirstLevelCacheHits() {
+		inTransaction(
+				session -> {
+					final Book book = session.get( Book.class, 1L );
+					assertSame( book, session.get( Book.class, 1L ) );
+					assertSame( book, session.find( Book.class, 1L ) );
+					assertSame( book, session.load( Book.class, 1L ) );
+					assertSame( book, session.getReference( Book.class, 1L ) );
+
+					// a removed entity must not be returned from the persistence context
+					session.remove( book );
+					assertNull( session.get( Book.class, 1L ) );
+				}
+		);
+	}
+
+	@Test
+	public void testExistingProxyIsReturned() {
+		inTransaction(
+				session -> {
+					// once a proxy is associated with the session, it is what the session hands out
+					final Book proxy = session.load( Book.class, 2L );
+					final Book loaded = session.get( Book.class, 2L );
+					assertSame( proxy, loaded );
+					assertSame( proxy, session.get( Book.class, 2L ) );
+					assertEquals( "Hyperion", loaded.getTitle() );
+				}
+		);
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batch;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.DialectChecks;
+import org.hibernate.testing.RequiresDialectFeature;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Checks that the batches of the rows of different collections are kept open together when pipelining.
+ */
+@RequiresDialectFeature(DialectChecks.SupportsJdbcDriverProxying.class)
+public class BatchPipeliningTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider( true, false );
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Owner.class, Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.BATCH_PIPELINING, "true" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, "10" );
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testCollectionRowsAreBatchedTogether() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 1; i <= 3; i++ ) {
+				final Owner owner = new Owner( i );
+				owner.tags.add( "tag" );
+				owner.aliases.add( "alias" );
+				session.persist( owner );
+			}
+			connectionProvider.clear();
+		} );
+
+		final PreparedStatement tagStatement = connectionProvider.getPreparedStatement(
+				"insert into owner_tags (owner_id, tag) values (?, ?)" );
+		verify( tagStatement, times( 3 ) ).addBatch();
+		verify( tagStatement, times( 1 ) ).executeBatch();
+
+		final PreparedStatement aliasStatement = connectionProvider.getPreparedStatement(
+				"insert into owner_aliases (owner_id, alias) values (?, ?)" );
+		verify( aliasStatement, times( 3 ) ).addBatch();
+		verify( aliasStatement, times( 1 ) ).executeBatch();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 2L );
+			assertEquals( 1, owner.tags.size() );
+			assertEquals( 1, owner.aliases.size() );
+		} );
+	}
+
+	@Test
+	public void testEntityAndCollectionRowsInTheSameFlush() throws SQLException {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 11; i <= 13; i++ ) {
+				final Owner owner = new Owner( i );
+				owner.tags.add( "tag" );
+				for ( long j = 0; j < 2; j++ ) {
+					final Item item = new Item( 10 * i + j );
+					session.persist( item );
+					owner.items.add( item );
+				}
+				session.persist( owner );
+			}
+			connectionProvider.clear();
+		} );
+
+		final PreparedStatement tagStatement = connectionProvider.getPreparedStatement(
+				"insert into owner_tags (owner_id, tag) values (?, ?)" );
+		verify( tagStatement, times( 3 ) ).addBatch();
+		verify( tagStatement, times( 1 ) ).executeBatch();
+
+		final List<String> itemUpdates = new ArrayList<>();
+		for ( String sql : connectionProvider.getPreparedSQLStatements() ) {
+			if ( sql.startsWith( "update pipelined_item" ) ) {
+				itemUpdates.add( sql );
+			}
+		}
+		assertEquals( 1, itemUpdates.size() );
+		final PreparedStatement itemStatement = connectionProvider.getPreparedStatement( itemUpdates.get( 0 ) );
+		verify( itemStatement, times( 6 ) ).addBatch();
+		verify( itemStatement, times( 1 ) ).executeBatch();
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Owner owner = session.get( Owner.class, 12L );
+			assertEquals( 1, owner.tags.size() );
+			assertEquals( 2, owner.items.size() );
+		} );
+	}
+
+	@Entity(name = "Owner")
+	public static class Owner {
+		@Id
+		private Long id;
+
+		@ElementCollection
+		@CollectionTable(name = "owner_tags", joinColumns = @JoinColumn(name = "owner_id"))
+		@Column(name = "tag")
+		private List<String> tags = new ArrayList<>();
+
+		@ElementCollection
+		@CollectionTable(name = "owner_aliases", joinColumns = @JoinColumn(name = "owner_id"))
+		@Column(name = "alias")
+		private List<String> aliases = new ArrayList<>();
+
+		@OneToMany
+		@JoinColumn(name = "owner_id")
+		private List<Item> items = new ArrayList<>();
+
+		public Owner() {
+		}
+
+		public Owner(Long id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "pipelined_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		public Item() {
+		}
+
+		public Item(Long id) {
+			this.id = id;
+		}
+	}
+}
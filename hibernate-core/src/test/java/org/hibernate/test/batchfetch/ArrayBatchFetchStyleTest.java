@@ -0,0 +1,165 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.loader.BatchFetchStyle;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the {@link BatchFetchStyle#ARRAY} style loads each batch of entities and collections with a single
+ * statement, whatever the number of ids in the batch.
+ */
+@RequiresDialect({ H2Dialect.class, PostgreSQL81Dialect.class })
+public class ArrayBatchFetchStyleTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Shelf.class, Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.ARRAY.name() );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Book" ).executeUpdate();
+			session.createQuery( "delete from Shelf" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testBatchesUseASingleStatement() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 5; i++ ) {
+				final Shelf shelf = new Shelf( i, "shelf " + i );
+				session.persist( shelf );
+				session.persist( new Book( 2 * i, shelf ) );
+				session.persist( new Book( 2 * i + 1, shelf ) );
+			}
+		} );
+
+		final List<String> batchSelects = new ArrayList<>();
+		loadShelvesOfBooks( 5, batchSelects );
+		loadShelvesOfBooks( 3, batchSelects );
+
+		// the same two statements for both batch sizes
+		assertEquals( 4, batchSelects.size() );
+		assertEquals( batchSelects.get( 0 ), batchSelects.get( 2 ) );
+		assertEquals( batchSelects.get( 1 ), batchSelects.get( 3 ) );
+	}
+
+	private void loadShelvesOfBooks(int shelfCount, List<String> batchSelects) {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.createQuery( "from Book b where b.id < :max order by b.id", Book.class )
+					.setParameter( "max", 2L * shelfCount )
+					.list();
+			assertEquals( 2 * shelfCount, books.size() );
+
+			sqlStatementInterceptor.clear();
+			assertEquals( "shelf 0", books.get( 0 ).getShelf().getName() );
+			for ( Book book : books ) {
+				assertTrue( Hibernate.isInitialized( book.getShelf() ) );
+			}
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			batchSelects.add( sqlStatementInterceptor.getSqlQueries().getFirst() );
+
+			sqlStatementInterceptor.clear();
+			assertEquals( 2, books.get( 0 ).getShelf().getBooks().size() );
+			for ( Book book : books ) {
+				assertTrue( Hibernate.isInitialized( book.getShelf().getBooks() ) );
+				assertEquals( 2, book.getShelf().getBooks().size() );
+			}
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+			batchSelects.add( sqlStatementInterceptor.getSqlQueries().getFirst() );
+		} );
+	}
+
+	@Entity(name = "Shelf")
+	@Table(name = "array_batch_shelf")
+	@BatchSize(size = 10)
+	public static class Shelf {
+		@Id
+		private Long id;
+
+		private String name;
+
+		@OneToMany(mappedBy = "shelf")
+		@BatchSize(size = 10)
+		private List<Book> books = new ArrayList<>();
+
+		public Shelf() {
+		}
+
+		public Shelf(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "array_batch_book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		private Shelf shelf;
+
+		public Book() {
+		}
+
+		public Book(Long id, Shelf shelf) {
+			this.id = id;
+			this.shelf = shelf;
+		}
+
+		public Shelf getShelf() {
+			return shelf;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.batchfetch;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.LockMode;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the entity loaders are only built for the lock modes and batch sizes actually used.
+ */
+public class EntityLoaderCreationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Parcel.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testLoadersAreBuiltOnDemand() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		assertEquals( 0, statistics.getEntityLoaderCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 3; i++ ) {
+				session.persist( new Parcel( i ) );
+			}
+		} );
+		assertEquals( 0, statistics.getEntityLoaderCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Parcel.class, 0L );
+		} );
+		assertEquals( 1, statistics.getEntityLoaderCount() );
+
+		// a batch of 3 ids
+		doInHibernate( this::sessionFactory, session -> {
+			final Parcel first = session.load( Parcel.class, 0L );
+			session.load( Parcel.class, 1L );
+			session.load( Parcel.class, 2L );
+			Hibernate.initialize( first );
+		} );
+		assertEquals( 2, statistics.getEntityLoaderCount() );
+
+		// reuses the loaders already built
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Parcel.class, 1L );
+		} );
+		assertEquals( 2, statistics.getEntityLoaderCount() );
+
+		// another lock mode
+		doInHibernate( this::sessionFactory, session -> {
+			session.get( Parcel.class, 2L, LockMode.PESSIMISTIC_WRITE );
+		} );
+		assertEquals( 3, statistics.getEntityLoaderCount() );
+	}
+
+	@Entity(name = "Parcel")
+	@Table(name = "loader_creation_parcel")
+	@BatchSize(size = 16)
+	public static class Parcel {
+		@Id
+		private Long id;
+
+		public Parcel() {
+		}
+
+		public Parcel(Long id) {
+			this.id = id;
+		}
+	}
+}
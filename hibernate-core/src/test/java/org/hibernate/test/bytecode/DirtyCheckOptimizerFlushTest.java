@@ -0,0 +1,221 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Checks the dirty properties found, and the columns updated, when flushing with the generated dirty checkers.
+ */
+public class DirtyCheckOptimizerFlushTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Shipment.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_DIRTY_CHECK_OPTIMIZER, "true" );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		inTransaction( session -> {
+			final Shipment shipment = new Shipment();
+			shipment.id = 1L;
+			shipment.reference = "S-1";
+			shipment.quantity = 3;
+			shipment.destination = new Address( "Main Street", "Springfield" );
+			shipment.shippedOn = new Date( 1_500_000_000_000L );
+			session.persist( shipment );
+		} );
+	}
+
+	@Test
+	public void testUnchangedValues() {
+		assertFlush(
+				shipment -> {
+					shipment.reference = new String( shipment.reference );
+					shipment.quantity = new Integer( shipment.quantity );
+					shipment.destination = new Address( shipment.destination.street, shipment.destination.city );
+					shipment.shippedOn = new Date( shipment.shippedOn.getTime() );
+				}
+		);
+	}
+
+	@Test
+	public void testBasicValues() {
+		assertFlush(
+				shipment -> {
+					shipment.reference = "S-2";
+					shipment.quantity = 4;
+				},
+				"reference", "quantity"
+		);
+		assertFlush( shipment -> shipment.fragile = true, "fragile" );
+	}
+
+	@Test
+	public void testNulls() {
+		assertFlush( shipment -> shipment.weight = 12L, "weight" );
+		assertFlush( shipment -> shipment.weight = null, "weight" );
+		assertFlush( shipment -> shipment.quantity = null, "quantity" );
+		assertFlush( shipment -> shipment.weight = null );
+	}
+
+	@Test
+	public void testComponent() {
+		assertFlush(
+				shipment -> shipment.destination = new Address( "Main Street", "Shelbyville" ),
+				Collections.singleton( "destination" ),
+				"street", "city"
+		);
+		assertFlush(
+				shipment -> shipment.destination.street = "Elm Street",
+				Collections.singleton( "destination" ),
+				"street", "city"
+		);
+		assertFlush( shipment -> shipment.destination = null, Collections.singleton( "destination" ), "street", "city" );
+		assertFlush( shipment -> shipment.destination = null );
+	}
+
+	@Test
+	public void testMutableValue() {
+		assertFlush( shipment -> shipment.shippedOn.setTime( 1_600_000_000_000L ), "shippedOn" );
+		assertFlush( shipment -> shipment.shippedOn = null, "shippedOn" );
+	}
+
+	private void assertFlush(Consumer<Shipment> change, String... dirtyProperties) {
+		assertFlush( change, new HashSet<>( Arrays.asList( dirtyProperties ) ), dirtyProperties );
+	}
+
+	private void assertFlush(Consumer<Shipment> change, Set<String> dirtyProperties, String... updatedColumns) {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Shipment.class );
+		inTransaction( session -> {
+			final Shipment shipment = session.get( Shipment.class, 1L );
+			change.accept( shipment );
+
+			final int[] dirty = persister.findDirty(
+					persister.getPropertyValues( shipment ),
+					session.getPersistenceContext().getEntry( shipment ).getLoadedState(),
+					shipment,
+					session
+			);
+			if ( dirtyProperties.isEmpty() ) {
+				assertNull( dirty );
+			}
+			else {
+				final Set<String> dirtyPropertyNames = new HashSet<>();
+				for ( int index : dirty ) {
+					dirtyPropertyNames.add( persister.getPropertyNames()[index] );
+				}
+				assertEquals( dirtyProperties, dirtyPropertyNames );
+			}
+
+			sqlStatementInterceptor.clear();
+			session.flush();
+			final List<String> updates = sqlStatementInterceptor.getSqlQueries().stream()
+					.filter( sql -> sql.toLowerCase( Locale.ROOT ).startsWith( "update" ) )
+					.collect( Collectors.toList() );
+			if ( updatedColumns.length == 0 ) {
+				assertEquals( 0, updates.size() );
+			}
+			else {
+				assertEquals( 1, updates.size() );
+				final Set<String> expectedColumns = new HashSet<>();
+				for ( String column : updatedColumns ) {
+					expectedColumns.add( column.toLowerCase( Locale.ROOT ) );
+				}
+				assertEquals( expectedColumns, getUpdatedColumns( updates.get( 0 ) ) );
+			}
+		} );
+	}
+
+	private static Set<String> getUpdatedColumns(String update) {
+		// update dirty_check_shipment set a=?, b=? where id=?
+		final String sql = update.toLowerCase( Locale.ROOT );
+		final String assignments = sql.substring( sql.indexOf( " set " ) + 5, sql.indexOf( " where " ) );
+		final Set<String> columns = new HashSet<>();
+		for ( String assignment : assignments.split( "," ) ) {
+			columns.add( assignment.substring( 0, assignment.indexOf( '=' ) ).trim() );
+		}
+		return columns;
+	}
+
+	@Entity(name = "Shipment")
+	@Table(name = "dirty_check_shipment")
+	@DynamicUpdate
+	public static class Shipment {
+		@Id
+		private Long id;
+
+		private String reference;
+
+		private Integer quantity;
+
+		private Long weight;
+
+		private boolean fragile;
+
+		@Embedded
+		private Address destination;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date shippedOn;
+	}
+
+	@Embeddable
+	public static class Address {
+		private String street;
+
+		private String city;
+
+		public Address() {
+		}
+
+		public Address(String street, String city) {
+			this.street = street;
+			this.city = city;
+		}
+	}
+}
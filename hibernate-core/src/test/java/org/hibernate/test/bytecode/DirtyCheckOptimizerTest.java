@@ -0,0 +1,92 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.hibernate.bytecode.enhance.spi.LazyPropertyInitializer;
+import org.hibernate.bytecode.spi.DirtyCheckOptimizer;
+import org.hibernate.cfg.Environment;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+public class DirtyCheckOptimizerTest extends BaseUnitTestCase {
+
+	private static final DirtyCheckOptimizer.PropertyDirtyCheck NEVER_DIRTY =
+			(index, currentState, previousState, session) -> false;
+
+	@Test
+	public void testEqualityCheckedProperties() {
+		final DirtyCheckOptimizer optimizer = Environment.getBytecodeProvider().getDirtyCheckOptimizer(
+				Bean.class,
+				new boolean[] { true, true, true, true }
+		);
+		assertNotNull( optimizer );
+
+		final Object[] loaded = { "a", 1, null, 2L };
+		assertNull( optimizer.findDirty( new Object[] { "a", 1, null, 2L }, loaded, NEVER_DIRTY, null ) );
+		assertNull( optimizer.findDirty( new Object[] { new String( "a" ), 1, null, 2L }, loaded, NEVER_DIRTY, null ) );
+
+		assertArrayEquals(
+				new int[] { 0, 2 },
+				optimizer.findDirty( new Object[] { "b", 1, "c", 2L }, loaded, NEVER_DIRTY, null )
+		);
+		assertArrayEquals(
+				new int[] { 1, 3 },
+				optimizer.findDirty( new Object[] { "a", 2, null, null }, loaded, NEVER_DIRTY, null )
+		);
+	}
+
+	@Test
+	public void testUnfetchedProperties() {
+		final DirtyCheckOptimizer optimizer = Environment.getBytecodeProvider().getDirtyCheckOptimizer(
+				Bean.class,
+				new boolean[] { true, true }
+		);
+
+		final Object unfetched = LazyPropertyInitializer.UNFETCHED_PROPERTY;
+		assertNull( optimizer.findDirty( new Object[] { unfetched, "a" }, new Object[] { "x", "a" }, NEVER_DIRTY, null ) );
+		assertArrayEquals(
+				new int[] { 0 },
+				optimizer.findDirty( new Object[] { "x", "a" }, new Object[] { unfetched, "a" }, NEVER_DIRTY, null )
+		);
+	}
+
+	@Test
+	public void testFallbackProperties() {
+		final DirtyCheckOptimizer optimizer = Environment.getBytecodeProvider().getDirtyCheckOptimizer(
+				Bean.class,
+				new boolean[] { true, false, true, false }
+		);
+
+		final List<Integer> checked = new ArrayList<>();
+		final DirtyCheckOptimizer.PropertyDirtyCheck fallback = (index, currentState, previousState, session) -> {
+			checked.add( index );
+			return index == 3;
+		};
+
+		final Date date = new Date();
+		final int[] dirty = optimizer.findDirty(
+				new Object[] { "a", date, "c", date },
+				new Object[] { "b", date, "c", date },
+				fallback,
+				null
+		);
+		assertArrayEquals( new int[] { 0, 3 }, dirty );
+		assertEquals( 2, checked.size() );
+		assertEquals( Integer.valueOf( 1 ), checked.get( 0 ) );
+		assertEquals( Integer.valueOf( 3 ), checked.get( 1 ) );
+	}
+}
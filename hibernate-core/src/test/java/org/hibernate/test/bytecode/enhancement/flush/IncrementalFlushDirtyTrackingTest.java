@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.flush;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that incremental flushes process the entities enhanced for dirty tracking only, whose writes are not
+ * intercepted.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+@EnhancementOptions(inlineDirtyChecking = true)
+public class IncrementalFlushDirtyTrackingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { TrackedDocument.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.FLUSH_INCREMENTAL, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testWritesAreFlushed() {
+		inTransaction( session -> session.persist( new TrackedDocument( 1L, "draft" ) ) );
+
+		inTransaction( session -> {
+			final TrackedDocument document = session.get( TrackedDocument.class, 1L );
+			document.setTitle( "reviewed" );
+			session.flush();
+			document.setTitle( "final" );
+		} );
+
+		inTransaction( session -> assertEquals( "final", session.get( TrackedDocument.class, 1L ).getTitle() ) );
+	}
+
+	@Entity(name = "TrackedDocument")
+	@Table(name = "incremental_tracked_document")
+	public static class TrackedDocument {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public TrackedDocument() {
+		}
+
+		public TrackedDocument(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.bytecode.enhancement.flush;
+
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.Hibernate;
+import org.hibernate.cfg.AvailableSettings;
+
+import org.hibernate.testing.bytecode.enhancement.BytecodeEnhancerRunner;
+import org.hibernate.testing.bytecode.enhancement.EnhancementOptions;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks that incremental flushes process the entities enhanced as proxies which are initialized when written to,
+ * without inline dirty tracking.
+ */
+@RunWith(BytecodeEnhancerRunner.class)
+@EnhancementOptions(lazyLoading = true)
+public class IncrementalFlushEnhancementAsProxyInitializingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { InitializedDocument.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.FLUSH_INCREMENTAL, "true" );
+		settings.put( AvailableSettings.ALLOW_ENHANCEMENT_AS_PROXY, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testWritesThroughTheProxyAreFlushed() {
+		inTransaction( session -> session.persist( new InitializedDocument( 1L, "draft" ) ) );
+
+		inTransaction( session -> {
+			final InitializedDocument document = session.load( InitializedDocument.class, 1L );
+			assertFalse( Hibernate.isInitialized( document ) );
+			document.setTitle( "final" );
+		} );
+
+		inTransaction( session -> assertEquals( "final", session.get( InitializedDocument.class, 1L ).getTitle() ) );
+	}
+
+	@Entity(name = "InitializedDocument")
+	@Table(name = "incremental_initialized_document")
+	public static class InitializedDocument {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public InitializedDocument() {
+		}
+
+		public InitializedDocument(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.ElementCollection;
+import javax.persistence.Embeddable;
+import javax.persistence.Embedded;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cache.spi.access.EntityDataAccess;
+import org.hibernate.cache.spi.entry.BinaryCacheEntry;
+import org.hibernate.cache.spi.entry.BinaryCollectionCacheEntry;
+import org.hibernate.cache.spi.entry.StandardCacheEntryImpl;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that entities and collections survive the second-level cache in the binary entry format.
+ */
+public class BinaryCacheEntryTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Product.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_BINARY_CACHE_ENTRIES, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testEntityAndCollectionAreReadFromTheCache() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		assertTrue( persister.getCacheEntryStructure() instanceof BinaryCacheEntry );
+		assertTrue(
+				sessionFactory().getMetamodel().collectionPersister( Product.class.getName() + ".tags" )
+						.getCacheEntryStructure() instanceof BinaryCollectionCacheEntry
+		);
+
+		final Date created = new Date( 1_000_000L );
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = new Product();
+			product.id = 1L;
+			product.name = "Widget";
+			product.quantity = -3;
+			product.price = new BigDecimal( "12.50" );
+			product.available = true;
+			product.created = created;
+			product.dimensions = new Dimensions( 2.5d, 4f );
+			product.tags.add( "blue" );
+			product.tags.add( "small" );
+			session.persist( product );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// loads the collection into the cache
+			session.get( Product.class, 1L ).tags.size();
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = session.get( Product.class, 1L );
+			assertEquals( "Widget", product.name );
+			assertEquals( -3, product.quantity );
+			assertEquals( new BigDecimal( "12.50" ), product.price );
+			assertTrue( product.available );
+			assertEquals( created.getTime(), product.created.getTime() );
+			assertNull( product.description );
+			assertEquals( 2.5d, product.dimensions.width, 0d );
+			assertEquals( 4f, product.dimensions.height, 0f );
+			assertEquals( 2, product.tags.size() );
+			assertTrue( product.tags.contains( "blue" ) );
+		} );
+
+		assertEquals( 2, statistics.getSecondLevelCacheHitCount() );
+		assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Test
+	public void testEntryOfAnotherMappingIsAMiss() {
+		final EntityPersister persister = sessionFactory().getMetamodel().entityPersister( Product.class );
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = new Product();
+			product.id = 2L;
+			product.name = "Gadget";
+			session.persist( product );
+		} );
+
+		// replace the cached entry with one written for a different layout of the entity
+		final BinaryCacheEntry otherLayout = new BinaryCacheEntry( persister ) {
+			@Override
+			public int getLayoutVersion() {
+				return super.getLayoutVersion() + 1;
+			}
+		};
+		doInHibernate( this::sessionFactory, session -> {
+			final Product product = session.get( Product.class, 2L );
+			final Object staleEntry = otherLayout.structure(
+					new StandardCacheEntryImpl( persister.getPropertyValues( product ), persister, null, session, product )
+			);
+			final EntityDataAccess cache = persister.getCacheAccessStrategy();
+			final Object key = cache.generateCacheKey( 2L, persister, sessionFactory(), null );
+			cache.evict( key );
+			assertTrue( cache.putFromLoad( session, key, staleEntry, null ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Gadget", session.get( Product.class, 2L ).name );
+		} );
+		assertEquals( 1, statistics.getPrepareStatementCount() );
+
+		// the stale entry was replaced once the entity was loaded
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "Gadget", session.get( Product.class, 2L ).name );
+		} );
+		assertEquals( 0, statistics.getPrepareStatementCount() );
+	}
+
+	@Entity(name = "Product")
+	@Table(name = "binary_cache_product")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+	public static class Product {
+		@Id
+		private Long id;
+
+		private String name;
+
+		private String description;
+
+		private int quantity;
+
+		private BigDecimal price;
+
+		private boolean available;
+
+		@Temporal(TemporalType.TIMESTAMP)
+		private Date created;
+
+		@Embedded
+		private Dimensions dimensions;
+
+		@ElementCollection
+		@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+		private List<String> tags = new ArrayList<>();
+	}
+
+	@Embeddable
+	public static class Dimensions {
+		private double width;
+
+		private float height;
+
+		public Dimensions() {
+		}
+
+		public Dimensions(double width, float height) {
+			this.width = width;
+			this.height = height;
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the latencies, soft locks and entry sizes recorded in the statistics of a second-level cache region.
+ */
+public class CacheRegionLatencyStatisticsTest extends BaseNonConfigCoreFunctionalTestCase {
+	private static final String REGION_NAME = "latency_item";
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testRegionStatistics() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		for ( long id = 1; id <= 50; id++ ) {
+			final Item item = new Item( id, "item " + id );
+			doInHibernate( this::sessionFactory, session -> {
+				session.persist( item );
+			} );
+		}
+		for ( long id = 1; id <= 50; id++ ) {
+			final long itemId = id;
+			doInHibernate( this::sessionFactory, session -> {
+				session.find( Item.class, itemId );
+			} );
+		}
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( REGION_NAME );
+		assertTrue( regionStatistics.getPutCount() > 0 );
+		assertTrue( regionStatistics.getGetLatencyMaxNanos() > 0 );
+		assertTrue( regionStatistics.getGetLatencyMedianNanos() <= regionStatistics.getGetLatency99thPercentileNanos() );
+		assertTrue( regionStatistics.getGetLatency99thPercentileNanos() <= regionStatistics.getGetLatencyMaxNanos() );
+		assertTrue( regionStatistics.getGetLatencyMeanNanos() <= regionStatistics.getGetLatencyMaxNanos() );
+		assertTrue( regionStatistics.getPutLatencyMaxNanos() > 0 );
+		assertTrue( regionStatistics.getPutLatencyMedianNanos() <= regionStatistics.getPutLatencyMaxNanos() );
+		assertEquals( 0, regionStatistics.getSoftLockCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.find( Item.class, 1L ).name = "renamed";
+		} );
+		assertEquals( 1, regionStatistics.getSoftLockCount() );
+
+		statistics.clear();
+		final CacheRegionStatistics clearedStatistics = statistics.getDomainDataRegionStatistics( REGION_NAME );
+		assertEquals( 0, clearedStatistics.getSoftLockCount() );
+		assertEquals( 0, clearedStatistics.getGetLatencyMaxNanos() );
+	}
+
+	@Test
+	public void testEntrySizeIsEstimated() {
+		final Statistics statistics = sessionFactory().getStatistics();
+
+		// only a sample of the puts is measured
+		for ( long id = 1; id <= 200; id++ ) {
+			final Item item = new Item( id, "item " + id );
+			doInHibernate( this::sessionFactory, session -> {
+				session.persist( item );
+			} );
+		}
+
+		final CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics( REGION_NAME );
+		assertTrue( regionStatistics.getEstimatedAverageEntrySize() > 0 );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "latency_item")
+	@Cacheable
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = REGION_NAME)
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
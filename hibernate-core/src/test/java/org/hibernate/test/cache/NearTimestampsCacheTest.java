@@ -0,0 +1,136 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.cache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cache.internal.NearTimestampsCacheFactory;
+import org.hibernate.cache.internal.NearTimestampsCacheImpl;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that cached query results are validated against the local copy of the timestamps.
+ */
+public class NearTimestampsCacheTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Ticket.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.QUERY_CACHE_FACTORY, NearTimestampsCacheFactory.class.getName() );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testInvalidationsAreSeen() {
+		final NearTimestampsCacheImpl timestampsCache =
+				(NearTimestampsCacheImpl) sessionFactory().getCache().getTimestampsCache();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Ticket( 1L, "open" ) );
+		} );
+		assertTrue( timestampsCache.getLocalSpaceCount() > 0 );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( 1, countOpenTickets() );
+		assertEquals( 1, countOpenTickets() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.find( Ticket.class, 1L ).status = "closed";
+		} );
+		assertEquals( 0, countOpenTickets() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// an invalidation made by another node
+		assertEquals( 0, countOpenTickets() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+		timestampsCache.applyInvalidations(
+				Collections.singletonMap(
+						"near_timestamps_ticket",
+						sessionFactory().getCache().getRegionFactory().nextTimestamp()
+				)
+		);
+		assertEquals( 0, countOpenTickets() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+	}
+
+	@Test
+	public void testReorderedInvalidationsDoNotLowerTimestamps() {
+		final NearTimestampsCacheImpl timestampsCache =
+				(NearTimestampsCacheImpl) sessionFactory().getCache().getTimestampsCache();
+		final RegionFactory regionFactory = sessionFactory().getCache().getRegionFactory();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new Ticket( 2L, "open" ) );
+		} );
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( 1, countOpenTickets() );
+		assertEquals( 1, countOpenTickets() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// the pre-invalidation and the invalidation of another node, received in the reverse order
+		final long invalidation = regionFactory.nextTimestamp();
+		timestampsCache.applyInvalidation( "near_timestamps_ticket", invalidation + regionFactory.getTimeout() );
+		timestampsCache.applyInvalidation( "near_timestamps_ticket", invalidation );
+		assertEquals( 1, countOpenTickets() );
+		assertEquals( 1, countOpenTickets() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+	}
+
+	private int countOpenTickets() {
+		return doInHibernate( this::sessionFactory, session -> {
+			final List<Ticket> tickets = session.createQuery( "from Ticket t where t.status = 'open'", Ticket.class )
+					.setCacheable( true )
+					.list();
+			return tickets.size();
+		} );
+	}
+
+	@Entity(name = "Ticket")
+	@Table(name = "near_timestamps_ticket")
+	public static class Ticket {
+		@Id
+		private Long id;
+
+		private String status;
+
+		public Ticket() {
+		}
+
+		public Ticket(Long id, String status) {
+			this.id = id;
+			this.status = status;
+		}
+	}
+}
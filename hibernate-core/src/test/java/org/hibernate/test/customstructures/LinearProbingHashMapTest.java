@@ -0,0 +1,137 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.customstructures;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import org.hibernate.internal.util.collections.LinearProbingHashMap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LinearProbingHashMapTest {
+
+	@Test
+	public void basicMapFunctionality() {
+		final LinearProbingHashMap<String, Integer> map = new LinearProbingHashMap<>();
+		assertTrue( map.isEmpty() );
+		assertNull( map.put( "a", 1 ) );
+		assertNull( map.put( "b", 2 ) );
+		assertEquals( Integer.valueOf( 1 ), map.put( "a", 3 ) );
+		assertEquals( 2, map.size() );
+		assertEquals( Integer.valueOf( 3 ), map.get( "a" ) );
+		assertTrue( map.containsKey( "b" ) );
+		assertTrue( map.containsValue( 2 ) );
+		assertFalse( map.containsKey( "c" ) );
+		assertNull( map.get( null ) );
+
+		assertEquals( Integer.valueOf( 2 ), map.remove( "b" ) );
+		assertNull( map.remove( "b" ) );
+		assertEquals( 1, map.size() );
+
+		map.clear();
+		assertTrue( map.isEmpty() );
+		assertNull( map.get( "a" ) );
+	}
+
+	@Test
+	public void collidingKeys() {
+		final LinearProbingHashMap<Colliding, Integer> map = new LinearProbingHashMap<>();
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new Colliding( i ), i );
+		}
+		for ( int i = 0; i < 100; i += 2 ) {
+			assertEquals( Integer.valueOf( i ), map.remove( new Colliding( i ) ) );
+		}
+		assertEquals( 50, map.size() );
+		for ( int i = 0; i < 100; i++ ) {
+			assertEquals( i % 2 == 0 ? null : Integer.valueOf( i ), map.get( new Colliding( i ) ) );
+		}
+		// re-inserting must reuse removed slots without creating duplicates
+		for ( int i = 0; i < 100; i++ ) {
+			map.put( new Colliding( i ), -i );
+		}
+		assertEquals( 100, map.size() );
+		assertEquals( Integer.valueOf( -99 ), map.get( new Colliding( 99 ) ) );
+	}
+
+	@Test
+	public void removalThroughIterators() {
+		final LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			map.put( i, i );
+		}
+
+		int visited = 0;
+		final Iterator<Map.Entry<Integer, Integer>> entries = map.entrySet().iterator();
+		while ( entries.hasNext() ) {
+			final Map.Entry<Integer, Integer> entry = entries.next();
+			visited++;
+			if ( entry.getKey() % 3 == 0 ) {
+				entries.remove();
+			}
+			else {
+				entry.setValue( -entry.getValue() );
+			}
+		}
+		assertEquals( 1000, visited );
+		assertEquals( 666, map.size() );
+		assertEquals( Integer.valueOf( -1 ), map.get( 1 ) );
+		assertNull( map.get( 3 ) );
+
+		final Iterator<Integer> values = map.values().iterator();
+		while ( values.hasNext() ) {
+			values.next();
+			values.remove();
+		}
+		assertTrue( map.isEmpty() );
+	}
+
+	@Test
+	public void behavesLikeHashMap() {
+		final Random random = new Random( 7 );
+		final LinearProbingHashMap<Integer, Integer> map = new LinearProbingHashMap<>( 4 );
+		final HashMap<Integer, Integer> reference = new HashMap<>();
+		for ( int i = 0; i < 100_000; i++ ) {
+			final Integer key = random.nextInt( 2_000 );
+			if ( random.nextBoolean() ) {
+				assertEquals( reference.put( key, i ), map.put( key, i ) );
+			}
+			else {
+				assertEquals( reference.remove( key ), map.remove( key ) );
+			}
+			assertEquals( reference.size(), map.size() );
+		}
+		assertEquals( reference, map );
+		assertEquals( map, reference );
+	}
+
+	private static class Colliding {
+		private final int value;
+
+		Colliding(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Colliding && ( (Colliding) o ).value == value;
+		}
+
+		@Override
+		public int hashCode() {
+			return 42;
+		}
+	}
+}
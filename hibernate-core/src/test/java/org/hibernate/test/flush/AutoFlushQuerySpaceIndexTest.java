@@ -0,0 +1,169 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that auto-flushes are skipped when nothing managed by the session can affect the query.
+ */
+public class AutoFlushQuerySpaceIndexTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.FLUSH_AUTO_QUERY_SPACE_INDEX, "true" );
+		configuration.setProperty( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Author.class, Book.class, Shelf.class };
+	}
+
+	@Before
+	public void prepareData() {
+		inTransaction(
+				session -> {
+					session.persist( new Author( 1L, "Jane" ) );
+					session.persist( new Shelf( 1L, null ) );
+				}
+		);
+	}
+
+	@After
+	public void cleanupData() {
+		inTransaction(
+				session -> {
+					session.createQuery( "delete from Shelf" ).executeUpdate();
+					session.createQuery( "delete from Book" ).executeUpdate();
+					session.createQuery( "delete from Author" ).executeUpdate();
+				}
+		);
+	}
+
+	@Test
+	public void testUnrelatedQueryDoesNotFlush() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction(
+				session -> {
+					session.get( Author.class, 1L ).setName( "John" );
+					statistics.clear();
+
+					session.createQuery( "from Book" ).list();
+					assertEquals( 0, statistics.getEntityUpdateCount() );
+
+					session.createQuery( "from Author" ).list();
+					assertEquals( 1, statistics.getEntityUpdateCount() );
+				}
+		);
+	}
+
+	@Test
+	public void testCascadeReachesQuerySpaces() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction(
+				session -> {
+					// the book is only reachable through the cascade from the shelf
+					session.get( Shelf.class, 1L ).setBook( new Book( 1L, "Emma" ) );
+					statistics.clear();
+
+					assertEquals( 1, session.createQuery( "from Book" ).list().size() );
+					assertEquals( 1, statistics.getEntityInsertCount() );
+				}
+		);
+	}
+
+	@Test
+	public void testQueuedActionsAreFlushed() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		inTransaction(
+				session -> {
+					statistics.clear();
+					session.persist( new Author( 2L, "Joe" ) );
+
+					assertEquals( 2, session.createQuery( "from Author" ).list().size() );
+					assertEquals( 1, statistics.getEntityInsertCount() );
+				}
+		);
+	}
+
+	@Entity(name = "Author")
+	public static class Author {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Shelf")
+	public static class Shelf {
+		@Id
+		private Long id;
+
+		@ManyToOne(cascade = CascadeType.ALL)
+		private Book book;
+
+		public Shelf() {
+		}
+
+		public Shelf(Long id, Book book) {
+			this.id = id;
+			this.book = book;
+		}
+
+		public void setBook(Book book) {
+			this.book = book;
+		}
+	}
+}
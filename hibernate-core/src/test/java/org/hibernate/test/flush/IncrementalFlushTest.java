@@ -0,0 +1,192 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.flush;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.ElementCollection;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+
+import org.hibernate.testing.junit4.BaseCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that incremental flushes only process the entities touched since the last flush.
+ */
+public class IncrementalFlushTest extends BaseCoreFunctionalTestCase {
+
+	@Override
+	protected void configure(Configuration configuration) {
+		super.configure( configuration );
+		configuration.setProperty( AvailableSettings.FLUSH_INCREMENTAL, "true" );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class[] { Note.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareData() {
+		inTransaction(
+				session -> {
+					final Note first = new Note( 1L, "first" );
+					first.getTags().add( "a" );
+					session.persist( first );
+					session.persist( new Note( 2L, "second" ) );
+				}
+		);
+	}
+
+	@Test
+	public void testOnlyTouchedEntitiesAreFlushed() {
+		inTransaction(
+				session -> {
+					final Note first = session.get( Note.class, 1L );
+					final Note second = session.get( Note.class, 2L );
+					assertFalse( session.getPersistenceContextInternal().isTouched( first ) );
+
+					first.setText( "changed" );
+					second.setText( "changed" );
+					session.touch( second );
+					assertTrue( session.getPersistenceContextInternal().isTouched( second ) );
+					session.flush();
+
+					assertFalse( session.getPersistenceContextInternal().isTouched( second ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					// the change to the untouched, non-enhanced entity went unnoticed
+					assertEquals( "first", session.get( Note.class, 1L ).getText() );
+					assertEquals( "changed", session.get( Note.class, 2L ).getText() );
+				}
+		);
+	}
+
+	@Test
+	public void testCollectionsOfUntouchedEntities() {
+		inTransaction(
+				session -> {
+					final Note first = session.get( Note.class, 1L );
+					assertEquals( 1, first.getTags().size() );
+					session.flush();
+
+					// modifying the collection touches its owner
+					first.getTags().add( "b" );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					final Note first = session.get( Note.class, 1L );
+					assertEquals( 2, first.getTags().size() );
+
+					// an untouched owner keeps its collections
+					session.get( Note.class, 2L ).setText( "changed" );
+					session.touch( session.get( Note.class, 2L ) );
+				}
+		);
+
+		inTransaction(
+				session -> assertEquals( 2, session.get( Note.class, 1L ).getTags().size() )
+		);
+	}
+
+	@Test
+	public void testEvictedEntitiesAreNoLongerTouched() {
+		inTransaction(
+				session -> {
+					final Note first = session.get( Note.class, 1L );
+					final Note second = session.get( Note.class, 2L );
+					first.setText( "changed" );
+					second.setText( "changed" );
+					session.touch( first );
+					session.touch( second );
+
+					session.evict( first );
+					assertFalse( session.getPersistenceContextInternal().isTouched( first ) );
+					assertTrue( session.getPersistenceContextInternal().isTouched( second ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					assertEquals( "first", session.get( Note.class, 1L ).getText() );
+					assertEquals( "changed", session.get( Note.class, 2L ).getText() );
+				}
+		);
+	}
+
+	@Test
+	public void testPersistAndRemoveAreFlushed() {
+		inTransaction(
+				session -> {
+					session.persist( new Note( 3L, "third" ) );
+					session.remove( session.get( Note.class, 2L ) );
+				}
+		);
+
+		inTransaction(
+				session -> {
+					assertEquals( "third", session.get( Note.class, 3L ).getText() );
+					assertNull( session.get( Note.class, 2L ) );
+				}
+		);
+	}
+
+	@Entity(name = "Note")
+	public static class Note {
+		@Id
+		private Long id;
+
+		private String text;
+
+		@ElementCollection
+		private List<String> tags = new ArrayList<>();
+
+		public Note() {
+		}
+
+		public Note(Long id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+
+		public Long getId() {
+			return id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+	}
+}
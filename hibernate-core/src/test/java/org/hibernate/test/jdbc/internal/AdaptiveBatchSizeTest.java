@@ -0,0 +1,62 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.jdbc.internal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.jdbc.batch.internal.AdaptiveBatchSize;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AdaptiveBatchSizeTest extends BaseUnitTestCase {
+	private static final long TARGET_LATENCY = TimeUnit.MILLISECONDS.toNanos( 100 );
+
+	@Test
+	public void testGrowsAtMostTwofoldForFastRows() {
+		final AdaptiveBatchSize size = new AdaptiveBatchSize( 50, 1000, TARGET_LATENCY, 0 );
+		assertEquals( 50, size.getSize() );
+
+		size.executed( 50, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+		assertEquals( 100, size.getSize() );
+		size.executed( 100, TimeUnit.MILLISECONDS.toNanos( 2 ) );
+		assertEquals( 200, size.getSize() );
+
+		for ( int i = 0; i < 10; i++ ) {
+			size.executed( size.getSize(), TimeUnit.MICROSECONDS.toNanos( 20 ) * size.getSize() );
+		}
+		assertEquals( 1000, size.getSize() );
+	}
+
+	@Test
+	public void testShrinksForSlowRows() {
+		final AdaptiveBatchSize size = new AdaptiveBatchSize( 50, 1000, TARGET_LATENCY, 0 );
+
+		// 5ms per row: 20 rows fit in the target latency
+		size.executed( 50, TimeUnit.MILLISECONDS.toNanos( 250 ) );
+		assertEquals( 20, size.getSize() );
+
+		size.executed( 20, TimeUnit.SECONDS.toNanos( 10 ) );
+		assertEquals( 1, size.getSize() );
+	}
+
+	@Test
+	public void testParameterLimit() {
+		final AdaptiveBatchSize size = new AdaptiveBatchSize( 500, 1000, TARGET_LATENCY, 1000 );
+		assertEquals( 500, size.getSize( 0 ) );
+		assertEquals( 100, size.getSize( 10 ) );
+		assertEquals( 1, size.getSize( 5000 ) );
+	}
+
+	@Test
+	public void testInitialSizeIsBounded() {
+		assertEquals( 1000, new AdaptiveBatchSize( 5000, 1000, TARGET_LATENCY, 0 ).getSize() );
+		assertEquals( 1, new AdaptiveBatchSize( 0, 1000, TARGET_LATENCY, 0 ).getSize() );
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.ops.multiLoad;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.loader.BatchFetchStyle;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks that with the {@link BatchFetchStyle#ARRAY} style, multi-load fetches all the entities which are not
+ * already managed with a single statement, and returns them in the requested order.
+ */
+@RequiresDialect({ H2Dialect.class, PostgreSQL81Dialect.class })
+public class ArrayMultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.BATCH_FETCH_STYLE, BatchFetchStyle.ARRAY.name() );
+		sqlStatementInterceptor = new SQLStatementInterceptor( settings );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testMissesAreLoadedWithASingleStatement() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long i = 0; i < 200; i++ ) {
+				session.persist( new Item( i ) );
+			}
+		} );
+
+		final Long[] ids = new Long[201];
+		for ( int i = 0; i < ids.length; i++ ) {
+			// in reverse order, and with an id of no item
+			ids[i] = 200L - i;
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Item managed = session.get( Item.class, 100L );
+
+			sqlStatementInterceptor.clear();
+			final List<Item> items = session.byMultipleIds( Item.class ).enableSessionCheck( true ).multiLoad( ids );
+			sqlStatementInterceptor.assertExecutedCount( 1 );
+
+			assertEquals( 201, items.size() );
+			assertNull( items.get( 0 ) );
+			for ( int i = 1; i < ids.length; i++ ) {
+				assertEquals( ids[i], items.get( i ).id );
+			}
+			assertSame( managed, items.get( 100 ) );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "array_multi_load_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		public Item() {
+		}
+
+		public Item(Long id) {
+			this.id = id;
+		}
+	}
+}
@@ -112,6 +112,25 @@ public class MultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
 		);
 	}
 
+	@Test
+	public void testMultiLoadBatchesShareTheirStatement() {
+		doInHibernate(
+				this::sessionFactory, session -> {
+					sqlStatementInterceptor.getSqlQueries().clear();
+
+					// 56 ids are loaded in 2 batches, the last one being padded
+					List<SimpleEntity> list = session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 56 ) );
+					assertEquals( 56, list.size() );
+					for ( int i = 0; i < 56; i++ ) {
+						assertEquals( Integer.valueOf( i + 1 ), list.get( i ).getId() );
+					}
+
+					assertEquals( 2, sqlStatementInterceptor.getSqlQueries().size() );
+					assertEquals( sqlStatementInterceptor.getSqlQueries().get( 0 ), sqlStatementInterceptor.getSqlQueries().get( 1 ) );
+				}
+		);
+	}
+
 	@Test
 	@TestForIssue( jiraKey = "HHH-10984" )
 	public void testUnflushedDeleteAndThenMultiLoad() {
@@ -283,6 +302,52 @@ public class MultiLoadTest extends BaseNonConfigCoreFunctionalTestCase {
 		} );
 	}
 
+	@Test
+	public void testUnorderedMultiLoadAllFrom2ndLevelCache() {
+		Statistics statistics = sessionFactory().getStatistics();
+		sessionFactory().getCache().evictAll();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.byMultipleIds( SimpleEntity.class ).multiLoad( ids( 3 ) );
+		} );
+		assertTrue( sessionFactory().getCache().containsEntity( SimpleEntity.class, 3 ) );
+
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.getSqlQueries().clear();
+
+			// the cache entries of the 3 items are retrieved together
+			List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class )
+					.with( CacheMode.NORMAL )
+					.enableOrderedReturn( false )
+					.multiLoad( ids( 3 ) );
+			assertEquals( 3, entities.size() );
+			assertEquals( 3, statistics.getSecondLevelCacheHitCount() );
+			assertEquals( 0, statistics.getSecondLevelCacheMissCount() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().isEmpty() );
+		} );
+	}
+
+	@Test
+	public void testMultiLoadPutsAllInto2ndLevelCache() {
+		Statistics statistics = sessionFactory().getStatistics();
+		sessionFactory().getCache().evictAll();
+		statistics.clear();
+
+		// the cache entries of the 5 items are put together, once they are all loaded
+		doInHibernate( this::sessionFactory, session -> {
+			List<SimpleEntity> entities = session.byMultipleIds( SimpleEntity.class )
+					.with( CacheMode.NORMAL )
+					.multiLoad( ids( 5 ) );
+			assertEquals( 5, entities.size() );
+		} );
+		assertEquals( 5, statistics.getSecondLevelCachePutCount() );
+		for ( int id = 1; id <= 5; id++ ) {
+			assertTrue( sessionFactory().getCache().containsEntity( SimpleEntity.class, id ) );
+		}
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HHH-12944")
 	public void testOrderedMultiLoadFrom2ndLevelCachePendingDelete() {
@@ -0,0 +1,134 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.boot.SessionFactoryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.jdbc.SQLStatementInterceptor;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the entities of a query cache hit are resolved with one multi-load per entity type.
+ */
+public class QueryCacheEntityAssemblyTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private SQLStatementInterceptor sqlStatementInterceptor;
+
+	@Override
+	protected void configureSessionFactoryBuilder(SessionFactoryBuilder sfb) {
+		sqlStatementInterceptor = new SQLStatementInterceptor( sfb );
+	}
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class, Author.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 10; i++ ) {
+				session.persist( new Book( i, "Book #" + i ) );
+				session.persist( new Author( i, "Author #" + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testUncachedEntitiesAreLoadedTogether() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Book", Book.class ).setCacheable( true ).list();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			final List<Book> books = session.createQuery( "from Book", Book.class ).setCacheable( true ).list();
+
+			assertEquals( 10, books.size() );
+			assertEquals( 1, sqlStatementInterceptor.getSqlQueries().size() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().getFirst().contains( " in (" ) );
+		} );
+	}
+
+	@Test
+	public void testCachedEntitiesAreResolvedFromTheSecondLevelCache() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Author", Author.class ).setCacheable( true ).list();
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			sqlStatementInterceptor.clear();
+			statistics.clear();
+			final List<Author> authors = session.createQuery( "from Author", Author.class ).setCacheable( true ).list();
+
+			assertEquals( 10, authors.size() );
+			assertEquals( 1, statistics.getQueryCacheHitCount() );
+			assertEquals( 10, statistics.getSecondLevelCacheHitCount() );
+			assertTrue( sqlStatementInterceptor.getSqlQueries().isEmpty() );
+		} );
+	}
+
+	@Entity(name = "Book")
+	public static class Book {
+		@Id
+		private Integer id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+
+	@Entity(name = "Author")
+	@Cacheable
+	public static class Author {
+		@Id
+		private Integer id;
+
+		private String name;
+
+		public Author() {
+		}
+
+		public Author(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.querycache;
+
+import java.util.Arrays;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cache.spi.QueryCacheTagResolver;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the cached results of queries declaring tags are only made stale by the writes of rows carrying
+ * one of these tags, or whose tag is unknown.
+ */
+public class QueryCacheTagsTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { PurchaseOrder.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "true" );
+		settings.put( AvailableSettings.USE_QUERY_CACHE, "true" );
+		settings.put( AvailableSettings.QUERY_CACHE_TAG_RESOLVER, CustomerTagResolver.class.getName() );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testOnlyMatchingWritesInvalidate() {
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new PurchaseOrder( 1L, "acme" ) );
+			session.persist( new PurchaseOrder( 2L, "globex" ) );
+		} );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		assertEquals( 1, countAcmeOrders() );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+
+		// another customer
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new PurchaseOrder( 3L, "globex" ) );
+			session.find( PurchaseOrder.class, 2L ).amount = 10;
+		} );
+		assertEquals( 1, countAcmeOrders() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+
+		// moving an order to the customer is a write for both tags
+		doInHibernate( this::sessionFactory, session -> {
+			session.find( PurchaseOrder.class, 3L ).customer = "acme";
+		} );
+		assertEquals( 2, countAcmeOrders() );
+		assertEquals( 1, statistics.getQueryCacheHitCount() );
+		assertEquals( 2, countAcmeOrders() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+
+		// a bulk update carries no tag
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "update PurchaseOrder set amount = 5 where customer = 'globex'" ).executeUpdate();
+		} );
+		assertEquals( 2, countAcmeOrders() );
+		assertEquals( 2, statistics.getQueryCacheHitCount() );
+
+		// untagged queries see every write
+		assertEquals( 3, countAllOrders() );
+		doInHibernate( this::sessionFactory, session -> {
+			session.persist( new PurchaseOrder( 4L, "initech" ) );
+		} );
+		statistics.clear();
+		assertEquals( 4, countAllOrders() );
+		assertEquals( 0, statistics.getQueryCacheHitCount() );
+	}
+
+	private int countAcmeOrders() {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from PurchaseOrder o where o.customer = 'acme'", PurchaseOrder.class )
+					.setCacheable( true )
+					.setCacheTags( "acme" )
+					.list()
+					.size();
+		} );
+	}
+
+	private int countAllOrders() {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from PurchaseOrder o", PurchaseOrder.class )
+					.setCacheable( true )
+					.list()
+					.size();
+		} );
+	}
+
+	public static class CustomerTagResolver implements QueryCacheTagResolver {
+		@Override
+		public String resolveEntityTag(
+				EntityPersister persister,
+				Object[] state,
+				SharedSessionContractImplementor session) {
+			final int index = Arrays.asList( persister.getPropertyNames() ).indexOf( "customer" );
+			return index < 0 ? null : (String) state[index];
+		}
+	}
+
+	@Entity(name = "PurchaseOrder")
+	@Table(name = "tagged_purchase_order")
+	public static class PurchaseOrder {
+		@Id
+		private Long id;
+
+		private String customer;
+
+		private int amount;
+
+		public PurchaseOrder() {
+		}
+
+		public PurchaseOrder(Long id, String customer) {
+			this.id = id;
+			this.customer = customer;
+		}
+	}
+}
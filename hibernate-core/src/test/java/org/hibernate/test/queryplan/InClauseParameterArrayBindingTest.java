@@ -0,0 +1,118 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the values of collection-valued parameters are bound as a single array, so that a single query
+ * plan serves any number of values.
+ */
+@RequiresDialect({ H2Dialect.class, PostgreSQL81Dialect.class })
+public class InClauseParameterArrayBindingTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.IN_CLAUSE_PARAMETER_ARRAY_BINDING, "true" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Before
+	public void prepareTestData() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( long id = 1; id <= 5; id++ ) {
+				session.persist( new Book( id, "Book " + id ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testSinglePlanForAllSizes() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		assertEquals( 1, findBooks( Collections.singletonList( 1L ) ).size() );
+		assertEquals( 3, findBooks( Arrays.asList( 1L, 2L, 3L ) ).size() );
+		assertEquals( 2, findBooks( Arrays.asList( 4L, 5L, 6L, 7L ) ).size() );
+		assertEquals( 0, findBooks( Collections.emptyList() ).size() );
+		assertEquals( 1, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testOrdinalParameter() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Book> books = session.createQuery( "from Book b where b.title in (?1)", Book.class )
+					.setParameterList( 1, Arrays.asList( "Book 2", "Book 3", "Book 9" ) )
+					.list();
+			assertEquals( 2, books.size() );
+		} );
+	}
+
+	@Test
+	public void testNativeQuery() {
+		doInHibernate( this::sessionFactory, session -> {
+			final List<?> titles = session.createNativeQuery( "select title from array_bound_book where id in (:ids)" )
+					.setParameterList( "ids", Arrays.asList( 1L, 5L ) )
+					.list();
+			assertEquals( 2, titles.size() );
+		} );
+	}
+
+	private List<Book> findBooks(List<Long> ids) {
+		return doInHibernate( this::sessionFactory, session -> {
+			return session.createQuery( "from Book b where b.id in (:ids)", Book.class )
+					.setParameterList( "ids", ids )
+					.list();
+		} );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "array_bound_book")
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Long id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+	}
+}
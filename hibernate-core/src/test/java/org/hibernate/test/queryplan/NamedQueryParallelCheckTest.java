@@ -0,0 +1,110 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.NamedNativeQuery;
+import javax.persistence.NamedQueries;
+import javax.persistence.NamedQuery;
+import javax.persistence.Table;
+
+import org.hibernate.HibernateException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.ResultSetMappingDefinition;
+import org.hibernate.engine.spi.NamedQueryDefinition;
+import org.hibernate.engine.spi.NamedQueryDefinitionBuilder;
+import org.hibernate.engine.spi.NamedSQLQueryDefinition;
+import org.hibernate.query.spi.NamedQueryRepository;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the startup check of named queries on several threads.
+ */
+public class NamedQueryParallelCheckTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Book.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.QUERY_STARTUP_CHECK_PARALLELISM, "4" );
+	}
+
+	@Test
+	public void testCheckedQueriesArePlanCacheHits() {
+		assertEquals( 4, sessionFactory().getSessionFactoryOptions().getNamedQueryStartupCheckParallelism() );
+
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.createNamedQuery( "Book.byTitle" ).setParameter( "title", "a" ).list();
+			session.createNamedQuery( "Book.byIsbn" ).setParameter( "isbn", "a" ).list();
+		} );
+		assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Test
+	public void testFailuresAreCollected() {
+		final List<NamedQueryDefinition> definitions = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			definitions.add(
+					new NamedQueryDefinitionBuilder( "valid" + i )
+							.setQuery( "select b.id + " + i + " from Book b" )
+							.createNamedQueryDefinition()
+			);
+		}
+		definitions.add(
+				new NamedQueryDefinitionBuilder( "invalid" )
+						.setQuery( "from UnknownEntity" )
+						.createNamedQueryDefinition()
+		);
+		final NamedQueryRepository repository = new NamedQueryRepository(
+				definitions,
+				Collections.<NamedSQLQueryDefinition>emptyList(),
+				Collections.<ResultSetMappingDefinition>emptyList(),
+				Collections.emptyMap()
+		);
+
+		final Map<String, HibernateException> errors = repository.checkNamedQueries(
+				sessionFactory().getQueryPlanCache(),
+				4
+		);
+		assertEquals( 1, errors.size() );
+		assertTrue( errors.containsKey( "invalid" ) );
+	}
+
+	@Entity(name = "Book")
+	@Table(name = "named_check_book")
+	@NamedQueries({
+			@NamedQuery(name = "Book.byTitle", query = "from Book b where b.title = :title"),
+			@NamedQuery(name = "Book.byIsbn", query = "from Book b where b.isbn = :isbn")
+	})
+	@NamedNativeQuery(name = "Book.native", query = "select * from named_check_book", resultClass = Book.class)
+	public static class Book {
+		@Id
+		private Long id;
+
+		private String title;
+
+		private String isbn;
+	}
+}
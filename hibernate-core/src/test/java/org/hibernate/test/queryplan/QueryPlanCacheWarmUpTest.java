@@ -0,0 +1,85 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.queryplan;
+
+import java.util.Arrays;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.query.spi.QueryPlanCache;
+import org.hibernate.stat.Statistics;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the warm-up and the eviction statistics of the {@link QueryPlanCache}.
+ */
+public class QueryPlanCacheWarmUpTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "true" );
+		settings.put( AvailableSettings.QUERY_PLAN_CACHE_MAX_SIZE, "10" );
+		settings.put(
+				AvailableSettings.QUERY_PLAN_CACHE_WARMUP,
+				Arrays.asList( "from Item i where i.name = :name", "from UnknownEntity" )
+		);
+	}
+
+	@Test
+	public void testWarmedUpPlanIsCached() {
+		final Statistics statistics = sessionFactory().getStatistics();
+		statistics.clear();
+
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Item i where i.name = :name" ).setParameter( "name", "a" ).list();
+		} );
+
+		assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+		assertTrue( statistics.getQueryPlanCacheHitCount() > 0 );
+
+		// plans compiled once do not displace the warmed up plan, which was used
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 50; i++ ) {
+				session.createQuery( "select i.id + " + i + " from Item i" );
+			}
+		} );
+
+		final QueryPlanCache queryPlanCache = sessionFactory().getQueryPlanCache();
+		assertTrue( queryPlanCache.getQueryPlanCount() <= 10 );
+		assertTrue( statistics.getQueryPlanCacheEvictionCount() > 0 );
+		assertEquals( queryPlanCache.getQueryPlanEvictionCount(), statistics.getQueryPlanCacheEvictionCount() );
+
+		statistics.clear();
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "from Item i where i.name = :name" );
+		} );
+		assertEquals( 0, statistics.getQueryPlanCacheMissCount() );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "plan_cache_item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.stateless;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+
+import org.hibernate.testing.RequiresDialect;
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.hibernate.test.util.jdbc.PreparedStatementSpyConnectionProvider;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that {@link StatelessSession#insertAll} inserts several rows per statement.
+ */
+@RequiresDialect(H2Dialect.class)
+public class StatelessSessionInsertAllTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	private PreparedStatementSpyConnectionProvider connectionProvider = new PreparedStatementSpyConnectionProvider();
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Item.class };
+	}
+
+	@Override
+	protected void addSettings(Map settings) {
+		settings.put( AvailableSettings.CONNECTION_PROVIDER, connectionProvider );
+	}
+
+	@Override
+	public void releaseResources() {
+		super.releaseResources();
+		connectionProvider.stop();
+	}
+
+	@Test
+	public void testInsertAll() throws SQLException {
+		final List<Item> items = new ArrayList<>();
+		for ( long i = 1; i <= 5; i++ ) {
+			items.add( new Item( i, "item " + i ) );
+		}
+
+		connectionProvider.clear();
+		try (StatelessSession session = sessionFactory().openStatelessSession()) {
+			final Transaction transaction = session.beginTransaction();
+			session.insertAll( items );
+			transaction.commit();
+		}
+
+		final List<String> inserts = connectionProvider.getPreparedSQLStatements();
+		assertEquals( 1, inserts.size() );
+		assertEquals(
+				"insert into Item (name, id) values (?, ?), (?, ?), (?, ?), (?, ?), (?, ?)",
+				inserts.get( 0 )
+		);
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( 5L, session.createQuery( "select count(i) from Item i" ).uniqueResult() );
+			assertEquals( "item 3", session.get( Item.class, 3L ).name );
+		} );
+	}
+
+	@Entity(name = "Item")
+	public static class Item {
+		@Id
+		private Long id;
+
+		private String name;
+
+		public Item() {
+		}
+
+		public Item(Long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or http://www.gnu.org/licenses/lgpl-2.1.html
+ */
+package org.hibernate.test.stream.basic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+import org.hibernate.boot.MetadataSources;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link org.hibernate.query.Query#stream(int)} keeps only a window of entities managed.
+ */
+public class WindowedStreamTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected void applyMetadataSources(MetadataSources sources) {
+		super.applyMetadataSources( sources );
+		sources.addAnnotatedClass( Item.class );
+		sources.addAnnotatedClass( Label.class );
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Override
+	protected void cleanupTestData() throws Exception {
+		doInHibernate( this::sessionFactory, session -> {
+			session.createQuery( "delete from Label" ).executeUpdate();
+			session.createQuery( "delete from Item" ).executeUpdate();
+		} );
+	}
+
+	@Test
+	public void testEntitiesLeavingTheWindowAreEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				final Item item = new Item();
+				item.id = i;
+				item.name = "item " + i;
+				session.persist( item );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Item> items = new ArrayList<>();
+			try (Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class ).stream( 5 )) {
+				stream.forEach( item -> {
+					items.add( item );
+					assertTrue( session.contains( item ) );
+					assertTrue( session.getPersistenceContext().getNumberOfManagedEntities() <= 5 );
+				} );
+			}
+
+			assertEquals( 20, items.size() );
+			assertFalse( session.contains( items.get( 0 ) ) );
+			assertFalse( session.contains( items.get( 14 ) ) );
+			for ( int i = 15; i < 20; i++ ) {
+				assertTrue( session.contains( items.get( i ) ) );
+			}
+		} );
+	}
+
+	@Test
+	public void testEntityReturnedByConsecutiveRowsStaysManaged() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 2; i++ ) {
+				final Item item = new Item();
+				item.id = i;
+				item.name = "item " + i;
+				session.persist( item );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			// every item is returned by two consecutive rows
+			final List<Item> items = new ArrayList<>();
+			try (Stream<Item> stream = session.createQuery(
+					"select i from Item i, Item j order by i.id, j.id",
+					Item.class
+			).stream( 1 )) {
+				stream.forEach( item -> {
+					items.add( item );
+					assertTrue( session.contains( item ) );
+				} );
+			}
+
+			assertEquals( 4, items.size() );
+			assertFalse( session.contains( items.get( 0 ) ) );
+			assertTrue( session.contains( items.get( 3 ) ) );
+		} );
+	}
+
+	@Test
+	public void testPreviouslyManagedAndModifiedEntitiesAreKept() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				final Item item = new Item();
+				item.id = i;
+				item.name = "item " + i;
+				session.persist( item );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final Item preloaded = session.get( Item.class, 3 );
+			preloaded.name = "changed before streaming";
+
+			final List<Item> items = new ArrayList<>();
+			try (Stream<Item> stream = session.createQuery( "from Item i order by i.id", Item.class ).stream( 5 )) {
+				stream.forEach( item -> {
+					items.add( item );
+					if ( item.id == 7 ) {
+						item.name = "changed while streaming";
+					}
+					if ( item.id == 8 ) {
+						session.remove( item );
+					}
+				} );
+			}
+
+			assertTrue( session.contains( preloaded ) );
+			assertTrue( session.contains( items.get( 6 ) ) );
+			assertFalse( session.contains( items.get( 5 ) ) );
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertEquals( "changed before streaming", session.get( Item.class, 3 ).name );
+			assertEquals( "changed while streaming", session.get( Item.class, 7 ).name );
+			assertNull( session.get( Item.class, 8 ) );
+		} );
+	}
+
+	@Test
+	public void testEagerlyAssociatedEntitiesAreEvicted() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 1; i <= 20; i++ ) {
+				final Label label = new Label();
+				label.id = i;
+				label.item = new Item();
+				label.item.id = i;
+				label.item.name = "item " + i;
+				session.persist( label.item );
+				session.persist( label );
+			}
+		} );
+
+		doInHibernate( this::sessionFactory, session -> {
+			final List<Label> labels = new ArrayList<>();
+			try (Stream<Label> stream = session.createQuery( "from Label l order by l.id", Label.class ).stream( 5 )) {
+				stream.forEach( label -> {
+					labels.add( label );
+					assertTrue( session.contains( label.item ) );
+					assertTrue( session.getPersistenceContext().getNumberOfManagedEntities() <= 10 );
+				} );
+			}
+
+			assertEquals( 20, labels.size() );
+			assertFalse( session.contains( labels.get( 0 ).item ) );
+			assertTrue( session.contains( labels.get( 19 ).item ) );
+		} );
+	}
+
+	@Entity(name = "Item")
+	@Table(name = "stream_item")
+	public static class Item {
+		@Id
+		private Integer id;
+
+		private String name;
+	}
+
+	@Entity(name = "Label")
+	@Table(name = "stream_label")
+	public static class Label {
+		@Id
+		private Integer id;
+
+		@ManyToOne
+		private Item item;
+	}
+}
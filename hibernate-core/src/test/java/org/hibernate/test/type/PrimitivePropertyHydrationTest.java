@@ -0,0 +1,132 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.type;
+
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.testing.junit4.BaseNonConfigCoreFunctionalTestCase;
+import org.junit.Test;
+
+import static org.hibernate.testing.transaction.TransactionUtil.doInHibernate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the properties of primitive types, which are read by column position when hydrating entities,
+ * keep their values and their nulls, whatever the loader.
+ */
+public class PrimitivePropertyHydrationTest extends BaseNonConfigCoreFunctionalTestCase {
+
+	@Override
+	protected Class[] getAnnotatedClasses() {
+		return new Class[] { Measure.class };
+	}
+
+	@Override
+	protected boolean isCleanupTestDataRequired() {
+		return true;
+	}
+
+	@Test
+	public void testValuesAndNulls() {
+		doInHibernate( this::sessionFactory, session -> {
+			for ( int i = 0; i < 20; i++ ) {
+				final Measure measure = new Measure( i );
+				measure.longValue = Long.MAX_VALUE - i;
+				measure.intValue = -i;
+				measure.shortValue = (short) ( 2 * i );
+				measure.doubleValue = i / 4d;
+				measure.floatValue = i / 8f;
+				measure.booleanValue = i % 2 == 0;
+				if ( i % 2 == 0 ) {
+					measure.nullableLong = (long) i;
+					measure.nullableInteger = i;
+					measure.nullableBoolean = Boolean.FALSE;
+				}
+				measure.label = "measure " + i;
+				session.persist( measure );
+			}
+		} );
+
+		// twice, with the positions of the columns resolved by the first query
+		for ( int run = 0; run < 2; run++ ) {
+			doInHibernate( this::sessionFactory, session -> {
+				final List<Measure> measures = session.createQuery( "from Measure m order by m.id", Measure.class )
+						.list();
+				assertEquals( 20, measures.size() );
+				for ( int i = 0; i < measures.size(); i++ ) {
+					assertMeasure( i, measures.get( i ) );
+				}
+			} );
+		}
+
+		doInHibernate( this::sessionFactory, session -> {
+			assertMeasure( 7, session.get( Measure.class, 7 ) );
+			assertMeasure( 8, session.get( Measure.class, 8 ) );
+		} );
+	}
+
+	private static void assertMeasure(int i, Measure measure) {
+		assertEquals( i, measure.id );
+		assertEquals( Long.MAX_VALUE - i, measure.longValue );
+		assertEquals( -i, measure.intValue );
+		assertEquals( 2 * i, measure.shortValue );
+		assertEquals( i / 4d, measure.doubleValue, 0d );
+		assertEquals( i / 8f, measure.floatValue, 0f );
+		assertEquals( i % 2 == 0, measure.booleanValue );
+		if ( i % 2 == 0 ) {
+			assertEquals( Long.valueOf( i ), measure.nullableLong );
+			assertEquals( Integer.valueOf( i ), measure.nullableInteger );
+			assertFalse( measure.nullableBoolean );
+		}
+		else {
+			assertNull( measure.nullableLong );
+			assertNull( measure.nullableInteger );
+			assertNull( measure.nullableBoolean );
+		}
+		assertTrue( measure.label.endsWith( " " + i ) );
+	}
+
+	@Entity(name = "Measure")
+	@Table(name = "primitive_hydration_measure")
+	public static class Measure {
+		@Id
+		private int id;
+
+		private long longValue;
+
+		private int intValue;
+
+		private short shortValue;
+
+		private double doubleValue;
+
+		private float floatValue;
+
+		private boolean booleanValue;
+
+		private Long nullableLong;
+
+		private Integer nullableInteger;
+
+		private Boolean nullableBoolean;
+
+		private String label;
+
+		public Measure() {
+		}
+
+		public Measure(int id) {
+			this.id = id;
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.test.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentCache;
+
+import org.hibernate.testing.junit4.BaseUnitTestCase;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the bounds and the eviction notifications of {@link BoundedConcurrentCache}.
+ */
+public class BoundedConcurrentCacheTest extends BaseUnitTestCase {
+
+	@Test
+	public void testMaximumWeightIsHonored() {
+		final List<String> evicted = new ArrayList<>();
+		final BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>(
+				100,
+				String::length,
+				(key, value) -> evicted.add( value )
+		);
+		for ( int i = 0; i < 100; i++ ) {
+			// weights of 1 to 10
+			cache.put( i, "0123456789".substring( 0, 1 + i % 10 ) );
+		}
+		cache.cleanUp();
+
+		assertTrue( cache.weightedSize() <= 100 );
+		assertEquals( evicted.size(), cache.evictionCount() );
+		assertEquals( 100, cache.size() + evicted.size() );
+	}
+
+	@Test
+	public void testEntryHeavierThanTheMaximumIsNotKept() {
+		final BoundedConcurrentCache<Integer, String> cache = new BoundedConcurrentCache<>( 5, String::length, null );
+		cache.put( 1, "0123456789" );
+
+		assertNull( cache.get( 1 ) );
+		assertEquals( 1, cache.evictionCount() );
+	}
+
+	@Test
+	public void testPutIfAbsent() {
+		final BoundedConcurrentCache<String, String> cache = new BoundedConcurrentCache<>( 10 );
+
+		assertNull( cache.putIfAbsent( "key", "first" ) );
+		assertEquals( "first", cache.putIfAbsent( "key", "second" ) );
+		assertEquals( "first", cache.get( "key" ) );
+		assertEquals( "first", cache.remove( "key" ) );
+		assertNull( cache.get( "key" ) );
+	}
+}
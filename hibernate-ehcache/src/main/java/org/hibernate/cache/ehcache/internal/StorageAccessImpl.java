@@ -6,9 +6,19 @@
  */
 package org.hibernate.cache.ehcache.internal;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
 import net.sf.ehcache.Ehcache;
 import net.sf.ehcache.Element;
 import net.sf.ehcache.constructs.nonstop.NonStopCacheException;
+import net.sf.ehcache.event.CacheEventListenerAdapter;
+import net.sf.ehcache.event.NotificationScope;
 import net.sf.ehcache.hibernate.nonstop.HibernateNonstopCacheExceptionHandler;
 
 import org.hibernate.cache.CacheException;
@@ -84,6 +94,72 @@ public class StorageAccessImpl implements DomainDataStorageAccess  {
 		}
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		try {
+			final Map<Object, Element> elements = getCache().getAll( keys );
+			final Map<Object, Object> items = new HashMap<>( elements.size() );
+			for ( Map.Entry<Object, Element> entry : elements.entrySet() ) {
+				if ( entry.getValue() != null ) {
+					items.put( entry.getKey(), entry.getValue().getObjectValue() );
+				}
+			}
+			return items;
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+				return Collections.emptyMap();
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		try {
+			final List<Element> elements = new ArrayList<>( items.size() );
+			for ( Map.Entry<?, ?> entry : items.entrySet() ) {
+				elements.add( new Element( entry.getKey(), entry.getValue() ) );
+			}
+			getCache().putAll( elements );
+		}
+		catch (IllegalArgumentException | IllegalStateException e) {
+			throw new CacheException( e );
+		}
+		catch (net.sf.ehcache.CacheException e) {
+			if ( e instanceof NonStopCacheException ) {
+				HibernateNonstopCacheExceptionHandler.getInstance()
+						.handleNonstopCacheException( (NonStopCacheException) e );
+			}
+			else {
+				throw new CacheException( e );
+			}
+		}
+	}
+
+	@Override
+	public boolean addPutListener(BiConsumer<Object, Object> listener) {
+		// the puts of this node are seen by its own SessionFactory already
+		return getCache().getCacheEventNotificationService().registerListener(
+				new CacheEventListenerAdapter() {
+					@Override
+					public void notifyElementPut(Ehcache cache, Element element) {
+						listener.accept( element.getObjectKey(), element.getObjectValue() );
+					}
+
+					@Override
+					public void notifyElementUpdated(Ehcache cache, Element element) {
+						listener.accept( element.getObjectKey(), element.getObjectValue() );
+					}
+				},
+				NotificationScope.REMOTE
+		);
+	}
+
 	@Override
 	public void evictData(Object key) {
 		try {
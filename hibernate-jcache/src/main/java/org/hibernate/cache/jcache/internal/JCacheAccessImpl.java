@@ -6,7 +6,16 @@
  */
 package org.hibernate.cache.jcache.internal;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 import javax.cache.Cache;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryUpdatedListener;
 
 import org.hibernate.cache.spi.support.DomainDataStorageAccess;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -43,6 +52,26 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 		underlyingCache.put( key, value );
 	}
 
+	@Override
+	public Map<Object, Object> getAllFromCache(Collection<?> keys, SharedSessionContractImplementor session) {
+		return underlyingCache.getAll( keys instanceof Set ? (Set) keys : new HashSet<>( keys ) );
+	}
+
+	@Override
+	public void putAllIntoCache(Map<?, ?> items, SharedSessionContractImplementor session) {
+		underlyingCache.putAll( items );
+	}
+
+	@Override
+	public boolean addPutListener(BiConsumer<Object, Object> listener) {
+		final PutListener putListener = new PutListener( listener );
+		// synchronous, so that the listener sees the puts of this node in order
+		underlyingCache.registerCacheEntryListener(
+				new MutableCacheEntryListenerConfiguration( () -> putListener, null, false, true )
+		);
+		return true;
+	}
+
 	@Override
 	public void removeFromCache(Object key, SharedSessionContractImplementor session) {
 		underlyingCache.remove( key );
@@ -67,4 +96,28 @@ public class JCacheAccessImpl implements DomainDataStorageAccess {
 	public void release() {
 		underlyingCache.close();
 	}
+
+	private static class PutListener implements CacheEntryCreatedListener, CacheEntryUpdatedListener {
+		private final BiConsumer<Object, Object> listener;
+
+		private PutListener(BiConsumer<Object, Object> listener) {
+			this.listener = listener;
+		}
+
+		@Override
+		public void onCreated(Iterable events) {
+			notifyListener( events );
+		}
+
+		@Override
+		public void onUpdated(Iterable events) {
+			notifyListener( events );
+		}
+
+		private void notifyListener(Iterable<CacheEntryEvent> events) {
+			for ( CacheEntryEvent event : events ) {
+				listener.accept( event.getKey(), event.getValue() );
+			}
+		}
+	}
 }
@@ -0,0 +1,56 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.jmh.model.Customer;
+import org.hibernate.jmh.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code ActionQueue#executeActions} for a two-table insert graph, with the
+ * inserts ordered ({@code hibernate.order_inserts}) and JDBC batched through
+ * {@code BatchingBatch}.  The transaction is rolled back so the table sizes stay stable.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BatchInsertBenchmark {
+
+	@Param({ "100", "1000" })
+	public int customers;
+
+	@Benchmark
+	public void persistAndFlush(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < customers; i++ ) {
+				final Customer customer = new Customer( "new customer #" + i, "new" + i + "@example.org", i );
+				session.persist( customer );
+				session.persist( new PurchaseOrder( customer, "new order #" + i, BigDecimal.TEN, 1 ) );
+			}
+			session.flush();
+			session.getTransaction().rollback();
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.jmh.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code DefaultFlushEntityEventListener} dirty checking: every managed
+ * customer is visited on each flush, while only {@link #dirtyPerFlush} of them are
+ * actually modified (and hence updated).
+ * <p/>
+ * The session and its transaction live for one iteration and are rolled back afterwards.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DirtyCheckingBenchmark {
+
+	@Param({ "0", "10" })
+	public int dirtyPerFlush;
+
+	private Session session;
+	private Customer[] customers;
+	private int cursor;
+	private int round;
+
+	@Setup(Level.Iteration)
+	public void loadCustomers(SessionFactoryState state) {
+		session = state.getSessionFactory().openSession();
+		session.getTransaction().begin();
+		customers = new Customer[state.getCustomerCount()];
+		for ( int i = 0; i < customers.length; i++ ) {
+			customers[i] = session.get( Customer.class, state.customerId( i ) );
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void rollback() {
+		session.getTransaction().rollback();
+		session.close();
+	}
+
+	@Benchmark
+	public void flush() {
+		round++;
+		for ( int i = 0; i < dirtyPerFlush; i++ ) {
+			final Customer customer = customers[cursor++ % customers.length];
+			customer.setLoyaltyPoints( round );
+		}
+		session.flush();
+	}
+}
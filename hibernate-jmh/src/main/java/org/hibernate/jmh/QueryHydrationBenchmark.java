@@ -0,0 +1,75 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.jmh.model.Customer;
+import org.hibernate.jmh.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code Loader#doQuery} row hydration: each invocation runs an HQL query in a
+ * fresh session so that every row is read from the {@code ResultSet}, hydrated and
+ * registered in the persistence context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryHydrationBenchmark {
+
+	@Param({ "10", "100", "1000" })
+	public int rows;
+
+	@Benchmark
+	public List<Customer> listEntities(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createQuery( "select c from Customer c order by c.id", Customer.class )
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<PurchaseOrder> listEntitiesWithJoinFetch(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createQuery(
+					"select o from PurchaseOrder o join fetch o.customer order by o.id",
+					PurchaseOrder.class
+			)
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+
+	@Benchmark
+	public List<Object[]> listScalars(SessionFactoryState state) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.createQuery(
+					"select c.id, c.name, c.loyaltyPoints from Customer c order by c.id",
+					Object[].class
+			)
+					.setMaxResults( rows )
+					.getResultList();
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.engine.query.spi.HQLQueryPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code QueryPlanCache#getHQLQueryPlan}, both for a cache hit (contended across
+ * threads, as on every {@code createQuery} call) and for a full HQL translation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryPlanCacheBenchmark {
+
+	private static final String HQL = "select o from PurchaseOrder o join fetch o.customer c "
+			+ "where c.active = true and o.quantity > :quantity order by o.id";
+
+	@Benchmark
+	@Threads(4)
+	public HQLQueryPlan cachedPlan(SessionFactoryState state) {
+		return state.getSessionFactory().getQueryPlanCache().getHQLQueryPlan( HQL, false, Collections.emptyMap() );
+	}
+
+	@Benchmark
+	public HQLQueryPlan compilePlan(SessionFactoryState state) {
+		return new HQLQueryPlan( HQL, false, Collections.emptyMap(), state.getSessionFactory() );
+	}
+}
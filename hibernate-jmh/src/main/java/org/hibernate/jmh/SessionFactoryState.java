@@ -0,0 +1,139 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jmh.model.Customer;
+import org.hibernate.jmh.model.PurchaseOrder;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Shared JMH state: a SessionFactory bootstrapped against an in-memory H2 database,
+ * populated with {@link #customerCount} customers having {@link #ORDERS_PER_CUSTOMER}
+ * orders each.
+ */
+@State(Scope.Benchmark)
+public class SessionFactoryState {
+	public static final int ORDERS_PER_CUSTOMER = 3;
+
+	@Param({ "1000" })
+	public int customerCount;
+
+	@Param({ "50" })
+	public int jdbcBatchSize;
+
+	@Param({ "false", "true" })
+	public boolean dirtyCheckOptimizer;
+
+	private StandardServiceRegistry serviceRegistry;
+	private SessionFactoryImplementor sessionFactory;
+	private Long[] customerIds;
+
+	@Setup(Level.Trial)
+	public void buildSessionFactory() {
+		final Map<String, Object> settings = new HashMap<>();
+		settings.put( AvailableSettings.DRIVER, "org.h2.Driver" );
+		settings.put( AvailableSettings.URL, "jdbc:h2:mem:hibernate-jmh;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000" );
+		settings.put( AvailableSettings.USER, "sa" );
+		settings.put( AvailableSettings.PASS, "" );
+		settings.put( AvailableSettings.DIALECT, H2Dialect.class.getName() );
+		settings.put( AvailableSettings.HBM2DDL_AUTO, "create-drop" );
+		settings.put( AvailableSettings.POOL_SIZE, "16" );
+		settings.put( AvailableSettings.STATEMENT_BATCH_SIZE, Integer.toString( jdbcBatchSize ) );
+		settings.put( AvailableSettings.ORDER_INSERTS, "true" );
+		settings.put( AvailableSettings.ORDER_UPDATES, "true" );
+		settings.put( AvailableSettings.USE_DIRTY_CHECK_OPTIMIZER, Boolean.toString( dirtyCheckOptimizer ) );
+		settings.put( AvailableSettings.SHOW_SQL, "false" );
+		settings.put( AvailableSettings.GENERATE_STATISTICS, "false" );
+		settings.put( AvailableSettings.USE_SECOND_LEVEL_CACHE, "false" );
+
+		serviceRegistry = new StandardServiceRegistryBuilder()
+				.applySettings( settings )
+				.build();
+		sessionFactory = (SessionFactoryImplementor) new MetadataSources( serviceRegistry )
+				.addAnnotatedClass( Customer.class )
+				.addAnnotatedClass( PurchaseOrder.class )
+				.buildMetadata()
+				.buildSessionFactory();
+
+		populate();
+	}
+
+	private void populate() {
+		try ( Session session = sessionFactory.openSession() ) {
+			session.getTransaction().begin();
+			for ( int i = 0; i < customerCount; i++ ) {
+				final Customer customer = new Customer( "customer #" + i, "customer" + i + "@example.org", i % 500 );
+				session.persist( customer );
+				for ( int j = 0; j < ORDERS_PER_CUSTOMER; j++ ) {
+					session.persist(
+							new PurchaseOrder( customer, "order #" + i + "-" + j, BigDecimal.valueOf( i * 10 + j, 2 ), j + 1 )
+					);
+				}
+				if ( i % jdbcBatchSize == 0 ) {
+					session.flush();
+					session.clear();
+				}
+			}
+			session.getTransaction().commit();
+		}
+
+		try ( Session session = sessionFactory.openSession() ) {
+			customerIds = session.createQuery( "select c.id from Customer c order by c.id", Long.class )
+					.getResultList()
+					.toArray( new Long[0] );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void closeSessionFactory() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+		if ( serviceRegistry != null ) {
+			StandardServiceRegistryBuilder.destroy( serviceRegistry );
+		}
+	}
+
+	public SessionFactoryImplementor getSessionFactory() {
+		return sessionFactory;
+	}
+
+	public int getCustomerCount() {
+		return customerIds.length;
+	}
+
+	/**
+	 * The id of the n-th customer, in id order (wrapping around {@link #getCustomerCount()}).
+	 */
+	public Long customerId(int n) {
+		return customerIds[( n & Integer.MAX_VALUE ) % customerIds.length];
+	}
+
+	/**
+	 * The largest customer id, useful to bound range queries.
+	 */
+	public Long maxCustomerId() {
+		return customerIds[customerIds.length - 1];
+	}
+}
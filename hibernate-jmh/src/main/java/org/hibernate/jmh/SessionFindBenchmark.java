@@ -0,0 +1,83 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.jmh.model.Customer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@code SessionImpl#find} / {@code SessionImpl#get}, which go through
+ * {@code DefaultLoadEventListener}:
+ * <ul>
+ *     <li>{@link #findInPersistenceContext} resolves from the first-level cache</li>
+ *     <li>{@link #findFromDatabase} misses the persistence context and hits the entity loader</li>
+ *     <li>{@link #getReferenceInPersistenceContext} resolves an already managed instance as a reference</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionFindBenchmark {
+
+	@State(Scope.Thread)
+	public static class LoadedSession {
+		Session session;
+		int cursor;
+
+		@Setup(Level.Iteration)
+		public void open(SessionFactoryState state) {
+			session = state.getSessionFactory().openSession();
+			for ( int i = 0; i < state.getCustomerCount(); i++ ) {
+				session.get( Customer.class, state.customerId( i ) );
+			}
+		}
+
+		@TearDown(Level.Iteration)
+		public void close() {
+			session.close();
+		}
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int position;
+	}
+
+	@Benchmark
+	public Customer findInPersistenceContext(SessionFactoryState state, LoadedSession loaded) {
+		return loaded.session.find( Customer.class, state.customerId( loaded.cursor++ ) );
+	}
+
+	@Benchmark
+	public Customer getReferenceInPersistenceContext(SessionFactoryState state, LoadedSession loaded) {
+		return loaded.session.getReference( Customer.class, state.customerId( loaded.cursor++ ) );
+	}
+
+	@Benchmark
+	public Customer findFromDatabase(SessionFactoryState state, Cursor cursor) {
+		try ( Session session = state.getSessionFactory().openSession() ) {
+			return session.find( Customer.class, state.customerId( cursor.position++ ) );
+		}
+	}
+}
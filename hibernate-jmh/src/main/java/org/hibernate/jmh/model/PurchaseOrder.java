@@ -0,0 +1,79 @@
+/*
+ * Hibernate, Relational Persistence for Idiomatic Java
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later.
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.jmh.model;
+
+import java.math.BigDecimal;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+
+@Entity
+public class PurchaseOrder {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "purchase_order_seq")
+	@SequenceGenerator(name = "purchase_order_seq", allocationSize = 100)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	private Customer customer;
+
+	private String reference;
+
+	private BigDecimal amount;
+
+	private int quantity;
+
+	public PurchaseOrder() {
+	}
+
+	public PurchaseOrder(Customer customer, String reference, BigDecimal amount, int quantity) {
+		this.customer = customer;
+		this.reference = reference;
+		this.amount = amount;
+		this.quantity = quantity;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Customer getCustomer() {
+		return customer;
+	}
+
+	public void setCustomer(Customer customer) {
+		this.customer = customer;
+	}
+
+	public String getReference() {
+		return reference;
+	}
+
+	public void setReference(String reference) {
+		this.reference = reference;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public int getQuantity() {
+		return quantity;
+	}
+
+	public void setQuantity(int quantity) {
+		this.quantity = quantity;
+	}
+}